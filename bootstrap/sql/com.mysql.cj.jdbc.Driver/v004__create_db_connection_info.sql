@@ -0,0 +1,78 @@
+-- Usage of an entity is looked up by id for computing rolling counts, and usage of all the entities of a type
+-- on a date is read for computing percentiles
+ALTER TABLE entity_usage
+ADD INDEX usage_id_index (id, usageDate),
+ADD INDEX usage_entity_type_index (entityType, usageDate);
+
+-- Tags are looked up by the fully qualified name of the entity, and by its prefix for the tags of all the columns
+ALTER TABLE tag_usage
+ADD INDEX target_fqn_index (targetFQN);
+
+-- Table profiles are stored one row per table and profile date instead of a single growing entity extension
+CREATE TABLE IF NOT EXISTS table_profile (
+    id VARCHAR(36) NOT NULL,            -- ID of the table
+    profileDate DATE NOT NULL,          -- Date of the profile
+    json JSON NOT NULL,
+    PRIMARY KEY (id, profileDate)
+);
+
+INSERT IGNORE INTO table_profile (id, profileDate, json)
+SELECT e.id, p.profileDate, p.profile
+FROM entity_extension e,
+JSON_TABLE(e.json, '$[*]' COLUMNS (profileDate DATE PATH '$.profileDate', profile JSON PATH '$')) p
+WHERE e.extension = 'table.tableProfile' AND p.profileDate IS NOT NULL;
+
+DELETE FROM entity_extension WHERE extension = 'table.tableProfile';
+
+-- Pipeline statuses are stored one row per pipeline run instead of a single growing entity extension
+CREATE TABLE IF NOT EXISTS pipeline_status (
+    id VARCHAR(36) NOT NULL,            -- ID of the pipeline
+    executionDate BIGINT NOT NULL,      -- Timestamp of the pipeline run in milliseconds
+    json JSON NOT NULL,
+    PRIMARY KEY (id, executionDate)
+);
+
+INSERT IGNORE INTO pipeline_status (id, executionDate, json)
+SELECT e.id, s.executionDate, s.status
+FROM entity_extension e,
+JSON_TABLE(e.json, '$[*]' COLUMNS (executionDate BIGINT PATH '$.executionDate', status JSON PATH '$')) s
+WHERE e.extension = 'pipeline.pipelineStatus' AND s.executionDate IS NOT NULL;
+
+DELETE FROM entity_extension WHERE extension = 'pipeline.pipelineStatus';
+
+-- Posts of a thread are stored one row per post instead of in the thread JSON
+CREATE TABLE IF NOT EXISTS post_entity (
+    id VARCHAR(36) NOT NULL,            -- ID of the post
+    threadId VARCHAR(36) NOT NULL,      -- ID of the thread the post belongs to
+    postTs BIGINT UNSIGNED NOT NULL,
+    json JSON NOT NULL,
+    PRIMARY KEY (id),
+    INDEX post_thread_index (threadId, postTs)
+);
+
+INSERT IGNORE INTO post_entity (id, threadId, postTs, json)
+SELECT p.id, t.id, COALESCE(p.postTs, 0), p.post
+FROM thread_entity t,
+JSON_TABLE(t.json, '$.posts[*]' COLUMNS (id VARCHAR(36) PATH '$.id', postTs BIGINT PATH '$.postTs', post JSON PATH '$')) p;
+
+UPDATE thread_entity SET json = JSON_REMOVE(json, '$.posts') WHERE JSON_CONTAINS_PATH(json, 'one', '$.posts');
+
+-- Background jobs are stored so that their progress survives a restart of the server and resumable jobs continue
+-- from their last checkpoint
+CREATE TABLE IF NOT EXISTS background_job (
+    id VARCHAR(36) NOT NULL,            -- ID of the job
+    jobType VARCHAR(256) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    updatedAt BIGINT UNSIGNED NOT NULL, -- Last time the job was saved by the server running it
+    json JSON NOT NULL,
+    PRIMARY KEY (id),
+    INDEX background_job_type_index (jobType, updatedAt)
+);
+
+-- Change events are read from a time, and then in pages after the eventOffset of the last event read
+ALTER TABLE change_event
+ADD COLUMN eventOffset BIGINT UNSIGNED NOT NULL AUTO_INCREMENT UNIQUE,
+ADD INDEX event_time_offset_index (eventTime, eventOffset),
+-- Time the event was stored at by the clock of the database. Events are read up to the last event stored a short
+-- time ago, so that the events still being stored with a smaller eventOffset are not skipped.
+ADD COLUMN storedAt TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3);
@@ -0,0 +1,78 @@
+-- Usage of an entity is looked up by id for computing rolling counts, and usage of all the entities of a type
+-- on a date is read for computing percentiles
+CREATE INDEX IF NOT EXISTS entity_usage_id_index ON entity_usage(id, usageDate);
+CREATE INDEX IF NOT EXISTS entity_usage_entity_type_index ON entity_usage(entityType, usageDate);
+
+-- Tags are looked up by the fully qualified name of the entity, and by its prefix for the tags of all the columns
+CREATE INDEX IF NOT EXISTS tag_usage_target_fqn_index ON tag_usage(targetFQN varchar_pattern_ops);
+
+-- Table profiles are stored one row per table and profile date instead of a single growing entity extension
+CREATE TABLE IF NOT EXISTS table_profile (
+    id VARCHAR(36) NOT NULL,            -- ID of the table
+    profileDate DATE NOT NULL,          -- Date of the profile
+    json JSONB NOT NULL,
+    PRIMARY KEY (id, profileDate)
+);
+
+INSERT INTO table_profile (id, profileDate, json)
+SELECT e.id, (p.profile ->> 'profileDate') :: date, p.profile
+FROM entity_extension e, jsonb_array_elements(e.json) AS p(profile)
+WHERE e.extension = 'table.tableProfile' AND p.profile ->> 'profileDate' IS NOT NULL
+ON CONFLICT (id, profileDate) DO NOTHING;
+
+DELETE FROM entity_extension WHERE extension = 'table.tableProfile';
+
+-- Pipeline statuses are stored one row per pipeline run instead of a single growing entity extension
+CREATE TABLE IF NOT EXISTS pipeline_status (
+    id VARCHAR(36) NOT NULL,            -- ID of the pipeline
+    executionDate BIGINT NOT NULL,      -- Timestamp of the pipeline run in milliseconds
+    json JSONB NOT NULL,
+    PRIMARY KEY (id, executionDate)
+);
+
+INSERT INTO pipeline_status (id, executionDate, json)
+SELECT e.id, (s.status ->> 'executionDate') :: bigint, s.status
+FROM entity_extension e, jsonb_array_elements(e.json) AS s(status)
+WHERE e.extension = 'pipeline.pipelineStatus' AND s.status ->> 'executionDate' IS NOT NULL
+ON CONFLICT (id, executionDate) DO NOTHING;
+
+DELETE FROM entity_extension WHERE extension = 'pipeline.pipelineStatus';
+
+-- Posts of a thread are stored one row per post instead of in the thread JSON
+CREATE TABLE IF NOT EXISTS post_entity (
+    id VARCHAR(36) NOT NULL,            -- ID of the post
+    threadId VARCHAR(36) NOT NULL,      -- ID of the thread the post belongs to
+    postTs BIGINT NOT NULL,
+    json JSONB NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS post_thread_index ON post_entity (threadId, postTs);
+
+INSERT INTO post_entity (id, threadId, postTs, json)
+SELECT p.post ->> 'id', t.id, COALESCE((p.post ->> 'postTs') :: bigint, 0), p.post
+FROM thread_entity t, jsonb_array_elements(t.json -> 'posts') AS p(post)
+ON CONFLICT (id) DO NOTHING;
+
+UPDATE thread_entity SET json = json - 'posts' WHERE json -> 'posts' IS NOT NULL;
+
+-- Background jobs are stored so that their progress survives a restart of the server and resumable jobs continue
+-- from their last checkpoint
+CREATE TABLE IF NOT EXISTS background_job (
+    id VARCHAR(36) NOT NULL,            -- ID of the job
+    jobType VARCHAR(256) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    updatedAt BIGINT NOT NULL,          -- Last time the job was saved by the server running it
+    json JSONB NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS background_job_type_index ON background_job (jobType, updatedAt);
+
+-- Change events are read from a time, and then in pages after the eventOffset of the last event read
+ALTER TABLE change_event ADD COLUMN IF NOT EXISTS eventOffset BIGSERIAL;
+CREATE INDEX IF NOT EXISTS change_event_time_offset_index ON change_event(eventTime, eventOffset);
+CREATE UNIQUE INDEX IF NOT EXISTS change_event_offset_index ON change_event(eventOffset);
+-- Time the event was stored at by the clock of the database. Events are read up to the last event stored a short
+-- time ago, so that the events still being stored with a smaller eventOffset are not skipped.
+ALTER TABLE change_event ADD COLUMN IF NOT EXISTS storedAt TIMESTAMPTZ NOT NULL DEFAULT CLOCK_TIMESTAMP();
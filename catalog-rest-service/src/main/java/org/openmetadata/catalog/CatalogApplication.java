@@ -43,7 +43,6 @@ import javax.servlet.DispatcherType;
 import javax.servlet.FilterRegistration;
 import javax.servlet.ServletException;
 import javax.ws.rs.container.ContainerRequestFilter;
-import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Response;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -66,7 +65,12 @@ import org.openmetadata.catalog.exception.CatalogGenericExceptionMapper;
 import org.openmetadata.catalog.exception.ConstraintViolationExceptionMapper;
 import org.openmetadata.catalog.exception.JsonMappingExceptionMapper;
 import org.openmetadata.catalog.fernet.Fernet;
+import org.openmetadata.catalog.jdbi3.ChangeEventRepository;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.EntityCache;
+import org.openmetadata.catalog.jdbi3.TagIndex;
 import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
+import org.openmetadata.catalog.jobs.JobManager;
 import org.openmetadata.catalog.migration.Migration;
 import org.openmetadata.catalog.migration.MigrationConfiguration;
 import org.openmetadata.catalog.resources.CollectionRegistry;
@@ -74,6 +78,7 @@ import org.openmetadata.catalog.resources.search.SearchResource;
 import org.openmetadata.catalog.security.AuthenticationConfiguration;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.AuthorizerConfiguration;
+import org.openmetadata.catalog.security.JwtFilter;
 import org.openmetadata.catalog.security.NoopAuthorizer;
 import org.openmetadata.catalog.security.NoopFilter;
 import org.openmetadata.catalog.security.jwt.JWTTokenGenerator;
@@ -89,6 +94,7 @@ import org.openmetadata.catalog.socket.WebSocketManager;
 @Slf4j
 public class CatalogApplication extends Application<CatalogApplicationConfig> {
   private Authorizer authorizer;
+  private JwtFilter jwtFilter;
 
   @Override
   public void run(CatalogApplicationConfig catalogConfig, Environment environment)
@@ -118,6 +124,10 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     // Instantiate JWT Token Generator
     JWTTokenGenerator.getInstance().init(catalogConfig.getJwtTokenConfiguration());
 
+    // Configure the entity cache and expose its metrics
+    EntityCache.getInstance().init(catalogConfig.getEntityCacheConfiguration());
+    EntityCache.getInstance().registerMetrics(MicrometerBundle.prometheusRegistry);
+
     // Set the Database type for choosing correct queries from annotations
     jdbi.getConfig(SqlObjects.class)
         .setSqlLocator(new ConnectionAwareAnnotationSqlLocator(catalogConfig.getDataSourceFactory().getDriverClass()));
@@ -125,6 +135,9 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     // Validate flyway Migrations
     validateMigrations(jdbi, catalogConfig.getMigrationConfiguration());
 
+    // Save background jobs in the database so that their progress survives a restart
+    JobManager.getInstance().init(jdbi.onDemand(CollectionDAO.class));
+
     // Register Authorizer
     registerAuthorizer(catalogConfig, environment);
 
@@ -143,15 +156,18 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     environment.jersey().register(new EarlyEofExceptionMapper());
     environment.jersey().register(JsonMappingExceptionMapper.class);
     environment.healthChecks().register("OpenMetadataServerHealthCheck", new OpenMetadataServerHealthCheck());
+    // start event hub before registering resources, webhook publishers are started when the resources are initialized
+    EventPubSub.start();
     registerResources(catalogConfig, environment, jdbi);
+    EventPubSub.addEventHandler(TagIndex.getInstance());
+    EventPubSub.addEventHandler(EntityCache.getInstance());
     RoleEvaluator.getInstance().load();
     PolicyEvaluator.getInstance().load();
 
     // Register Event Handler
-    registerEventFilter(catalogConfig, environment, jdbi);
+    // Managed objects are stopped in reverse order, the event filter is closed before the EventPubSub is shut down
     environment.lifecycle().manage(new ManagedShutdown());
-    // start event hub before registering publishers
-    EventPubSub.start();
+    registerEventFilter(catalogConfig, environment, jdbi);
     // Register Event publishers
     registerEventPublisher(catalogConfig);
 
@@ -226,6 +242,14 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
                 .newInstance(authenticationConfiguration, authorizerConf);
         LOG.info("Registering ContainerRequestFilter: {}", filter.getClass().getCanonicalName());
         environment.jersey().register(filter);
+        if (filter instanceof AutoCloseable) {
+          // Stop the background work of the filter, such as refreshing the JWKS keys, on shutdown
+          environment.lifecycle().manage(new ManagedCloseable((AutoCloseable) filter));
+        }
+        if (filter instanceof JwtFilter) {
+          // Websocket connections are authenticated with the same keys and verified tokens
+          jwtFilter = (JwtFilter) filter;
+        }
       }
     } else {
       LOG.info("Authorizer config not set, setting noop authorizer");
@@ -237,8 +261,11 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
 
   private void registerEventFilter(CatalogApplicationConfig catalogConfig, Environment environment, Jdbi jdbi) {
     if (catalogConfig.getEventHandlerConfiguration() != null) {
-      ContainerResponseFilter eventFilter = new EventFilter(catalogConfig, jdbi);
+      ChangeEventRepository.setVisibilityLagMs(catalogConfig.getEventHandlerConfiguration().getVisibilityLagMs());
+      EventFilter eventFilter = new EventFilter(catalogConfig, jdbi);
       environment.jersey().register(eventFilter);
+      // Store the change events still queued by the event handlers on shutdown
+      environment.lifecycle().manage(new ManagedCloseable(eventFilter));
     }
   }
 
@@ -265,7 +292,8 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
   private void registerResources(CatalogApplicationConfig config, Environment environment, Jdbi jdbi) {
     CollectionRegistry.getInstance().registerResources(jdbi, environment, config, authorizer);
     if (config.getElasticSearchConfiguration() != null) {
-      environment.jersey().register(new SearchResource(config.getElasticSearchConfiguration()));
+      CollectionDAO dao = jdbi.onDemand(CollectionDAO.class);
+      environment.jersey().register(new SearchResource(config.getElasticSearchConfiguration(), dao, authorizer));
     }
     environment.jersey().register(new JsonPatchProvider());
     ErrorPageErrorHandler eph = new ErrorPageErrorHandler();
@@ -276,10 +304,13 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
   private void intializeWebsockets(CatalogApplicationConfig catalogConfig, Environment environment) {
     SocketAddressFilter socketAddressFilter;
     String pathSpec = "/api/v1/push/feed/*";
-    if (catalogConfig.getAuthorizerConfiguration() != null) {
-      socketAddressFilter =
-          new SocketAddressFilter(
-              catalogConfig.getAuthenticationConfiguration(), catalogConfig.getAuthorizerConfiguration());
+    AuthorizerConfiguration authorizerConf = catalogConfig.getAuthorizerConfiguration();
+    if (authorizerConf != null) {
+      if (jwtFilter == null && Boolean.TRUE.equals(authorizerConf.getEnableSecureSocketConnection())) {
+        jwtFilter = new JwtFilter(catalogConfig.getAuthenticationConfiguration(), authorizerConf);
+        environment.lifecycle().manage(new ManagedCloseable(jwtFilter));
+      }
+      socketAddressFilter = new SocketAddressFilter(jwtFilter, authorizerConf);
     } else {
       socketAddressFilter = new SocketAddressFilter();
     }
@@ -287,6 +318,7 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     EngineIoServerOptions eioOptions = EngineIoServerOptions.newFromDefault();
     eioOptions.setAllowedCorsOrigins(null);
     WebSocketManager.WebSocketManagerBuilder.build(eioOptions);
+    WebSocketManager.getInstance().registerMetrics(MicrometerBundle.prometheusRegistry);
     environment.getApplicationContext().setContextPath("/");
     environment
         .getApplicationContext()
@@ -310,6 +342,25 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     catalogApplication.run(args);
   }
 
+  /** Closes an object when the application stops */
+  public static class ManagedCloseable implements Managed {
+    private final AutoCloseable closeable;
+
+    public ManagedCloseable(AutoCloseable closeable) {
+      this.closeable = closeable;
+    }
+
+    @Override
+    public void start() {
+      /* Nothing to do */
+    }
+
+    @Override
+    public void stop() throws Exception {
+      closeable.close();
+    }
+  }
+
   public static class ManagedShutdown implements Managed {
 
     @Override
@@ -27,6 +27,7 @@ import org.openmetadata.catalog.airflow.AirflowConfiguration;
 import org.openmetadata.catalog.elasticsearch.ElasticSearchConfiguration;
 import org.openmetadata.catalog.events.EventHandlerConfiguration;
 import org.openmetadata.catalog.fernet.FernetConfiguration;
+import org.openmetadata.catalog.jdbi3.EntityCacheConfiguration;
 import org.openmetadata.catalog.migration.MigrationConfiguration;
 import org.openmetadata.catalog.security.AuthenticationConfiguration;
 import org.openmetadata.catalog.security.AuthorizerConfiguration;
@@ -104,6 +105,16 @@ public class CatalogApplicationConfig extends Configuration {
   @Setter
   private boolean sandboxModeEnabled;
 
+  @JsonProperty("entityCacheConfiguration")
+  @Getter
+  @Setter
+  private EntityCacheConfiguration entityCacheConfiguration = new EntityCacheConfiguration();
+
+  @JsonProperty("tableProfileRetentionDays")
+  @Getter
+  @Setter
+  private int tableProfileRetentionDays = 365;
+
   @Override
   public String toString() {
     return "catalogConfig{"
@@ -144,12 +144,7 @@ public final class Entity {
     ENTITY_LIST.add(entity);
     Collections.sort(ENTITY_LIST);
 
-    LOG.info(
-        "Registering entity {} {} {} {}",
-        clazz,
-        entity,
-        dao.getEntityClass().getSimpleName(),
-        entityRepository.getClass().getSimpleName());
+    LOG.info("Registering entity {} {}", clazz, entity);
   }
 
   public static List<String> listEntities() {
@@ -170,6 +165,17 @@ public final class Entity {
     return repository.dao.findEntityReferenceById(id, include);
   }
 
+  /** Returns references of the entities of given type and ids. Ids of entities that don't exist are ignored. */
+  public static List<EntityReference> getEntityReferencesByIds(
+      @NonNull String entityType, @NonNull List<UUID> ids, Include include) throws IOException {
+    EntityRepository<?> repository = ENTITY_REPOSITORY_MAP.get(entityType);
+    if (repository == null) {
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityTypeNotFound(entityType));
+    }
+    include = repository.supportsSoftDelete ? Include.ALL : include;
+    return repository.dao.findEntityReferencesByIds(ids, include);
+  }
+
   public static EntityReference getEntityReferenceByName(
       @NonNull String entityType, @NonNull String fqn, Include include) {
     EntityDAO<?> dao = DAO_MAP.get(entityType);
@@ -27,6 +27,9 @@ public class AirflowConfiguration {
 
   @Getter @Setter private Integer timeout = 30;
 
+  /** Seconds for which the statuses of pipelines fetched from Airflow are reused */
+  @Getter @Setter private Integer statusCacheTtl = 10;
+
   @NotEmpty @Getter @Setter private String metadataApiEndpoint;
 
   @NotEmpty @Getter @Setter private String authProvider;
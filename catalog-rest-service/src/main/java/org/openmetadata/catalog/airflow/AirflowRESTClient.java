@@ -14,12 +14,20 @@
 package org.openmetadata.catalog.airflow;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -36,8 +44,14 @@ import org.openmetadata.catalog.util.PipelineServiceClient;
 
 @Slf4j
 public class AirflowRESTClient extends PipelineServiceClient {
+  // Number of DAGs whose statuses are fetched in one dags_status request, bounded to keep the URL short
+  private static final int STATUS_BATCH_SIZE = 50;
   private final String authEndpoint;
   private final String deployEndpoint;
+  // Statuses of the DAGs by DAG id. A DAG not deployed to Airflow is cached with null statuses.
+  private final Cache<String, DagStatus> statusCache;
+  // Set when the Airflow plugin is older and does not support the dags_status API
+  private volatile boolean batchStatusUnsupported;
 
   public AirflowRESTClient(AirflowConfiguration airflowConfig) {
     super(
@@ -47,6 +61,11 @@ public class AirflowRESTClient extends PipelineServiceClient {
         airflowConfig.getTimeout());
     authEndpoint = String.format("%s/api/v1/security/login", serviceURL);
     deployEndpoint = String.format("%s/rest_api/api?api=deploy_dag", serviceURL);
+    statusCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(airflowConfig.getStatusCacheTtl(), TimeUnit.SECONDS)
+            .build();
   }
 
   @SneakyThrows
@@ -69,6 +88,7 @@ public class AirflowRESTClient extends PipelineServiceClient {
     HttpResponse<String> response;
     try {
       String pipelinePayload = JsonUtils.pojoToJson(ingestionPipeline);
+      statusCache.invalidate(ingestionPipeline.getName());
       response = post(deployEndpoint, pipelinePayload);
       if (response.statusCode() == 200) {
         return response.body();
@@ -91,6 +111,7 @@ public class AirflowRESTClient extends PipelineServiceClient {
       JSONObject requestPayload = new JSONObject();
       requestPayload.put("workflow_name", pipelineName);
       HttpResponse<String> response = post(deleteUrl, requestPayload.toString());
+      statusCache.invalidate(pipelineName);
       return response.body();
     } catch (Exception e) {
       LOG.error(String.format("Failed to delete Airflow Pipeline %s from Airflow DAGS", pipelineName));
@@ -106,6 +127,7 @@ public class AirflowRESTClient extends PipelineServiceClient {
       String triggerUrl = String.format(triggerEndPoint, serviceURL);
       JSONObject requestPayload = new JSONObject();
       requestPayload.put("workflow_name", pipelineName);
+      statusCache.invalidate(pipelineName);
       response = post(triggerUrl, requestPayload.toString());
       if (response.statusCode() == 200) {
         return response.body();
@@ -126,6 +148,7 @@ public class AirflowRESTClient extends PipelineServiceClient {
       String toggleUrl;
       JSONObject requestPayload = new JSONObject();
       requestPayload.put("dag_id", ingestionPipeline.getName());
+      statusCache.invalidate(ingestionPipeline.getName());
       // If the pipeline is currently enabled, disable it
       if (ingestionPipeline.getEnabled().equals(Boolean.TRUE)) {
         toggleEndPoint = "%s/rest_api/api?api=disable_dag";
@@ -162,6 +185,10 @@ public class AirflowRESTClient extends PipelineServiceClient {
 
   @Override
   public IngestionPipeline getPipelineStatus(IngestionPipeline ingestionPipeline) {
+    DagStatus cached = statusCache.getIfPresent(ingestionPipeline.getName());
+    if (cached != null) {
+      return cached.setTo(ingestionPipeline);
+    }
     HttpResponse<String> response;
     try {
       String statusEndPoint = "%s/rest_api/api?api=dag_status&dag_id=%s";
@@ -170,11 +197,9 @@ public class AirflowRESTClient extends PipelineServiceClient {
       response = post(statusUrl, requestPayload.toString());
       if (response.statusCode() == 200) {
         List<PipelineStatus> statuses = JsonUtils.readObjects(response.body(), PipelineStatus.class);
-        ingestionPipeline.setPipelineStatuses(statuses);
-        ingestionPipeline.setDeployed(true);
-        return ingestionPipeline;
+        return cacheStatus(ingestionPipeline.getName(), statuses).setTo(ingestionPipeline);
       } else if (response.statusCode() == 404) {
-        ingestionPipeline.setDeployed(false);
+        cacheStatus(ingestionPipeline.getName(), null).setTo(ingestionPipeline);
       }
     } catch (Exception e) {
       throw PipelineServiceClientException.byMessage(ingestionPipeline.getName(), e.getMessage());
@@ -185,6 +210,68 @@ public class AirflowRESTClient extends PipelineServiceClient {
         Response.Status.fromStatusCode(response.statusCode()));
   }
 
+  /**
+   * Get the statuses of the pipelines with the dags_status API, a batch of DAGs per request. Falls back to fetching the
+   * statuses one pipeline at a time when the Airflow plugin does not support the dags_status API.
+   */
+  @Override
+  public List<IngestionPipeline> getPipelineStatuses(List<IngestionPipeline> ingestionPipelines) {
+    List<IngestionPipeline> uncached = new ArrayList<>();
+    for (IngestionPipeline ingestionPipeline : ingestionPipelines) {
+      DagStatus cached = statusCache.getIfPresent(ingestionPipeline.getName());
+      if (cached != null) {
+        cached.setTo(ingestionPipeline);
+      } else {
+        uncached.add(ingestionPipeline);
+      }
+    }
+    for (List<IngestionPipeline> batch : Lists.partition(uncached, STATUS_BATCH_SIZE)) {
+      if (batchStatusUnsupported) {
+        super.getPipelineStatuses(batch);
+        continue;
+      }
+      try {
+        getDagStatuses(batch);
+      } catch (Exception e) {
+        LOG.error("Failed to fetch status of ingestion pipelines due to {}", e.getMessage());
+      }
+    }
+    return ingestionPipelines;
+  }
+
+  private void getDagStatuses(List<IngestionPipeline> ingestionPipelines) throws IOException, InterruptedException {
+    String dagIds = ingestionPipelines.stream().map(IngestionPipeline::getName).collect(Collectors.joining(","));
+    String statusUrl =
+        String.format(
+            "%s/rest_api/api?api=dags_status&dag_ids=%s",
+            serviceURL, URLEncoder.encode(dagIds, StandardCharsets.UTF_8));
+    HttpResponse<String> response = post(statusUrl, new JSONObject().toString());
+    if (response.statusCode() == 400 && response.body().contains("was not found")) {
+      LOG.info("Airflow does not support the dags_status API, fetching the status of each ingestion pipeline");
+      batchStatusUnsupported = true;
+      super.getPipelineStatuses(ingestionPipelines);
+      return;
+    }
+    if (response.statusCode() != 200) {
+      throw new PipelineServiceClientException(
+          String.format(
+              "Failed to fetch ingestion pipeline runs due to airflow API returned %s",
+              Response.Status.fromStatusCode(response.statusCode())));
+    }
+    Map<String, List<PipelineStatus>> statuses =
+        JsonUtils.readValue(response.body(), new TypeReference<Map<String, List<PipelineStatus>>>() {});
+    for (IngestionPipeline ingestionPipeline : ingestionPipelines) {
+      // DAGs that are not deployed to Airflow are left out of the response
+      cacheStatus(ingestionPipeline.getName(), statuses.get(ingestionPipeline.getName())).setTo(ingestionPipeline);
+    }
+  }
+
+  private DagStatus cacheStatus(String dagId, List<PipelineStatus> statuses) {
+    DagStatus dagStatus = new DagStatus(statuses);
+    statusCache.put(dagId, dagStatus);
+    return dagStatus;
+  }
+
   @Override
   public HttpResponse<String> getServiceStatus() {
     try {
@@ -231,8 +318,7 @@ public class AirflowRESTClient extends PipelineServiceClient {
 
   private HttpResponse<String> requestAuthenticatedForJsonContent(String stringUrlFormat, Object... stringReplacement)
       throws IOException, InterruptedException {
-    String token = authenticate();
-    String authToken = String.format(AUTH_TOKEN, token);
+    String authToken = String.format(AUTH_TOKEN, getAccessToken());
     String url = String.format(stringUrlFormat, stringReplacement);
     HttpRequest request =
         HttpRequest.newBuilder(URI.create(url))
@@ -242,4 +328,20 @@ public class AirflowRESTClient extends PipelineServiceClient {
             .build();
     return client.send(request, HttpResponse.BodyHandlers.ofString());
   }
+
+  /** Statuses of a DAG as returned by Airflow, with null statuses when the DAG is not deployed */
+  private static class DagStatus {
+    private final List<PipelineStatus> statuses;
+
+    DagStatus(List<PipelineStatus> statuses) {
+      this.statuses = statuses;
+    }
+
+    IngestionPipeline setTo(IngestionPipeline ingestionPipeline) {
+      if (statuses == null) {
+        return ingestionPipeline.withDeployed(false);
+      }
+      return ingestionPipeline.withPipelineStatuses(statuses).withDeployed(true);
+    }
+  }
 }
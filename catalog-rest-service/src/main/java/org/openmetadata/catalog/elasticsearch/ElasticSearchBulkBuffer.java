@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.elasticsearch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+
+/**
+ * Collects the document write requests generated from a batch of change events and turns them into one or more {@link
+ * BulkRequest}s bounded by number of actions and estimated size.
+ *
+ * <p>Requests for the same document are merged before sending. A request that replaces the whole document (delete,
+ * doc-as-upsert or scripted upsert of the full index document) supersedes all the earlier pending requests for that
+ * document. Incremental script updates, such as adding followers, are kept in order after the last full write.
+ */
+public class ElasticSearchBulkBuffer {
+  private final int maxActions;
+  private final long maxSizeInBytes;
+  private final Map<String, List<DocWriteRequest<?>>> pendingRequests = new LinkedHashMap<>();
+
+  public ElasticSearchBulkBuffer(int maxActions, long maxSizeInBytes) {
+    this.maxActions = maxActions;
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  public void add(DocWriteRequest<?> request) {
+    if (request == null) {
+      return;
+    }
+    List<DocWriteRequest<?>> requests =
+        pendingRequests.computeIfAbsent(request.index() + "/" + request.id(), k -> new ArrayList<>());
+    if (supersedesPrevious(request)) {
+      requests.clear();
+    }
+    requests.add(request);
+  }
+
+  public void clear() {
+    pendingRequests.clear();
+  }
+
+  public boolean isEmpty() {
+    return pendingRequests.isEmpty();
+  }
+
+  /** Number of document requests pending after merging */
+  public int size() {
+    return pendingRequests.values().stream().mapToInt(List::size).sum();
+  }
+
+  /** Build bulk requests from the pending document requests and reset the buffer */
+  public List<BulkRequest> drain() {
+    List<BulkRequest> bulkRequests = new ArrayList<>();
+    BulkRequest current = newBulkRequest();
+    for (List<DocWriteRequest<?>> requests : pendingRequests.values()) {
+      for (DocWriteRequest<?> request : requests) {
+        if (current.numberOfActions() > 0
+            && (current.numberOfActions() >= maxActions || current.estimatedSizeInBytes() >= maxSizeInBytes)) {
+          bulkRequests.add(current);
+          current = newBulkRequest();
+        }
+        current.add(request);
+      }
+    }
+    if (current.numberOfActions() > 0) {
+      bulkRequests.add(current);
+    }
+    pendingRequests.clear();
+    return bulkRequests;
+  }
+
+  private static BulkRequest newBulkRequest() {
+    // Refresh policy is not supported on the individual requests of a bulk request
+    BulkRequest bulkRequest = new BulkRequest();
+    bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+    return bulkRequest;
+  }
+
+  private static boolean supersedesPrevious(DocWriteRequest<?> request) {
+    if (request instanceof DeleteRequest) {
+      return true;
+    }
+    if (request instanceof UpdateRequest) {
+      UpdateRequest updateRequest = (UpdateRequest) request;
+      return updateRequest.docAsUpsert() || updateRequest.scriptedUpsert();
+    }
+    return false;
+  }
+}
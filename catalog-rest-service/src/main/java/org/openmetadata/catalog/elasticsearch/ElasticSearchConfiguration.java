@@ -28,6 +28,10 @@ public class ElasticSearchConfiguration {
   @Getter @Setter private Integer connectionTimeoutSecs = 5;
   @Getter @Setter private Integer socketTimeoutSecs = 60;
   @Getter @Setter private Integer batchSize = 10;
+  @Getter @Setter private Integer bulkMaxActions = 1000;
+  @Getter @Setter private Integer bulkMaxSizeInMB = 10;
+  @Getter @Setter private Integer reindexBatchSize = 500;
+  @Getter @Setter private Integer reindexThreads = 4;
 
   @Override
   public String toString() {
@@ -28,8 +28,10 @@ import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
-import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
@@ -78,10 +80,13 @@ import org.openmetadata.catalog.util.JsonUtils;
 public class ElasticSearchEventPublisher extends AbstractEventPublisher {
   private final RestHighLevelClient client;
   private final ElasticSearchIndexDefinition esIndexDefinition;
+  private final ElasticSearchBulkBuffer bulkBuffer;
 
   public ElasticSearchEventPublisher(ElasticSearchConfiguration esConfig) {
     super(esConfig.getBatchSize(), new ArrayList<>());
     this.client = ElasticSearchClientUtils.createElasticSearchClient(esConfig);
+    this.bulkBuffer =
+        new ElasticSearchBulkBuffer(esConfig.getBulkMaxActions(), esConfig.getBulkMaxSizeInMB() * 1024L * 1024L);
     esIndexDefinition = new ElasticSearchIndexDefinition(client);
     esIndexDefinition.createIndexes();
   }
@@ -93,81 +98,103 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
 
   @Override
   public void publish(ChangeEventList events) throws EventPublisherException {
-    for (ChangeEvent event : events.getData()) {
-      try {
-        String entityType = event.getEntityType();
-        switch (entityType) {
-          case Entity.TABLE:
-            updateTable(event);
-            break;
-          case Entity.DASHBOARD:
-            updateDashboard(event);
-            break;
-          case Entity.TOPIC:
-            updateTopic(event);
-            break;
-          case Entity.PIPELINE:
-            updatePipeline(event);
-            break;
-          case Entity.USER:
-            updateUser(event);
-            break;
-          case Entity.TEAM:
-            updateTeam(event);
-            break;
-          case Entity.GLOSSARY_TERM:
-            updateGlossaryTerm(event);
-            break;
-          case Entity.GLOSSARY:
-            updateGlossary(event);
-            break;
-          case Entity.DATABASE:
-            updateDatabase(event);
-            break;
-          case Entity.DATABASE_SCHEMA:
-            updateDatabaseSchema(event);
-            break;
-          case Entity.DASHBOARD_SERVICE:
-            updateDashboardService(event);
-            break;
-          case Entity.DATABASE_SERVICE:
-            updateDatabaseService(event);
-            break;
-          case Entity.MESSAGING_SERVICE:
-            updateMessagingService(event);
-            break;
-          case Entity.PIPELINE_SERVICE:
-            updatePipelineService(event);
-            break;
-          case Entity.MLMODEL_SERVICE:
-            updateMlModelService(event);
-            break;
-          case Entity.MLMODEL:
-            updateMlModel(event);
-            break;
-          case Entity.TAG:
-            updateTag(event);
-            break;
-          case Entity.TAG_CATEGORY:
-            updateTagCategory(event);
-            break;
-          default:
-            LOG.warn("Ignoring Entity Type {}", entityType);
+    // Requests left over from a failed attempt are rebuilt from the same batch of events on retry
+    bulkBuffer.clear();
+    try {
+      for (ChangeEvent event : events.getData()) {
+        try {
+          addRequests(event);
+        } catch (DocumentMissingException ex) {
+          LOG.error("Missing Document", ex);
+        } catch (ElasticsearchException e) {
+          // The requests of the earlier events stay buffered and are sent with the requests of the later events
+          handleElasticSearchException(e);
         }
-      } catch (DocumentMissingException ex) {
-        LOG.error("Missing Document", ex);
+      }
+      try {
+        flushBulkRequests();
       } catch (ElasticsearchException e) {
-        LOG.error("failed to update ES doc");
-        LOG.debug(e.getMessage());
-        if (e.status() == RestStatus.GATEWAY_TIMEOUT || e.status() == RestStatus.REQUEST_TIMEOUT) {
-          LOG.error("Error in publishing to ElasticSearch");
-          throw new ElasticSearchRetriableException(e.getMessage());
-        } else {
-          LOG.error(e.getMessage(), e);
-        }
-      } catch (IOException ie) {
-        throw new EventPublisherException(ie.getMessage());
+        handleElasticSearchException(e);
       }
+    } catch (IOException ie) {
+      throw new EventPublisherException(ie.getMessage());
+    } finally {
+      bulkBuffer.clear();
+    }
+  }
+
+  /** Buffer the requests to apply a change event to the index. Requests that can't be buffered are sent right away. */
+  private void addRequests(ChangeEvent event) throws IOException {
+    String entityType = event.getEntityType();
+    switch (entityType) {
+      case Entity.TABLE:
+        updateTable(event);
+        break;
+      case Entity.DASHBOARD:
+        updateDashboard(event);
+        break;
+      case Entity.TOPIC:
+        updateTopic(event);
+        break;
+      case Entity.PIPELINE:
+        updatePipeline(event);
+        break;
+      case Entity.USER:
+        updateUser(event);
+        break;
+      case Entity.TEAM:
+        updateTeam(event);
+        break;
+      case Entity.GLOSSARY_TERM:
+        updateGlossaryTerm(event);
+        break;
+      case Entity.GLOSSARY:
+        updateGlossary(event);
+        break;
+      case Entity.DATABASE:
+        updateDatabase(event);
+        break;
+      case Entity.DATABASE_SCHEMA:
+        updateDatabaseSchema(event);
+        break;
+      case Entity.DASHBOARD_SERVICE:
+        updateDashboardService(event);
+        break;
+      case Entity.DATABASE_SERVICE:
+        updateDatabaseService(event);
+        break;
+      case Entity.MESSAGING_SERVICE:
+        updateMessagingService(event);
+        break;
+      case Entity.PIPELINE_SERVICE:
+        updatePipelineService(event);
+        break;
+      case Entity.MLMODEL_SERVICE:
+        updateMlModelService(event);
+        break;
+      case Entity.MLMODEL:
+        updateMlModel(event);
+        break;
+      case Entity.TAG:
+        updateTag(event);
+        break;
+      case Entity.TAG_CATEGORY:
+        updateTagCategory(event);
+        break;
+      default:
+        LOG.warn("Ignoring Entity Type {}", entityType);
+    }
+  }
+
+  /** Skip the requests that failed, unless the failure is a timeout that is retried */
+  private void handleElasticSearchException(ElasticsearchException e) throws ElasticSearchRetriableException {
+    LOG.error("failed to update ES doc");
+    LOG.debug(e.getMessage());
+    if (e.status() == RestStatus.GATEWAY_TIMEOUT || e.status() == RestStatus.REQUEST_TIMEOUT) {
+      LOG.error("Error in publishing to ElasticSearch");
+      throw new ElasticSearchRetriableException(e.getMessage());
+    } else {
+      LOG.error(e.getMessage(), e);
     }
   }
 
@@ -609,7 +636,6 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     Script script = new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptTxt, JsonUtils.getMap(doc));
     updateRequest.script(script);
     updateRequest.scriptedUpsert(true);
-    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
   }
 
   private void scriptedUserUpsert(Object index, UpdateRequest updateRequest) {
@@ -634,25 +660,18 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     updateRequest.script(script);
   }
 
-  private void updateElasticSearch(UpdateRequest updateRequest) throws IOException {
-    if (updateRequest != null) {
-      LOG.debug("Sending request to ElasticSearch");
-      LOG.debug(updateRequest.toString());
-      client.update(updateRequest, RequestOptions.DEFAULT);
-    }
+  private void updateElasticSearch(UpdateRequest updateRequest) {
+    bulkBuffer.add(updateRequest);
   }
 
-  private void deleteEntityFromElasticSearch(DeleteRequest deleteRequest) throws IOException {
-    if (deleteRequest != null) {
-      LOG.debug("Sending request to ElasticSearch");
-      LOG.debug(deleteRequest.toString());
-      deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
-      client.delete(deleteRequest, RequestOptions.DEFAULT);
-    }
+  private void deleteEntityFromElasticSearch(DeleteRequest deleteRequest) {
+    bulkBuffer.add(deleteRequest);
   }
 
   private void deleteEntityFromElasticSearchByQuery(DeleteByQueryRequest deleteRequest) throws IOException {
     if (deleteRequest != null) {
+      // Delete by query can't be part of a bulk request. Send the pending requests first to preserve the event order.
+      flushBulkRequests();
       LOG.debug("Sending request to ElasticSearch");
       LOG.debug(deleteRequest.toString());
       deleteRequest.setRefresh(true);
@@ -660,6 +679,37 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     }
   }
 
+  private void flushBulkRequests() throws IOException {
+    for (BulkRequest bulkRequest : bulkBuffer.drain()) {
+      LOG.debug("Sending bulk request with {} actions to ElasticSearch", bulkRequest.numberOfActions());
+      BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+      if (response.hasFailures()) {
+        reportBulkFailures(response);
+      }
+    }
+  }
+
+  private void reportBulkFailures(BulkResponse response) {
+    int failed = 0;
+    for (BulkItemResponse item : response.getItems()) {
+      if (!item.isFailed()) {
+        continue;
+      }
+      failed++;
+      if (item.status() == RestStatus.NOT_FOUND) {
+        LOG.error("Missing Document {} in index {}", item.getId(), item.getIndex());
+      } else {
+        LOG.error(
+            "Failed to {} document {} in index {}: {}",
+            item.getOpType(),
+            item.getId(),
+            item.getIndex(),
+            item.getFailureMessage());
+      }
+    }
+    LOG.error("Failed to publish {} out of {} requests to ElasticSearch", failed, response.getItems().length);
+  }
+
   public void close() {
     try {
       this.client.close();
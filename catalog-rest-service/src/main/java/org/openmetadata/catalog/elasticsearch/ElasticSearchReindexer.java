@@ -0,0 +1,436 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.elasticsearch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.GetAliasesResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.EntityInterface;
+import org.openmetadata.catalog.elasticsearch.ElasticSearchIndexDefinition.ElasticSearchIndexType;
+import org.openmetadata.catalog.entity.data.Dashboard;
+import org.openmetadata.catalog.entity.data.GlossaryTerm;
+import org.openmetadata.catalog.entity.data.MlModel;
+import org.openmetadata.catalog.entity.data.Pipeline;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.data.Topic;
+import org.openmetadata.catalog.entity.tags.Tag;
+import org.openmetadata.catalog.entity.teams.Team;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.EntityRepository;
+import org.openmetadata.catalog.jdbi3.ListFilter;
+import org.openmetadata.catalog.jobs.JobManager;
+import org.openmetadata.catalog.jobs.JobManager.JobProgress;
+import org.openmetadata.catalog.type.BackgroundJob;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EventType;
+import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.JobStatus;
+import org.openmetadata.catalog.util.ElasticSearchClientUtils;
+import org.openmetadata.catalog.util.EntityUtil.Fields;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Rebuilds the search indexes from the entities in the database as a background job.
+ *
+ * <p>Each index is rebuilt into a new index versioned by the start time of the job, and the index name is then
+ * atomically switched to an alias of the new index, dropping the indexes it replaces. Searches and change events keep
+ * using the old index until the switch. Changes made while an index was rebuilt are indexed again from the change
+ * events after the switch.
+ *
+ * <p>Entities of an index are read ordered by name in batches. Documents of a batch are built and sent in one bulk
+ * request by a pool of workers, with a bounded number of batches in flight so that reading does not run ahead of
+ * indexing. The name of the last entity of the batches indexed so far without a gap is saved as the checkpoint of the
+ * job, and a failed or interrupted job resumes from its checkpoint instead of starting over.
+ */
+@Slf4j
+public class ElasticSearchReindexer {
+  public static final String REINDEX_JOB = "reindexSearch";
+  private static final long CHECKPOINT_INTERVAL_MS = 5_000;
+  private static final Map<ElasticSearchIndexType, String> ENTITY_TYPES = new EnumMap<>(ElasticSearchIndexType.class);
+  private static final Map<ElasticSearchIndexType, String> FIELDS = new EnumMap<>(ElasticSearchIndexType.class);
+
+  static {
+    ENTITY_TYPES.put(ElasticSearchIndexType.TABLE_SEARCH_INDEX, Entity.TABLE);
+    ENTITY_TYPES.put(ElasticSearchIndexType.TOPIC_SEARCH_INDEX, Entity.TOPIC);
+    ENTITY_TYPES.put(ElasticSearchIndexType.DASHBOARD_SEARCH_INDEX, Entity.DASHBOARD);
+    ENTITY_TYPES.put(ElasticSearchIndexType.PIPELINE_SEARCH_INDEX, Entity.PIPELINE);
+    ENTITY_TYPES.put(ElasticSearchIndexType.USER_SEARCH_INDEX, Entity.USER);
+    ENTITY_TYPES.put(ElasticSearchIndexType.TEAM_SEARCH_INDEX, Entity.TEAM);
+    ENTITY_TYPES.put(ElasticSearchIndexType.GLOSSARY_SEARCH_INDEX, Entity.GLOSSARY_TERM);
+    ENTITY_TYPES.put(ElasticSearchIndexType.MLMODEL_SEARCH_INDEX, Entity.MLMODEL);
+    ENTITY_TYPES.put(ElasticSearchIndexType.TAG_SEARCH_INDEX, Entity.TAG);
+
+    // Same fields as the entities published in change events, without the ones the documents leave out
+    FIELDS.put(ElasticSearchIndexType.TABLE_SEARCH_INDEX, "owner,tags,followers,usageSummary");
+    FIELDS.put(ElasticSearchIndexType.TOPIC_SEARCH_INDEX, "owner,followers,tags");
+    FIELDS.put(ElasticSearchIndexType.DASHBOARD_SEARCH_INDEX, "owner,charts,followers,tags,usageSummary");
+    FIELDS.put(ElasticSearchIndexType.PIPELINE_SEARCH_INDEX, "owner,tasks,followers,tags");
+    FIELDS.put(ElasticSearchIndexType.USER_SEARCH_INDEX, "profile,roles,teams");
+    FIELDS.put(ElasticSearchIndexType.TEAM_SEARCH_INDEX, "owner,profile,users,defaultRoles");
+    FIELDS.put(ElasticSearchIndexType.GLOSSARY_SEARCH_INDEX, "children,relatedTerms,reviewers,tags");
+    FIELDS.put(ElasticSearchIndexType.MLMODEL_SEARCH_INDEX, "owner,dashboard,followers,tags,usageSummary");
+    FIELDS.put(ElasticSearchIndexType.TAG_SEARCH_INDEX, "");
+  }
+
+  private final RestHighLevelClient client;
+  private final ElasticSearchIndexDefinition indexDefinition;
+  private final CollectionDAO dao;
+  private final int batchSize;
+  private final int threads;
+
+  public ElasticSearchReindexer(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
+    this.client = ElasticSearchClientUtils.createElasticSearchClient(esConfig);
+    this.indexDefinition = new ElasticSearchIndexDefinition(client);
+    this.dao = dao;
+    this.batchSize = esConfig.getReindexBatchSize();
+    this.threads = esConfig.getReindexThreads();
+  }
+
+  /** State of a reindex job saved as its checkpoint */
+  @Getter
+  @Setter
+  public static class ReindexCheckpoint {
+    /** Suffix of the names of the indexes built by the job */
+    private String version;
+    /** Time the job started, from which changes are indexed again after an index is switched */
+    private long startedAt;
+    /** Indexes to rebuild, in order */
+    private List<ElasticSearchIndexType> indexes;
+    /** Position in {@link #indexes} of the index being rebuilt */
+    private int position;
+    /** Name of the last entity indexed in the index being rebuilt */
+    private String after = "";
+
+    private int processed;
+  }
+
+  /**
+   * Start rebuilding the given indexes. When {@code resume} is set and the last reindex job failed or was interrupted,
+   * that job is resumed from its checkpoint with the indexes it was started with instead. A reindex job that is already
+   * queued or running is returned as is, as only one job at a time can switch the indexes.
+   */
+  public BackgroundJob reindex(List<ElasticSearchIndexType> indexes, String createdBy, boolean resume)
+      throws IOException {
+    JobManager jobManager = JobManager.getInstance();
+    BackgroundJob latest = jobManager.getLatest(REINDEX_JOB);
+    if (latest != null && (latest.getStatus() == JobStatus.QUEUED || latest.getStatus() == JobStatus.RUNNING)) {
+      return latest;
+    }
+    if (resume && latest != null && latest.getStatus() == JobStatus.FAILED && latest.getCheckpoint() != null) {
+      ReindexCheckpoint checkpoint = JsonUtils.readValue(latest.getCheckpoint(), ReindexCheckpoint.class);
+      LOG.info("Resuming reindex job {} from {}", latest.getId(), latest.getCheckpoint());
+      return jobManager.resume(latest, progress -> new ReindexRun(checkpoint, progress).run());
+    }
+    long startedAt = System.currentTimeMillis();
+    ReindexCheckpoint checkpoint = new ReindexCheckpoint();
+    checkpoint.setVersion(String.valueOf(startedAt));
+    checkpoint.setStartedAt(startedAt);
+    checkpoint.setIndexes(new ArrayList<>(indexes));
+    return jobManager.submit(REINDEX_JOB, null, createdBy, progress -> new ReindexRun(checkpoint, progress).run());
+  }
+
+  static Map<String, Object> buildDoc(ElasticSearchIndexType indexType, EntityInterface entity)
+      throws JsonProcessingException {
+    switch (indexType) {
+      case TABLE_SEARCH_INDEX:
+        return new TableIndex((Table) entity).buildESDoc();
+      case TOPIC_SEARCH_INDEX:
+        return new TopicIndex((Topic) entity).buildESDoc();
+      case DASHBOARD_SEARCH_INDEX:
+        return new DashboardIndex((Dashboard) entity).buildESDoc();
+      case PIPELINE_SEARCH_INDEX:
+        return new PipelineIndex((Pipeline) entity).buildESDoc();
+      case USER_SEARCH_INDEX:
+        return new UserIndex((User) entity).buildESDoc();
+      case TEAM_SEARCH_INDEX:
+        return new TeamIndex((Team) entity).buildESDoc();
+      case GLOSSARY_SEARCH_INDEX:
+        return new GlossaryTermIndex((GlossaryTerm) entity).buildESDoc();
+      case MLMODEL_SEARCH_INDEX:
+        return new MlModelIndex((MlModel) entity).buildESDoc();
+      case TAG_SEARCH_INDEX:
+        return new TagIndex((Tag) entity).buildESDoc();
+      default:
+        throw new IllegalArgumentException("Failed to find index doc for type " + indexType);
+    }
+  }
+
+  /** A run of a reindex job from its checkpoint */
+  private class ReindexRun {
+    private final ReindexCheckpoint checkpoint;
+    private final JobProgress progress;
+    private final int maxInFlight = threads * 2;
+    private final Semaphore inFlight = new Semaphore(maxInFlight);
+    private int total;
+    private long checkpointedAt;
+
+    ReindexRun(ReindexCheckpoint checkpoint, JobProgress progress) {
+      this.checkpoint = checkpoint;
+      this.progress = progress;
+    }
+
+    void run() throws IOException {
+      for (ElasticSearchIndexType indexType : checkpoint.getIndexes()) {
+        total += Entity.getEntityRepository(ENTITY_TYPES.get(indexType)).dao.listCount(new ListFilter(Include.ALL));
+      }
+      progress.update(checkpoint.getProcessed(), total);
+
+      ExecutorService workers = Executors.newFixedThreadPool(threads, DaemonThreadFactory.INSTANCE);
+      try {
+        while (checkpoint.getPosition() < checkpoint.getIndexes().size()) {
+          ElasticSearchIndexType indexType = checkpoint.getIndexes().get(checkpoint.getPosition());
+          String index = indexType.indexName + "_" + checkpoint.getVersion();
+          createIndex(indexType, index);
+          indexEntities(workers, Entity.getEntityRepository(ENTITY_TYPES.get(indexType)), indexType, index);
+          openIndex(index);
+          switchAlias(indexType, index);
+          indexChanges(Entity.getEntityRepository(ENTITY_TYPES.get(indexType)), indexType);
+
+          checkpoint.setPosition(checkpoint.getPosition() + 1);
+          checkpoint.setAfter("");
+          saveCheckpoint();
+        }
+      } finally {
+        workers.shutdownNow();
+      }
+    }
+
+    private <T extends EntityInterface> void indexEntities(
+        ExecutorService workers, EntityRepository<T> repository, ElasticSearchIndexType indexType, String index)
+        throws IOException {
+      Fields fields = repository.getFields(FIELDS.get(indexType));
+      ListFilter filter = new ListFilter(Include.ALL);
+      Deque<Batch> batches = new ArrayDeque<>();
+      String after = checkpoint.getAfter();
+      List<String> jsons;
+      do {
+        jsons = repository.dao.listAfter(filter, batchSize, after);
+        if (jsons.isEmpty()) {
+          break;
+        }
+        after =
+            JsonUtils.readValue(jsons.get(jsons.size() - 1), repository.dao.getEntityClass()).getFullyQualifiedName();
+        Batch batch = new Batch(after, jsons.size());
+        acquire(1);
+        batches.add(batch);
+        List<String> batchJsons = jsons;
+        workers.execute(
+            () -> {
+              try {
+                indexBatch(repository, fields, indexType, index, batchJsons);
+              } catch (Exception e) {
+                batch.failure = e;
+              } finally {
+                batch.done = true;
+                inFlight.release();
+              }
+            });
+        completeBatches(batches);
+      } while (jsons.size() == batchSize);
+
+      // Wait for the batches in flight
+      acquire(maxInFlight);
+      inFlight.release(maxInFlight);
+      completeBatches(batches);
+    }
+
+    private <T extends EntityInterface> void indexBatch(
+        EntityRepository<T> repository,
+        Fields fields,
+        ElasticSearchIndexType indexType,
+        String index,
+        List<String> jsons)
+        throws IOException {
+      BulkRequest bulkRequest = new BulkRequest();
+      for (String json : jsons) {
+        T entity = repository.setFields(JsonUtils.readValue(json, repository.dao.getEntityClass()), fields);
+        String doc;
+        try {
+          doc = JsonUtils.pojoToJson(buildDoc(indexType, entity));
+        } catch (RuntimeException | JsonProcessingException e) {
+          LOG.warn("Skipping {} {} that failed to build a search document", indexType.indexName, entity.getId(), e);
+          continue;
+        }
+        bulkRequest.add(new IndexRequest(index).id(entity.getId().toString()).source(doc, XContentType.JSON));
+      }
+      if (bulkRequest.numberOfActions() > 0) {
+        BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+        if (response.hasFailures()) {
+          throw new IOException(response.buildFailureMessage());
+        }
+      }
+    }
+
+    /** Move the checkpoint past the batches indexed without a gap, and fail on the first batch that failed */
+    private void completeBatches(Deque<Batch> batches) throws IOException {
+      while (!batches.isEmpty() && batches.peek().done) {
+        Batch batch = batches.poll();
+        if (batch.failure != null) {
+          throw new IOException("Failed to index entities before " + batch.after, batch.failure);
+        }
+        checkpoint.setAfter(batch.after);
+        checkpoint.setProcessed(checkpoint.getProcessed() + batch.count);
+        progress.update(checkpoint.getProcessed(), total);
+      }
+      if (System.currentTimeMillis() - checkpointedAt >= CHECKPOINT_INTERVAL_MS) {
+        saveCheckpoint();
+      }
+    }
+
+    private void saveCheckpoint() throws JsonProcessingException {
+      progress.checkpoint(JsonUtils.pojoToJson(checkpoint));
+      checkpointedAt = System.currentTimeMillis();
+    }
+
+    private void acquire(int permits) throws IOException {
+      try {
+        inFlight.acquire(permits);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while indexing", e);
+      }
+    }
+
+    /** Create the index, unless it was created by the run that is resumed, with refresh disabled while it is built */
+    private void createIndex(ElasticSearchIndexType indexType, String index) throws IOException {
+      if (!client.indices().exists(new GetIndexRequest(index), RequestOptions.DEFAULT)) {
+        CreateIndexRequest request = new CreateIndexRequest(index);
+        request.source(indexDefinition.getIndexMapping(indexType), XContentType.JSON);
+        client.indices().create(request, RequestOptions.DEFAULT);
+        LOG.info("Created index {} for reindexing {}", index, indexType.indexName);
+      }
+      UpdateSettingsRequest request = new UpdateSettingsRequest(index);
+      request.settings(Settings.builder().put("index.refresh_interval", "-1"));
+      client.indices().putSettings(request, RequestOptions.DEFAULT);
+    }
+
+    /** Restore the default refresh interval and make the indexed documents searchable */
+    private void openIndex(String index) throws IOException {
+      UpdateSettingsRequest request = new UpdateSettingsRequest(index);
+      request.settings(Settings.builder().putNull("index.refresh_interval"));
+      client.indices().putSettings(request, RequestOptions.DEFAULT);
+      client.indices().refresh(new RefreshRequest(index), RequestOptions.DEFAULT);
+    }
+
+    /**
+     * Point the index name to the new index in a single request that also drops the indexes the name pointed to, which
+     * is the index created with that name before the first reindex or the index of the previous reindex.
+     */
+    private void switchAlias(ElasticSearchIndexType indexType, String index) throws IOException {
+      String alias = indexType.indexName;
+      IndicesAliasesRequest request = new IndicesAliasesRequest();
+      request.addAliasAction(AliasActions.add().index(index).alias(alias));
+
+      GetAliasesResponse aliases = client.indices().getAlias(new GetAliasesRequest(alias), RequestOptions.DEFAULT);
+      Set<String> oldIndexes = new LinkedHashSet<>(aliases.getAliases().keySet());
+      if (oldIndexes.isEmpty() && client.indices().exists(new GetIndexRequest(alias), RequestOptions.DEFAULT)) {
+        oldIndexes.add(alias);
+      }
+      oldIndexes.remove(index);
+      for (String oldIndex : oldIndexes) {
+        request.addAliasAction(AliasActions.removeIndex().index(oldIndex));
+      }
+      client.indices().updateAliases(request, RequestOptions.DEFAULT);
+      LOG.info("Switched {} to {}, dropping {}", alias, index, oldIndexes);
+    }
+
+    /** Index again the entities changed since the job started, which the old index received instead */
+    private <T extends EntityInterface> void indexChanges(
+        EntityRepository<T> repository, ElasticSearchIndexType indexType) throws IOException {
+      String entityType = ENTITY_TYPES.get(indexType);
+      Set<UUID> ids = new LinkedHashSet<>();
+      for (EventType eventType : EventType.values()) {
+        for (String json :
+            dao.changeEventDAO().list(eventType.value(), List.of(entityType), checkpoint.getStartedAt())) {
+          ids.add(JsonUtils.readValue(json, ChangeEvent.class).getEntityId());
+        }
+      }
+      if (ids.isEmpty()) {
+        return;
+      }
+
+      Fields fields = repository.getFields(FIELDS.get(indexType));
+      List<UUID> idList = new ArrayList<>(ids);
+      for (int i = 0; i < idList.size(); i += batchSize) {
+        List<UUID> chunk = idList.subList(i, Math.min(i + batchSize, idList.size()));
+        List<T> entities = repository.dao.findEntitiesByIds(chunk, Include.ALL);
+        Set<UUID> found = entities.stream().map(EntityInterface::getId).collect(Collectors.toSet());
+
+        BulkRequest bulkRequest = new BulkRequest();
+        for (T entity : entities) {
+          repository.setFields(entity, fields);
+          String doc = JsonUtils.pojoToJson(buildDoc(indexType, entity));
+          bulkRequest.add(
+              new IndexRequest(indexType.indexName).id(entity.getId().toString()).source(doc, XContentType.JSON));
+        }
+        for (UUID id : chunk) {
+          if (!found.contains(id)) {
+            bulkRequest.add(new DeleteRequest(indexType.indexName, id.toString()));
+          }
+        }
+        BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+        if (response.hasFailures()) {
+          throw new IOException(response.buildFailureMessage());
+        }
+      }
+      LOG.info("Indexed {} {} changed while reindexing", ids.size(), entityType);
+    }
+  }
+
+  private static class Batch {
+    private final String after;
+    private final int count;
+    private volatile boolean done;
+    private volatile Exception failure;
+
+    Batch(String after, int count) {
+      this.after = after;
+      this.count = count;
+    }
+  }
+}
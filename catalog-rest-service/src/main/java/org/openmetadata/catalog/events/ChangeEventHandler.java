@@ -19,13 +19,16 @@ import static org.openmetadata.catalog.type.EventType.ENTITY_SOFT_DELETED;
 import static org.openmetadata.catalog.type.EventType.ENTITY_UPDATED;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.maksymdolgykh.dropwizard.micrometer.MicrometerBundle;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.Response.Status;
@@ -36,6 +39,8 @@ import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.entity.feed.Thread;
+import org.openmetadata.catalog.events.ChangeEventWriter.PendingChangeEvent;
+import org.openmetadata.catalog.events.ChangeEventWriter.PendingThread;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.catalog.jdbi3.FeedRepository;
@@ -51,13 +56,19 @@ public class ChangeEventHandler implements EventHandler {
   private CollectionDAO dao;
   private FeedRepository feedDao;
   private ObjectMapper mapper;
+  private ChangeEventWriter writer;
 
   public void init(CatalogApplicationConfig config, Jdbi jdbi) {
     this.dao = jdbi.onDemand(CollectionDAO.class);
     this.feedDao = new FeedRepository(dao);
     this.mapper = new ObjectMapper();
+    this.writer = new ChangeEventWriter(dao, feedDao, this::getFeedThreads, MicrometerBundle.prometheusRegistry);
   }
 
+  /**
+   * Build the change event of the request and queue it to be stored, without waiting. The feed threads for the event
+   * are resolved by the writer.
+   */
   public Void process(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
     String method = requestContext.getMethod();
     SecurityContext securityContext = requestContext.getSecurityContext();
@@ -74,56 +85,61 @@ public class ChangeEventHandler implements EventHandler {
           changeEvent.getEntityId(),
           changeEvent.getEventType(),
           changeEvent.getEntityType());
-      EventPubSub.publish(changeEvent);
+      String eventJson;
       if (changeEvent.getEntity() != null) {
-        Object entity = changeEvent.getEntity();
-        changeEvent = copyChangeEvent(changeEvent);
-        changeEvent.setEntity(JsonUtils.pojoToJson(entity));
-      }
-      dao.changeEventDAO().insert(JsonUtils.pojoToJson(changeEvent));
-
-      // Add a new thread to the entity for every change event
-      // for the event to appear in activity feeds
-      if (Entity.shouldDisplayEntityChangeOnFeed(changeEvent.getEntityType())) {
-        // ignore usageSummary updates in the feed
-        boolean shouldIgnore = false;
-        if (Entity.TABLE.equals(changeEvent.getEntityType()) && changeEvent.getChangeDescription() != null) {
-          List<FieldChange> fields = changeEvent.getChangeDescription().getFieldsUpdated();
-          shouldIgnore = fields.stream().anyMatch(field -> field.getName().equals("usageSummary"));
-        }
-        if (!shouldIgnore) {
-          for (var thread : listOrEmpty(getThreads(responseContext, loggedInUserName))) {
-            // Don't create a thread if there is no message
-            if (!thread.getMessage().isEmpty()) {
-              EntityInterface entity;
-              // In case of ENTITY_FIELDS_CHANGED entity from responseContext will be a ChangeEvent
-              if (responseContext.getEntity() instanceof ChangeEvent) {
-                ChangeEvent change = (ChangeEvent) responseContext.getEntity();
-                entity = (EntityInterface) change.getEntity();
-              } else {
-                entity = (EntityInterface) responseContext.getEntity();
-              }
-              EntityReference entityReference = entity.getEntityReference();
-              EntityReference owner;
-              try {
-                owner = Entity.getOwner(entityReference);
-              } catch (Exception exception) {
-                owner = null;
-              }
-              EntityLink about = EntityLink.parse(thread.getAbout());
-              feedDao.create(thread, entity.getId(), owner, about);
-              String jsonThread = mapper.writeValueAsString(thread);
-              WebSocketManager.getInstance().broadCastMessageToAll(WebSocketManager.feedBroadcastChannel, jsonThread);
-            }
-          }
-        }
+        // The event is published to the subscribers once stored, the entity is stored as json string in a copy
+        String entityJson = JsonUtils.pojoToJson(changeEvent.getEntity());
+        eventJson = JsonUtils.pojoToJson(copyChangeEvent(changeEvent).withEntity(entityJson));
+      } else {
+        eventJson = JsonUtils.pojoToJson(changeEvent);
       }
+      writer.add(new PendingChangeEvent(changeEvent, eventJson, loggedInUserName));
     } catch (Exception e) {
       LOG.error("Failed to capture change event for method {} due to ", method, e);
     }
     return null;
   }
 
+  /**
+   * Add a new thread to the entity for every change event for the event to appear in activity feeds. Called by the
+   * writer, which stores the threads along with the change event.
+   */
+  private List<PendingThread> getFeedThreads(PendingChangeEvent pendingChangeEvent) throws IOException {
+    ChangeEvent changeEvent = pendingChangeEvent.getChangeEvent();
+    if (!Entity.shouldDisplayEntityChangeOnFeed(changeEvent.getEntityType())) {
+      return Collections.emptyList();
+    }
+    // ignore usageSummary updates in the feed
+    if (Entity.TABLE.equals(changeEvent.getEntityType()) && changeEvent.getChangeDescription() != null) {
+      List<FieldChange> fields = changeEvent.getChangeDescription().getFieldsUpdated();
+      if (fields.stream().anyMatch(field -> field.getName().equals("usageSummary"))) {
+        return Collections.emptyList();
+      }
+    }
+    List<PendingThread> pendingThreads = new ArrayList<>();
+    EntityReference entityReference = null;
+    EntityReference owner = null;
+    for (var thread : listOrEmpty(getThreads(changeEvent, pendingChangeEvent.getUserName()))) {
+      // Don't create a thread if there is no message
+      if (thread.getMessage().isEmpty()) {
+        continue;
+      }
+      if (entityReference == null) {
+        entityReference = ((EntityInterface) changeEvent.getEntity()).getEntityReference();
+        try {
+          owner = Entity.getOwner(entityReference);
+        } catch (Exception exception) {
+          owner = null;
+        }
+      }
+      thread.withEntityId(entityReference.getId());
+      String jsonThread = mapper.writeValueAsString(thread);
+      Set<UUID> usersToNotify = feedDao.getUsersToNotify(thread, entityReference, owner);
+      pendingThreads.add(new PendingThread(thread, owner, jsonThread, usersToNotify));
+    }
+    return pendingThreads;
+  }
+
   private void handleWebSocket(ContainerResponseContext responseContext) {
     int responseCode = responseContext.getStatus();
     if (responseCode == Status.CREATED.getStatusCode() && responseContext.getEntity().getClass().equals(Thread.class)) {
@@ -140,27 +156,40 @@ public class ChangeEventHandler implements EventHandler {
                         .sendToOne(e.getId(), WebSocketManager.taskBroadcastChannel, jsonThread);
                   } else if (Entity.TEAM.equals(e.getType())) {
                     // fetch all that are there in the team
-                    List<EntityRelationshipRecord> records =
-                        dao.relationshipDAO()
-                            .findTo(e.getId().toString(), TEAM, Relationship.HAS.ordinal(), Entity.USER);
                     WebSocketManager.getInstance()
-                        .sendToManyWithString(records, WebSocketManager.taskBroadcastChannel, jsonThread);
+                        .sendToManyAsync(
+                            () -> getTeamMembers(e.getId()), WebSocketManager.taskBroadcastChannel, jsonThread);
                   }
                 });
             return;
           case Conversation:
-            WebSocketManager.getInstance().broadCastMessageToAll(WebSocketManager.feedBroadcastChannel, jsonThread);
+            EntityReference about =
+                new EntityReference()
+                    .withId(thread.getEntityId())
+                    .withType(EntityLink.parse(thread.getAbout()).getEntityType());
+            // Recipients are resolved on the fan-out executor, not on the thread of the request that made the thread
+            WebSocketManager.getInstance()
+                .sendToManyAsync(
+                    () -> feedDao.getUsersToNotify(thread, about, Entity.getOwner(about)),
+                    WebSocketManager.feedBroadcastChannel,
+                    jsonThread);
             return;
           case Announcement:
           default:
             return;
         }
-      } catch (JsonProcessingException e) {
+      } catch (IOException e) {
         throw new RuntimeException(e);
       }
     }
   }
 
+  private List<UUID> getTeamMembers(UUID teamId) {
+    List<EntityRelationshipRecord> records =
+        dao.relationshipDAO().findTo(teamId.toString(), TEAM, Relationship.HAS.ordinal(), Entity.USER);
+    return records.stream().map(EntityRelationshipRecord::getId).collect(Collectors.toList());
+  }
+
   public static ChangeEvent getChangeEvent(String method, ContainerResponseContext responseContext) {
     // GET operations don't produce change events
     if (method.equals("GET")) {
@@ -256,28 +285,15 @@ public class ChangeEventHandler implements EventHandler {
         .withCurrentVersion(changeEvent.getCurrentVersion());
   }
 
-  private List<Thread> getThreads(ContainerResponseContext responseContext, String loggedInUserName) {
-    Object entity = responseContext.getEntity();
-    String changeType = responseContext.getHeaderString(RestUtil.CHANGE_CUSTOM_HEADER);
-
-    if (entity == null) {
-      return null; // Response has no entity to produce change event from
-    }
-
-    // In case of ENTITY_FIELDS_CHANGED entity from responseContext will be a ChangeEvent
-    // Get the actual entity from ChangeEvent in those cases.
-    if (entity instanceof ChangeEvent) {
-      ChangeEvent changeEvent = (ChangeEvent) entity;
-      EntityInterface realEntity = (EntityInterface) changeEvent.getEntity();
-      if (realEntity != null) {
-        return getThreads(realEntity, changeEvent.getChangeDescription(), loggedInUserName);
-      }
+  private List<Thread> getThreads(ChangeEvent changeEvent, String loggedInUserName) {
+    // In case of ENTITY_FIELDS_CHANGED the change event is the response of the request, with the actual entity
+    EntityInterface entityInterface = (EntityInterface) changeEvent.getEntity();
+    if (entityInterface == null) {
       return null; // Cannot create a thread without entity
     }
 
-    var entityInterface = (EntityInterface) entity;
-    if (RestUtil.ENTITY_DELETED.equals(changeType)) {
-      String entityType = Entity.getEntityTypeFromClass(entity.getClass());
+    if (changeEvent.getEventType() == ENTITY_DELETED) {
+      String entityType = changeEvent.getEntityType();
       // In this case, the entity itself got deleted
       // for which there will be no change description.
       String message = String.format("Deleted **%s**: `%s`", entityType, entityInterface.getFullyQualifiedName());
@@ -295,11 +311,11 @@ public class ChangeEventHandler implements EventHandler {
       return List.of(thread);
     }
 
-    if (entityInterface.getChangeDescription() == null) {
+    if (changeEvent.getChangeDescription() == null) {
       return null;
     }
 
-    return getThreads(entityInterface, entityInterface.getChangeDescription(), loggedInUserName);
+    return getThreads(entityInterface, changeEvent.getChangeDescription(), loggedInUserName);
   }
 
   private List<Thread> getThreads(
@@ -328,6 +344,6 @@ public class ChangeEventHandler implements EventHandler {
   }
 
   public void close() {
-    /* Nothing to do */
+    writer.close();
   }
 }
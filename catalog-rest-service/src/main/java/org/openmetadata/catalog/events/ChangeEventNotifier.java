@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notifies the readers waiting for new change events when change events are stored in the change_event table by this
+ * server. Readers see the number of times events were stored before reading the table, and register a listener for
+ * that number to change so that events stored in between are not missed.
+ */
+public class ChangeEventNotifier {
+  private static final ChangeEventNotifier INSTANCE = new ChangeEventNotifier();
+
+  private final Object lock = new Object();
+  private final List<Runnable> listeners = new ArrayList<>();
+  private long stored;
+
+  private ChangeEventNotifier() {}
+
+  public static ChangeEventNotifier getInstance() {
+    return INSTANCE;
+  }
+
+  /** Called after change events are stored */
+  public void notifyStored() {
+    List<Runnable> toNotify;
+    synchronized (lock) {
+      stored++;
+      toNotify = new ArrayList<>(listeners);
+      listeners.clear();
+    }
+    toNotify.forEach(Runnable::run);
+  }
+
+  /** Number of times change events were stored, passed to {@link #addListener(long, Runnable)} */
+  public long getStored() {
+    synchronized (lock) {
+      return stored;
+    }
+  }
+
+  /**
+   * Run the listener once when change events are stored after {@code seen} was read from {@link #getStored()}, right
+   * away when they already were. The listener runs on the thread storing the events and must not block.
+   */
+  public void addListener(long seen, Runnable listener) {
+    synchronized (lock) {
+      if (stored == seen) {
+        listeners.add(listener);
+        return;
+      }
+    }
+    listener.run();
+  }
+
+  /** Remove a listener that is no longer needed, such as when the reader stopped waiting */
+  public void removeListener(Runnable listener) {
+    synchronized (lock) {
+      listeners.remove(listener);
+    }
+  }
+}
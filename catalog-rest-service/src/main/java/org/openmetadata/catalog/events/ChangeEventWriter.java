@@ -0,0 +1,258 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.catalog.entity.feed.Thread;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.FeedRepository;
+import org.openmetadata.catalog.socket.WebSocketManager;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Stores change events, and the feed threads created for them, in batches on a writer thread. The event filter only
+ * builds the events and offers them to a bounded queue without waiting, so that requests are not slowed down by the
+ * writes. An event offered when the queue is full is dropped. The writer takes all the events in the queue, up to
+ * {@link #MAX_BATCH_SIZE}, and stores them with a batch insert per table. The feed threads of the events and the users
+ * to notify of them are resolved on the writer thread. When a batch fails, the events and threads of the batch are
+ * stored one at a time so that only the bad ones are lost.
+ *
+ * <p>Change events made outside of requests, such as by the bulk APIs, are stored with {@link #store(CollectionDAO,
+ * List)} on the caller's thread. Events are stored and published under the same lock, so that the events of this server
+ * are published in the order of their eventOffset.
+ */
+@Slf4j
+public class ChangeEventWriter {
+  private static final int QUEUE_CAPACITY = 10000;
+  private static final int MAX_BATCH_SIZE = 500;
+  private static final long POLL_TIMEOUT_MS = 500;
+  private static final long CLOSE_TIMEOUT_SECONDS = 30;
+  private static final Object STORE_LOCK = new Object();
+
+  private final CollectionDAO dao;
+  private final FeedRepository feedRepository;
+  private final FeedThreadResolver feedThreads;
+  private final BlockingQueue<PendingChangeEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(DaemonThreadFactory.INSTANCE);
+  private final Counter storedEvents;
+  private final Counter droppedEvents;
+  private final Counter failedEvents;
+  private final Counter failedThreads;
+  private volatile boolean closed;
+
+  ChangeEventWriter(
+      CollectionDAO dao,
+      FeedRepository feedRepository,
+      FeedThreadResolver feedThreads,
+      MeterRegistry registry) {
+    this.dao = dao;
+    this.feedRepository = feedRepository;
+    this.feedThreads = feedThreads;
+    registry.gauge("changeEvents.queued", queue, BlockingQueue::size);
+    storedEvents = registry.counter("changeEvents.stored");
+    droppedEvents = registry.counter("changeEvents.dropped");
+    failedEvents = registry.counter("changeEvents.failed");
+    failedThreads = registry.counter("changeEvents.failedThreads");
+    executor.submit(this::run);
+  }
+
+  /** Queue a change event to be stored. Returns false when the event was dropped because the queue is full. */
+  boolean add(PendingChangeEvent event) {
+    if (!closed && queue.offer(event)) {
+      return true;
+    }
+    droppedEvents.increment();
+    LOG.warn("Dropped a change event, {} events are waiting to be stored", queue.size());
+    // Subscribers such as the caches still see the event that was not stored
+    EventPubSub.publish(event.getChangeEvent(), 0);
+    return false;
+  }
+
+  /**
+   * Store change events with a single batch statement on the caller's thread and publish them with their eventOffsets.
+   * The entity of an event is stored as json string, same as for the events recorded by {@link ChangeEventHandler}.
+   */
+  public static void store(CollectionDAO dao, List<ChangeEvent> changeEvents) throws JsonProcessingException {
+    if (changeEvents.isEmpty()) {
+      return;
+    }
+    List<String> jsons = new ArrayList<>(changeEvents.size());
+    for (ChangeEvent changeEvent : changeEvents) {
+      Object entity = changeEvent.getEntity();
+      changeEvent.setEntity(entity == null ? null : JsonUtils.pojoToJson(entity));
+      jsons.add(JsonUtils.pojoToJson(changeEvent));
+      changeEvent.setEntity(entity);
+    }
+    synchronized (STORE_LOCK) {
+      List<Long> offsets = dao.changeEventDAO().insertBatch(jsons);
+      ChangeEventNotifier.getInstance().notifyStored();
+      EventPubSub.publish(changeEvents, offsets);
+    }
+  }
+
+  private void run() {
+    List<PendingChangeEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    while (!closed || !queue.isEmpty()) {
+      try {
+        PendingChangeEvent first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        java.lang.Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        LOG.error("Failed to store {} change events", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<PendingChangeEvent> batch) {
+    storeEvents(batch);
+    List<PendingThread> threads = new ArrayList<>();
+    for (PendingChangeEvent event : batch) {
+      try {
+        threads.addAll(feedThreads.getFeedThreads(event));
+      } catch (Exception e) {
+        failedThreads.increment();
+        LOG.error("Failed to get the feed threads of change event {}", event.getEventJson(), e);
+      }
+    }
+    if (threads.isEmpty()) {
+      return;
+    }
+    for (PendingThread thread : createThreads(threads)) {
+      WebSocketManager.getInstance()
+          .sendToManyWithUUID(thread.getUsersToNotify(), WebSocketManager.feedBroadcastChannel, thread.getJson());
+    }
+  }
+
+  /**
+   * Store the change events in one batch. When the batch fails, store them one at a time to skip only bad events. The
+   * events are then published with their eventOffsets. Events that could not be stored are published without an offset,
+   * so that the subscribers such as the caches still see them.
+   */
+  private void storeEvents(List<PendingChangeEvent> batch) {
+    List<ChangeEvent> events = batch.stream().map(PendingChangeEvent::getChangeEvent).collect(Collectors.toList());
+    List<String> jsons = batch.stream().map(PendingChangeEvent::getEventJson).collect(Collectors.toList());
+    synchronized (STORE_LOCK) {
+      List<Long> offsets;
+      try {
+        offsets = dao.changeEventDAO().insertBatch(jsons);
+        storedEvents.increment(batch.size());
+      } catch (Exception e) {
+        LOG.warn("Failed to store a batch of {} change events, storing them one at a time", batch.size(), e);
+        offsets = new ArrayList<>(batch.size());
+        for (String json : jsons) {
+          try {
+            offsets.add(dao.changeEventDAO().insert(json));
+            storedEvents.increment();
+          } catch (Exception ex) {
+            offsets.add(0L);
+            failedEvents.increment();
+            LOG.error("Failed to store change event {}", json, ex);
+          }
+        }
+      }
+      ChangeEventNotifier.getInstance().notifyStored();
+      EventPubSub.publish(events, offsets);
+    }
+  }
+
+  /** Create the feed threads in one batch, or one at a time when the batch fails. Returns the threads created. */
+  private List<PendingThread> createThreads(List<PendingThread> threads) {
+    try {
+      feedRepository.createBatch(
+          threads.stream().map(PendingThread::getThread).collect(Collectors.toList()),
+          threads.stream().map(PendingThread::getOwner).collect(Collectors.toList()));
+      return threads;
+    } catch (Exception e) {
+      LOG.warn("Failed to create a batch of {} feed threads, creating them one at a time", threads.size(), e);
+    }
+    List<PendingThread> created = new ArrayList<>(threads.size());
+    for (PendingThread thread : threads) {
+      try {
+        feedRepository.createBatch(
+            Collections.singletonList(thread.getThread()), Collections.singletonList(thread.getOwner()));
+        created.add(thread);
+      } catch (Exception e) {
+        failedThreads.increment();
+        LOG.error("Failed to create feed thread {}", thread.getThread().getId(), e);
+      }
+    }
+    return created;
+  }
+
+  /** Stop taking new events and store the events already queued */
+  void close() {
+    closed = true;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("{} change events were not stored before shutdown", queue.size());
+      }
+    } catch (InterruptedException e) {
+      java.lang.Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Resolves the feed threads to create for a change event, along with the users to notify of them */
+  interface FeedThreadResolver {
+    List<PendingThread> getFeedThreads(PendingChangeEvent event) throws IOException;
+  }
+
+  /**
+   * Change event to publish, serialized for the change_event table, with the name of the user whose request made the
+   * change. The user is the creator of the feed threads for the event.
+   */
+  @Value
+  static class PendingChangeEvent {
+    ChangeEvent changeEvent;
+    String eventJson;
+    String userName;
+  }
+
+  /** Feed thread to create with the owner of its entity, and the message to send to the notified users */
+  @Value
+  static class PendingThread {
+    Thread thread;
+    EntityReference owner;
+    String json;
+    Collection<UUID> usersToNotify;
+  }
+}
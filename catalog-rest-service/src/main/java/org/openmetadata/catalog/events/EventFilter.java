@@ -17,7 +17,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ForkJoinPool;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
@@ -25,18 +24,18 @@ import javax.ws.rs.ext.Provider;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
-import org.openmetadata.catalog.util.ParallelStreamUtil;
 
+/**
+ * Passes the responses of the requests that change entities to the event handlers. Handlers run on the request thread
+ * and must not block, the change events are stored by {@link ChangeEventWriter} on its own thread.
+ */
 @Slf4j
 @Provider
-public class EventFilter implements ContainerResponseFilter {
+public class EventFilter implements ContainerResponseFilter, AutoCloseable {
   private static final List<String> AUDITABLE_METHODS = Arrays.asList("POST", "PUT", "PATCH", "DELETE");
-  private static final int FORK_JOIN_POOL_PARALLELISM = 20;
-  private final ForkJoinPool forkJoinPool;
   private final List<EventHandler> eventHandlers;
 
   public EventFilter(CatalogApplicationConfig config, Jdbi jdbi) {
-    this.forkJoinPool = new ForkJoinPool(FORK_JOIN_POOL_PARALLELISM);
     this.eventHandlers = new ArrayList<>();
     registerEventHandlers(config, jdbi);
   }
@@ -63,10 +62,18 @@ public class EventFilter implements ContainerResponseFilter {
     if ((responseCode < 200 || responseCode > 299) || (!AUDITABLE_METHODS.contains(method))) {
       return;
     }
-    eventHandlers
-        .parallelStream()
-        .forEach(
-            eventHandler ->
-                ParallelStreamUtil.runAsync(() -> eventHandler.process(requestContext, responseContext), forkJoinPool));
+    for (EventHandler eventHandler : eventHandlers) {
+      try {
+        eventHandler.process(requestContext, responseContext);
+      } catch (Exception e) {
+        LOG.error("Event handler {} failed to process the response", eventHandler.getClass().getSimpleName(), e);
+      }
+    }
+  }
+
+  /** Close the event handlers, which store the events of the requests already served */
+  @Override
+  public void close() {
+    eventHandlers.forEach(EventHandler::close);
   }
 }
@@ -15,7 +15,11 @@ package org.openmetadata.catalog.events;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
+import org.openmetadata.catalog.jdbi3.ChangeEventRepository;
 
 public class EventHandlerConfiguration {
   @Getter @Setter private Set<String> eventHandlerClassNames;
+
+  /** Time after which stored change events are read by the events API and the webhooks */
+  @Getter @Setter private long visibilityLagMs = ChangeEventRepository.DEFAULT_VISIBILITY_LAG_MS;
 }
@@ -20,6 +20,7 @@ import com.lmax.disruptor.ExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.util.DaemonThreadFactory;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -60,14 +61,25 @@ public class EventPubSub {
 
   public static class ChangeEventHolder {
     private ChangeEvent value;
+    private long offset;
 
     public void set(ChangeEvent event) {
+      set(event, 0);
+    }
+
+    public void set(ChangeEvent event, long offset) {
       this.value = event;
+      this.offset = offset;
     }
 
     public ChangeEvent get() {
       return value;
     }
+
+    /** eventOffset of the event in the change_event table, or 0 when the event was not stored */
+    public long getOffset() {
+      return offset;
+    }
   }
 
   public static class ChangeEventFactory implements EventFactory<ChangeEventHolder> {
@@ -76,15 +88,34 @@ public class EventPubSub {
     }
   }
 
-  public static void publish(ChangeEvent event) {
+  /** Publish an event stored in the change_event table at the given eventOffset, or 0 when it was not stored */
+  public static void publish(ChangeEvent event, long offset) {
     if (event != null) {
       RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
       long sequence = ringBuffer.next();
-      ringBuffer.get(sequence).set(event);
+      ringBuffer.get(sequence).set(event, offset);
       ringBuffer.publish(sequence);
     }
   }
 
+  /**
+   * Publish the events with their eventOffsets in the change_event table, claiming a range of sequences from the ring
+   * buffer at a time
+   */
+  public static void publish(List<ChangeEvent> events, List<Long> offsets) {
+    RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
+    int batchSize = ringBuffer.getBufferSize();
+    for (int i = 0; i < events.size(); i += batchSize) {
+      List<ChangeEvent> batch = events.subList(i, Math.min(i + batchSize, events.size()));
+      long hi = ringBuffer.next(batch.size());
+      long lo = hi - (batch.size() - 1);
+      for (int j = 0; j < batch.size(); j++) {
+        ringBuffer.get(lo + j).set(batch.get(j), offsets.get(i + j));
+      }
+      ringBuffer.publish(lo, hi);
+    }
+  }
+
   public static BatchEventProcessor<ChangeEventHolder> addEventHandler(EventHandler<ChangeEventHolder> eventHandler) {
     BatchEventProcessor<ChangeEventHolder> processor =
         new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), eventHandler);
@@ -37,6 +37,10 @@ public final class CatalogExceptionMessage {
     return String.format("%s instances not found", entityType);
   }
 
+  public static String duplicateEntityInRequest(String entityType, String fqn) {
+    return String.format("%s %s is included more than once in the request", entityType, fqn);
+  }
+
   public static String readOnlyAttribute(String entityType, String attribute) {
     return String.format("%s attribute %s can't be modified", entityType, attribute);
   }
@@ -49,6 +53,14 @@ public final class CatalogExceptionMessage {
     return String.format("Invalid field name %s", field);
   }
 
+  public static String invalidDate(String date) {
+    return String.format("Invalid date %s, expected format is yyyy-MM-dd", date);
+  }
+
+  public static String invalidCursor(String cursor) {
+    return String.format("Invalid cursor %s", cursor);
+  }
+
   public static String entityTypeNotFound(String entityType) {
     return String.format("Entity type %s not found", entityType);
   }
@@ -17,35 +17,201 @@ import static org.openmetadata.catalog.type.EventType.ENTITY_CREATED;
 import static org.openmetadata.catalog.type.EventType.ENTITY_DELETED;
 import static org.openmetadata.catalog.type.EventType.ENTITY_SOFT_DELETED;
 import static org.openmetadata.catalog.type.EventType.ENTITY_UPDATED;
+import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 
+import com.lmax.disruptor.util.DaemonThreadFactory;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import org.jdbi.v3.sqlobject.transaction.Transaction;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openmetadata.catalog.events.ChangeEventNotifier;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.catalog.resources.events.EventResource.ChangeEventList;
 import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.util.JsonUtils;
 
+/**
+ * Reads change events in pages in the order they were stored in. The first page is read from a time, and the offset of
+ * the last event read is returned as the after cursor from which the next page is read. Events that are stored late,
+ * with a time before events already read, are read on the next page and not skipped.
+ *
+ * <p>Offsets are assigned when events are inserted, but the events become visible when their transaction commits, which
+ * may be after an event with a larger offset is visible. Events are read only up to the last event stored more than
+ * the visibility lag ago by the clock of the database, so that the cursor does not move past an event that becomes
+ * visible late. New events are read after the visibility lag.
+ */
 public class ChangeEventRepository {
+  public static final long DEFAULT_VISIBILITY_LAG_MS = 1_000;
+  // Events stored by other servers don't notify the readers waiting on this server, and are read at this interval
+  private static final long RECHECK_INTERVAL_MS = 5_000;
+  // Reads again for the readers waiting for new events, so that waiting readers don't hold request threads
+  private static final ScheduledExecutorService POLLER =
+      Executors.newScheduledThreadPool(4, DaemonThreadFactory.INSTANCE);
+  private static volatile long visibilityLagMs = DEFAULT_VISIBILITY_LAG_MS;
   private final CollectionDAO dao;
 
   public ChangeEventRepository(CollectionDAO dao) {
     this.dao = dao;
   }
 
-  @Transaction
-  public List<ChangeEvent> list(
-      long timestamp, List<String> entityCreatedList, List<String> entityUpdatedList, List<String> entityDeletedList)
-      throws IOException {
-    List<String> jsons = new ArrayList<>();
-    jsons.addAll(dao.changeEventDAO().list(ENTITY_CREATED.value(), entityCreatedList, timestamp));
-    jsons.addAll(dao.changeEventDAO().list(ENTITY_UPDATED.value(), entityUpdatedList, timestamp));
-    jsons.addAll(dao.changeEventDAO().list(ENTITY_DELETED.value(), entityDeletedList, timestamp));
-    jsons.addAll(dao.changeEventDAO().list(ENTITY_SOFT_DELETED.value(), entityDeletedList, timestamp));
+  /**
+   * List up to {@code limit} events after the given cursor, or from the given timestamp when there is no cursor. When
+   * there are no events, wait for new events for up to {@code waitMs} without blocking the calling thread. The after
+   * cursor of the page is the offset of its last event, or the offset the page was read from when it has no events, so
+   * that it can always be used to read the next page.
+   */
+  public CompletableFuture<ChangeEventList> list(
+      String after,
+      long timestamp,
+      List<String> entityCreatedList,
+      List<String> entityUpdatedList,
+      List<String> entityDeletedList,
+      int limit,
+      long waitMs) {
+    Long offset = after == null ? null : decodeOffset(after);
+    String condition = getCondition(entityCreatedList, entityUpdatedList, entityDeletedList);
+    CompletableFuture<ChangeEventList> result = new CompletableFuture<>();
+    poll(condition, offset, timestamp, limit, condition == null ? 0 : System.currentTimeMillis() + waitMs, result);
+    return result;
+  }
+
+  private void poll(
+      String condition,
+      Long after,
+      long timestamp,
+      int limit,
+      long deadline,
+      CompletableFuture<ChangeEventList> result) {
+    ChangeEventNotifier notifier = ChangeEventNotifier.getInstance();
+    long seen = notifier.getStored();
+    ChangeEventList page;
+    try {
+      page = read(condition, after, timestamp, limit);
+    } catch (Exception e) {
+      result.completeExceptionally(e);
+      return;
+    }
+    long remaining = deadline - System.currentTimeMillis();
+    if (!page.getData().isEmpty() || remaining <= 0) {
+      result.complete(page);
+      return;
+    }
+
+    // Read again when the events stored on this server are visible to readers, or after the recheck interval
+    AtomicBoolean retried = new AtomicBoolean();
+    Runnable retry =
+        () -> {
+          if (retried.compareAndSet(false, true)) {
+            poll(condition, after, timestamp, limit, deadline, result);
+          }
+        };
+    Runnable onStored = () -> POLLER.schedule(retry, visibilityLagMs, TimeUnit.MILLISECONDS);
+    notifier.addListener(seen, onStored);
+    POLLER.schedule(
+        () -> {
+          notifier.removeListener(onStored);
+          retry.run();
+        },
+        Math.min(remaining, RECHECK_INTERVAL_MS),
+        TimeUnit.MILLISECONDS);
+  }
+
+  private ChangeEventList read(String condition, Long after, long timestamp, int limit) throws IOException {
+    ChangeEventDAO changeEventDAO = dao.changeEventDAO();
+    long offset;
+    List<Pair<Long, String>> rows;
+    if (after != null) {
+      offset = after;
+      rows =
+          condition == null
+              ? Collections.emptyList()
+              : changeEventDAO.listAfterOffset(condition, offset, limit, visibilityLagMs);
+    } else {
+      // Events visible after the safe offset is read have a larger offset, and are read from the returned cursor
+      offset = changeEventDAO.getSafeOffset(visibilityLagMs);
+      rows =
+          condition == null
+              ? Collections.emptyList()
+              : changeEventDAO.listFromTime(condition, timestamp, limit, visibilityLagMs);
+    }
+
+    List<ChangeEvent> events = new ArrayList<>(rows.size());
+    for (Pair<Long, String> row : rows) {
+      events.add(JsonUtils.readValue(row.getRight(), ChangeEvent.class));
+      offset = row.getLeft();
+    }
+    return new ChangeEventList(events, null, encodeOffset(offset), events.size());
+  }
+
+  /** Time after which stored events are read, so that the events stored before them are visible to readers */
+  public static void setVisibilityLagMs(long lagMs) {
+    visibilityLagMs = lagMs;
+  }
+
+  public static long getVisibilityLagMs() {
+    return visibilityLagMs;
+  }
+
+  /**
+   * Condition on event type and entity type for the events requested, or null when no events are requested. Entity
+   * types are validated by the caller.
+   */
+  static String getCondition(
+      List<String> entityCreatedList, List<String> entityUpdatedList, List<String> entityDeletedList) {
+    List<String> conditions = new ArrayList<>();
+    addCondition(conditions, List.of(ENTITY_CREATED), entityCreatedList);
+    addCondition(conditions, List.of(ENTITY_UPDATED), entityUpdatedList);
+    addCondition(conditions, List.of(ENTITY_DELETED, ENTITY_SOFT_DELETED), entityDeletedList);
+    return conditions.isEmpty() ? null : "(" + String.join(" OR ", conditions) + ")";
+  }
+
+  /**
+   * Condition on event type and entity type for the entity types requested for each event type, such as the event
+   * filters of a webhook, or null when no events are requested.
+   */
+  public static String getCondition(Map<EventType, List<String>> entityTypesByEventType) {
+    List<String> conditions = new ArrayList<>();
+    entityTypesByEventType.forEach(
+        (eventType, entityTypes) -> addCondition(conditions, List.of(eventType), entityTypes));
+    return conditions.isEmpty() ? null : "(" + String.join(" OR ", conditions) + ")";
+  }
+
+  private static void addCondition(List<String> conditions, List<EventType> eventTypes, List<String> entityTypes) {
+    if (nullOrEmpty(entityTypes)) {
+      return;
+    }
+    String eventTypeCondition = String.format("eventType IN (%s)", quote(eventTypes.stream().map(EventType::value)));
+    if (entityTypes.get(0).equals("*")) {
+      conditions.add(eventTypeCondition);
+    } else {
+      conditions.add(String.format("(%s AND entityType IN (%s))", eventTypeCondition, quote(entityTypes.stream())));
+    }
+  }
+
+  private static String quote(Stream<String> values) {
+    // Entity types of webhook event filters are not validated, quotes in them are escaped
+    return values.map(value -> "'" + value.replace("'", "''") + "'").collect(Collectors.joining(","));
+  }
+
+  static String encodeOffset(long eventOffset) {
+    return String.valueOf(eventOffset);
+  }
 
-    List<ChangeEvent> changeEvents = new ArrayList<>();
-    for (String json : jsons) {
-      changeEvents.add(JsonUtils.readValue(json, ChangeEvent.class));
+  static long decodeOffset(String cursor) {
+    try {
+      return Long.parseLong(cursor);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor " + cursor);
     }
-    return changeEvents;
   }
 }
@@ -18,12 +18,16 @@ import static org.openmetadata.catalog.jdbi3.locator.ConnectionType.POSTGRES;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -32,6 +36,8 @@ import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.catalog.Entity;
@@ -64,6 +70,7 @@ import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.TagUsageDAO.TagLabelMapper;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.UsageDAO.UsageDetailsMapper;
+import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareSqlBatch;
 import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.catalog.type.Relationship;
@@ -74,7 +81,6 @@ import org.openmetadata.catalog.type.ThreadType;
 import org.openmetadata.catalog.type.UsageDetails;
 import org.openmetadata.catalog.type.UsageStats;
 import org.openmetadata.catalog.type.Webhook;
-import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.common.utils.CommonUtil;
 
 public interface CollectionDAO {
@@ -93,6 +99,12 @@ public interface CollectionDAO {
   @CreateSqlObject
   EntityExtensionDAO entityExtensionDAO();
 
+  @CreateSqlObject
+  TableProfileDAO tableProfileDAO();
+
+  @CreateSqlObject
+  PipelineStatusDAO pipelineStatusDAO();
+
   @CreateSqlObject
   RoleDAO roleDAO();
 
@@ -174,6 +186,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   FeedDAO feedDAO();
 
+  @CreateSqlObject
+  PostDAO postDAO();
+
   @CreateSqlObject
   LocationDAO locationDAO();
 
@@ -186,6 +201,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   TypeEntityDAO typeEntityDAO();
 
+  @CreateSqlObject
+  BackgroundJobDAO backgroundJobDAO();
+
   interface DashboardDAO extends EntityDAO<Dashboard> {
     @Override
     default String getTableName() {
@@ -316,21 +334,186 @@ public interface CollectionDAO {
             + "ORDER BY extension")
     List<ExtensionRecord> getExtensions(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
 
+    @RegisterRowMapper(ExtensionMapper.class)
+    @SqlQuery("SELECT extension, json FROM entity_extension WHERE id = :id AND extension IN (<extensions>)")
+    List<ExtensionRecord> getExtensions(@Bind("id") String id, @BindList("extensions") List<String> extensions);
+
+    /** Extension names and the schema of their JSON, without the JSON */
+    @RegisterRowMapper(ExtensionSchemaMapper.class)
+    @SqlQuery(
+        "SELECT extension, jsonSchema FROM entity_extension WHERE id = :id AND extension "
+            + "LIKE CONCAT (:extensionPrefix, '.%')")
+    List<Pair<String, String>> getExtensionSchemas(
+        @Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
+
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id AND extension = :extension")
     void delete(@Bind("id") String id, @Bind("extension") String extension);
 
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id")
     void deleteAll(@Bind("id") String id);
+
+    @SqlUpdate("DELETE FROM entity_extension WHERE id IN (<ids>)")
+    void deleteAll(@BindList("ids") List<String> ids);
   }
 
-  class EntityVersionPair {
-    @Getter private final Double version;
-    @Getter private final String entityJson;
+  /** Background jobs along with their progress, saved by the server that runs them */
+  interface BackgroundJobDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO background_job(id, jobType, status, updatedAt, json) "
+                + "VALUES (:id, :jobType, :status, :updatedAt, :json) "
+                + "ON DUPLICATE KEY UPDATE status = VALUES(status), updatedAt = VALUES(updatedAt), json = VALUES(json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO background_job(id, jobType, status, updatedAt, json) "
+                + "VALUES (:id, :jobType, :status, :updatedAt, (:json :: jsonb)) "
+                + "ON CONFLICT (id) DO UPDATE SET status = EXCLUDED.status, updatedAt = EXCLUDED.updatedAt, "
+                + "json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void upsert(
+        @Bind("id") String id,
+        @Bind("jobType") String jobType,
+        @Bind("status") String status,
+        @Bind("updatedAt") long updatedAt,
+        @Bind("json") String json);
 
-    public EntityVersionPair(ExtensionRecord record) {
-      this.version = EntityUtil.getVersion(record.getExtensionName());
-      this.entityJson = record.getExtensionJson();
-    }
+    @SqlQuery("SELECT json FROM background_job WHERE id = :id")
+    String findById(@Bind("id") String id);
+
+    /** Job of the given type that was saved last */
+    @SqlQuery("SELECT json FROM background_job WHERE jobType = :jobType ORDER BY updatedAt DESC LIMIT 1")
+    String findLatest(@Bind("jobType") String jobType);
+  }
+
+  /** Time series of table profiles, one row per table and profile date. Dates are in yyyy-MM-dd format. */
+  interface TableProfileDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO table_profile(id, profileDate, json) VALUES (:id, :profileDate, :json) "
+                + "ON DUPLICATE KEY UPDATE json = VALUES(json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO table_profile(id, profileDate, json) VALUES (:id, (:profileDate :: date), (:json :: jsonb)) "
+                + "ON CONFLICT (id, profileDate) DO UPDATE SET json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void insert(@Bind("id") String id, @Bind("profileDate") String profileDate, @Bind("json") String json);
+
+    /** Profiles older than the after date, latest first */
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT json FROM table_profile WHERE id = :id AND profileDate >= :startDate AND profileDate <= :endDate "
+                + "AND profileDate < :after ORDER BY profileDate DESC LIMIT :limit",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT json FROM table_profile WHERE id = :id AND profileDate >= (:startDate :: date) "
+                + "AND profileDate <= (:endDate :: date) AND profileDate < (:after :: date) "
+                + "ORDER BY profileDate DESC LIMIT :limit",
+        connectionType = POSTGRES)
+    List<String> listAfter(
+        @Bind("id") String id,
+        @Bind("startDate") String startDate,
+        @Bind("endDate") String endDate,
+        @Bind("limit") int limit,
+        @Bind("after") String after);
+
+    /** Profiles newer than the before date, latest first */
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT json FROM (SELECT profileDate, json FROM table_profile WHERE id = :id "
+                + "AND profileDate >= :startDate AND profileDate <= :endDate AND profileDate > :before "
+                + "ORDER BY profileDate LIMIT :limit) last_rows ORDER BY profileDate DESC",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT json FROM (SELECT profileDate, json FROM table_profile WHERE id = :id "
+                + "AND profileDate >= (:startDate :: date) AND profileDate <= (:endDate :: date) "
+                + "AND profileDate > (:before :: date) ORDER BY profileDate LIMIT :limit) last_rows "
+                + "ORDER BY profileDate DESC",
+        connectionType = POSTGRES)
+    List<String> listBefore(
+        @Bind("id") String id,
+        @Bind("startDate") String startDate,
+        @Bind("endDate") String endDate,
+        @Bind("limit") int limit,
+        @Bind("before") String before);
+
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT count(*) FROM table_profile WHERE id = :id AND profileDate >= :startDate "
+                + "AND profileDate <= :endDate",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT count(*) FROM table_profile WHERE id = :id AND profileDate >= (:startDate :: date) "
+                + "AND profileDate <= (:endDate :: date)",
+        connectionType = POSTGRES)
+    int listCount(@Bind("id") String id, @Bind("startDate") String startDate, @Bind("endDate") String endDate);
+
+    @ConnectionAwareSqlUpdate(
+        value = "DELETE FROM table_profile WHERE id = :id AND profileDate < :profileDate",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value = "DELETE FROM table_profile WHERE id = :id AND profileDate < (:profileDate :: date)",
+        connectionType = POSTGRES)
+    void deleteBefore(@Bind("id") String id, @Bind("profileDate") String profileDate);
+
+    @SqlUpdate("DELETE FROM table_profile WHERE id = :id")
+    void deleteAll(@Bind("id") String id);
+
+    @SqlUpdate("DELETE FROM table_profile WHERE id IN (<ids>)")
+    void deleteAll(@BindList("ids") List<String> ids);
+  }
+
+  /** Run history of pipelines, one row per pipeline and execution date in milliseconds. */
+  interface PipelineStatusDAO {
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO pipeline_status(id, executionDate, json) VALUES (:id, :executionDate, :json) "
+                + "ON DUPLICATE KEY UPDATE json = VALUES(json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO pipeline_status(id, executionDate, json) VALUES (:id, :executionDate, (:json :: jsonb)) "
+                + "ON CONFLICT (id, executionDate) DO UPDATE SET json = EXCLUDED.json",
+        connectionType = POSTGRES)
+    void insert(@Bind("id") String id, @Bind("executionDate") long executionDate, @Bind("json") String json);
+
+    /** Statuses older than the after timestamp, latest first */
+    @SqlQuery(
+        "SELECT json FROM pipeline_status WHERE id = :id AND executionDate >= :startTs AND executionDate <= :endTs "
+            + "AND executionDate < :after ORDER BY executionDate DESC LIMIT :limit")
+    List<String> listAfter(
+        @Bind("id") String id,
+        @Bind("startTs") long startTs,
+        @Bind("endTs") long endTs,
+        @Bind("limit") int limit,
+        @Bind("after") long after);
+
+    /** Statuses newer than the before timestamp, latest first */
+    @SqlQuery(
+        "SELECT json FROM (SELECT executionDate, json FROM pipeline_status WHERE id = :id "
+            + "AND executionDate >= :startTs AND executionDate <= :endTs AND executionDate > :before "
+            + "ORDER BY executionDate LIMIT :limit) last_rows ORDER BY executionDate DESC")
+    List<String> listBefore(
+        @Bind("id") String id,
+        @Bind("startTs") long startTs,
+        @Bind("endTs") long endTs,
+        @Bind("limit") int limit,
+        @Bind("before") long before);
+
+    @SqlQuery(
+        "SELECT count(*) FROM pipeline_status WHERE id = :id AND executionDate >= :startTs "
+            + "AND executionDate <= :endTs")
+    int listCount(@Bind("id") String id, @Bind("startTs") long startTs, @Bind("endTs") long endTs);
+
+    @SqlUpdate("DELETE FROM pipeline_status WHERE id = :id")
+    void deleteAll(@Bind("id") String id);
+
+    @SqlUpdate("DELETE FROM pipeline_status WHERE id IN (<ids>)")
+    void deleteAll(@BindList("ids") List<String> ids);
   }
 
   class ExtensionRecord {
@@ -350,6 +533,13 @@ public interface CollectionDAO {
     }
   }
 
+  class ExtensionSchemaMapper implements RowMapper<Pair<String, String>> {
+    @Override
+    public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return Pair.of(rs.getString("extension"), rs.getString("jsonSchema"));
+    }
+  }
+
   @Getter
   @Builder
   class EntityRelationshipRecord {
@@ -358,7 +548,26 @@ public interface CollectionDAO {
     private String json;
   }
 
+  @Getter
+  @Builder
+  class EntityRelationshipObject {
+    private UUID fromId;
+    private String fromEntity;
+    private UUID toId;
+    private String toEntity;
+    private String json;
+  }
+
   interface EntityRelationshipDAO {
+    String MYSQL_INSERT =
+        "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json) "
+            + "VALUES (:fromId, :toId, :fromEntity, :toEntity, :relation, :json) "
+            + "ON DUPLICATE KEY UPDATE json = :json";
+    String POSTGRES_INSERT =
+        "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json) VALUES "
+            + "(:fromId, :toId, :fromEntity, :toEntity, :relation, (:json :: jsonb)) "
+            + "ON CONFLICT (fromId, toId, relation) DO UPDATE SET json = EXCLUDED.json";
+
     default void insert(UUID fromId, UUID toId, String fromEntity, String toEntity, int relation) {
       insert(fromId, toId, fromEntity, toEntity, relation, null);
     }
@@ -367,18 +576,8 @@ public interface CollectionDAO {
       insert(fromId.toString(), toId.toString(), fromEntity, toEntity, relation, json);
     }
 
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json) "
-                + "VALUES (:fromId, :toId, :fromEntity, :toEntity, :relation, :json) "
-                + "ON DUPLICATE KEY UPDATE json = :json",
-        connectionType = MYSQL)
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation, json) VALUES "
-                + "(:fromId, :toId, :fromEntity, :toEntity, :relation, (:json :: jsonb)) "
-                + "ON CONFLICT (fromId, toId, relation) DO UPDATE SET json = EXCLUDED.json",
-        connectionType = POSTGRES)
+    @ConnectionAwareSqlUpdate(value = MYSQL_INSERT, connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(value = POSTGRES_INSERT, connectionType = POSTGRES)
     void insert(
         @Bind("fromId") String fromId,
         @Bind("toId") String toId,
@@ -387,6 +586,17 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("json") String json);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = MYSQL_INSERT, connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(value = POSTGRES_INSERT, connectionType = POSTGRES)
+    void insertBatch(
+        @Bind("fromId") List<String> fromIds,
+        @Bind("toId") List<String> toIds,
+        @Bind("fromEntity") List<String> fromEntities,
+        @Bind("toEntity") List<String> toEntities,
+        @Bind("relation") List<Integer> relations,
+        @Bind("json") List<String> jsons);
+
     //
     // Find to operations
     //
@@ -443,6 +653,24 @@ public interface CollectionDAO {
     List<EntityRelationshipRecord> findFrom(
         @Bind("toId") String toId, @Bind("toEntity") String toEntity, @Bind("relation") int relation);
 
+    //
+    // Batch find operations
+    //
+    @SqlQuery(
+        "SELECT fromId, fromEntity, toId, toEntity, json FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND relation = :relation "
+            + "ORDER BY fromId, toId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findToBatch(
+        @BindList("fromIds") List<String> fromIds, @Bind("relation") int relation);
+
+    @SqlQuery(
+        "SELECT fromId, fromEntity, toId, toEntity, json FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND relation = :relation "
+            + "ORDER BY toId, fromId")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(@BindList("toIds") List<String> toIds, @Bind("relation") int relation);
+
     //
     // Delete Operations
     //
@@ -482,6 +710,10 @@ public interface CollectionDAO {
             + "(fromId = :id AND fromEntity = :entity)")
     void deleteAll(@Bind("id") String id, @Bind("entity") String entity);
 
+    // Delete all the relationships from or to the entities with given ids
+    @SqlUpdate("DELETE from entity_relationship WHERE fromId IN (<ids>) OR toId IN (<ids>)")
+    void deleteAll(@BindList("ids") List<String> ids);
+
     class FromRelationshipMapper implements RowMapper<EntityRelationshipRecord> {
       @Override
       public EntityRelationshipRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -493,6 +725,19 @@ public interface CollectionDAO {
       }
     }
 
+    class RelationshipObjectMapper implements RowMapper<EntityRelationshipObject> {
+      @Override
+      public EntityRelationshipObject map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return EntityRelationshipObject.builder()
+            .fromId(UUID.fromString(rs.getString("fromId")))
+            .fromEntity(rs.getString("fromEntity"))
+            .toId(UUID.fromString(rs.getString("toId")))
+            .toEntity(rs.getString("toEntity"))
+            .json(rs.getString("json"))
+            .build();
+      }
+    }
+
     class ToRelationshipMapper implements RowMapper<EntityRelationshipRecord> {
       @Override
       public EntityRelationshipRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -512,6 +757,13 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     void insert(@Bind("json") String json);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = "INSERT INTO thread_entity(json) VALUES (:json)", connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value = "INSERT INTO thread_entity(json) VALUES (:json :: jsonb)",
+        connectionType = POSTGRES)
+    void insertBatch(@Bind("json") List<String> jsons);
+
     @SqlQuery("SELECT json FROM thread_entity WHERE id = :id")
     String findById(@Bind("id") String id);
 
@@ -751,6 +1003,21 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     void update(@Bind("id") String id, @Bind("json") String json);
 
+    /** Increment the post count of the thread and set who updated it and when, without rewriting the thread */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE thread_entity SET json = JSON_SET(json, '$.postsCount', "
+                + "COALESCE(JSON_EXTRACT(json, '$.postsCount'), 0) + 1, "
+                + "'$.updatedAt', :updatedAt, '$.updatedBy', :updatedBy) WHERE id = :id",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE thread_entity SET json = json || jsonb_build_object('postsCount', "
+                + "COALESCE(CAST(json ->> 'postsCount' AS INTEGER), 0) + 1, "
+                + "'updatedAt', (:updatedAt :: bigint), 'updatedBy', (:updatedBy :: text)) WHERE id = :id",
+        connectionType = POSTGRES)
+    void addPost(@Bind("id") String id, @Bind("updatedAt") long updatedAt, @Bind("updatedBy") String updatedBy);
+
     @SqlQuery(
         "SELECT entityLink, COUNT(id) count FROM field_relationship fr INNER JOIN thread_entity te ON fr.fromFQN=te.id "
             + "WHERE (:fqnPrefix IS NULL OR fr.toFQN LIKE CONCAT(:fqnPrefix, '.%') OR fr.toFQN=:fqnPrefix) AND "
@@ -894,6 +1161,55 @@ public interface CollectionDAO {
     }
   }
 
+  /** Posts of the feed threads. A reply is an insert and does not rewrite the thread in thread_entity. */
+  interface PostDAO {
+    @ConnectionAwareSqlUpdate(
+        value = "INSERT INTO post_entity(id, threadId, postTs, json) VALUES (:id, :threadId, :postTs, :json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "INSERT INTO post_entity(id, threadId, postTs, json) VALUES (:id, :threadId, :postTs, (:json :: jsonb))",
+        connectionType = POSTGRES)
+    void insert(
+        @Bind("id") String id,
+        @Bind("threadId") String threadId,
+        @Bind("postTs") long postTs,
+        @Bind("json") String json);
+
+    @ConnectionAwareSqlUpdate(value = "UPDATE post_entity SET json = :json WHERE id = :id", connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value = "UPDATE post_entity SET json = (:json :: jsonb) WHERE id = :id",
+        connectionType = POSTGRES)
+    void update(@Bind("id") String id, @Bind("json") String json);
+
+    @SqlQuery("SELECT json FROM post_entity WHERE threadId = :threadId AND id = :id")
+    String findById(@Bind("threadId") String threadId, @Bind("id") String id);
+
+    @SqlQuery("SELECT json FROM post_entity WHERE threadId = :threadId ORDER BY postTs")
+    List<String> list(@Bind("threadId") String threadId);
+
+    /** Last posts of each of the given threads, oldest first */
+    @SqlQuery(
+        "SELECT threadId, json FROM (SELECT threadId, postTs, json, "
+            + "ROW_NUMBER() OVER (PARTITION BY threadId ORDER BY postTs DESC) AS rowNumber "
+            + "FROM post_entity WHERE threadId IN (<threadIds>)) last_posts WHERE rowNumber <= :limit ORDER BY postTs")
+    @RegisterRowMapper(PostMapper.class)
+    List<Pair<String, String>> listLastPosts(@BindList("threadIds") List<String> threadIds, @Bind("limit") int limit);
+
+    @SqlQuery("SELECT count(*) FROM post_entity WHERE threadId = :threadId")
+    int listCount(@Bind("threadId") String threadId);
+
+    @SqlUpdate("DELETE FROM post_entity WHERE id = :id")
+    void delete(@Bind("id") String id);
+
+    class PostMapper implements RowMapper<Pair<String, String>> {
+      @Override
+      public Pair<String, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getString("threadId"), rs.getString("json"));
+      }
+    }
+  }
+
   interface FieldRelationshipDAO {
     @ConnectionAwareSqlUpdate(
         value =
@@ -914,6 +1230,26 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("json") String json);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT IGNORE INTO field_relationship(fromFQN, toFQN, fromType, toType, relation, json) "
+                + "VALUES (:fromFQN, :toFQN, :fromType, :toType, :relation, :json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO field_relationship(fromFQN, toFQN, fromType, toType, relation, json) "
+                + "VALUES (:fromFQN, :toFQN, :fromType, :toType, :relation, (:json :: jsonb)) "
+                + "ON CONFLICT (fromFQN, toFQN, relation) DO NOTHING",
+        connectionType = POSTGRES)
+    void insertBatch(
+        @Bind("fromFQN") List<String> fromFQNs,
+        @Bind("toFQN") List<String> toFQNs,
+        @Bind("fromType") List<String> fromTypes,
+        @Bind("toType") List<String> toTypes,
+        @Bind("relation") List<Integer> relations,
+        @Bind("json") List<String> jsons);
+
     @ConnectionAwareSqlUpdate(
         value =
             "INSERT INTO field_relationship(fromFQN, toFQN, fromType, toType, relation, jsonSchema, json) "
@@ -1413,14 +1749,13 @@ public interface CollectionDAO {
 
   @RegisterRowMapper(TagLabelMapper.class)
   interface TagUsageDAO {
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT IGNORE INTO tag_usage (source, tagFQN, targetFQN, labelType, state) VALUES (:source, :tagFQN, :targetFQN, :labelType, :state)",
-        connectionType = MYSQL)
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO tag_usage (source, tagFQN, targetFQN, labelType, state) VALUES (:source, :tagFQN, :targetFQN, :labelType, :state) ON CONFLICT (source, tagFQN, targetFQN) DO NOTHING",
-        connectionType = POSTGRES)
+    String MYSQL_APPLY_TAG =
+        "INSERT IGNORE INTO tag_usage (source, tagFQN, targetFQN, labelType, state) VALUES (:source, :tagFQN, :targetFQN, :labelType, :state)";
+    String POSTGRES_APPLY_TAG =
+        "INSERT INTO tag_usage (source, tagFQN, targetFQN, labelType, state) VALUES (:source, :tagFQN, :targetFQN, :labelType, :state) ON CONFLICT (source, tagFQN, targetFQN) DO NOTHING";
+
+    @ConnectionAwareSqlUpdate(value = MYSQL_APPLY_TAG, connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(value = POSTGRES_APPLY_TAG, connectionType = POSTGRES)
     void applyTag(
         @Bind("source") int source,
         @Bind("tagFQN") String tagFQN,
@@ -1428,6 +1763,16 @@ public interface CollectionDAO {
         @Bind("labelType") int labelType,
         @Bind("state") int state);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = MYSQL_APPLY_TAG, connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(value = POSTGRES_APPLY_TAG, connectionType = POSTGRES)
+    void applyTags(
+        @Bind("source") List<Integer> sources,
+        @Bind("tagFQN") List<String> tagFQNs,
+        @Bind("targetFQN") List<String> targetFQNs,
+        @Bind("labelType") List<Integer> labelTypes,
+        @Bind("state") List<Integer> states);
+
     @SqlQuery("SELECT targetFQN FROM tag_usage WHERE tagFQN = :tagFQN")
     List<String> tagTargetFQN(@Bind("tagFQN") String tagFQN);
 
@@ -1453,6 +1798,69 @@ public interface CollectionDAO {
         connectionType = POSTGRES)
     List<TagLabel> getTags(@Bind("targetFQN") String targetFQN);
 
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT tu.source, tu.tagFQN, tu.targetFQN, tu.labelType, tu.state, "
+                + "t.json ->> '$.description' AS description1, "
+                + "g.json ->> '$.description' AS description2 "
+                + "FROM tag_usage tu "
+                + "LEFT JOIN tag t ON tu.tagFQN = t.fullyQualifiedName AND tu.source = 0 "
+                + "LEFT JOIN glossary_term_entity g ON tu.tagFQN = g.fullyQualifiedName AND tu.source = 1 "
+                + "WHERE tu.targetFQN LIKE CONCAT(:targetFQNPrefix, '.%') ORDER BY tu.tagFQN",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT tu.source, tu.tagFQN, tu.targetFQN, tu.labelType, tu.state, "
+                + "t.json ->> 'description' AS description1, "
+                + "g.json ->> 'description' AS description2 "
+                + "FROM tag_usage tu "
+                + "LEFT JOIN tag t ON tu.tagFQN = t.fullyQualifiedName AND tu.source = 0 "
+                + "LEFT JOIN glossary_term_entity g ON tu.tagFQN = g.fullyQualifiedName AND tu.source = 1 "
+                + "WHERE tu.targetFQN LIKE CONCAT(:targetFQNPrefix, '.%') ORDER BY tu.tagFQN",
+        connectionType = POSTGRES)
+    @RegisterRowMapper(TargetTagLabelMapper.class)
+    List<TargetTagLabel> getTargetTagsByPrefix(@Bind("targetFQNPrefix") String targetFQNPrefix);
+
+    /** Get the tags applied to all the glossary terms, which are the tags derived from the glossary terms */
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT tu.source, tu.tagFQN, tu.targetFQN, tu.labelType, tu.state, "
+                + "t.json ->> '$.description' AS description1, "
+                + "g.json ->> '$.description' AS description2 "
+                + "FROM tag_usage tu "
+                + "LEFT JOIN tag t ON tu.tagFQN = t.fullyQualifiedName AND tu.source = 0 "
+                + "LEFT JOIN glossary_term_entity g ON tu.tagFQN = g.fullyQualifiedName AND tu.source = 1 "
+                + "WHERE tu.targetFQN IN (SELECT fullyQualifiedName FROM glossary_term_entity) ORDER BY tu.tagFQN",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT tu.source, tu.tagFQN, tu.targetFQN, tu.labelType, tu.state, "
+                + "t.json ->> 'description' AS description1, "
+                + "g.json ->> 'description' AS description2 "
+                + "FROM tag_usage tu "
+                + "LEFT JOIN tag t ON tu.tagFQN = t.fullyQualifiedName AND tu.source = 0 "
+                + "LEFT JOIN glossary_term_entity g ON tu.tagFQN = g.fullyQualifiedName AND tu.source = 1 "
+                + "WHERE tu.targetFQN IN (SELECT fullyQualifiedName FROM glossary_term_entity) ORDER BY tu.tagFQN",
+        connectionType = POSTGRES)
+    @RegisterRowMapper(TargetTagLabelMapper.class)
+    List<TargetTagLabel> getGlossaryTermTags();
+
+    /**
+     * Get the tags of all the fields, such as columns and nested columns, of an entity identified by {@code
+     * targetFQNPrefix} in a single query, keyed by the fully qualified name of the field.
+     */
+    default Map<String, List<TagLabel>> getTagsByPrefix(String targetFQNPrefix) {
+      // LIKE treats '_' in the prefix as a wildcard. Drop the rows that only match because of it.
+      String prefix = targetFQNPrefix + Entity.SEPARATOR;
+      Map<String, List<TagLabel>> tagsByTarget = new HashMap<>();
+      for (TargetTagLabel targetTag : getTargetTagsByPrefix(targetFQNPrefix)) {
+        if (targetTag.getTargetFQN().startsWith(prefix)) {
+          tagsByTarget.computeIfAbsent(targetTag.getTargetFQN(), k -> new ArrayList<>()).add(targetTag.getTagLabel());
+        }
+      }
+      return tagsByTarget;
+    }
+
     @SqlQuery("SELECT COUNT(*) FROM tag_usage WHERE tagFQN LIKE CONCAT(:fqnPrefix, '%') AND source = :source")
     int getTagCount(@Bind("source") int source, @Bind("fqnPrefix") String fqnPrefix);
 
@@ -1481,6 +1889,25 @@ public interface CollectionDAO {
             .withDescription(description1 == null ? description2 : description1);
       }
     }
+
+    class TargetTagLabel {
+      @Getter private final String targetFQN;
+      @Getter private final TagLabel tagLabel;
+
+      public TargetTagLabel(String targetFQN, TagLabel tagLabel) {
+        this.targetFQN = targetFQN;
+        this.tagLabel = tagLabel;
+      }
+    }
+
+    class TargetTagLabelMapper implements RowMapper<TargetTagLabel> {
+      private final TagLabelMapper tagLabelMapper = new TagLabelMapper();
+
+      @Override
+      public TargetTagLabel map(ResultSet r, StatementContext ctx) throws SQLException {
+        return new TargetTagLabel(r.getString("targetFQN"), tagLabelMapper.map(r, ctx));
+      }
+    }
   }
 
   interface RoleDAO extends EntityDAO<Role> {
@@ -1542,52 +1969,81 @@ public interface CollectionDAO {
 
   @RegisterRowMapper(UsageDetailsMapper.class)
   interface UsageDAO {
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) "
-                + "SELECT :date, :id, :entityType, :count1, "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= :date - "
-                + "INTERVAL 6 DAY)), "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= :date - "
-                + "INTERVAL 29 DAY))",
-        connectionType = MYSQL)
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) "
-                + "SELECT (:date :: date), :id, :entityType, :count1, "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= (:date :: date) - INTERVAL '6 days')), "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= (:date :: date) - INTERVAL '29 days'))",
-        connectionType = POSTGRES)
+    // Rolling counts are computed from the earlier records of the entity. Percentiles are computed once a day, and
+    // until then a new record carries the percentiles last computed for the entity.
+    String MYSQL_INSERT =
+        "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30, "
+            + "percentile1, percentile7, percentile30) "
+            + "SELECT :date, :id, :entityType, :count1, "
+            + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= :date - "
+            + "INTERVAL 6 DAY)), "
+            + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= :date - "
+            + "INTERVAL 29 DAY)), "
+            + "(SELECT p.percentile1 FROM entity_usage p WHERE p.id = :id AND p.usageDate < :date "
+            + "ORDER BY p.usageDate DESC LIMIT 1), "
+            + "(SELECT p.percentile7 FROM entity_usage p WHERE p.id = :id AND p.usageDate < :date "
+            + "ORDER BY p.usageDate DESC LIMIT 1), "
+            + "(SELECT p.percentile30 FROM entity_usage p WHERE p.id = :id AND p.usageDate < :date "
+            + "ORDER BY p.usageDate DESC LIMIT 1)";
+    String POSTGRES_INSERT =
+        "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30, "
+            + "percentile1, percentile7, percentile30) "
+            + "SELECT (:date :: date), :id, :entityType, :count1, "
+            + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= (:date :: date) - INTERVAL '6 days')), "
+            + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= (:date :: date) - INTERVAL '29 days')), "
+            + "(SELECT p.percentile1 FROM entity_usage p WHERE p.id = :id AND p.usageDate < (:date :: date) "
+            + "ORDER BY p.usageDate DESC LIMIT 1), "
+            + "(SELECT p.percentile7 FROM entity_usage p WHERE p.id = :id AND p.usageDate < (:date :: date) "
+            + "ORDER BY p.usageDate DESC LIMIT 1), "
+            + "(SELECT p.percentile30 FROM entity_usage p WHERE p.id = :id AND p.usageDate < (:date :: date) "
+            + "ORDER BY p.usageDate DESC LIMIT 1)";
+    String MYSQL_INSERT_OR_UPDATE_COUNT =
+        MYSQL_INSERT
+            + " ON DUPLICATE KEY UPDATE count1 = count1 + :count1, count7 = count7 + :count1, count30 = count30 + :count1";
+    String POSTGRES_INSERT_OR_UPDATE_COUNT =
+        POSTGRES_INSERT
+            + " ON CONFLICT (usageDate, id) DO UPDATE SET count1 = entity_usage.count1 + :count1, "
+            + "count7 = entity_usage.count7 + :count1, count30 = entity_usage.count30 + :count1";
+
+    @ConnectionAwareSqlUpdate(value = MYSQL_INSERT, connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(value = POSTGRES_INSERT, connectionType = POSTGRES)
     void insert(
         @Bind("date") String date,
         @Bind("id") String id,
         @Bind("entityType") String entityType,
         @Bind("count1") int count1);
 
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) "
-                + "SELECT :date, :id, :entityType, :count1, "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= :date - "
-                + "INTERVAL 6 DAY)), "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= :date - "
-                + "INTERVAL 29 DAY)) "
-                + "ON DUPLICATE KEY UPDATE count1 = count1 + :count1, count7 = count7 + :count1, count30 = count30 + :count1",
-        connectionType = MYSQL)
-    @ConnectionAwareSqlUpdate(
-        value =
-            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) "
-                + "SELECT (:date :: date), :id, :entityType, :count1, "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= (:date :: date) - INTERVAL '6 days')), "
-                + "(:count1 + (SELECT COALESCE(SUM(count1), 0) FROM entity_usage WHERE id = :id AND usageDate >= (:date :: date) - INTERVAL '29 days')) "
-                + "ON CONFLICT (usageDate, id) DO UPDATE SET count1 = entity_usage.count1 + :count1, count7 = entity_usage.count7 + :count1, count30 = entity_usage.count30 + :count1",
-        connectionType = POSTGRES)
+    @ConnectionAwareSqlUpdate(value = MYSQL_INSERT_OR_UPDATE_COUNT, connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(value = POSTGRES_INSERT_OR_UPDATE_COUNT, connectionType = POSTGRES)
     void insertOrUpdateCount(
         @Bind("date") String date,
         @Bind("id") String id,
         @Bind("entityType") String entityType,
         @Bind("count1") int count1);
 
+    /**
+     * Batch version of {@link #insert}. Records of an entity must be in increasing order of date so that the rolling
+     * counts include the records inserted earlier in the batch.
+     */
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = MYSQL_INSERT, connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(value = POSTGRES_INSERT, connectionType = POSTGRES)
+    void insertBatch(
+        @Bind("date") List<String> dates,
+        @Bind("id") List<String> ids,
+        @Bind("entityType") String entityType,
+        @Bind("count1") List<Integer> counts);
+
+    /** Batch version of {@link #insertOrUpdateCount}. Records must be in increasing order of date. */
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = MYSQL_INSERT_OR_UPDATE_COUNT, connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(value = POSTGRES_INSERT_OR_UPDATE_COUNT, connectionType = POSTGRES)
+    void insertOrUpdateCountBatch(
+        @Bind("date") List<String> dates,
+        @Bind("id") List<String> ids,
+        @Bind("entityType") String entityType,
+        @Bind("count1") List<Integer> counts);
+
     @ConnectionAwareSqlQuery(
         value =
             "SELECT id, usageDate, entityType, count1, count7, count30, "
@@ -1609,47 +2065,60 @@ public interface CollectionDAO {
             + "WHERE usageDate IN (SELECT MAX(usageDate) FROM entity_usage WHERE id = :id) AND id = :id")
     UsageDetails getLatestUsage(@Bind("id") String id);
 
+    /** Get the latest usage record of each of the given entities, with the entity id */
+    @SqlQuery(
+        "SELECT u.id, u.usageDate, u.entityType, u.count1, u.count7, u.count30, "
+            + "u.percentile1, u.percentile7, u.percentile30 FROM entity_usage u JOIN ("
+            + "SELECT id, MAX(usageDate) AS latestDate FROM entity_usage WHERE id IN (<ids>) GROUP BY id"
+            + ") latest ON u.id = latest.id AND u.usageDate = latest.latestDate")
+    @RegisterRowMapper(LatestUsageMapper.class)
+    List<Pair<String, UsageDetails>> getLatestUsages(@BindList("ids") List<String> ids);
+
     @SqlUpdate("DELETE FROM entity_usage WHERE id = :id")
     void delete(@Bind("id") String id);
 
+    @SqlUpdate("DELETE FROM entity_usage WHERE id IN (<ids>)")
+    void delete(@BindList("ids") List<String> ids);
+
     /**
-     * TODO: Not sure I get what the next comment means, but tests now use mysql 8 so maybe tests can be improved here
-     * Note not using in following percentile computation PERCENT_RANK function as unit tests use mysql5.7, and it does
-     * not have window function
+     * Compute percentile rank of the daily, weekly and monthly usage counts of all the entities of a type on a given
+     * date. Percentile rank is the percentage of the entities with a lower usage count. Computing it is expensive for a
+     * large number of entities and hence it is done once a day and not for every usage report.
      */
     @ConnectionAwareSqlUpdate(
         value =
             "UPDATE entity_usage u JOIN ( "
-                + "SELECT u1.id, "
-                + "(SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 <  u1.count1 AND u2.entityType = :entityType "
-                + "AND u2.usageDate = :date) as p1, "
-                + "(SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 <  u1.count7 AND u3.entityType = :entityType "
-                + "AND u3.usageDate = :date) as p7, "
-                + "(SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 <  u1.count30 AND u4.entityType = :entityType "
-                + "AND u4.usageDate = :date) as p30, "
-                + "(SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = :date) as total "
-                + "FROM entity_usage u1 WHERE u1.entityType = :entityType AND u1.usageDate = :date"
-                + ") vals ON u.id = vals.id AND usageDate = :date "
-                + "SET u.percentile1 = ROUND(100 * p1/total, 2), u.percentile7 = ROUND(p7 * 100/total, 2), u.percentile30 ="
-                + " ROUND(p30*100/total, 2)",
+                + "SELECT id, "
+                + "(RANK() OVER (ORDER BY count1) - 1) * 100 / COUNT(*) OVER () AS p1, "
+                + "(RANK() OVER (ORDER BY count7) - 1) * 100 / COUNT(*) OVER () AS p7, "
+                + "(RANK() OVER (ORDER BY count30) - 1) * 100 / COUNT(*) OVER () AS p30 "
+                + "FROM entity_usage WHERE entityType = :entityType AND usageDate = :date"
+                + ") vals ON u.id = vals.id AND u.usageDate = :date "
+                + "SET u.percentile1 = ROUND(vals.p1, 2), u.percentile7 = ROUND(vals.p7, 2), "
+                + "u.percentile30 = ROUND(vals.p30, 2)",
         connectionType = MYSQL)
     @ConnectionAwareSqlUpdate(
         value =
             "UPDATE entity_usage u "
-                + "SET percentile1 = ROUND(100 * p1 / total, 2), percentile7 = ROUND(p7 * 100 / total, 2), percentile30 = ROUND(p30 * 100 / total, 2) "
+                + "SET percentile1 = ROUND(vals.p1, 2), percentile7 = ROUND(vals.p7, 2), percentile30 = ROUND(vals.p30, 2) "
                 + "FROM ("
-                + "   SELECT u1.id, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 < u1.count1 AND u2.entityType = :entityType AND u2.usageDate = (:date :: date)) as p1, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 < u1.count7 AND u3.entityType = :entityType AND u3.usageDate = (:date :: date)) as p7, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 < u1.count30 AND u4.entityType = :entityType AND u4.usageDate = (:date :: date)) as p30, "
-                + "       (SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
-                + "   ) as total FROM entity_usage u1 "
-                + "   WHERE u1.entityType = :entityType AND u1.usageDate = (:date :: date)"
+                + "   SELECT id, "
+                + "       (RANK() OVER (ORDER BY count1) - 1) * 100 / COUNT(*) OVER () AS p1, "
+                + "       (RANK() OVER (ORDER BY count7) - 1) * 100 / COUNT(*) OVER () AS p7, "
+                + "       (RANK() OVER (ORDER BY count30) - 1) * 100 / COUNT(*) OVER () AS p30 "
+                + "   FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
                 + ") vals "
-                + "WHERE u.id = vals.id AND usageDate = (:date :: date);",
+                + "WHERE u.id = vals.id AND u.usageDate = (:date :: date)",
         connectionType = POSTGRES)
     void computePercentile(@Bind("entityType") String entityType, @Bind("date") String date);
 
+    class LatestUsageMapper implements RowMapper<Pair<String, UsageDetails>> {
+      @Override
+      public Pair<String, UsageDetails> map(ResultSet r, StatementContext ctx) throws SQLException {
+        return Pair.of(r.getString("id"), new UsageDetailsMapper().map(r, ctx));
+      }
+    }
+
     class UsageDetailsMapper implements RowMapper<UsageDetails> {
       @Override
       public UsageDetails map(ResultSet r, StatementContext ctx) throws SQLException {
@@ -1773,11 +2242,24 @@ public interface CollectionDAO {
   }
 
   interface ChangeEventDAO {
-    @ConnectionAwareSqlUpdate(value = "INSERT INTO change_event (json) VALUES (:json)", connectionType = MYSQL)
-    @ConnectionAwareSqlUpdate(
-        value = "INSERT INTO change_event (json) VALUES (:json :: jsonb)",
-        connectionType = POSTGRES)
-    void insert(@Bind("json") String json);
+    String MYSQL_INSERT = "INSERT INTO change_event (json) VALUES (:json)";
+    String POSTGRES_INSERT = "INSERT INTO change_event (json) VALUES (:json :: jsonb)";
+    // Postgres returns the generated column by its name, which is in lower case as the column was created unquoted.
+    // MySQL returns the auto increment value whatever the name.
+    String EVENT_OFFSET_KEY = "eventoffset";
+
+    /** Store a change event and return its eventOffset */
+    @ConnectionAwareSqlUpdate(value = MYSQL_INSERT, connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(value = POSTGRES_INSERT, connectionType = POSTGRES)
+    @GetGeneratedKeys(EVENT_OFFSET_KEY)
+    long insert(@Bind("json") String json);
+
+    /** Store change events and return their eventOffsets */
+    @SqlBatch
+    @ConnectionAwareSqlBatch(value = MYSQL_INSERT, connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(value = POSTGRES_INSERT, connectionType = POSTGRES)
+    @GetGeneratedKeys(EVENT_OFFSET_KEY)
+    List<Long> insertBatch(@Bind("json") List<String> jsons);
 
     default List<String> list(String eventType, List<String> entityTypes, long timestamp) {
       if (CommonUtil.nullOrEmpty(entityTypes)) {
@@ -1803,6 +2285,74 @@ public interface CollectionDAO {
             + "eventType = :eventType AND eventTime >= :timestamp "
             + "ORDER BY eventTime ASC")
     List<String> listWithoutEntityFilter(@Bind("eventType") String eventType, @Bind("timestamp") long timestamp);
+
+    // Events that were stored more than lagMs ago, by the clock of the database. The events that are read are limited
+    // to the events up to the last of these, the safe offset, as an event with a smaller offset that is stored in a
+    // transaction that has not committed yet is not visible, and would be skipped by a reader paging by offset.
+    String MYSQL_STORED_BEFORE_LAG = "storedAt < NOW(3) - INTERVAL (:lagMs * 1000) MICROSECOND";
+    String POSTGRES_STORED_BEFORE_LAG =
+        "storedAt < CURRENT_TIMESTAMP - CAST(:lagMs AS DOUBLE PRECISION) * INTERVAL '1 millisecond'";
+    String MYSQL_SAFE_OFFSET =
+        "COALESCE((SELECT eventOffset FROM change_event WHERE "
+            + MYSQL_STORED_BEFORE_LAG
+            + " ORDER BY eventOffset DESC LIMIT 1), 0)";
+    String POSTGRES_SAFE_OFFSET =
+        "COALESCE((SELECT eventOffset FROM change_event WHERE "
+            + POSTGRES_STORED_BEFORE_LAG
+            + " ORDER BY eventOffset DESC LIMIT 1), 0)";
+    String LIST_FROM_TIME =
+        "SELECT eventOffset, json FROM change_event WHERE <cond> AND eventTime >= :eventTime AND eventOffset <= ";
+    String LIST_AFTER_OFFSET =
+        "SELECT eventOffset, json FROM change_event WHERE <cond> AND eventOffset > :eventOffset AND eventOffset <= ";
+    String ORDER_BY_OFFSET = " ORDER BY eventOffset LIMIT :limit";
+
+    /**
+     * List up to {@code limit} events matching the condition that occurred at or after the given time, up to the safe
+     * offset for the given visibility lag, in the order they were stored in. Each event is returned with its offset.
+     */
+    @ConnectionAwareSqlQuery(value = LIST_FROM_TIME + MYSQL_SAFE_OFFSET + ORDER_BY_OFFSET, connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(value = LIST_FROM_TIME + POSTGRES_SAFE_OFFSET + ORDER_BY_OFFSET, connectionType = POSTGRES)
+    @RegisterRowMapper(OffsetEventMapper.class)
+    List<Pair<Long, String>> listFromTime(
+        @Define("cond") String cond,
+        @Bind("eventTime") long eventTime,
+        @Bind("limit") int limit,
+        @Bind("lagMs") long lagMs);
+
+    /**
+     * List up to {@code limit} events matching the condition that were stored after the event at the given offset, up
+     * to the safe offset for the given visibility lag, in the order they were stored in. Each event is returned with
+     * its offset.
+     */
+    @ConnectionAwareSqlQuery(value = LIST_AFTER_OFFSET + MYSQL_SAFE_OFFSET + ORDER_BY_OFFSET, connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value = LIST_AFTER_OFFSET + POSTGRES_SAFE_OFFSET + ORDER_BY_OFFSET,
+        connectionType = POSTGRES)
+    @RegisterRowMapper(OffsetEventMapper.class)
+    List<Pair<Long, String>> listAfterOffset(
+        @Define("cond") String cond,
+        @Bind("eventOffset") long eventOffset,
+        @Bind("limit") int limit,
+        @Bind("lagMs") long lagMs);
+
+    /**
+     * Offset of the last event stored more than {@code lagMs} ago, or 0 when there are no such events. The events up to
+     * this offset are visible to readers.
+     */
+    @ConnectionAwareSqlQuery(value = "SELECT " + MYSQL_SAFE_OFFSET, connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(value = "SELECT " + POSTGRES_SAFE_OFFSET, connectionType = POSTGRES)
+    long getSafeOffset(@Bind("lagMs") long lagMs);
+
+    /** Offset of the last event stored, or 0 when there are no events */
+    @SqlQuery("SELECT COALESCE(MAX(eventOffset), 0) FROM change_event")
+    long getMaxOffset();
+
+    class OffsetEventMapper implements RowMapper<Pair<Long, String>> {
+      @Override
+      public Pair<Long, String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Pair.of(rs.getLong("eventOffset"), rs.getString("json"));
+      }
+    }
   }
 
   interface TypeEntityDAO extends EntityDAO<Type> {
@@ -128,7 +128,7 @@ public class DashboardRepository extends EntityRepository<Dashboard> {
   }
 
   @Override
-  public void storeRelationships(Dashboard dashboard) {
+  public void storeRelationships(Dashboard dashboard) throws IOException {
     setService(dashboard, dashboard.getService());
 
     // Add relationship from dashboard to chart
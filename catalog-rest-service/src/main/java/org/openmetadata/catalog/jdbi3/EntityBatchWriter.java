@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects the entity, relationship and tag rows written while creating a batch of entities so that they can be stored
+ * with a few JDBI batch statements instead of one statement per row.
+ *
+ * <p>A writer is bound to the current thread between {@link #start()} and {@link #close()}. While it is active, {@link
+ * EntityRepository} adds rows to the writer instead of writing them to the database. Rows are written by {@link
+ * #flush(CollectionDAO)} with entities first, followed by relationships and tags.
+ */
+final class EntityBatchWriter implements AutoCloseable {
+  private static final ThreadLocal<EntityBatchWriter> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, EntityRows> entityRows = new LinkedHashMap<>();
+
+  private final List<String> fromIds = new ArrayList<>();
+  private final List<String> toIds = new ArrayList<>();
+  private final List<String> fromEntities = new ArrayList<>();
+  private final List<String> toEntities = new ArrayList<>();
+  private final List<Integer> relations = new ArrayList<>();
+  private final List<String> relationJsons = new ArrayList<>();
+
+  private final List<Integer> tagSources = new ArrayList<>();
+  private final List<String> tagFQNs = new ArrayList<>();
+  private final List<String> targetFQNs = new ArrayList<>();
+  private final List<Integer> labelTypes = new ArrayList<>();
+  private final List<Integer> states = new ArrayList<>();
+
+  private EntityBatchWriter() {}
+
+  /** Bind a new writer to the current thread */
+  static EntityBatchWriter start() {
+    if (CURRENT.get() != null) {
+      throw new IllegalStateException("Entity batch writer is already active");
+    }
+    EntityBatchWriter writer = new EntityBatchWriter();
+    CURRENT.set(writer);
+    return writer;
+  }
+
+  /** Writer bound to the current thread or null when entities are written one at a time */
+  static EntityBatchWriter current() {
+    return CURRENT.get();
+  }
+
+  void addEntity(EntityDAO<?> dao, String json) {
+    entityRows.computeIfAbsent(dao.getTableName(), table -> new EntityRows(dao)).jsons.add(json);
+  }
+
+  void addRelationship(UUID fromId, UUID toId, String fromEntity, String toEntity, int relation, String json) {
+    fromIds.add(fromId.toString());
+    toIds.add(toId.toString());
+    fromEntities.add(fromEntity);
+    toEntities.add(toEntity);
+    relations.add(relation);
+    relationJsons.add(json);
+  }
+
+  void addTagLabel(int source, String tagFQN, String targetFQN, int labelType, int state) {
+    tagSources.add(source);
+    tagFQNs.add(tagFQN);
+    targetFQNs.add(targetFQN);
+    labelTypes.add(labelType);
+    states.add(state);
+  }
+
+  /** Write the pending rows and reset the writer */
+  void flush(CollectionDAO daoCollection) {
+    for (Map.Entry<String, EntityRows> entry : entityRows.entrySet()) {
+      entry.getValue().dao.insertBatch(entry.getKey(), entry.getValue().jsons);
+    }
+    if (!fromIds.isEmpty()) {
+      daoCollection.relationshipDAO().insertBatch(fromIds, toIds, fromEntities, toEntities, relations, relationJsons);
+    }
+    if (!tagFQNs.isEmpty()) {
+      daoCollection.tagUsageDAO().applyTags(tagSources, tagFQNs, targetFQNs, labelTypes, states);
+    }
+    clear();
+  }
+
+  private void clear() {
+    entityRows.clear();
+    List.of(fromIds, toIds, fromEntities, toEntities, relations, relationJsons).forEach(List::clear);
+    List.of(tagSources, tagFQNs, targetFQNs, labelTypes, states).forEach(List::clear);
+  }
+
+  @Override
+  public void close() {
+    CURRENT.remove();
+  }
+
+  private static class EntityRows {
+    private final EntityDAO<?> dao;
+    private final List<String> jsons = new ArrayList<>();
+
+    EntityRows(EntityDAO<?> dao) {
+      this.dao = dao;
+    }
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.lmax.disruptor.EventHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.EntityInterface;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Cache in front of {@link EntityDAO} of the entities looked up by id and by name, along with their references.
+ *
+ * <p>Entities are cached as the JSON stored in the database, and parsed on each lookup since callers update the
+ * entities they get. References are cached parsed and copied on each lookup. Entities are cached whether they are
+ * deleted or not, and filtered by {@link Include} on lookup. The cache is bounded by the size of the JSON of the cached
+ * entities.
+ *
+ * <p>Updates and deletes through {@link EntityDAO} remove the entity from the cache, and so do the change events of the
+ * entity. Entities changed by other servers are read again after the time to live.
+ */
+@Slf4j
+public class EntityCache implements EventHandler<ChangeEventHolder> {
+  // Eager initialization of Singleton since the cache is filled lazily.
+  private static final EntityCache INSTANCE = new EntityCache();
+
+  private final AtomicLong generation = new AtomicLong();
+  private volatile boolean enabled;
+  private volatile Cache<String, CachedEntity> entities;
+  private volatile Cache<String, UUID> names;
+
+  private EntityCache() {
+    init(new EntityCacheConfiguration());
+  }
+
+  public static EntityCache getInstance() {
+    return INSTANCE;
+  }
+
+  public void init(EntityCacheConfiguration config) {
+    entities =
+        CacheBuilder.newBuilder()
+            .maximumWeight(config.getMaxSizeBytes())
+            .weigher((String key, CachedEntity cached) -> key.length() + cached.json.length())
+            .expireAfterWrite(config.getTtlSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    names =
+        CacheBuilder.newBuilder()
+            .maximumWeight(config.getMaxSizeBytes() / 8)
+            .weigher((String key, UUID id) -> key.length() + 36)
+            .expireAfterWrite(config.getTtlSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    enabled = config.isEnabled();
+    generation.incrementAndGet();
+  }
+
+  /** Expose the hit, miss, eviction and size metrics of the cache */
+  public void registerMetrics(MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, entities, "entityCache");
+    GuavaCacheMetrics.monitor(registry, names, "entityNameCache");
+  }
+
+  public <T extends EntityInterface> T getById(EntityDAO<T> dao, UUID id, Include include) throws IOException {
+    String entityType = Entity.getEntityTypeFromClass(dao.getEntityClass());
+    if (!enabled || entityType == null) {
+      return dao.jsonToEntity(dao.findJsonById(id.toString(), include), id.toString());
+    }
+    CachedEntity cached = getCachedById(dao, entityType, id);
+    if (cached == null || !cached.isIncluded(dao, include)) {
+      throw notFound(entityType, id.toString());
+    }
+    return JsonUtils.readValue(cached.json, dao.getEntityClass());
+  }
+
+  public <T extends EntityInterface> T getByName(EntityDAO<T> dao, String fqn, Include include) throws IOException {
+    String entityType = Entity.getEntityTypeFromClass(dao.getEntityClass());
+    if (!enabled || entityType == null) {
+      return dao.jsonToEntity(dao.findJsonByFqn(fqn, include), fqn);
+    }
+    CachedEntity cached = getCachedByName(dao, entityType, fqn);
+    if (cached == null || !cached.isIncluded(dao, include)) {
+      throw notFound(entityType, fqn);
+    }
+    return JsonUtils.readValue(cached.json, dao.getEntityClass());
+  }
+
+  public EntityReference getReferenceById(EntityDAO<?> dao, UUID id, Include include) throws IOException {
+    String entityType = Entity.getEntityTypeFromClass(dao.getEntityClass());
+    if (!enabled || entityType == null) {
+      return getById(dao, id, include).getEntityReference();
+    }
+    CachedEntity cached = getCachedById(dao, entityType, id);
+    if (cached == null || !cached.isIncluded(dao, include)) {
+      throw notFound(entityType, id.toString());
+    }
+    return copy(cached.reference);
+  }
+
+  public EntityReference getReferenceByName(EntityDAO<?> dao, String fqn, Include include) throws IOException {
+    String entityType = Entity.getEntityTypeFromClass(dao.getEntityClass());
+    if (!enabled || entityType == null) {
+      return getByName(dao, fqn, include).getEntityReference();
+    }
+    CachedEntity cached = getCachedByName(dao, entityType, fqn);
+    if (cached == null || !cached.isIncluded(dao, include)) {
+      throw notFound(entityType, fqn);
+    }
+    return copy(cached.reference);
+  }
+
+  public void invalidate(EntityDAO<?> dao, UUID id) {
+    String entityType = Entity.getEntityTypeFromClass(dao.getEntityClass());
+    if (entityType != null) {
+      invalidate(entityType, id);
+    }
+  }
+
+  public void invalidate(String entityType, UUID id) {
+    // Names of the entity are removed along with it, as a name is used only when the entity lists it
+    generation.incrementAndGet();
+    entities.invalidate(key(entityType, id.toString()));
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    entities.invalidateAll();
+    names.invalidateAll();
+  }
+
+  private CachedEntity getCachedById(EntityDAO<?> dao, String entityType, UUID id) throws IOException {
+    String key = key(entityType, id.toString());
+    CachedEntity cached = entities.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    long loadGeneration = generation.get();
+    String json = dao.findJsonById(id.toString(), Include.ALL);
+    if (json == null) {
+      return null;
+    }
+    cached = new CachedEntity(json, JsonUtils.readValue(json, dao.getEntityClass()));
+    // Don't cache an entity read concurrently with a write as it may be the entity before the write
+    if (generation.get() == loadGeneration) {
+      entities.put(key, cached);
+    }
+    return cached;
+  }
+
+  private CachedEntity getCachedByName(EntityDAO<?> dao, String entityType, String fqn) throws IOException {
+    String nameKey = key(entityType, fqn);
+    UUID id = names.getIfPresent(nameKey);
+    if (id != null) {
+      CachedEntity cached = entities.getIfPresent(key(entityType, id.toString()));
+      if (cached != null && cached.names.contains(fqn)) {
+        return cached;
+      }
+    }
+    long loadGeneration = generation.get();
+    String json = dao.findJsonByFqn(fqn, Include.ALL);
+    if (json == null) {
+      return null;
+    }
+    CachedEntity cached = new CachedEntity(json, JsonUtils.readValue(json, dao.getEntityClass()));
+    cached.names.add(fqn);
+    if (generation.get() == loadGeneration) {
+      entities.put(key(entityType, cached.reference.getId().toString()), cached);
+      names.put(nameKey, cached.reference.getId());
+    }
+    return cached;
+  }
+
+  private static String key(String entityType, String idOrName) {
+    return entityType + ":" + idOrName;
+  }
+
+  private static EntityNotFoundException notFound(String entityType, String identity) {
+    return EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(entityType, identity));
+  }
+
+  private static EntityReference copy(EntityReference reference) {
+    return new EntityReference()
+        .withId(reference.getId())
+        .withType(reference.getType())
+        .withName(reference.getName())
+        .withFullyQualifiedName(reference.getFullyQualifiedName())
+        .withDescription(reference.getDescription())
+        .withDisplayName(reference.getDisplayName())
+        .withDeleted(reference.getDeleted())
+        .withHref(reference.getHref());
+  }
+
+  @Override
+  public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
+    // Never throw from here as an exception stops the event processor
+    try {
+      ChangeEvent event = changeEventHolder.get();
+      if (event != null && event.getEntityType() != null && event.getEntityId() != null) {
+        invalidate(event.getEntityType(), event.getEntityId());
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to invalidate entity cache for event {}", sequence, e);
+    }
+  }
+
+  private static class CachedEntity {
+    private final String json;
+    private final EntityReference reference;
+    // Names the entity was looked up by, which are the names that map to the entity in the name cache
+    private final Set<String> names = ConcurrentHashMap.newKeySet();
+
+    CachedEntity(String json, EntityInterface entity) {
+      this.json = json;
+      this.reference = entity.getEntityReference();
+    }
+
+    /** Same as the deleted condition of {@link EntityDAO#getCondition(Include)} */
+    boolean isIncluded(EntityDAO<?> dao, Include include) {
+      if (!dao.supportsSoftDelete() || include == Include.ALL) {
+        return true;
+      }
+      return include == Include.DELETED
+          ? Boolean.TRUE.equals(reference.getDeleted())
+          : Boolean.FALSE.equals(reference.getDeleted());
+    }
+  }
+}
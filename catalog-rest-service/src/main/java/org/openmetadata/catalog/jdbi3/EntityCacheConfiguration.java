@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class EntityCacheConfiguration {
+  /** Set to false to read every entity from the database */
+  @Getter @Setter private boolean enabled = true;
+
+  /** Maximum size of the cached entity JSON documents in bytes */
+  @Getter @Setter private long maxSizeBytes = 64L * 1024 * 1024;
+
+  /** Time after which a cached entity is read again, which bounds how long changes made by other servers are unseen */
+  @Getter @Setter private long ttlSeconds = 60;
+
+  @Override
+  public String toString() {
+    return "EntityCacheConfiguration{"
+        + "enabled="
+        + enabled
+        + ", maxSizeBytes="
+        + maxSizeBytes
+        + ", ttlSeconds="
+        + ttlSeconds
+        + '}';
+  }
+}
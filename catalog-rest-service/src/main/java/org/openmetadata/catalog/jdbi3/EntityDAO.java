@@ -19,17 +19,23 @@ import static org.openmetadata.catalog.jdbi3.locator.ConnectionType.POSTGRES;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareSqlBatch;
+import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.Include;
@@ -48,11 +54,19 @@ public interface EntityDAO<T extends EntityInterface> {
     return true;
   }
 
+  /** Maximum number of values bound to a single IN (...) list */
+  int MAX_IN_LIST_SIZE = 1000;
+
   /** Common queries for all entities implemented here. Do not override. */
   @ConnectionAwareSqlUpdate(value = "INSERT INTO <table> (json) VALUES (:json)", connectionType = MYSQL)
   @ConnectionAwareSqlUpdate(value = "INSERT INTO <table> (json) VALUES (:json :: jsonb)", connectionType = POSTGRES)
   void insert(@Define("table") String table, @Bind("json") String json);
 
+  @SqlBatch
+  @ConnectionAwareSqlBatch(value = "INSERT INTO <table> (json) VALUES (:json)", connectionType = MYSQL)
+  @ConnectionAwareSqlBatch(value = "INSERT INTO <table> (json) VALUES (:json :: jsonb)", connectionType = POSTGRES)
+  void insertBatch(@Define("table") String table, @Bind("json") List<String> jsons);
+
   @ConnectionAwareSqlUpdate(value = "UPDATE <table> SET  json = :json WHERE id = :id", connectionType = MYSQL)
   @ConnectionAwareSqlUpdate(
       value = "UPDATE <table> SET  json = (:json :: jsonb) WHERE id = :id",
@@ -62,6 +76,16 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT json FROM <table> WHERE id = :id <cond>")
   String findById(@Define("table") String table, @Bind("id") String id, @Define("cond") String cond);
 
+  @SqlQuery("SELECT json FROM <table> WHERE id IN (<ids>) <cond>")
+  List<String> findByIds(@Define("table") String table, @BindList("ids") List<String> ids, @Define("cond") String cond);
+
+  @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> IN (<names>) <cond>")
+  List<String> findByNames(
+      @Define("table") String table,
+      @Define("nameColumn") String nameColumn,
+      @BindList("names") List<String> names,
+      @Define("cond") String cond);
+
   @SqlQuery("SELECT json FROM <table> WHERE <nameColumn> = :name <cond>")
   String findByName(
       @Define("table") String table,
@@ -72,6 +96,15 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT count(*) FROM <table> <cond>")
   int listCount(@Define("table") String table, @Define("nameColumn") String nameColumn, @Define("cond") String cond);
 
+  @ConnectionAwareSqlQuery(
+      value =
+          "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :table",
+      connectionType = MYSQL)
+  @ConnectionAwareSqlQuery(
+      value = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(:table)",
+      connectionType = POSTGRES)
+  Long listCountEstimate(@Bind("table") String table);
+
   @SqlQuery(
       "SELECT json FROM ("
           + "SELECT <nameColumn>, json FROM <table> <cond> AND "
@@ -106,6 +139,13 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlUpdate("DELETE FROM <table> WHERE id = :id")
   int delete(@Define("table") String table, @Bind("id") String id);
 
+  @SqlQuery("SELECT <nameColumn> FROM <table> WHERE id IN (<ids>)")
+  List<String> findNamesByIds(
+      @Define("table") String table, @Define("nameColumn") String nameColumn, @BindList("ids") List<String> ids);
+
+  @SqlUpdate("DELETE FROM <table> WHERE id IN (<ids>)")
+  int deleteByIds(@Define("table") String table, @BindList("ids") List<String> ids);
+
   /** Default methods that interfaces with implementation. Don't override */
   default void insert(EntityInterface entity) throws JsonProcessingException {
     insert(getTableName(), JsonUtils.pojoToJson(entity));
@@ -113,6 +153,7 @@ public interface EntityDAO<T extends EntityInterface> {
 
   default void update(UUID id, String json) {
     update(getTableName(), id.toString(), json);
+    EntityCache.getInstance().invalidate(this, id);
   }
 
   default String getCondition(Include include) {
@@ -130,7 +171,7 @@ public interface EntityDAO<T extends EntityInterface> {
   }
 
   default T findEntityById(UUID id, Include include) throws IOException {
-    return jsonToEntity(findById(getTableName(), id.toString(), getCondition(include)), id.toString());
+    return EntityCache.getInstance().getById(this, id, include);
   }
 
   default T findEntityById(UUID id) throws IOException {
@@ -143,7 +184,7 @@ public interface EntityDAO<T extends EntityInterface> {
 
   @SneakyThrows
   default T findEntityByName(String fqn, Include include) {
-    return jsonToEntity(findByName(getTableName(), getNameColumn(), fqn, getCondition(include)), fqn);
+    return EntityCache.getInstance().getByName(this, fqn, include);
   }
 
   default T jsonToEntity(String json, String identity) throws IOException {
@@ -160,19 +201,64 @@ public interface EntityDAO<T extends EntityInterface> {
   }
 
   default EntityReference findEntityReferenceById(UUID id) throws IOException {
-    return findEntityById(id).getEntityReference();
+    return findEntityReferenceById(id, Include.NON_DELETED);
   }
 
   default EntityReference findEntityReferenceByName(String fqn) {
-    return findEntityByName(fqn).getEntityReference();
+    return findEntityReferenceByName(fqn, Include.NON_DELETED);
   }
 
   default EntityReference findEntityReferenceById(UUID id, Include include) throws IOException {
-    return findEntityById(id, include).getEntityReference();
+    return EntityCache.getInstance().getReferenceById(this, id, include);
   }
 
+  @SneakyThrows
   default EntityReference findEntityReferenceByName(String fqn, Include include) {
-    return findEntityByName(fqn, include).getEntityReference();
+    return EntityCache.getInstance().getReferenceByName(this, fqn, include);
+  }
+
+  /**
+   * Find the entities with given ids. Ids are looked up {@link #MAX_IN_LIST_SIZE} at a time. Ids of entities not found
+   * are ignored.
+   */
+  default List<T> findEntitiesByIds(List<UUID> ids, Include include) throws IOException {
+    List<String> jsons = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i += MAX_IN_LIST_SIZE) {
+      List<String> chunk =
+          ids.subList(i, Math.min(i + MAX_IN_LIST_SIZE, ids.size())).stream()
+              .map(UUID::toString)
+              .collect(Collectors.toList());
+      jsons.addAll(findByIds(getTableName(), chunk, getCondition(include)));
+    }
+    return readEntities(jsons);
+  }
+
+  /**
+   * Find the entities with given names, or fully qualified names for the entities where name column is the fully
+   * qualified name. Names are looked up {@link #MAX_IN_LIST_SIZE} at a time. Names of entities not found are ignored.
+   */
+  default List<T> findEntitiesByNames(List<String> names, Include include) throws IOException {
+    List<String> jsons = new ArrayList<>(names.size());
+    for (int i = 0; i < names.size(); i += MAX_IN_LIST_SIZE) {
+      List<String> chunk = names.subList(i, Math.min(i + MAX_IN_LIST_SIZE, names.size()));
+      jsons.addAll(findByNames(getTableName(), getNameColumn(), chunk, getCondition(include)));
+    }
+    return readEntities(jsons);
+  }
+
+  private List<T> readEntities(List<String> jsons) throws IOException {
+    List<T> entities = new ArrayList<>(jsons.size());
+    for (String json : jsons) {
+      entities.add(JsonUtils.readValue(json, getEntityClass()));
+    }
+    return entities;
+  }
+
+  /** Find references of the entities with given ids in a single query. Ids of entities not found are ignored. */
+  default List<EntityReference> findEntityReferencesByIds(List<UUID> ids, Include include) throws IOException {
+    return findEntitiesByIds(ids, include).stream()
+        .map(EntityInterface::getEntityReference)
+        .collect(Collectors.toList());
   }
 
   default String findJsonById(String id, Include include) {
@@ -187,6 +273,19 @@ public interface EntityDAO<T extends EntityInterface> {
     return listCount(getTableName(), getNameColumn(), filter.getCondition());
   }
 
+  /**
+   * Estimate of the number of entities matching {@code filter} from the table statistics maintained by the database.
+   * Returns null when the filter selects a subset of entities that statistics don't track or when the table has not
+   * been analyzed yet.
+   */
+  default Integer listCountEstimate(ListFilter filter) {
+    if (filter.hasQueryParams() || filter.getInclude() == Include.DELETED) {
+      return null;
+    }
+    Long estimate = listCountEstimate(getTableName());
+    return estimate == null || estimate <= 0 ? null : (int) Math.min(estimate, Integer.MAX_VALUE);
+  }
+
   default List<String> listBefore(ListFilter filter, int limit, String before) {
     // Quoted name is stored in fullyQualifiedName column and not in the name column
     before = getNameColumn().equals("name") ? FullyQualifiedName.unquoteName(before) : before;
@@ -213,8 +312,32 @@ public interface EntityDAO<T extends EntityInterface> {
     }
   }
 
+  /**
+   * Find the fully qualified names of the entities with given ids, for the entities where name column is the fully
+   * qualified name. Ids are looked up {@link #MAX_IN_LIST_SIZE} at a time.
+   */
+  default List<String> findNamesByIds(List<String> ids) {
+    List<String> names = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i += MAX_IN_LIST_SIZE) {
+      List<String> chunk = ids.subList(i, Math.min(i + MAX_IN_LIST_SIZE, ids.size()));
+      names.addAll(findNamesByIds(getTableName(), getNameColumn(), chunk));
+    }
+    return names;
+  }
+
+  /** Delete the entities with given ids, {@link #MAX_IN_LIST_SIZE} at a time. Ids of entities not found are ignored. */
+  default int deleteByIds(List<String> ids) {
+    int rowsDeleted = 0;
+    for (int i = 0; i < ids.size(); i += MAX_IN_LIST_SIZE) {
+      rowsDeleted += deleteByIds(getTableName(), ids.subList(i, Math.min(i + MAX_IN_LIST_SIZE, ids.size())));
+    }
+    ids.forEach(id -> EntityCache.getInstance().invalidate(this, UUID.fromString(id)));
+    return rowsDeleted;
+  }
+
   default int delete(String id) {
     int rowsDeleted = delete(getTableName(), id);
+    EntityCache.getInstance().invalidate(this, UUID.fromString(id));
     if (rowsDeleted <= 0) {
       String entityType = Entity.getEntityTypeFromClass(getEntityClass());
       throw EntityNotFoundException.byMessage(entityNotFound(entityType, id));
@@ -36,39 +36,48 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Lists;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
 import javax.json.JsonPatch;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.maven.shared.utils.io.IOUtil;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.TypeRegistry;
-import org.openmetadata.catalog.entity.data.GlossaryTerm;
+import org.openmetadata.catalog.api.BulkResponse;
 import org.openmetadata.catalog.entity.data.Table;
-import org.openmetadata.catalog.entity.tags.Tag;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.ChangeEventWriter;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.exception.UnhandledServerException;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
-import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.ExtensionRecord;
 import org.openmetadata.catalog.jdbi3.TableRepository.TableUpdater;
 import org.openmetadata.catalog.type.ChangeDescription;
@@ -78,14 +87,15 @@ import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FieldChange;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.type.Relationship;
 import org.openmetadata.catalog.type.TagLabel;
-import org.openmetadata.catalog.type.TagLabel.LabelType;
 import org.openmetadata.catalog.type.TagLabel.Source;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.FullyQualifiedName;
 import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.LambdaExceptionUtil.ConsumerWithExceptions;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.DeleteResponse;
 import org.openmetadata.catalog.util.RestUtil.PatchResponse;
@@ -137,6 +147,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
   protected final boolean supportsFollower;
   protected boolean allowEdits = false;
 
+  /** Every this many previous versions of an entity, a version is stored in full instead of as a delta */
+  static final int VERSION_CHECKPOINT_INTERVAL = 10;
+
+  /** Entities of a bulk request are written in chunks of this many, and the change events are recorded per chunk */
+  static final int BULK_CHUNK_SIZE = 100;
+
   /** Fields that can be updated during PATCH operation */
   private final Fields patchFields;
 
@@ -298,7 +314,14 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Transaction
   public final ResultList<T> listAfter(UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String after)
       throws IOException {
-    int total = dao.listCount(filter);
+    return listAfter(uriInfo, fields, filter, limitParam, after, IncludeTotal.EXACT);
+  }
+
+  @Transaction
+  public final ResultList<T> listAfter(
+      UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String after, IncludeTotal includeTotal)
+      throws IOException {
+    Integer total = getTotal(filter, includeTotal);
     List<T> entities = new ArrayList<>();
     if (limitParam > 0) {
       // forward scrolling, if after == null then first page is being asked
@@ -323,9 +346,36 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
+  /**
+   * Export all the entities matching {@code filter} ordered by name to {@code consumer}. Entities are read in batches
+   * of {@code batchSize}, with the name of the last entity in a batch as the keyset for the next one, and without
+   * counting them, so that memory used does not grow with the number of entities exported.
+   */
+  public final void export(
+      Fields fields, ListFilter filter, int batchSize, ConsumerWithExceptions<T, IOException> consumer)
+      throws IOException {
+    String after = "";
+    List<String> jsons;
+    do {
+      jsons = dao.listAfter(filter, batchSize, after);
+      for (String json : jsons) {
+        T entity = JsonUtils.readValue(json, entityClass);
+        after = entity.getFullyQualifiedName();
+        consumer.accept(setFields(entity, fields));
+      }
+    } while (jsons.size() == batchSize);
+  }
+
   @Transaction
   public final ResultList<T> listBefore(
       UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String before) throws IOException {
+    return listBefore(uriInfo, fields, filter, limitParam, before, IncludeTotal.EXACT);
+  }
+
+  @Transaction
+  public final ResultList<T> listBefore(
+      UriInfo uriInfo, Fields fields, ListFilter filter, int limitParam, String before, IncludeTotal includeTotal)
+      throws IOException {
     // Reverse scrolling - Get one extra result used for computing before cursor
     List<String> jsons = dao.listBefore(filter, limitParam + 1, RestUtil.decodeCursor(before));
 
@@ -334,7 +384,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
       T entity = withHref(uriInfo, setFields(JsonUtils.readValue(json, entityClass), fields));
       entities.add(entity);
     }
-    int total = dao.listCount(filter);
+    Integer total = getTotal(filter, includeTotal);
 
     String beforeCursor = null;
     String afterCursor;
@@ -346,15 +396,34 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return getResultList(entities, beforeCursor, afterCursor, total);
   }
 
+  /**
+   * Get the total number of entities matching {@code filter}. An exact total is a count over the entity table, which is
+   * the most expensive query when listing a large collection. An approximate total comes from the database statistics
+   * of the entity table and is only available when the filter matches all the entities that are not deleted.
+   */
+  private Integer getTotal(ListFilter filter, IncludeTotal includeTotal) {
+    if (includeTotal == IncludeTotal.NONE) {
+      return null;
+    }
+    if (includeTotal == IncludeTotal.APPROX) {
+      Integer estimate = dao.listCountEstimate(filter);
+      if (estimate != null) {
+        return estimate;
+      }
+    }
+    return dao.listCount(filter);
+  }
+
   @Transaction
   public T getVersion(String id, String version) throws IOException {
     Double requestedVersion = Double.parseDouble(version);
-    String extension = EntityUtil.getVersionExtension(entityType, requestedVersion);
 
     // Get previous version from version history
-    String json = daoCollection.entityExtensionDAO().getExtension(id, extension);
-    if (json != null) {
-      return JsonUtils.readValue(json, entityClass);
+    List<Pair<String, String>> storedVersions = getStoredVersions(id);
+    for (int i = 0; i < storedVersions.size(); i++) {
+      if (EntityUtil.getVersion(storedVersions.get(i).getLeft()).equals(requestedVersion)) {
+        return JsonUtils.readValue(getVersionJson(id, storedVersions, i), entityClass);
+      }
     }
     // If requested the latest version, return it from current version of the entity
     T entity = setFields(dao.findEntityById(UUID.fromString(id), ALL), putFields);
@@ -368,18 +437,119 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Transaction
   public EntityHistory listVersions(String id) throws IOException {
     T latest = setFields(dao.findEntityById(UUID.fromString(id), ALL), putFields);
-    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityType);
-    List<ExtensionRecord> records = daoCollection.entityExtensionDAO().getExtensions(id, extensionPrefix);
-    List<EntityVersionPair> oldVersions = new ArrayList<>();
-    records.forEach(r -> oldVersions.add(new EntityVersionPair(r)));
-    oldVersions.sort(EntityUtil.compareVersion.reversed());
+    List<Pair<String, String>> storedVersions = getStoredVersions(id);
+    Map<String, String> jsons = getVersionJsons(id, storedVersions);
 
     final List<Object> allVersions = new ArrayList<>();
     allVersions.add(JsonUtils.pojoToJson(latest));
-    oldVersions.forEach(version -> allVersions.add(version.getEntityJson()));
+    // Versions are ordered from the latest, each delta is applied to the version that follows it
+    String json = null;
+    for (Pair<String, String> storedVersion : storedVersions) {
+      json = getVersionJson(storedVersion, jsons.get(storedVersion.getLeft()), json);
+      allVersions.add(json);
+    }
     return new EntityHistory().withEntityType(entityType).withVersions(allVersions);
   }
 
+  /**
+   * List the versions of an entity from the latest to the oldest version as {@link EntityVersionSummary} objects that
+   * have the change description of each version but not the entity. Versions stored as deltas are not reconstructed.
+   */
+  @Transaction
+  public EntityHistory listVersionSummaries(String id, int limitParam, String before, String after) throws IOException {
+    T latest = dao.findEntityById(UUID.fromString(id), ALL);
+    List<Pair<String, String>> storedVersions = getStoredVersions(id);
+    List<Double> versions = new ArrayList<>();
+    versions.add(latest.getVersion());
+    storedVersions.forEach(v -> versions.add(EntityUtil.getVersion(v.getLeft())));
+
+    // Versions are ordered from the latest, the cursor is the version number
+    int start;
+    int end;
+    if (before != null) {
+      Double beforeVersion = Double.parseDouble(RestUtil.decodeCursor(before));
+      end = (int) versions.stream().filter(v -> v > beforeVersion).count();
+      start = Math.max(0, end - limitParam);
+    } else {
+      Double afterVersion = after == null ? null : Double.parseDouble(RestUtil.decodeCursor(after));
+      start = afterVersion == null ? 0 : (int) versions.stream().filter(v -> v >= afterVersion).count();
+      end = Math.min(versions.size(), start + limitParam);
+    }
+
+    List<Pair<String, String>> pageVersions = new ArrayList<>();
+    for (int i = Math.max(start, 1); i < end; i++) {
+      pageVersions.add(storedVersions.get(i - 1));
+    }
+    Map<String, String> jsons = getVersionJsons(id, pageVersions);
+    List<Object> summaries = new ArrayList<>();
+    if (start == 0 && end > 0) {
+      summaries.add(EntityVersionDelta.toSummary(latest));
+    }
+    for (Pair<String, String> pageVersion : pageVersions) {
+      String json = jsons.get(pageVersion.getLeft());
+      summaries.add(
+          EntityVersionDelta.JSON_SCHEMA.equals(pageVersion.getRight())
+              ? JsonUtils.readValue(json, EntityVersionDelta.class).toSummary()
+              : EntityVersionDelta.toSummary(JsonUtils.readValue(json, entityClass)));
+    }
+
+    String beforeCursor = start > 0 && end > start ? versions.get(start).toString() : null;
+    String afterCursor = end < versions.size() && end > start ? versions.get(end - 1).toString() : null;
+    return new EntityHistory()
+        .withEntityType(entityType)
+        .withVersions(summaries)
+        .withPaging(new ResultList<>(null, beforeCursor, afterCursor, versions.size()).getPaging());
+  }
+
+  /** Previous versions of the entity from entity_extension, as extension name and JSON schema, latest first */
+  private List<Pair<String, String>> getStoredVersions(String id) {
+    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityType);
+    List<Pair<String, String>> storedVersions =
+        daoCollection.entityExtensionDAO().getExtensionSchemas(id, extensionPrefix);
+    storedVersions.sort(
+        Comparator.comparing((Pair<String, String> v) -> EntityUtil.getVersion(v.getLeft())).reversed());
+    return storedVersions;
+  }
+
+  private Map<String, String> getVersionJsons(String id, List<Pair<String, String>> storedVersions) {
+    Map<String, String> jsons = new HashMap<>();
+    if (!storedVersions.isEmpty()) {
+      List<String> extensions = storedVersions.stream().map(Pair::getLeft).collect(Collectors.toList());
+      daoCollection
+          .entityExtensionDAO()
+          .getExtensions(id, extensions)
+          .forEach(r -> jsons.put(r.getExtensionName(), r.getExtensionJson()));
+    }
+    return jsons;
+  }
+
+  /** JSON of the stored version at the given index, reconstructed from the closest following full version. */
+  private String getVersionJson(String id, List<Pair<String, String>> storedVersions, int index) throws IOException {
+    int fullIndex = index;
+    while (fullIndex >= 0 && EntityVersionDelta.JSON_SCHEMA.equals(storedVersions.get(fullIndex).getRight())) {
+      fullIndex--;
+    }
+    if (fullIndex < 0) {
+      throw new UnhandledServerException(
+          String.format("Version history of %s %s has no full version to apply the deltas to", entityType, id));
+    }
+    List<Pair<String, String>> chain = storedVersions.subList(fullIndex, index + 1);
+    Map<String, String> jsons = getVersionJsons(id, chain);
+    String json = null;
+    for (Pair<String, String> storedVersion : chain) {
+      json = getVersionJson(storedVersion, jsons.get(storedVersion.getLeft()), json);
+    }
+    return json;
+  }
+
+  private String getVersionJson(Pair<String, String> storedVersion, String storedJson, String nextJson)
+      throws IOException {
+    if (!EntityVersionDelta.JSON_SCHEMA.equals(storedVersion.getRight())) {
+      return storedJson;
+    }
+    return JsonUtils.readValue(storedJson, EntityVersionDelta.class).apply(nextJson);
+  }
+
   public final T create(UriInfo uriInfo, T entity) throws IOException {
     entity = withHref(uriInfo, createInternal(entity));
     postCreate(entity);
@@ -427,6 +597,99 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return update(uriInfo, original, updated);
   }
 
+  /**
+   * Create or update a batch of entities. All the entities are prepared and validated before anything is written. The
+   * entities are then written in chunks of {@link #BULK_CHUNK_SIZE}. New entities of a chunk are stored with batch
+   * statements for entities, relationships and tags, while existing entities are updated one at a time. The change
+   * events of a chunk are recorded and published as soon as the chunk is written.
+   *
+   * <p>The batch is not written atomically. When a write fails, the entities written before it stay written and their
+   * change events are recorded, and the remaining entities are not written. Sending the batch again writes the
+   * remaining entities and leaves the entities already written unchanged.
+   */
+  public final BulkResponse createOrUpdateAll(UriInfo uriInfo, List<T> entities) throws IOException {
+    Map<String, T> entitiesByFqn = new LinkedHashMap<>();
+    for (T entity : entities) {
+      prepare(entity);
+      validateExtension(entity);
+      if (entitiesByFqn.put(entity.getFullyQualifiedName(), entity) != null) {
+        throw new IllegalArgumentException(
+            CatalogExceptionMessage.duplicateEntityInRequest(entityType, entity.getFullyQualifiedName()));
+      }
+    }
+
+    // Check if there are any originals, deleted or not
+    Map<String, T> originals = new HashMap<>();
+    for (T original : dao.findEntitiesByNames(new ArrayList<>(entitiesByFqn.keySet()), ALL)) {
+      originals.put(original.getFullyQualifiedName(), original);
+    }
+
+    BulkResponse bulkResponse = new BulkResponse();
+    List<T> pending = new ArrayList<>(entitiesByFqn.values());
+    for (int i = 0; i < pending.size(); i += BULK_CHUNK_SIZE) {
+      writeChunk(uriInfo, pending.subList(i, Math.min(i + BULK_CHUNK_SIZE, pending.size())), originals, bulkResponse);
+    }
+    return bulkResponse;
+  }
+
+  private void writeChunk(UriInfo uriInfo, List<T> entities, Map<String, T> originals, BulkResponse bulkResponse)
+      throws IOException {
+    List<T> toCreate = new ArrayList<>();
+    List<T> created = new ArrayList<>();
+    List<T> updated = new ArrayList<>();
+    List<ChangeEvent> changeEvents = new ArrayList<>();
+    try {
+      for (T entity : entities) {
+        T original = originals.get(entity.getFullyQualifiedName());
+        if (original == null) {
+          toCreate.add(entity);
+          continue;
+        }
+        PutResponse<T> response = update(uriInfo, original, entity);
+        updated.add(response.getEntity());
+        if (RestUtil.ENTITY_UPDATED.equals(response.getChangeType())) {
+          bulkResponse.setUpdated(bulkResponse.getUpdated() + 1);
+          changeEvents.add(
+              getChangeEvent(EventType.ENTITY_UPDATED, response.getEntity())
+                  .withPreviousVersion(response.getEntity().getChangeDescription().getPreviousVersion()));
+        } else {
+          bulkResponse.setUnchanged(bulkResponse.getUnchanged() + 1);
+        }
+      }
+
+      try (EntityBatchWriter batchWriter = EntityBatchWriter.start()) {
+        for (T entity : toCreate) {
+          createNewEntity(entity);
+        }
+        batchWriter.flush(daoCollection);
+      }
+      for (T entity : toCreate) {
+        withHref(uriInfo, entity);
+        changeEvents.add(getChangeEvent(EventType.ENTITY_CREATED, entity));
+        created.add(entity);
+      }
+      bulkResponse.setCreated(bulkResponse.getCreated() + created.size());
+    } finally {
+      // Entities written before a failed write of the chunk stay written, and their change events are still recorded
+      ChangeEventWriter.store(daoCollection, changeEvents);
+      created.forEach(this::postCreate);
+      updated.forEach(this::postUpdate);
+    }
+  }
+
+  private ChangeEvent getChangeEvent(EventType eventType, T entity) {
+    return new ChangeEvent()
+        .withEventType(eventType)
+        .withEntityId(entity.getId())
+        .withEntityType(entityType)
+        .withEntityFullyQualifiedName(entity.getFullyQualifiedName())
+        .withUserName(entity.getUpdatedBy())
+        .withTimestamp(entity.getUpdatedAt())
+        .withChangeDescription(entity.getChangeDescription())
+        .withCurrentVersion(entity.getVersion())
+        .withEntity(entity);
+  }
+
   protected void postCreate(T entity) {
     // Override to perform any operation required after creation.
     // For example ingestion pipeline creates a pipeline in AirFlow.
@@ -510,13 +773,45 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return new PutResponse<>(Status.OK, changeEvent, RestUtil.ENTITY_FIELDS_CHANGED);
   }
 
+  /** Listener for the progress of a recursive hard delete, as the number of children deleted out of the total */
+  public interface DeleteProgress {
+    DeleteProgress NONE = (deleted, total) -> {};
+
+    void update(int deleted, int total);
+  }
+
   public final DeleteResponse<T> delete(String updatedBy, String id, boolean recursive, boolean hardDelete)
       throws IOException {
-    DeleteResponse<T> response = deleteInternal(updatedBy, id, recursive, hardDelete);
+    return delete(updatedBy, id, recursive, hardDelete, DeleteProgress.NONE);
+  }
+
+  public final DeleteResponse<T> delete(
+      String updatedBy, String id, boolean recursive, boolean hardDelete, DeleteProgress progress) throws IOException {
+    DeleteResponse<T> response = deleteInternal(updatedBy, id, recursive, hardDelete, progress);
     postDelete(response.getEntity());
     return response;
   }
 
+  /**
+   * Delete the entity and record the change event that {@link org.openmetadata.catalog.events.ChangeEventHandler}
+   * records for a delete request. Used for deletes that are not run as part of a request.
+   */
+  public final DeleteResponse<T> deleteAndRecordChange(
+      String updatedBy, String id, boolean recursive, boolean hardDelete, DeleteProgress progress) throws IOException {
+    DeleteResponse<T> response = delete(updatedBy, id, recursive, hardDelete, progress);
+    T entity = response.getEntity();
+    ChangeEvent changeEvent;
+    if (RestUtil.ENTITY_DELETED.equals(response.getChangeType())) {
+      changeEvent = getChangeEvent(EventType.ENTITY_DELETED, entity).withPreviousVersion(entity.getVersion());
+    } else {
+      changeEvent =
+          getChangeEvent(EventType.ENTITY_SOFT_DELETED, entity)
+              .withPreviousVersion(entity.getChangeDescription().getPreviousVersion());
+    }
+    ChangeEventWriter.store(daoCollection, List.of(changeEvent));
+    return response;
+  }
+
   protected void postDelete(T entity) {
     // Override this method to perform any operation required after deletion.
     // For example ingestion pipeline deletes a pipeline in AirFlow.
@@ -525,6 +820,11 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Transaction
   public final DeleteResponse<T> deleteInternal(String updatedBy, String id, boolean recursive, boolean hardDelete)
       throws IOException {
+    return deleteInternal(updatedBy, id, recursive, hardDelete, DeleteProgress.NONE);
+  }
+
+  private DeleteResponse<T> deleteInternal(
+      String updatedBy, String id, boolean recursive, boolean hardDelete, DeleteProgress progress) throws IOException {
     // Validate entity
     String json = dao.findJsonById(id, ALL);
     if (json == null) {
@@ -534,7 +834,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
     T original = JsonUtils.readValue(json, entityClass);
     setFields(original, putFields); // TODO why this?
 
-    deleteChildren(id, recursive, hardDelete, updatedBy);
+    Map<String, Integer> deletedChildren = null;
+    if (recursive && hardDelete) {
+      deletedChildren = hardDeleteChildren(original, progress);
+    } else {
+      deleteChildren(id, recursive, hardDelete, updatedBy);
+    }
 
     String changeType;
     T updated = JsonUtils.readValue(json, entityClass);
@@ -550,6 +855,14 @@ public abstract class EntityRepository<T extends EntityInterface> {
       cleanup(updated);
       changeType = RestUtil.ENTITY_DELETED;
     }
+    if (deletedChildren != null && !deletedChildren.isEmpty()) {
+      // Summarize the deleted children in the change event of the entity instead of an event for each child
+      ChangeDescription change = new ChangeDescription().withPreviousVersion(updated.getVersion());
+      deletedChildren.forEach(
+          (childType, count) ->
+              change.getFieldsDeleted().add(new FieldChange().withName(childType).withOldValue(count)));
+      updated.setChangeDescription(change);
+    }
     LOG.info("{} deleted {}", hardDelete ? "Hard" : "Soft", updated.getFullyQualifiedName());
     return new DeleteResponse<>(updated, changeType);
   }
@@ -573,6 +886,96 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
+  /**
+   * Hard delete all the entities contained in an entity, recursively. Instead of deleting the children one by one, the
+   * containment hierarchy is read one level at a time and the rows of the children are deleted with a statement for
+   * each table and {@link EntityDAO#MAX_IN_LIST_SIZE} children. The deepest children are deleted first so that the
+   * remaining children are still contained in the entity when the delete fails and can be deleted again.
+   *
+   * <p>Field relationships and tag labels of the children named under the entity are deleted along with those of the
+   * entity by {@link #cleanup(EntityInterface)}.
+   *
+   * @return number of children deleted by entity type
+   */
+  private Map<String, Integer> hardDeleteChildren(T entity, DeleteProgress progress) throws IOException {
+    List<Map<String, List<String>>> levels = new ArrayList<>();
+    Set<String> visited = new HashSet<>();
+    List<String> parents = List.of(entity.getId().toString());
+    visited.addAll(parents);
+    int total = 0;
+    while (!parents.isEmpty()) {
+      Map<String, List<String>> level = new TreeMap<>();
+      List<String> children = new ArrayList<>();
+      for (List<String> chunk : Lists.partition(parents, EntityDAO.MAX_IN_LIST_SIZE)) {
+        for (EntityRelationshipObject record :
+            daoCollection.relationshipDAO().findToBatch(chunk, Relationship.CONTAINS.ordinal())) {
+          // A glossary term is contained in both the glossary and its parent term
+          String childId = record.getToId().toString();
+          if (visited.add(childId)) {
+            level.computeIfAbsent(record.getToEntity(), k -> new ArrayList<>()).add(childId);
+            children.add(childId);
+          }
+        }
+      }
+      if (!children.isEmpty()) {
+        levels.add(level);
+        total += children.size();
+      }
+      parents = children;
+    }
+
+    Map<String, Integer> deletedChildren = new TreeMap<>();
+    int deleted = 0;
+    progress.update(deleted, total);
+    for (int i = levels.size() - 1; i >= 0; i--) {
+      for (Entry<String, List<String>> entry : levels.get(i).entrySet()) {
+        EntityRepository<?> repository = Entity.getEntityRepository(entry.getKey());
+        for (List<String> chunk : Lists.partition(entry.getValue(), EntityDAO.MAX_IN_LIST_SIZE)) {
+          repository.hardDeleteAll(chunk, entity.getFullyQualifiedName());
+          deleted += chunk.size();
+          progress.update(deleted, total);
+        }
+        deletedChildren.merge(entry.getKey(), entry.getValue().size(), Integer::sum);
+        if (TagIndex.isIndexed(entry.getKey())) {
+          TagIndex.getInstance().invalidate();
+        }
+      }
+      LOG.info("Hard deleted {} of {} children of {} {}", deleted, total, entityType, entity.getFullyQualifiedName());
+    }
+    return deletedChildren;
+  }
+
+  /**
+   * Same as {@link #cleanup(EntityInterface)} for the entities with given ids, which are children of the container
+   * being hard deleted.
+   */
+  private void hardDeleteAll(List<String> ids, String containerFqn) throws IOException {
+    List<String> fqns = dao.findNamesByIds(ids);
+    cleanupAll(ids, fqns);
+
+    // Field relationships and tag labels of children not named under the container
+    String containerPrefix = containerFqn + Entity.SEPARATOR;
+    for (String fqn : fqns) {
+      if (!fqn.startsWith(containerPrefix)) {
+        daoCollection.fieldRelationshipDAO().deleteAllByPrefix(fqn);
+        daoCollection.tagUsageDAO().deleteTagLabelsByTargetPrefix(fqn);
+      }
+    }
+    daoCollection.relationshipDAO().deleteAll(ids);
+    daoCollection.entityExtensionDAO().deleteAll(ids);
+    daoCollection.usageDAO().delete(ids);
+    dao.deleteByIds(ids);
+  }
+
+  /**
+   * Override this method to delete the entity specific data, and to perform any operation required after deletion, for
+   * the entities with given ids and fully qualified names that are hard deleted along with their container. This is the
+   * counterpart of overriding {@link #cleanup(EntityInterface)} and {@link #postDelete}.
+   */
+  protected void cleanupAll(List<String> ids, List<String> fqns) throws IOException {
+    // Nothing to clean up by default
+  }
+
   protected void cleanup(EntityInterface entityInterface) throws JsonProcessingException {
     String id = entityInterface.getId().toString();
 
@@ -596,6 +999,9 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
     // Finally, delete the entity
     dao.delete(id);
+    if (TagIndex.isIndexed(entityType)) {
+      TagIndex.getInstance().invalidate();
+    }
   }
 
   @Transaction
@@ -631,7 +1037,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return new PutResponse<>(Status.OK, changeEvent, RestUtil.ENTITY_FIELDS_CHANGED);
   }
 
-  public final ResultList<T> getResultList(List<T> entities, String beforeCursor, String afterCursor, int total) {
+  public final ResultList<T> getResultList(List<T> entities, String beforeCursor, String afterCursor, Integer total) {
     return new ResultList<>(entities, beforeCursor, afterCursor, total);
   }
 
@@ -643,11 +1049,17 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   protected void store(UUID id, T entity, boolean update) throws JsonProcessingException {
+    EntityBatchWriter batchWriter = EntityBatchWriter.current();
     if (update) {
       dao.update(id, JsonUtils.pojoToJson(entity));
+    } else if (batchWriter != null) {
+      batchWriter.addEntity(dao, JsonUtils.pojoToJson(entity));
     } else {
       dao.insert(entity);
     }
+    if (TagIndex.isIndexed(entityType)) {
+      TagIndex.getInstance().invalidate();
+    }
   }
 
   public void validateExtension(T entity) {
@@ -725,7 +1137,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   /** Validate given list of tags and add derived tags to it */
-  public final List<TagLabel> addDerivedTags(List<TagLabel> tagLabels) {
+  public final List<TagLabel> addDerivedTags(List<TagLabel> tagLabels) throws IOException {
     if (nullOrEmpty(tagLabels)) {
       return tagLabels;
     }
@@ -740,16 +1152,14 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   /** Get tags associated with a given set of tags */
-  private List<TagLabel> getDerivedTags(TagLabel tagLabel) {
+  private List<TagLabel> getDerivedTags(TagLabel tagLabel) throws IOException {
     if (tagLabel.getSource() == Source.GLOSSARY) { // Related tags are only supported for Glossary
-      List<TagLabel> derivedTags = daoCollection.tagUsageDAO().getTags(tagLabel.getTagFQN());
-      derivedTags.forEach(tag -> tag.setLabelType(LabelType.DERIVED));
-      return derivedTags;
+      return TagIndex.getInstance().getDerivedTags(daoCollection, tagLabel.getTagFQN());
     }
     return Collections.emptyList();
   }
 
-  protected void applyTags(T entity) {
+  protected void applyTags(T entity) throws IOException {
     if (supportsTags) {
       // Add entity level tags by adding tag to the entity relationship
       applyTags(entity.getTags(), entity.getFullyQualifiedName());
@@ -757,27 +1167,46 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   /** Apply tags {@code tagLabels} to the entity or field identified by {@code targetFQN} */
-  public void applyTags(List<TagLabel> tagLabels, String targetFQN) {
-    for (TagLabel tagLabel : listOrEmpty(tagLabels)) {
-      if (tagLabel.getSource() == Source.TAG) {
-        Tag tag = daoCollection.tagDAO().findEntityByName(tagLabel.getTagFQN());
-        tagLabel.withDescription(tag.getDescription());
-        tagLabel.setSource(Source.TAG);
-      } else if (tagLabel.getSource() == Source.GLOSSARY) {
-        GlossaryTerm term = daoCollection.glossaryTermDAO().findEntityByName(tagLabel.getTagFQN(), NON_DELETED);
-        tagLabel.withDescription(term.getDescription());
-        tagLabel.setSource(Source.GLOSSARY);
-      }
+  public void applyTags(List<TagLabel> tagLabels, String targetFQN) throws IOException {
+    applyTags(Collections.singletonMap(targetFQN, tagLabels));
+  }
 
-      // Apply tagLabel to targetFQN that identifies an entity or field
-      daoCollection
-          .tagUsageDAO()
-          .applyTag(
-              tagLabel.getSource().ordinal(),
-              tagLabel.getTagFQN(),
-              targetFQN,
-              tagLabel.getLabelType().ordinal(),
-              tagLabel.getState().ordinal());
+  /**
+   * Apply tags to the entities or fields identified by the keys of {@code tagLabelsByTarget}. Tags are looked up in
+   * {@link TagIndex} and all the tag labels are stored with a single batch statement.
+   */
+  protected void applyTags(Map<String, List<TagLabel>> tagLabelsByTarget) throws IOException {
+    TagIndex tagIndex = TagIndex.getInstance();
+    List<Integer> sources = new ArrayList<>();
+    List<String> tagFQNs = new ArrayList<>();
+    List<String> targetFQNs = new ArrayList<>();
+    List<Integer> labelTypes = new ArrayList<>();
+    List<Integer> states = new ArrayList<>();
+    for (Entry<String, List<TagLabel>> entry : tagLabelsByTarget.entrySet()) {
+      for (TagLabel tagLabel : listOrEmpty(entry.getValue())) {
+        if (tagLabel.getSource() == Source.TAG) {
+          tagLabel.withDescription(tagIndex.getTagDescription(daoCollection, tagLabel.getTagFQN()));
+          tagLabel.setSource(Source.TAG);
+        } else if (tagLabel.getSource() == Source.GLOSSARY) {
+          tagLabel.withDescription(tagIndex.getGlossaryTermDescription(daoCollection, tagLabel.getTagFQN()));
+          tagLabel.setSource(Source.GLOSSARY);
+        }
+
+        // Apply tagLabel to targetFQN that identifies an entity or field
+        sources.add(tagLabel.getSource().ordinal());
+        tagFQNs.add(tagLabel.getTagFQN());
+        targetFQNs.add(entry.getKey());
+        labelTypes.add(tagLabel.getLabelType().ordinal());
+        states.add(tagLabel.getState().ordinal());
+      }
+    }
+    EntityBatchWriter batchWriter = EntityBatchWriter.current();
+    if (batchWriter != null) {
+      for (int i = 0; i < tagFQNs.size(); i++) {
+        batchWriter.addTagLabel(sources.get(i), tagFQNs.get(i), targetFQNs.get(i), labelTypes.get(i), states.get(i));
+      }
+    } else if (!tagFQNs.isEmpty()) {
+      daoCollection.tagUsageDAO().applyTags(sources, tagFQNs, targetFQNs, labelTypes, states);
     }
   }
 
@@ -853,7 +1282,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
       from = toId;
       to = fromId;
     }
-    daoCollection.relationshipDAO().insert(from, to, fromEntity, toEntity, relationship.ordinal(), json);
+    EntityBatchWriter batchWriter = EntityBatchWriter.current();
+    if (batchWriter != null) {
+      batchWriter.addRelationship(from, to, fromEntity, toEntity, relationship.ordinal(), json);
+    } else {
+      daoCollection.relationshipDAO().insert(from, to, fromEntity, toEntity, relationship.ordinal(), json);
+    }
   }
 
   public List<EntityRelationshipRecord> findBoth(
@@ -964,7 +1398,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   public EntityReference getOwner(EntityReference ref) throws IOException {
-    return !supportsOwner ? null : Entity.getEntityReferenceById(ref.getType(), ref.getId(), ALL);
+    return !supportsOwner ? null : getFromEntityRef(ref.getId(), Relationship.OWNS, null, false);
   }
 
   public EntityReference getOriginalOwner(T entity) throws IOException {
@@ -1391,11 +1825,33 @@ public abstract class EntityRepository<T extends EntityInterface> {
       }
     }
 
-    private void storeOldVersion() throws JsonProcessingException {
+    /**
+     * Store the original version in full. The version stored before it is replaced with a delta against the original
+     * version, except for every {@link #VERSION_CHECKPOINT_INTERVAL}-th version that is kept in full to bound the
+     * number of deltas applied to reconstruct a version.
+     */
+    private void storeOldVersion() throws IOException {
+      String id = original.getId().toString();
+      List<Pair<String, String>> storedVersions = getStoredVersions(id);
       String extensionName = EntityUtil.getVersionExtension(entityType, original.getVersion());
-      daoCollection
-          .entityExtensionDAO()
-          .insert(original.getId().toString(), extensionName, entityType, JsonUtils.pojoToJson(original));
+      String json = JsonUtils.pojoToJson(original);
+      daoCollection.entityExtensionDAO().insert(id, extensionName, entityType, json);
+
+      if (storedVersions.isEmpty() || storedVersions.size() % VERSION_CHECKPOINT_INTERVAL == 0) {
+        return;
+      }
+      Pair<String, String> previous = storedVersions.get(0);
+      if (previous.getLeft().equals(extensionName) || !entityType.equals(previous.getRight())) {
+        return;
+      }
+      String previousJson = daoCollection.entityExtensionDAO().getExtension(id, previous.getLeft());
+      EntityVersionDelta delta =
+          EntityVersionDelta.create(JsonUtils.readValue(previousJson, entityClass), previousJson, json);
+      if (delta != null) {
+        daoCollection
+            .entityExtensionDAO()
+            .insert(id, previous.getLeft(), EntityVersionDelta.JSON_SCHEMA, JsonUtils.pojoToJson(delta));
+      }
     }
 
     private void storeNewVersion() throws IOException {
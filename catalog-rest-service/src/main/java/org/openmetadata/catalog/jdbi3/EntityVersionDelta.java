@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonPatch;
+import lombok.Getter;
+import lombok.Setter;
+import org.openmetadata.catalog.EntityInterface;
+import org.openmetadata.catalog.type.ChangeDescription;
+import org.openmetadata.catalog.type.EntityVersionSummary;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Previous version of an entity stored in entity_extension as a JSON patch that turns the following version of the
+ * entity into this version. Along with the patch, the fields needed for listing the version as a summary are stored.
+ */
+public class EntityVersionDelta {
+  /** Value of the jsonSchema column of entity_extension for the versions stored as deltas */
+  public static final String JSON_SCHEMA = "entityVersionDelta";
+
+  @Getter @Setter private Double version;
+  @Getter @Setter private Long updatedAt;
+  @Getter @Setter private String updatedBy;
+  @Getter @Setter private ChangeDescription changeDescription;
+  @Getter @Setter private JsonArray patch;
+
+  /**
+   * Returns the delta that turns the following version {@code nextJson} into the version {@code entity} serialized as
+   * {@code json}. Returns null when applying the JSON patch does not reproduce the version exactly, in which case the
+   * version must be stored in full.
+   */
+  public static EntityVersionDelta create(EntityInterface entity, String json, String nextJson) {
+    JsonObject source = JsonUtils.readJson(nextJson).asJsonObject();
+    JsonObject target = JsonUtils.readJson(json).asJsonObject();
+    JsonPatch patch = Json.createDiff(source, target);
+    if (!target.equals(patch.apply(source))) {
+      return null;
+    }
+    EntityVersionDelta delta = new EntityVersionDelta();
+    delta.setVersion(entity.getVersion());
+    delta.setUpdatedAt(entity.getUpdatedAt());
+    delta.setUpdatedBy(entity.getUpdatedBy());
+    delta.setChangeDescription(entity.getChangeDescription());
+    delta.setPatch(patch.toJsonArray());
+    return delta;
+  }
+
+  /** Returns the JSON of this version given the JSON of the following version of the entity */
+  public String apply(String nextJson) {
+    return Json.createPatch(patch).apply(JsonUtils.readJson(nextJson).asJsonObject()).toString();
+  }
+
+  public EntityVersionSummary toSummary() {
+    return new EntityVersionSummary()
+        .withVersion(version)
+        .withUpdatedAt(updatedAt)
+        .withUpdatedBy(updatedBy)
+        .withChangeDescription(changeDescription);
+  }
+
+  public static EntityVersionSummary toSummary(EntityInterface entity) {
+    return new EntityVersionSummary()
+        .withVersion(entity.getVersion())
+        .withUpdatedAt(entity.getUpdatedAt())
+        .withUpdatedBy(entity.getUpdatedBy())
+        .withChangeDescription(entity.getChangeDescription());
+  }
+}
@@ -30,9 +30,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.jsonwebtoken.lang.Collections;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -43,6 +46,7 @@ import javax.ws.rs.core.UriInfo;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.json.JSONObject;
 import org.openmetadata.catalog.Entity;
@@ -60,7 +64,6 @@ import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.catalog.resources.feeds.FeedResource;
-import org.openmetadata.catalog.resources.feeds.FeedUtil;
 import org.openmetadata.catalog.resources.feeds.MessageParser;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.catalog.type.Column;
@@ -125,8 +128,10 @@ public class FeedRepository {
       thread.withTask(thread.getTask().withId(getNextTaskId()));
     }
 
-    // Insert a new thread
-    dao.feedDAO().insert(JsonUtils.pojoToJson(thread));
+    // Insert a new thread. Posts are stored in post_entity and not in the thread JSON
+    List<Post> posts = thread.getPosts();
+    dao.feedDAO().insert(JsonUtils.pojoToJson(thread.withPosts(null)));
+    thread.withPosts(posts);
 
     // Add relationship User -- created --> Thread relationship
     dao.relationshipDAO().insert(createdByUser.getId(), thread.getId(), Entity.USER, Entity.THREAD, CREATED.ordinal());
@@ -168,18 +173,97 @@ public class FeedRepository {
     return create(thread, entityId, owner, about);
   }
 
+  /**
+   * Batch version of {@link #create(Thread, UUID, EntityReference, EntityLink)} used to store the threads created for
+   * change events. The threads must not be tasks and must have the entity id set. {@code owners} has the owner of the
+   * entity of each thread, or null.
+   */
+  public void createBatch(List<Thread> threads, List<EntityReference> owners) throws JsonProcessingException {
+    List<String> jsons = new ArrayList<>(threads.size());
+    List<String> fromIds = new ArrayList<>();
+    List<String> toIds = new ArrayList<>();
+    List<String> fromEntities = new ArrayList<>();
+    List<String> toEntities = new ArrayList<>();
+    List<Integer> relations = new ArrayList<>();
+    List<String> fromFQNs = new ArrayList<>();
+    List<String> toFQNs = new ArrayList<>();
+    List<String> fromTypes = new ArrayList<>();
+    List<String> toTypes = new ArrayList<>();
+    List<Integer> fieldRelations = new ArrayList<>();
+    for (int i = 0; i < threads.size(); i++) {
+      Thread thread = threads.get(i);
+      List<Post> posts = thread.getPosts();
+      jsons.add(JsonUtils.pojoToJson(thread.withPosts(null)));
+      thread.withPosts(posts);
+
+      // User -- created --> Thread
+      EntityReference createdBy = dao.userDAO().findEntityReferenceByName(thread.getCreatedBy());
+      fromIds.add(createdBy.getId().toString());
+      toIds.add(thread.getId().toString());
+      fromEntities.add(Entity.USER);
+      toEntities.add(Entity.THREAD);
+      relations.add(CREATED.ordinal());
+
+      // Thread -- addressedTo --> entity owner
+      EntityReference owner = owners.get(i);
+      if (owner != null) {
+        fromIds.add(thread.getId().toString());
+        toIds.add(owner.getId().toString());
+        fromEntities.add(Entity.THREAD);
+        toEntities.add(owner.getType());
+        relations.add(ADDRESSED_TO.ordinal());
+      }
+
+      // Thread -- isAbout --> entity/entityField
+      EntityLink about = EntityLink.parse(thread.getAbout());
+      fromFQNs.add(thread.getId().toString());
+      toFQNs.add(about.getFullyQualifiedFieldValue());
+      fromTypes.add(Entity.THREAD);
+      toTypes.add(about.getFullyQualifiedFieldType());
+      fieldRelations.add(IS_ABOUT.ordinal());
+
+      // Mentioned entity -- mentionedIn --> Thread
+      List<EntityLink> mentions = MessageParser.getEntityLinks(thread.getMessage());
+      for (EntityLink mention : mentions.stream().distinct().collect(Collectors.toList())) {
+        fromFQNs.add(mention.getFullyQualifiedFieldValue());
+        toFQNs.add(thread.getId().toString());
+        fromTypes.add(mention.getFullyQualifiedFieldType());
+        toTypes.add(Entity.THREAD);
+        fieldRelations.add(Relationship.MENTIONED_IN.ordinal());
+      }
+    }
+    // Relationships are inserted first as inserting them again is a no-op. If a batch fails, no thread is stored and
+    // the threads can be created again.
+    List<String> relationJsons = java.util.Collections.nCopies(fromIds.size(), null);
+    dao.relationshipDAO().insertBatch(fromIds, toIds, fromEntities, toEntities, relations, relationJsons);
+    List<String> fieldRelationJsons = java.util.Collections.nCopies(fromFQNs.size(), null);
+    dao.fieldRelationshipDAO().insertBatch(fromFQNs, toFQNs, fromTypes, toTypes, fieldRelations, fieldRelationJsons);
+    dao.feedDAO().insertBatch(jsons);
+  }
+
   public Thread get(String id) throws IOException {
     Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    sortPosts(thread);
-    return thread;
+    return thread.withPosts(getPosts(thread));
   }
 
   public Thread getTask(Integer id) throws IOException {
     Thread task = EntityUtil.validate(id.toString(), dao.feedDAO().findByTaskId(id), Thread.class);
-    sortPosts(task);
+    task.withPosts(getPosts(task));
     return populateAssignees(task);
   }
 
+  /** All the posts of a thread, oldest first. */
+  private List<Post> getPosts(Thread thread) throws IOException {
+    return JsonUtils.readObjects(dao.postDAO().list(thread.getId().toString()), Post.class);
+  }
+
+  /** Stores the thread JSON without the posts, which are stored in post_entity. */
+  private void storeThread(Thread thread) throws JsonProcessingException {
+    List<Post> posts = thread.getPosts();
+    dao.feedDAO().update(thread.getId().toString(), JsonUtils.pojoToJson(thread.withPosts(null)));
+    thread.withPosts(posts);
+  }
+
   public PatchResponse<Thread> closeTask(UriInfo uriInfo, Thread thread, String user, CloseTask closeTask)
       throws IOException {
     // Update the attributes
@@ -389,7 +473,7 @@ public class FeedRepository {
             .withReactions(java.util.Collections.emptyList())
             .withPostTs(System.currentTimeMillis());
     try {
-      addPostToThread(thread.getId().toString(), post, user);
+      addPostToThread(thread.getId().toString(), post, user, 0);
     } catch (IOException exception) {
       LOG.error("Unable to post a reply to the Task upon closing.", exception);
     }
@@ -400,9 +484,44 @@ public class FeedRepository {
     task.withStatus(TaskStatus.Closed).withClosedBy(user).withClosedAt(System.currentTimeMillis());
     thread.withTask(task).withUpdatedBy(user).withUpdatedAt(System.currentTimeMillis());
 
-    dao.feedDAO().update(thread.getId().toString(), JsonUtils.pojoToJson(thread));
+    storeThread(thread);
     addClosingPost(thread, user, closingComment);
-    sortPosts(thread);
+  }
+
+  /**
+   * Ids of the users notified of a thread about an entity. These are the followers of the entity, the owner of the
+   * entity and the users mentioned in the thread. An owning or mentioned team is expanded to its members.
+   */
+  public Set<UUID> getUsersToNotify(Thread thread, EntityReference about, EntityReference owner) {
+    Set<UUID> userIds = new HashSet<>();
+    dao.relationshipDAO()
+        .findFrom(about.getId().toString(), about.getType(), Relationship.FOLLOWS.ordinal(), Entity.USER)
+        .forEach(follower -> userIds.add(follower.getId()));
+    if (owner != null) {
+      addUsers(userIds, owner);
+    }
+    for (EntityLink mention : MessageParser.getEntityLinks(thread.getMessage())) {
+      try {
+        if (Entity.USER.equals(mention.getEntityType())) {
+          addUsers(userIds, dao.userDAO().findEntityReferenceByName(mention.getEntityFQN()));
+        } else if (Entity.TEAM.equals(mention.getEntityType())) {
+          addUsers(userIds, dao.teamDAO().findEntityReferenceByName(mention.getEntityFQN()));
+        }
+      } catch (EntityNotFoundException e) {
+        LOG.debug("Mentioned {} {} not found", mention.getEntityType(), mention.getEntityFQN());
+      }
+    }
+    return userIds;
+  }
+
+  private void addUsers(Set<UUID> userIds, EntityReference userOrTeam) {
+    if (Entity.TEAM.equals(userOrTeam.getType())) {
+      dao.relationshipDAO()
+          .findTo(userOrTeam.getId().toString(), Entity.TEAM, Relationship.HAS.ordinal(), Entity.USER)
+          .forEach(member -> userIds.add(member.getId()));
+    } else if (Entity.USER.equals(userOrTeam.getType())) {
+      userIds.add(userOrTeam.getId());
+    }
   }
 
   private void storeMentions(Thread thread, String message) {
@@ -424,61 +543,58 @@ public class FeedRepository {
                         null));
   }
 
+  /**
+   * Add a post to the thread and return the thread with its last {@code limitPosts} posts. The cost of a reply does not
+   * grow with the number of posts in the thread: the existing posts are not counted, read or rewritten.
+   */
   @Transaction
-  public Thread addPostToThread(String id, Post post, String userName) throws IOException {
+  public Thread addPostToThread(String id, Post post, String userName, int limitPosts) throws IOException {
     // Query 1 - validate the user posting the message
     User fromUser = dao.userDAO().findEntityByName(post.getFrom());
 
     // Query 2 - Find the thread
     Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    thread.withUpdatedBy(userName).withUpdatedAt(System.currentTimeMillis());
-    FeedUtil.addPost(thread, post);
-
-    // TODO is rewriting entire json okay?
-    // Query 3 - update the JSON document for the feed
-    dao.feedDAO().update(id, JsonUtils.pojoToJson(thread));
-
-    // Query 4 - Add relation User -- repliedTo --> Thread
-    // Add relationship from thread to the user entity that is posting a reply
-    boolean relationAlreadyExists = false;
-    for (Post p : thread.getPosts()) {
-      if (p.getFrom().equals(post.getFrom())) {
-        relationAlreadyExists = true;
-        break;
-      }
-    }
-    if (!relationAlreadyExists) {
-      dao.relationshipDAO().insert(fromUser.getId(), thread.getId(), Entity.USER, Entity.THREAD, REPLIED_TO.ordinal());
-    }
+
+    // Query 3 - Append the post
+    dao.postDAO().insert(post.getId().toString(), id, post.getPostTs(), JsonUtils.pojoToJson(post));
+
+    // Query 4 - Increment the post count and update the timestamp of the thread in place
+    long updatedAt = System.currentTimeMillis();
+    dao.feedDAO().addPost(id, updatedAt, userName);
+    thread.withUpdatedBy(userName).withUpdatedAt(updatedAt).withPostsCount(thread.getPostsCount() + 1);
+
+    // Query 5 - Add relation User -- repliedTo --> Thread
+    // Add relationship from thread to the user entity that is posting a reply. Existing relationship is retained.
+    dao.relationshipDAO().insert(fromUser.getId(), thread.getId(), Entity.USER, Entity.THREAD, REPLIED_TO.ordinal());
 
     // Add mentions into field relationship table
     storeMentions(thread, post.getMessage());
 
-    sortPostsInThreads(List.of(thread));
-
+    // Query 6 - Last posts of the thread, including the new post
+    populateLastPosts(List.of(thread), limitPosts);
     return thread;
   }
 
-  public Post getPostById(Thread thread, String postId) {
-    Optional<Post> post = thread.getPosts().stream().filter(p -> p.getId().equals(UUID.fromString(postId))).findAny();
-    if (post.isEmpty()) {
+  public Post getPostById(Thread thread, String postId) throws IOException {
+    String json = dao.postDAO().findById(thread.getId().toString(), postId);
+    if (json == null) {
       throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound("Post", postId));
     }
-    return post.get();
+    return JsonUtils.readValue(json, Post.class);
   }
 
   @Transaction
   public DeleteResponse<Post> deletePost(Thread thread, Post post, String userName) throws IOException {
-    List<Post> posts = thread.getPosts();
-    // Remove the post to be deleted from the posts list
-    posts = posts.stream().filter(p -> !p.getId().equals(post.getId())).collect(Collectors.toList());
+    dao.postDAO().delete(post.getId().toString());
+    // Remove the deleted post from the posts list
+    List<Post> posts =
+        thread.getPosts().stream().filter(p -> !p.getId().equals(post.getId())).collect(Collectors.toList());
     thread
         .withUpdatedAt(System.currentTimeMillis())
         .withUpdatedBy(userName)
         .withPosts(posts)
-        .withPostsCount(posts.size());
-    // update the json document
-    dao.feedDAO().update(thread.getId().toString(), JsonUtils.pojoToJson(thread));
+        .withPostsCount(dao.postDAO().listCount(thread.getId().toString()));
+    storeThread(thread);
 
     return new DeleteResponse<>(post, RestUtil.ENTITY_DELETED);
   }
@@ -653,7 +769,6 @@ public class FeedRepository {
         total = filteredThreads.getTotalCount();
       }
     }
-    limitPostsInThreads(threads, limitPosts);
     populateAssignees(threads);
 
     String beforeCursor = null;
@@ -671,6 +786,7 @@ public class FeedRepository {
         afterCursor = threads.get(limit - 1).getUpdatedAt().toString();
       }
     }
+    populateLastPosts(threads, limitPosts);
     return new ResultList<>(threads, beforeCursor, afterCursor, total);
   }
 
@@ -695,17 +811,15 @@ public class FeedRepository {
     // Update the attributes
     populateUserReactions(updated.getReactions());
 
-    // delete the existing post and add the updated post
-    List<Post> posts = thread.getPosts();
-    posts = posts.stream().filter(p -> !p.getId().equals(post.getId())).collect(Collectors.toList());
-    posts.add(updated);
+    // replace the existing post with the updated post
+    List<Post> posts =
+        thread.getPosts().stream().map(p -> p.getId().equals(post.getId()) ? updated : p).collect(Collectors.toList());
     thread.withPosts(posts).withUpdatedAt(System.currentTimeMillis()).withUpdatedBy(user);
 
     if (!updated.getReactions().isEmpty()) {
       updated.getReactions().forEach(reaction -> storeReactions(thread, reaction.getUser().getName()));
     }
 
-    sortPosts(thread);
     String change = patchUpdate(thread, post, updated) ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
     return new PatchResponse<>(Status.OK, updated, change);
   }
@@ -740,7 +854,6 @@ public class FeedRepository {
 
     // Update the attributes
     String change = patchUpdate(original, updated) ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
-    sortPosts(updated);
     Thread updatedHref = FeedResource.addHref(uriInfo, updated);
     return new PatchResponse<>(Status.OK, updatedHref, change);
   }
@@ -773,7 +886,7 @@ public class FeedRepository {
     // if there is no change, there is no need to apply patch
     if (fieldsChanged(original, updated)) {
       populateUserReactions(updated.getReactions());
-      dao.feedDAO().update(updated.getId().toString(), JsonUtils.pojoToJson(updated));
+      storeThread(updated);
       return true;
     }
     return false;
@@ -783,7 +896,8 @@ public class FeedRepository {
     // store the updated post
     // if there is no change, there is no need to apply patch
     if (fieldsChanged(originalPost, updatedPost)) {
-      dao.feedDAO().update(thread.getId().toString(), JsonUtils.pojoToJson(thread));
+      dao.postDAO().update(updatedPost.getId().toString(), JsonUtils.pojoToJson(updatedPost));
+      storeThread(thread);
       return true;
     }
     return false;
@@ -811,26 +925,18 @@ public class FeedRepository {
                 || !original.getTask().getAssignees().containsAll(updated.getTask().getAssignees())));
   }
 
-  private void sortPosts(Thread thread) {
-    thread.getPosts().sort(Comparator.comparing(Post::getPostTs));
-  }
-
-  private void sortPostsInThreads(List<Thread> threads) {
-    for (Thread t : threads) {
-      sortPosts(t);
+  /** Populate the last "n" posts of each thread, with a single query for all the threads. */
+  private void populateLastPosts(List<Thread> threads, int limitPosts) throws IOException {
+    if (threads.isEmpty() || limitPosts <= 0) {
+      return;
     }
-  }
-
-  /** Limit the number of posts within each thread. */
-  private void limitPostsInThreads(List<Thread> threads, int limitPosts) {
+    Map<String, Thread> threadMap = new HashMap<>();
     for (Thread t : threads) {
-      List<Post> posts = t.getPosts();
-      sortPosts(t);
-      if (posts.size() > limitPosts) {
-        // Only keep the last "n" number of posts
-        posts = posts.subList(posts.size() - limitPosts, posts.size());
-        t.withPosts(posts);
-      }
+      threadMap.put(t.getId().toString(), t.withPosts(new ArrayList<>()));
+    }
+    List<Pair<String, String>> posts = dao.postDAO().listLastPosts(new ArrayList<>(threadMap.keySet()), limitPosts);
+    for (Pair<String, String> post : posts) {
+      threadMap.get(post.getLeft()).getPosts().add(JsonUtils.readValue(post.getRight(), Post.class));
     }
   }
 
@@ -872,7 +978,6 @@ public class FeedRepository {
     }
     List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
     int totalCount = dao.feedDAO().listCountTasksAssignedTo(userTeamJsonPostgres, userTeamJsonMysql, status);
-    sortPostsInThreads(threads);
     return new FilteredThreads(threads, totalCount);
   }
 
@@ -906,7 +1011,6 @@ public class FeedRepository {
     }
     List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
     int totalCount = dao.feedDAO().listCountTasksAssignedBy(username, status);
-    sortPostsInThreads(threads);
     return new FilteredThreads(threads, totalCount);
   }
 
@@ -928,7 +1032,6 @@ public class FeedRepository {
     }
     List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
     int totalCount = dao.feedDAO().listCountThreadsByOwner(userId, teamIds, type, isResolved);
-    sortPostsInThreads(threads);
     return new FilteredThreads(threads, totalCount);
   }
 
@@ -974,7 +1077,6 @@ public class FeedRepository {
         dao.feedDAO()
             .listCountThreadsByMentions(
                 user.getName(), teamNames, type, isResolved, Relationship.MENTIONED_IN.ordinal());
-    sortPostsInThreads(threads);
     return new FilteredThreads(threads, totalCount);
   }
 
@@ -998,7 +1100,6 @@ public class FeedRepository {
     List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
     int totalCount =
         dao.feedDAO().listCountThreadsByFollows(userId, teamIds, type, isResolved, Relationship.FOLLOWS.ordinal());
-    sortPostsInThreads(threads);
     return new FilteredThreads(threads, totalCount);
   }
 
@@ -82,7 +82,7 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
   }
 
   @Override
-  public void storeRelationships(Glossary glossary) {
+  public void storeRelationships(Glossary glossary) throws IOException {
     storeOwner(glossary, glossary.getOwner());
     applyTags(glossary);
     for (EntityReference reviewer : listOrEmpty(glossary.getReviewers())) {
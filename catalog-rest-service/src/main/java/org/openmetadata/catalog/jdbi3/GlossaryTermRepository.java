@@ -147,7 +147,7 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
   }
 
   @Override
-  public void storeRelationships(GlossaryTerm entity) {
+  public void storeRelationships(GlossaryTerm entity) throws IOException {
     addRelationship(
         entity.getGlossary().getId(), entity.getId(), Entity.GLOSSARY, GLOSSARY_TERM, Relationship.CONTAINS);
     if (entity.getParent() != null) {
@@ -200,6 +200,11 @@ public class GlossaryTermRepository extends EntityRepository<GlossaryTerm> {
     daoCollection.tagUsageDAO().deleteTagLabels(Source.GLOSSARY.ordinal(), entity.getFullyQualifiedName());
   }
 
+  @Override
+  protected void cleanupAll(List<String> ids, List<String> fqns) {
+    fqns.forEach(fqn -> daoCollection.tagUsageDAO().deleteTagLabels(Source.GLOSSARY.ordinal(), fqn));
+  }
+
   /** Handles entity updated from PUT and POST operation. */
   public class GlossaryTermUpdater extends EntityUpdater {
     public GlossaryTermUpdater(GlossaryTerm original, GlossaryTerm updated, Operation operation) {
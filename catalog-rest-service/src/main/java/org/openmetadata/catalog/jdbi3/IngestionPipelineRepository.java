@@ -17,6 +17,9 @@ import static org.openmetadata.catalog.Entity.FIELD_OWNER;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.json.JSONObject;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.services.ingestionPipelines.AirflowConfig;
@@ -26,6 +29,7 @@ import org.openmetadata.catalog.metadataIngestion.SourceConfig;
 import org.openmetadata.catalog.resources.services.ingestionpipelines.IngestionPipelineResource;
 import org.openmetadata.catalog.services.connections.metadata.OpenMetadataServerConnection;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.Include;
 import org.openmetadata.catalog.type.Relationship;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.FullyQualifiedName;
@@ -86,7 +90,7 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
   }
 
   @Override
-  public void storeRelationships(IngestionPipeline ingestionPipeline) {
+  public void storeRelationships(IngestionPipeline ingestionPipeline) throws IOException {
     EntityReference service = ingestionPipeline.getService();
     addRelationship(
         service.getId(),
@@ -108,6 +112,14 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
     pipelineServiceClient.deletePipeline(entity.getName());
   }
 
+  @Override
+  protected void cleanupAll(List<String> ids, List<String> fqns) throws IOException {
+    List<UUID> pipelineIds = ids.stream().map(UUID::fromString).collect(Collectors.toList());
+    for (IngestionPipeline ingestionPipeline : dao.findEntitiesByIds(pipelineIds, Include.ALL)) {
+      postDelete(ingestionPipeline);
+    }
+  }
+
   public void setPipelineServiceClient(PipelineServiceClient client) {
     pipelineServiceClient = client;
   }
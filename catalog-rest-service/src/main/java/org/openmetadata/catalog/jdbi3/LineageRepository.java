@@ -17,14 +17,19 @@ import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.lineage.AddLineage;
 import org.openmetadata.catalog.entity.data.Table;
-import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.catalog.type.ColumnLineage;
 import org.openmetadata.catalog.type.Edge;
 import org.openmetadata.catalog.type.EntityLineage;
@@ -43,16 +48,17 @@ public class LineageRepository {
   }
 
   @Transaction
-  public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth) throws IOException {
+  public EntityLineage get(String entityType, String id, int upstreamDepth, int downstreamDepth, Integer maxNodes)
+      throws IOException {
     EntityReference ref = Entity.getEntityReferenceById(entityType, UUID.fromString(id), Include.NON_DELETED);
-    return getLineage(ref, upstreamDepth, downstreamDepth);
+    return getLineage(ref, upstreamDepth, downstreamDepth, maxNodes);
   }
 
   @Transaction
-  public EntityLineage getByName(String entityType, String fqn, int upstreamDepth, int downstreamDepth)
-      throws IOException {
+  public EntityLineage getByName(
+      String entityType, String fqn, int upstreamDepth, int downstreamDepth, Integer maxNodes) throws IOException {
     EntityReference ref = Entity.getEntityReferenceByName(entityType, fqn, Include.NON_DELETED);
-    return getLineage(ref, upstreamDepth, downstreamDepth);
+    return getLineage(ref, upstreamDepth, downstreamDepth, maxNodes);
   }
 
   @Transaction
@@ -120,74 +126,84 @@ public class LineageRepository {
         > 0;
   }
 
-  private EntityLineage getLineage(EntityReference primary, int upstreamDepth, int downstreamDepth) throws IOException {
-    List<EntityReference> entities = new ArrayList<>();
+  private EntityLineage getLineage(EntityReference primary, int upstreamDepth, int downstreamDepth, Integer maxNodes)
+      throws IOException {
     EntityLineage lineage =
         new EntityLineage()
             .withEntity(primary)
-            .withNodes(entities)
             .withUpstreamEdges(new ArrayList<>())
             .withDownstreamEdges(new ArrayList<>());
-    getUpstreamLineage(primary.getId(), primary.getType(), lineage, upstreamDepth);
-    getDownstreamLineage(primary.getId(), primary.getType(), lineage, downstreamDepth);
-
-    // Remove duplicate nodes
-    lineage.withNodes(lineage.getNodes().stream().distinct().collect(Collectors.toList()));
-    return lineage;
+    Map<UUID, EntityReference> nodes = new LinkedHashMap<>();
+    int nodeBudget = maxNodes == null ? Integer.MAX_VALUE : maxNodes;
+    addLineage(primary, lineage.getUpstreamEdges(), nodes, upstreamDepth, nodeBudget, true);
+    addLineage(primary, lineage.getDownstreamEdges(), nodes, downstreamDepth, nodeBudget, false);
+    return lineage.withNodes(new ArrayList<>(nodes.values()));
   }
 
-  private void getUpstreamLineage(UUID id, String entityType, EntityLineage lineage, int upstreamDepth)
+  /**
+   * Breadth first traversal of the lineage graph starting at the primary entity, one depth level at a time. Each level
+   * runs a single relationship query for all the nodes in the frontier and resolves the newly discovered nodes in bulk.
+   * Nodes are expanded only once, even when they are reachable over multiple paths or cycles. Traversal stops adding
+   * new nodes once the number of nodes reaches the node budget.
+   */
+  private void addLineage(
+      EntityReference primary,
+      List<Edge> edges,
+      Map<UUID, EntityReference> nodes,
+      int depth,
+      int nodeBudget,
+      boolean upstream)
       throws IOException {
-    if (upstreamDepth == 0) {
-      return;
-    }
-    // from this id ---> find other ids
-    List<EntityRelationshipRecord> records =
-        dao.relationshipDAO().findFrom(id.toString(), entityType, Relationship.UPSTREAM.ordinal());
-
-    final List<EntityReference> upstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord record : records) {
-      EntityReference ref = Entity.getEntityReferenceById(record.getType(), record.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(record.getJson(), LineageDetails.class);
-      upstreamEntityReferences.add(ref);
-      lineage
-          .getUpstreamEdges()
-          .add(new Edge().withFromEntity(ref.getId()).withToEntity(id).withLineageDetails(lineageDetails));
-    }
-
-    lineage.getNodes().addAll(upstreamEntityReferences);
-
-    upstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : upstreamEntityReferences) {
-      getUpstreamLineage(entity.getId(), entity.getType(), lineage, upstreamDepth);
-    }
-  }
-
-  private void getDownstreamLineage(UUID id, String entityType, EntityLineage lineage, int downstreamDepth)
-      throws IOException {
-    if (downstreamDepth == 0) {
-      return;
-    }
-    // from other ids ---> to this id
-    List<EntityRelationshipRecord> records =
-        dao.relationshipDAO().findTo(id.toString(), entityType, Relationship.UPSTREAM.ordinal());
-
-    final List<EntityReference> downstreamEntityReferences = new ArrayList<>();
-    for (EntityRelationshipRecord record : records) {
-      EntityReference ref = Entity.getEntityReferenceById(record.getType(), record.getId(), Include.ALL);
-      LineageDetails lineageDetails = JsonUtils.readValue(record.getJson(), LineageDetails.class);
-      downstreamEntityReferences.add(ref);
-      lineage
-          .getDownstreamEdges()
-          .add(new Edge().withToEntity(ref.getId()).withFromEntity(id).withLineageDetails(lineageDetails));
-    }
-    lineage.getNodes().addAll(downstreamEntityReferences);
+    Set<UUID> visited = new HashSet<>();
+    visited.add(primary.getId());
+    List<UUID> frontier = List.of(primary.getId());
+
+    for (int level = 0; level < depth && !frontier.isEmpty(); level++) {
+      List<String> frontierIds = frontier.stream().map(UUID::toString).collect(Collectors.toList());
+      int relation = Relationship.UPSTREAM.ordinal();
+      // Upstream nodes have lineage relationship from them to the frontier nodes and vice versa
+      List<EntityRelationshipObject> records =
+          upstream
+              ? dao.relationshipDAO().findFromBatch(frontierIds, relation)
+              : dao.relationshipDAO().findToBatch(frontierIds, relation);
+
+      // Resolve references for all the newly discovered nodes grouped by entity type
+      Map<String, Set<UUID>> newNodes = new LinkedHashMap<>();
+      for (EntityRelationshipObject record : records) {
+        UUID nodeId = upstream ? record.getFromId() : record.getToId();
+        String nodeType = upstream ? record.getFromEntity() : record.getToEntity();
+        if (!nodeId.equals(primary.getId()) && !nodes.containsKey(nodeId)) {
+          newNodes.computeIfAbsent(nodeType, k -> new LinkedHashSet<>()).add(nodeId);
+        }
+      }
+      for (Map.Entry<String, Set<UUID>> entry : newNodes.entrySet()) {
+        List<UUID> ids = new ArrayList<>(entry.getValue());
+        for (EntityReference ref : Entity.getEntityReferencesByIds(entry.getKey(), ids, Include.ALL)) {
+          if (nodes.size() >= nodeBudget) {
+            break;
+          }
+          nodes.put(ref.getId(), ref);
+        }
+      }
 
-    downstreamDepth--;
-    // Recursively add upstream nodes and edges
-    for (EntityReference entity : downstreamEntityReferences) {
-      getDownstreamLineage(entity.getId(), entity.getType(), lineage, downstreamDepth);
+      // Add edges between known nodes and build the next frontier from nodes not expanded yet
+      List<UUID> nextFrontier = new ArrayList<>();
+      for (EntityRelationshipObject record : records) {
+        UUID nodeId = upstream ? record.getFromId() : record.getToId();
+        if (!nodeId.equals(primary.getId()) && !nodes.containsKey(nodeId)) {
+          continue; // Node does not exist or is beyond the node budget
+        }
+        LineageDetails lineageDetails = JsonUtils.readValue(record.getJson(), LineageDetails.class);
+        edges.add(
+            new Edge()
+                .withFromEntity(record.getFromId())
+                .withToEntity(record.getToId())
+                .withLineageDetails(lineageDetails));
+        if (visited.add(nodeId)) {
+          nextFrontier.add(nodeId);
+        }
+      }
+      frontier = nextFrontier;
     }
   }
 }
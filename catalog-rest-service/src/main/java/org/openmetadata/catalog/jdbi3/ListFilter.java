@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.type.Include;
 
@@ -32,6 +33,15 @@ public class ListFilter {
     return queryParams.get(name);
   }
 
+  public Include getInclude() {
+    return include;
+  }
+
+  /** Returns true if the filter has conditions other than the include condition */
+  public boolean hasQueryParams() {
+    return queryParams.values().stream().anyMatch(Objects::nonNull);
+  }
+
   public String getCondition() {
     return getCondition(null);
   }
@@ -186,7 +186,7 @@ public class LocationRepository extends EntityRepository<Location> {
   }
 
   @Override
-  public void storeRelationships(Location location) {
+  public void storeRelationships(Location location) throws IOException {
     // Add location owner relationship
     storeOwner(location, location.getOwner());
     EntityReference service = location.getService();
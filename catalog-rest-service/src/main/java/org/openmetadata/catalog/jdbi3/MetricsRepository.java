@@ -82,7 +82,7 @@ public class MetricsRepository extends EntityRepository<Metrics> {
   }
 
   @Override
-  public void storeRelationships(Metrics metrics) {
+  public void storeRelationships(Metrics metrics) throws IOException {
     EntityReference service = metrics.getService();
     addRelationship(service.getId(), metrics.getId(), service.getType(), Entity.METRICS, Relationship.CONTAINS);
     storeOwner(metrics, metrics.getOwner());
@@ -168,7 +168,7 @@ public class MlModelRepository extends EntityRepository<MlModel> {
   }
 
   @Override
-  public void storeRelationships(MlModel mlModel) {
+  public void storeRelationships(MlModel mlModel) throws IOException {
     EntityReference service = mlModel.getService();
     addRelationship(service.getId(), mlModel.getId(), service.getType(), MLMODEL, Relationship.CONTAINS);
 
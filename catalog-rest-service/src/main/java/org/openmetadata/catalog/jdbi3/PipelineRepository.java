@@ -24,13 +24,11 @@ import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.entity.data.Pipeline;
 import org.openmetadata.catalog.entity.data.PipelineStatus;
 import org.openmetadata.catalog.entity.services.PipelineService;
@@ -44,10 +42,14 @@ import org.openmetadata.catalog.type.Task;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.FullyQualifiedName;
 import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.RestUtil;
+import org.openmetadata.catalog.util.ResultList;
 
 public class PipelineRepository extends EntityRepository<Pipeline> {
   private static final String PIPELINE_UPDATE_FIELDS = "owner,tags,tasks";
   private static final String PIPELINE_PATCH_FIELDS = "owner,tags,tasks";
+  // Number of latest runs returned in the pipelineStatus field of the pipeline
+  static final int PIPELINE_STATUS_LIMIT = 10;
 
   public PipelineRepository(CollectionDAO dao) {
     super(
@@ -82,50 +84,92 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
     return pipeline;
   }
 
+  /** Latest runs of the pipeline. The full run history is paginated with {@link #listPipelineStatus}. */
   private List<PipelineStatus> getPipelineStatus(Pipeline pipeline) throws IOException {
-    List<PipelineStatus> pipelineStatus =
-        JsonUtils.readObjects(
-            daoCollection.entityExtensionDAO().getExtension(pipeline.getId().toString(), "pipeline.pipelineStatus"),
-            PipelineStatus.class);
-    if (pipelineStatus != null) {
-      pipelineStatus.sort(Comparator.comparing(PipelineStatus::getExecutionDate, Comparator.reverseOrder()));
-    }
-    return pipelineStatus;
+    List<String> jsons =
+        daoCollection
+            .pipelineStatusDAO()
+            .listAfter(pipeline.getId().toString(), 0, Long.MAX_VALUE, PIPELINE_STATUS_LIMIT, Long.MAX_VALUE);
+    return jsons.isEmpty() ? null : JsonUtils.readObjects(jsons, PipelineStatus.class);
+  }
+
+  @Override
+  protected void cleanup(EntityInterface entityInterface) throws JsonProcessingException {
+    daoCollection.pipelineStatusDAO().deleteAll(entityInterface.getId().toString());
+    super.cleanup(entityInterface);
+  }
+
+  @Override
+  protected void cleanupAll(List<String> ids, List<String> fqns) {
+    daoCollection.pipelineStatusDAO().deleteAll(ids);
   }
 
   @Transaction
   public Pipeline addPipelineStatus(UUID pipelineId, PipelineStatus pipelineStatus) throws IOException {
     // Validate the request content
     Pipeline pipeline = daoCollection.pipelineDAO().findEntityById(pipelineId);
-    Map<Long, PipelineStatus> storedMapStatus = new HashMap<>();
-
-    // Add stored status
-    List<PipelineStatus> storedPipelineStatus = getPipelineStatus(pipeline);
-    if (storedPipelineStatus != null) {
-      for (PipelineStatus status : storedPipelineStatus) {
-        storedMapStatus.put(status.getExecutionDate(), status);
-      }
-    }
 
     // validate all the Tasks
     for (Status taskStatus : pipelineStatus.getTaskStatus()) {
       validateTask(pipeline, taskStatus.getName());
     }
 
-    // Add new status
-    storedMapStatus.put(pipelineStatus.getExecutionDate(), pipelineStatus);
-
-    // Prepare to update status
-    List<PipelineStatus> updatedStatus = new ArrayList<>(storedMapStatus.values());
-
+    // Append the run to the history. A status for an existing execution date replaces the stored one
     daoCollection
-        .entityExtensionDAO()
-        .insert(
-            pipelineId.toString(), "pipeline.pipelineStatus", "pipelineStatus", JsonUtils.pojoToJson(updatedStatus));
+        .pipelineStatusDAO()
+        .insert(pipelineId.toString(), pipelineStatus.getExecutionDate(), JsonUtils.pojoToJson(pipelineStatus));
     setFields(pipeline, Fields.EMPTY_FIELDS);
     return pipeline.withPipelineStatus(getPipelineStatus(pipeline));
   }
 
+  @Transaction
+  public ResultList<PipelineStatus> listPipelineStatus(
+      UUID pipelineId, Long startTs, Long endTs, int limitParam, String before, String after) throws IOException {
+    daoCollection.pipelineDAO().findEntityById(pipelineId);
+    String id = pipelineId.toString();
+    long start = startTs == null ? 0 : startTs;
+    long end = endTs == null ? Long.MAX_VALUE : endTs;
+    int total = daoCollection.pipelineStatusDAO().listCount(id, start, end);
+    List<PipelineStatus> statuses = new ArrayList<>();
+    if (limitParam <= 0) {
+      return new ResultList<>(statuses, null, null, total);
+    }
+
+    String beforeCursor = null;
+    String afterCursor = null;
+    if (before != null) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      List<String> jsons =
+          daoCollection.pipelineStatusDAO().listBefore(id, start, end, limitParam + 1, parseExecutionDate(before));
+      statuses.addAll(JsonUtils.readObjects(jsons, PipelineStatus.class));
+      if (statuses.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        statuses.remove(0);
+        beforeCursor = statuses.get(0).getExecutionDate().toString();
+      }
+      afterCursor = statuses.isEmpty() ? null : statuses.get(statuses.size() - 1).getExecutionDate().toString();
+    } else {
+      // Forward scrolling, if after == null then first page is being asked
+      long afterTs = after == null ? Long.MAX_VALUE : parseExecutionDate(after);
+      List<String> jsons = daoCollection.pipelineStatusDAO().listAfter(id, start, end, limitParam + 1, afterTs);
+      statuses.addAll(JsonUtils.readObjects(jsons, PipelineStatus.class));
+      beforeCursor = after == null || statuses.isEmpty() ? null : statuses.get(0).getExecutionDate().toString();
+      if (statuses.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        statuses.remove(limitParam);
+        afterCursor = statuses.get(limitParam - 1).getExecutionDate().toString();
+      }
+    }
+    return new ResultList<>(statuses, beforeCursor, afterCursor, total);
+  }
+
+  private static long parseExecutionDate(String cursor) {
+    String executionDate = RestUtil.decodeCursor(cursor);
+    try {
+      return Long.parseLong(executionDate);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(CatalogExceptionMessage.invalidCursor(executionDate), e);
+    }
+  }
+
   // Validate if a given task exists in the pipeline
   private void validateTask(Pipeline pipeline, String taskName) {
     boolean validTask = pipeline.getTasks().stream().anyMatch(task -> task.getName().equals(taskName));
@@ -169,7 +213,7 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
   }
 
   @Override
-  public void storeRelationships(Pipeline pipeline) {
+  public void storeRelationships(Pipeline pipeline) throws IOException {
     EntityReference service = pipeline.getService();
     addRelationship(service.getId(), pipeline.getId(), service.getType(), Entity.PIPELINE, Relationship.CONTAINS);
 
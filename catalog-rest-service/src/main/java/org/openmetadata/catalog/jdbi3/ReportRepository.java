@@ -56,7 +56,7 @@ public class ReportRepository extends EntityRepository<Report> {
   }
 
   @Override
-  public void storeRelationships(Report report) {
+  public void storeRelationships(Report report) throws IOException {
     EntityReference service = report.getService();
     addRelationship(service.getId(), report.getId(), service.getType(), Entity.CHART, Relationship.CONTAINS);
     storeOwner(report, report.getOwner());
@@ -27,18 +27,21 @@ import static org.openmetadata.catalog.util.LambdaExceptionUtil.ignoringComparat
 import static org.openmetadata.catalog.util.LambdaExceptionUtil.rethrowFunction;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
-import static org.openmetadata.common.utils.CommonUtil.parseDate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.Streams;
 import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +57,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.entity.data.DatabaseSchema;
 import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
@@ -84,6 +88,7 @@ import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.FullyQualifiedName;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil;
+import org.openmetadata.catalog.util.ResultList;
 import org.openmetadata.common.utils.CommonUtil;
 
 @Slf4j
@@ -98,6 +103,13 @@ public class TableRepository extends EntityRepository<Table> {
   public static final String FIELD_RELATION_COLUMN_TYPE = "table.columns.column";
   public static final String FIELD_RELATION_TABLE_TYPE = "table";
 
+  // Number of latest profiles returned in the tableProfile field of the table
+  static final int TABLE_PROFILE_LIMIT = 30;
+  private static final String MIN_PROFILE_DATE = "0001-01-01";
+  private static final String MAX_PROFILE_DATE = "9999-12-31";
+
+  private int tableProfileRetentionDays = 365;
+
   public TableRepository(CollectionDAO daoCollection) {
     super(
         TableResource.COLLECTION_PATH,
@@ -118,7 +130,7 @@ public class TableRepository extends EntityRepository<Table> {
     table.setUsageSummary(
         fields.contains("usageSummary") ? EntityUtil.getLatestUsage(daoCollection.usageDAO(), table.getId()) : null);
     table.setTags(fields.contains(FIELD_TAGS) ? getTags(table.getFullyQualifiedName()) : null);
-    getColumnTags(fields.contains(FIELD_TAGS), table.getColumns());
+    getColumnTags(fields.contains(FIELD_TAGS), table);
     table.setJoins(fields.contains("joins") ? getJoins(table) : null);
     table.setSampleData(fields.contains("sampleData") ? getSampleData(table) : null);
     table.setViewDefinition(fields.contains("viewDefinition") ? table.getViewDefinition() : null);
@@ -157,6 +169,17 @@ public class TableRepository extends EntityRepository<Table> {
         FullyQualifiedName.add(table.getDatabaseSchema().getFullyQualifiedName(), table.getName()));
   }
 
+  @Override
+  protected void cleanup(EntityInterface entityInterface) throws JsonProcessingException {
+    daoCollection.tableProfileDAO().deleteAll(entityInterface.getId().toString());
+    super.cleanup(entityInterface);
+  }
+
+  @Override
+  protected void cleanupAll(List<String> ids, List<String> fqns) {
+    daoCollection.tableProfileDAO().deleteAll(ids);
+  }
+
   @Transaction
   public Table addJoins(UUID tableId, TableJoins joins) throws IOException {
     // Validate the request content
@@ -213,32 +236,85 @@ public class TableRepository extends EntityRepository<Table> {
     return table.withSampleData(tableData);
   }
 
+  public void setTableProfileRetentionDays(int tableProfileRetentionDays) {
+    this.tableProfileRetentionDays = tableProfileRetentionDays;
+  }
+
   @Transaction
   public Table addTableProfileData(UUID tableId, TableProfile tableProfile) throws IOException {
     // Validate the request content
     Table table = dao.findEntityById(tableId);
 
-    List<TableProfile> storedTableProfiles = getTableProfile(table);
-    Map<String, TableProfile> storedMapTableProfiles = new HashMap<>();
-    if (storedTableProfiles != null) {
-      for (TableProfile profile : storedTableProfiles) {
-        storedMapTableProfiles.put(profile.getProfileDate(), profile);
-      }
-    }
     // validate all the columns
-    for (ColumnProfile columnProfile : tableProfile.getColumnProfile()) {
+    for (ColumnProfile columnProfile : listOrEmpty(tableProfile.getColumnProfile())) {
       validateColumn(table, columnProfile.getName());
     }
-    storedMapTableProfiles.put(tableProfile.getProfileDate(), tableProfile);
-    List<TableProfile> updatedProfiles = new ArrayList<>(storedMapTableProfiles.values());
+    if (tableProfile.getProfileDate() == null) {
+      tableProfile.setProfileDate(LocalDate.now(ZoneOffset.UTC).toString());
+    }
+    LocalDate profileDate = parseProfileDate(tableProfile.getProfileDate());
 
-    daoCollection
-        .entityExtensionDAO()
-        .insert(tableId.toString(), "table.tableProfile", "tableProfile", JsonUtils.pojoToJson(updatedProfiles));
+    // Profile for a date replaces the earlier profile for the same date. Profiles older than the retention window
+    // ending on the profile date are dropped.
+    String id = tableId.toString();
+    daoCollection.tableProfileDAO().insert(id, profileDate.toString(), JsonUtils.pojoToJson(tableProfile));
+    daoCollection.tableProfileDAO().deleteBefore(id, profileDate.minusDays(tableProfileRetentionDays).toString());
     setFields(table, Fields.EMPTY_FIELDS);
     return table.withTableProfile(getTableProfile(table));
   }
 
+  /**
+   * List the profiles of a table between the given dates, latest first. Dates are inclusive and in yyyy-MM-dd format.
+   * Cursors are profile dates.
+   */
+  @Transaction
+  public ResultList<TableProfile> listTableProfiles(
+      UUID tableId, String startDate, String endDate, int limitParam, String before, String after) throws IOException {
+    dao.findEntityById(tableId);
+    String id = tableId.toString();
+    startDate = startDate == null ? MIN_PROFILE_DATE : parseProfileDate(startDate).toString();
+    endDate = endDate == null ? MAX_PROFILE_DATE : parseProfileDate(endDate).toString();
+    int total = daoCollection.tableProfileDAO().listCount(id, startDate, endDate);
+    List<TableProfile> profiles = new ArrayList<>();
+    if (limitParam <= 0) {
+      return new ResultList<>(profiles, null, null, total);
+    }
+
+    String beforeCursor = null;
+    String afterCursor = null;
+    if (before != null) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      String beforeDate = parseProfileDate(RestUtil.decodeCursor(before)).toString();
+      List<String> jsons =
+          daoCollection.tableProfileDAO().listBefore(id, startDate, endDate, limitParam + 1, beforeDate);
+      profiles.addAll(JsonUtils.readObjects(jsons, TableProfile.class));
+      if (profiles.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        profiles.remove(0);
+        beforeCursor = profiles.get(0).getProfileDate();
+      }
+      afterCursor = profiles.isEmpty() ? null : profiles.get(profiles.size() - 1).getProfileDate();
+    } else {
+      // Forward scrolling, if after == null then first page is being asked
+      String afterDate = after == null ? MAX_PROFILE_DATE : parseProfileDate(RestUtil.decodeCursor(after)).toString();
+      List<String> jsons = daoCollection.tableProfileDAO().listAfter(id, startDate, endDate, limitParam + 1, afterDate);
+      profiles.addAll(JsonUtils.readObjects(jsons, TableProfile.class));
+      beforeCursor = after == null || profiles.isEmpty() ? null : profiles.get(0).getProfileDate();
+      if (profiles.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        profiles.remove(limitParam);
+        afterCursor = profiles.get(limitParam - 1).getProfileDate();
+      }
+    }
+    return new ResultList<>(profiles, beforeCursor, afterCursor, total);
+  }
+
+  private static LocalDate parseProfileDate(String date) {
+    try {
+      return LocalDate.parse(date);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException(CatalogExceptionMessage.invalidDate(date), e);
+    }
+  }
+
   @Transaction
   public Table addLocation(UUID tableId, UUID locationId) throws IOException {
     Table table = dao.findEntityById(tableId);
@@ -539,7 +615,7 @@ public class TableRepository extends EntityRepository<Table> {
         });
   }
 
-  private void addDerivedColumnTags(List<Column> columns) {
+  private void addDerivedColumnTags(List<Column> columns) throws IOException {
     if (nullOrEmpty(columns)) {
       return;
     }
@@ -599,7 +675,7 @@ public class TableRepository extends EntityRepository<Table> {
   }
 
   @Override
-  public void storeRelationships(Table table) {
+  public void storeRelationships(Table table) throws IOException {
     // Add relationship from database to table
     addRelationship(table.getDatabaseSchema().getId(), table.getId(), DATABASE_SCHEMA, TABLE, Relationship.CONTAINS);
 
@@ -642,27 +718,33 @@ public class TableRepository extends EntityRepository<Table> {
         .withChildren(children);
   }
 
-  private void applyTags(List<Column> columns) {
-    // Add column level tags by adding tag to column relationship
-    for (Column column : columns) {
-      applyTags(column.getTags(), column.getFullyQualifiedName());
-      if (column.getChildren() != null) {
-        applyTags(column.getChildren());
-      }
+  private void addColumnTags(List<Column> columns, Map<String, List<TagLabel>> tagLabelsByTarget) {
+    for (Column column : listOrEmpty(columns)) {
+      tagLabelsByTarget.put(column.getFullyQualifiedName(), column.getTags());
+      addColumnTags(column.getChildren(), tagLabelsByTarget);
     }
   }
 
   @Override
-  public void applyTags(Table table) {
-    // Add table level tags by adding tag to table relationship
-    super.applyTags(table);
-    applyTags(table.getColumns());
+  public void applyTags(Table table) throws IOException {
+    // Add table and column level tags, including the tags of nested columns, in a single batch
+    Map<String, List<TagLabel>> tagLabelsByTarget = new LinkedHashMap<>();
+    tagLabelsByTarget.put(table.getFullyQualifiedName(), table.getTags());
+    addColumnTags(table.getColumns(), tagLabelsByTarget);
+    applyTags(tagLabelsByTarget);
   }
 
-  private void getColumnTags(boolean setTags, List<Column> columns) {
+  private void getColumnTags(boolean setTags, Table table) {
+    // Tags of all the columns, including nested columns, are fetched in a single query
+    Map<String, List<TagLabel>> tagsByColumn =
+        setTags ? daoCollection.tagUsageDAO().getTagsByPrefix(table.getFullyQualifiedName()) : null;
+    setColumnTags(tagsByColumn, table.getColumns());
+  }
+
+  private void setColumnTags(Map<String, List<TagLabel>> tagsByColumn, List<Column> columns) {
     for (Column c : listOrEmpty(columns)) {
-      c.setTags(setTags ? getTags(c.getFullyQualifiedName()) : null);
-      getColumnTags(setTags, c.getChildren());
+      c.setTags(tagsByColumn == null ? null : tagsByColumn.getOrDefault(c.getFullyQualifiedName(), new ArrayList<>()));
+      setColumnTags(tagsByColumn, c.getChildren());
     }
   }
 
@@ -879,16 +961,14 @@ public class TableRepository extends EntityRepository<Table> {
         daoCollection.entityExtensionDAO().getExtension(table.getId().toString(), "table.sampleData"), TableData.class);
   }
 
+  /** Latest profiles of the table. The full history is paginated with {@link #listTableProfiles}. */
   private List<TableProfile> getTableProfile(Table table) throws IOException {
-    List<TableProfile> tableProfiles =
-        JsonUtils.readObjects(
-            daoCollection.entityExtensionDAO().getExtension(table.getId().toString(), "table.tableProfile"),
-            TableProfile.class);
-    if (tableProfiles != null) {
-      tableProfiles.sort(
-          Comparator.comparing(p -> parseDate(p.getProfileDate(), RestUtil.DATE_FORMAT), Comparator.reverseOrder()));
-    }
-    return tableProfiles;
+    List<String> jsons =
+        daoCollection
+            .tableProfileDAO()
+            .listAfter(
+                table.getId().toString(), MIN_PROFILE_DATE, MAX_PROFILE_DATE, TABLE_PROFILE_LIMIT, MAX_PROFILE_DATE);
+    return jsons.isEmpty() ? null : JsonUtils.readObjects(jsons, TableProfile.class);
   }
 
   private List<SQLQuery> getQueries(Table table) throws IOException {
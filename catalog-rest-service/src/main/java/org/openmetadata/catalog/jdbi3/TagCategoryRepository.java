@@ -31,7 +31,6 @@ import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.type.TagLabel.Source;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.FullyQualifiedName;
-import org.openmetadata.catalog.util.JsonUtils;
 
 @Slf4j
 public class TagCategoryRepository extends EntityRepository<TagCategory> {
@@ -64,13 +63,9 @@ public class TagCategoryRepository extends EntityRepository<TagCategory> {
   // Populate TagCategory with children details
   private TagCategory populateCategoryTags(TagCategory category, Fields fields) throws IOException {
     // Get tags under that match category prefix
-    ListFilter listFilter = new ListFilter(Include.ALL).addQueryParam("parent", category.getName());
-    List<String> groupJsons = daoCollection.tagDAO().listAfter(listFilter, 10000, "");
-
     List<Tag> tagList = new ArrayList<>();
-    for (String json : groupJsons) {
-      Tag tag = tagRepository.setFields(JsonUtils.readValue(json, Tag.class), fields);
-      tagList.add(tagRepository.populateChildrenTags(tag, fields));
+    for (Tag tag : TagIndex.getInstance().getTagsUnder(daoCollection, category.getName())) {
+      tagList.add(tagRepository.setFields(tag, fields));
     }
     return category.withChildren(tagList.isEmpty() ? null : tagList);
   }
@@ -111,6 +106,8 @@ public class TagCategoryRepository extends EntityRepository<TagCategory> {
     TagCategory category = get(uriInfo, id, Fields.EMPTY_FIELDS, Include.NON_DELETED);
     dao.delete(id);
     daoCollection.tagDAO().deleteTagsByPrefix(category.getName());
+    EntityCache.getInstance().invalidateAll();
+    TagIndex.getInstance().invalidate();
     daoCollection.tagUsageDAO().deleteTagLabels(Source.TAG.ordinal(), category.getName());
     daoCollection.tagUsageDAO().deleteTagLabelsByPrefix(Source.TAG.ordinal(), category.getName());
     return category;
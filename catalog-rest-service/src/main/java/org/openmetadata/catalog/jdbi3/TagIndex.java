@@ -0,0 +1,201 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.openmetadata.catalog.type.Include.NON_DELETED;
+
+import com.lmax.disruptor.EventHandler;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.GlossaryTerm;
+import org.openmetadata.catalog.entity.tags.Tag;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagUsageDAO.TargetTagLabel;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * In-memory index of all the tags and glossary terms used when tags are applied to entities and when the tag hierarchy
+ * is listed. The index holds the description of each tag and glossary term, the tags under each tag and the tags
+ * derived from each glossary term.
+ *
+ * <p>The index is loaded with three queries on first use. Writes to tags, tag categories, glossaries and glossary terms
+ * invalidate it, both when they are stored and again when their change events are published, and it is reloaded on the
+ * next lookup. Changes made by other servers are picked up when the index ages out, or earlier when a tag or glossary
+ * term missing from the index is looked up.
+ */
+@Slf4j
+public class TagIndex implements EventHandler<ChangeEventHolder> {
+  static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final Set<String> INDEXED_ENTITIES =
+      Set.of(Entity.TAG, Entity.TAG_CATEGORY, Entity.GLOSSARY, Entity.GLOSSARY_TERM);
+
+  // Eager initialization of Singleton since the index is loaded lazily.
+  private static final TagIndex INSTANCE = new TagIndex();
+
+  private final AtomicLong generation = new AtomicLong();
+  private volatile Snapshot snapshot;
+
+  private TagIndex() {}
+
+  public static TagIndex getInstance() {
+    return INSTANCE;
+  }
+
+  /** Returns true if writes to entities of type {@code entityType} change the index */
+  public static boolean isIndexed(String entityType) {
+    return INDEXED_ENTITIES.contains(entityType);
+  }
+
+  public void invalidate() {
+    generation.incrementAndGet();
+    snapshot = null;
+  }
+
+  /** Get the description of a tag. Throws EntityNotFoundException when the tag does not exist. */
+  public String getTagDescription(CollectionDAO daoCollection, String tagFQN) throws IOException {
+    Snapshot current = getSnapshot(daoCollection);
+    if (current.tagDescriptions.containsKey(tagFQN)) {
+      return current.tagDescriptions.get(tagFQN);
+    }
+    // Tag added after the index was loaded, possibly by another server
+    String description = daoCollection.tagDAO().findEntityByName(tagFQN).getDescription();
+    invalidate();
+    return description;
+  }
+
+  /** Get the description of a glossary term. Throws EntityNotFoundException when the term does not exist. */
+  public String getGlossaryTermDescription(CollectionDAO daoCollection, String termFQN) throws IOException {
+    Snapshot current = getSnapshot(daoCollection);
+    if (current.termDescriptions.containsKey(termFQN)) {
+      return current.termDescriptions.get(termFQN);
+    }
+    // Glossary term added after the index was loaded, possibly by another server
+    String description = daoCollection.glossaryTermDAO().findEntityByName(termFQN, NON_DELETED).getDescription();
+    invalidate();
+    return description;
+  }
+
+  /** Get the tags derived from a glossary term, which are the tags applied to the glossary term */
+  public List<TagLabel> getDerivedTags(CollectionDAO daoCollection, String termFQN) throws IOException {
+    List<TagLabel> tagLabels = getSnapshot(daoCollection).derivedTags.getOrDefault(termFQN, Collections.emptyList());
+    List<TagLabel> derivedTags = new ArrayList<>(tagLabels.size());
+    for (TagLabel tagLabel : tagLabels) {
+      // Callers update the labels, return copies
+      derivedTags.add(
+          new TagLabel()
+              .withTagFQN(tagLabel.getTagFQN())
+              .withDescription(tagLabel.getDescription())
+              .withSource(tagLabel.getSource())
+              .withLabelType(LabelType.DERIVED)
+              .withState(tagLabel.getState()));
+    }
+    return derivedTags;
+  }
+
+  /** Get all the tags under the tag or tag category {@code fqn} ordered by fully qualified name */
+  public List<Tag> getTagsUnder(CollectionDAO daoCollection, String fqn) throws IOException {
+    NavigableMap<String, String> tagsUnder =
+        getSnapshot(daoCollection).tagJsons.subMap(fqn + Entity.SEPARATOR, true, fqn + (char) ('.' + 1), false);
+    List<Tag> tags = new ArrayList<>(tagsUnder.size());
+    for (String json : tagsUnder.values()) {
+      tags.add(JsonUtils.readValue(json, Tag.class));
+    }
+    return tags;
+  }
+
+  private Snapshot getSnapshot(CollectionDAO daoCollection) throws IOException {
+    Snapshot current = snapshot;
+    if (current != null && System.currentTimeMillis() - current.loadedAt < MAX_AGE_MILLIS) {
+      return current;
+    }
+    synchronized (this) {
+      current = snapshot;
+      if (current != null && System.currentTimeMillis() - current.loadedAt < MAX_AGE_MILLIS) {
+        return current;
+      }
+      long loadGeneration = generation.get();
+      current = Snapshot.load(daoCollection);
+      // Don't keep an index loaded concurrently with a write as it may not include the write
+      if (generation.get() == loadGeneration) {
+        snapshot = current;
+      }
+      return current;
+    }
+  }
+
+  @Override
+  public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
+    // Never throw from here as an exception stops the event processor
+    try {
+      ChangeEvent event = changeEventHolder.get();
+      if (event != null && isIndexed(event.getEntityType())) {
+        invalidate();
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to invalidate tag index for event {}", sequence, e);
+    }
+  }
+
+  private static class Snapshot {
+    private final long loadedAt = System.currentTimeMillis();
+    private final NavigableMap<String, String> tagJsons = new TreeMap<>();
+    private final Map<String, String> tagDescriptions = new HashMap<>();
+    private final Map<String, String> termDescriptions = new HashMap<>();
+    private final Map<String, List<TagLabel>> derivedTags = new HashMap<>();
+
+    static Snapshot load(CollectionDAO daoCollection) throws IOException {
+      Snapshot snapshot = new Snapshot();
+      List<String> tagJsons = daoCollection.tagDAO().listAfter(new ListFilter(Include.ALL), Integer.MAX_VALUE, "");
+      for (String json : tagJsons) {
+        Tag tag = JsonUtils.readValue(json, Tag.class);
+        snapshot.tagJsons.put(tag.getFullyQualifiedName(), json);
+        if (!Boolean.TRUE.equals(tag.getDeleted())) {
+          snapshot.tagDescriptions.put(tag.getFullyQualifiedName(), tag.getDescription());
+        }
+      }
+      List<String> termJsons =
+          daoCollection.glossaryTermDAO().listAfter(new ListFilter(NON_DELETED), Integer.MAX_VALUE, "");
+      for (String json : termJsons) {
+        GlossaryTerm term = JsonUtils.readValue(json, GlossaryTerm.class);
+        snapshot.termDescriptions.put(term.getFullyQualifiedName(), term.getDescription());
+      }
+      for (TargetTagLabel targetTagLabel : daoCollection.tagUsageDAO().getGlossaryTermTags()) {
+        snapshot
+            .derivedTags
+            .computeIfAbsent(targetTagLabel.getTargetFQN(), fqn -> new ArrayList<>())
+            .add(targetTagLabel.getTagLabel());
+      }
+      LOG.info(
+          "Loaded tag index with {} tags and {} glossary terms",
+          snapshot.tagJsons.size(),
+          snapshot.termDescriptions.size());
+      return snapshot;
+    }
+  }
+}
@@ -56,20 +56,17 @@ public class TagRepository extends EntityRepository<Tag> {
       LOG.info("Replacing tag fqn from {} to {}", oldFQN, newFQN);
       tag.setFullyQualifiedName(oldFQN.replace(prefix, newPrefix));
       daoCollection.tagDAO().update(tag.getId(), JsonUtils.pojoToJson(tag));
+      TagIndex.getInstance().invalidate();
       updateChildrenTagNames(oldFQN, newFQN);
     }
   }
 
   // Populate the children tags for a given tag
   Tag populateChildrenTags(Tag tag, Fields fields) throws IOException {
-    ListFilter listFilter = new ListFilter(Include.ALL).addQueryParam("parent", tag.getFullyQualifiedName());
-    List<String> tagJsons = dao.listAfter(listFilter, 10000, null);
-
     // Get tags under the given tag
     List<Tag> tagList = new ArrayList<>();
-    for (String json : listOrEmpty(tagJsons)) {
-      Tag childTag = setFields(JsonUtils.readValue(json, Tag.class), fields);
-      tagList.add(populateChildrenTags(childTag, fields));
+    for (Tag childTag : TagIndex.getInstance().getTagsUnder(daoCollection, tag.getFullyQualifiedName())) {
+      tagList.add(setFields(childTag, fields));
     }
     return tag.withChildren(!tagList.isEmpty() ? tagList : null);
   }
@@ -99,6 +96,7 @@ public class TagRepository extends EntityRepository<Tag> {
       children.setFullyQualifiedName(FullyQualifiedName.add(children.getFullyQualifiedName(), children.getName()));
       LOG.info("Added tag {}", children.getFullyQualifiedName());
       dao.insert(children);
+      TagIndex.getInstance().invalidate();
     }
   }
 
@@ -130,7 +128,9 @@ public class TagRepository extends EntityRepository<Tag> {
   public Tag delete(UriInfo uriInfo, String id) throws IOException {
     Tag tag = get(uriInfo, id, Fields.EMPTY_FIELDS, Include.NON_DELETED);
     dao.delete(id);
+    TagIndex.getInstance().invalidate();
     daoCollection.tagDAO().deleteTagsByPrefix(tag.getFullyQualifiedName());
+    EntityCache.getInstance().invalidateAll();
     daoCollection.tagUsageDAO().deleteTagLabels(Source.TAG.ordinal(), tag.getFullyQualifiedName());
     daoCollection.tagUsageDAO().deleteTagLabelsByPrefix(Source.TAG.ordinal(), tag.getFullyQualifiedName());
     return tag;
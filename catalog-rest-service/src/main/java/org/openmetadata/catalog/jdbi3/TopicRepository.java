@@ -84,7 +84,7 @@ public class TopicRepository extends EntityRepository<Topic> {
   }
 
   @Override
-  public void storeRelationships(Topic topic) {
+  public void storeRelationships(Topic topic) throws IOException {
     setService(topic, topic.getService());
     storeOwner(topic, topic.getOwner());
     applyTags(topic);
@@ -15,23 +15,43 @@ package org.openmetadata.catalog.jdbi3;
 
 import static org.openmetadata.catalog.Entity.FIELD_USAGE_SUMMARY;
 
+import com.lmax.disruptor.util.DaemonThreadFactory;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.api.usage.EntityUsageCounts;
+import org.openmetadata.catalog.api.usage.ReportUsageBatch;
 import org.openmetadata.catalog.entity.data.Chart;
 import org.openmetadata.catalog.entity.data.Dashboard;
 import org.openmetadata.catalog.entity.data.MlModel;
 import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.events.ChangeEventWriter;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.exception.UnhandledServerException;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.UsageDAO;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.DailyCount;
@@ -42,12 +62,18 @@ import org.openmetadata.catalog.type.FieldChange;
 import org.openmetadata.catalog.type.Include;
 import org.openmetadata.catalog.type.UsageDetails;
 import org.openmetadata.catalog.type.UsageStats;
+import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.RestUtil;
 
 @Slf4j
 public class UsageRepository {
+  /** Entity types for which usage is reported directly or added up from the usage of the entities they contain */
+  private static final List<String> USAGE_ENTITY_TYPES =
+      List.of(Entity.TABLE, Entity.DATABASE_SCHEMA, Entity.DATABASE, Entity.DASHBOARD, Entity.CHART, Entity.MLMODEL);
+
   private final CollectionDAO dao;
+  private ScheduledExecutorService percentileExecutor;
 
   public UsageRepository(CollectionDAO dao) {
     this.dao = dao;
@@ -81,11 +107,132 @@ public class UsageRepository {
     return addUsage(entityType, ref.getId().toString(), usage);
   }
 
+  /**
+   * Report usage of a batch of entities of the same type. Usage records are written with batch statements, and for
+   * tables the usage is added up per schema and database before it is added to their usage. Percentiles are not
+   * computed here. They are computed by the daily percentile job or the compute percentile API.
+   */
+  @Transaction
+  public int createBatch(String entityType, ReportUsageBatch batch, String updatedBy) throws IOException {
+    if (!Entity.TABLE.equals(entityType)
+        && !Entity.DASHBOARD.equals(entityType)
+        && !Entity.CHART.equals(entityType)
+        && !Entity.MLMODEL.equals(entityType)) {
+      throw new UnhandledServerException(CatalogExceptionMessage.entityTypeNotSupported(entityType));
+    }
+
+    // Merge the counts reported for the same entity and date, and order them by date
+    Map<UUID, SortedMap<String, Integer>> countsById = new LinkedHashMap<>();
+    for (EntityUsageCounts usage : batch.getUsage()) {
+      SortedMap<String, Integer> counts = countsById.computeIfAbsent(usage.getId(), k -> new TreeMap<>());
+      usage.getCounts().forEach(count -> counts.merge(count.getDate(), count.getCount(), Integer::sum));
+    }
+    if (countsById.isEmpty()) {
+      return 0;
+    }
+
+    // Validate the entities in a single query. We accept usage for deleted entities.
+    List<UUID> ids = new ArrayList<>(countsById.keySet());
+    List<EntityReference> refs;
+    List<Table> tables = null;
+    if (Entity.TABLE.equals(entityType)) {
+      tables = dao.tableDAO().findEntitiesByIds(ids, Include.ALL);
+      refs = tables.stream().map(Table::getEntityReference).collect(Collectors.toList());
+    } else {
+      refs = Entity.getEntityReferencesByIds(entityType, ids, Include.ALL);
+    }
+    if (refs.size() != ids.size()) {
+      Set<UUID> found = refs.stream().map(EntityReference::getId).collect(Collectors.toSet());
+      UUID missing = ids.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(entityType, missing));
+    }
+
+    UsageBatch usageBatch = new UsageBatch();
+    countsById.forEach((id, counts) -> counts.forEach((date, count) -> usageBatch.add(date, id, count)));
+    usageBatch.insert(dao.usageDAO(), entityType);
+
+    if (tables != null) {
+      // Add table usage to the usage of the schemas and databases
+      SortedMap<String, Map<UUID, Integer>> schemaCounts = new TreeMap<>();
+      SortedMap<String, Map<UUID, Integer>> databaseCounts = new TreeMap<>();
+      for (Table table : tables) {
+        countsById
+            .get(table.getId())
+            .forEach(
+                (date, count) -> {
+                  schemaCounts
+                      .computeIfAbsent(date, k -> new LinkedHashMap<>())
+                      .merge(table.getDatabaseSchema().getId(), count, Integer::sum);
+                  databaseCounts
+                      .computeIfAbsent(date, k -> new LinkedHashMap<>())
+                      .merge(table.getDatabase().getId(), count, Integer::sum);
+                });
+      }
+      UsageBatch.of(schemaCounts).insertOrUpdateCount(dao.usageDAO(), Entity.DATABASE_SCHEMA);
+      UsageBatch.of(databaseCounts).insertOrUpdateCount(dao.usageDAO(), Entity.DATABASE);
+    }
+
+    // Record and publish the change events for the usage updates, with a single query for the latest usage of the
+    // entities and a single batch insert of the events
+    Map<UUID, UsageDetails> usageSummaries = EntityUtil.getLatestUsage(dao.usageDAO(), ids);
+    List<ChangeEvent> changeEvents = new ArrayList<>(refs.size());
+    for (EntityReference ref : refs) {
+      changeEvents.add(getUsageChangeEvent(entityType, ref, usageSummaries.get(ref.getId()), updatedBy));
+    }
+    ChangeEventWriter.store(dao, changeEvents);
+    return refs.size();
+  }
+
   @Transaction
   public void computePercentile(String entityType, String date) {
     dao.usageDAO().computePercentile(entityType, date);
   }
 
+  /**
+   * Schedule computing the percentiles of the usage reported for the previous day, once a day after the day ends in
+   * UTC. Percentiles of the current day can be computed earlier using the compute percentile API.
+   */
+  public void schedulePercentileComputation() {
+    if (percentileExecutor != null) {
+      return;
+    }
+    percentileExecutor = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.INSTANCE);
+    ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+    ZonedDateTime nextRun = now.toLocalDate().plusDays(1).atStartOfDay(ZoneOffset.UTC).plusMinutes(5);
+    percentileExecutor.scheduleAtFixedRate(
+        this::computePreviousDayPercentiles,
+        Duration.between(now, nextRun).toMillis(),
+        TimeUnit.DAYS.toMillis(1),
+        TimeUnit.MILLISECONDS);
+  }
+
+  private void computePreviousDayPercentiles() {
+    String date = LocalDate.now(ZoneOffset.UTC).minusDays(1).toString();
+    for (String entityType : USAGE_ENTITY_TYPES) {
+      try {
+        computePercentile(entityType, date);
+      } catch (Exception e) {
+        LOG.error("Failed to compute usage percentiles for {} on {}", entityType, date, e);
+      }
+    }
+    LOG.info("Computed usage percentiles for {}", date);
+  }
+
+  /** Change event for the usage update of an entity reported in a batch */
+  private static ChangeEvent getUsageChangeEvent(
+      String entityType, EntityReference ref, UsageDetails usageSummary, String updatedBy) {
+    ChangeDescription change = new ChangeDescription();
+    change.getFieldsUpdated().add(new FieldChange().withName(FIELD_USAGE_SUMMARY).withNewValue(usageSummary));
+    return new ChangeEvent()
+        .withChangeDescription(change)
+        .withEventType(EventType.ENTITY_UPDATED)
+        .withEntityType(entityType)
+        .withEntityId(ref.getId())
+        .withEntityFullyQualifiedName(ref.getFullyQualifiedName())
+        .withUserName(updatedBy)
+        .withTimestamp(System.currentTimeMillis());
+  }
+
   private RestUtil.PutResponse addUsage(String entityType, String entityId, DailyCount usage) throws IOException {
     Fields fields = new Fields(List.of("usageSummary"));
     // If table usage was reported, add the usage count to schema and database
@@ -101,7 +248,6 @@ public class UsageRepository {
       dao.usageDAO()
           .insertOrUpdateCount(
               usage.getDate(), table.getDatabase().getId().toString(), Entity.DATABASE, usage.getCount());
-      dao.usageDAO().computePercentile(entityType, usage.getDate());
       ChangeDescription change = new ChangeDescription().withPreviousVersion(table.getVersion());
       change
           .getFieldsUpdated()
@@ -203,6 +349,37 @@ public class UsageRepository {
     throw new UnhandledServerException(CatalogExceptionMessage.entityTypeNotSupported(entityType));
   }
 
+  /** Columns of the usage records written with a batch statement */
+  private static class UsageBatch {
+    private final List<String> dates = new ArrayList<>();
+    private final List<String> ids = new ArrayList<>();
+    private final List<Integer> counts = new ArrayList<>();
+
+    static UsageBatch of(SortedMap<String, Map<UUID, Integer>> countsByDate) {
+      UsageBatch batch = new UsageBatch();
+      countsByDate.forEach((date, counts) -> counts.forEach((id, count) -> batch.add(date, id, count)));
+      return batch;
+    }
+
+    void add(String date, UUID id, int count) {
+      dates.add(date);
+      ids.add(id.toString());
+      counts.add(count);
+    }
+
+    void insert(UsageDAO usageDAO, String entityType) {
+      if (!dates.isEmpty()) {
+        usageDAO.insertBatch(dates, ids, entityType, counts);
+      }
+    }
+
+    void insertOrUpdateCount(UsageDAO usageDAO, String entityType) {
+      if (!dates.isEmpty()) {
+        usageDAO.insertOrUpdateCountBatch(dates, ids, entityType, counts);
+      }
+    }
+  }
+
   public static class UsageDetailsMapper implements RowMapper<UsageDetails> {
     @Override
     public UsageDetails map(ResultSet r, StatementContext ctx) throws SQLException {
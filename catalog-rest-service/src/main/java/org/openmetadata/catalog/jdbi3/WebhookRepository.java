@@ -20,14 +20,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.lmax.disruptor.BatchEventProcessor;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.util.DaemonThreadFactory;
 import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
@@ -36,6 +42,7 @@ import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.core.Response;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.events.EventPubSub;
 import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
@@ -46,6 +53,7 @@ import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EventFilter;
 import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FailureDetails;
+import org.openmetadata.catalog.type.Include;
 import org.openmetadata.catalog.type.Webhook;
 import org.openmetadata.catalog.type.Webhook.Status;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
@@ -56,6 +64,7 @@ import org.openmetadata.common.utils.CommonUtil;
 @Slf4j
 public class WebhookRepository extends EntityRepository<Webhook> {
   private static final ConcurrentHashMap<UUID, WebhookPublisher> webhookPublisherMap = new ConcurrentHashMap<>();
+  public static final String DELIVERY_OFFSET_EXTENSION = "webhook.deliveryOffset";
 
   public WebhookRepository(CollectionDAO dao) {
     super(WebhookResource.COLLECTION_PATH, Entity.WEBHOOK, Webhook.class, dao.webhookDAO(), dao, "", "");
@@ -92,6 +101,14 @@ public class WebhookRepository extends EntityRepository<Webhook> {
     return new WebhookUpdater(original, updated, operation);
   }
 
+  /** Start publishers for all the webhooks stored, typically when the server starts */
+  public void startWebhookPublishers() throws IOException {
+    List<String> jsons = dao.listAfter(new ListFilter(Include.NON_DELETED), Integer.MAX_VALUE, "");
+    for (String json : jsons) {
+      addWebhookPublisher(JsonUtils.readValue(json, Webhook.class));
+    }
+  }
+
   private WebhookPublisher getPublisher(UUID id) {
     return webhookPublisherMap.get(id);
   }
@@ -143,6 +160,8 @@ public class WebhookRepository extends EntityRepository<Webhook> {
       LOG.info("Webhook publisher deleted for {}", publisher.getWebhook().getName());
     }
     webhookPublisherMap.remove(id);
+    // Webhook that is enabled again starts delivering new events instead of resuming from the old offset
+    daoCollection.entityExtensionDAO().delete(id.toString(), DELIVERY_OFFSET_EXTENSION);
   }
 
   /**
@@ -150,6 +169,19 @@ public class WebhookRepository extends EntityRepository<Webhook> {
    * WebhookPublisher per webhook subscription. Each WebhookPublish is an EventHandler that runs in a separate thread
    * and receives events from LMAX Disruptor {@link EventPubSub} through {@link BatchEventProcessor}.
    *
+   * <p>The disruptor thread never waits on the webhook endpoint. Events that match the webhook filters are added to a
+   * bounded outbox that is drained by a separate delivery thread. The eventOffset of the last event delivered is stored
+   * as the delivery offset of the webhook. When the outbox overflows, or when the publisher starts with a saved offset
+   * (such as after a server restart), the events are replayed from the change_event table starting at the offset before
+   * switching back to the outbox. Events are still added to the outbox while replaying, and the events in the outbox
+   * that were already replayed are skipped by their eventOffset.
+   *
+   * <p>Skipping by eventOffset relies on the events of this server being published in the order of their eventOffsets.
+   * All the change events are stored through {@link org.openmetadata.catalog.events.ChangeEventWriter}, which stores
+   * and publishes them under a single lock, so an event is never published after an event with a larger eventOffset.
+   * The replay reads the change_event table up to the safe offset of {@link ChangeEventRepository}, and switches back
+   * to the outbox only once the safe offset has reached the last event that has to be replayed.
+   *
    * <p>The failures during callback to Webhook endpoints are handled in this class as follows:
    *
    * <ul>
@@ -157,8 +189,8 @@ public class WebhookRepository extends EntityRepository<Webhook> {
    *   <li>Webhook callbacks that return 3xx are marked as "failed" and no further attempt is made to deliver the events
    *   <li>Webhook callbacks that return 4xx, 5xx, or timeout are marked as "awaitingRetry" and 5 retry attempts are
    *       made to deliver the events with the following backoff - 3 seconds, 30 seconds, 5 minutes, 1 hours, and 24
-   *       hour. When all the 5 delivery attempts fail, the webhook state is marked as "retryLimitReached" and no
-   *       further attempt is made to deliver the events.
+   *       hour. Retries are scheduled on the delivery thread. When all the 5 delivery attempts fail, the webhook state
+   *       is marked as "retryLimitReached" and no further attempt is made to deliver the events.
    * </ul>
    */
   public class WebhookPublisher implements EventHandler<ChangeEventHolder>, LifecycleAware {
@@ -170,16 +202,32 @@ public class WebhookRepository extends EntityRepository<Webhook> {
     private static final int BACKOFF_1_HOUR = 60 * 60 * 1000;
     private static final int BACKOFF_24_HOUR = 24 * 60 * 60 * 1000;
 
+    // Number of batches held in memory for a webhook. Beyond this events are replayed from change_event table
+    private static final int OUTBOX_BATCHES = 100;
+    // Wait before reading the change_event table again when the replay has not caught up with the events to replay
+    private static final int REPLAY_WAIT_MS = 100;
+
     private int currentBackoffTime = BACKOFF_NORMAL;
     private final CountDownLatch shutdownLatch = new CountDownLatch(1);
     private final Webhook webhook;
     private final List<ChangeEvent> batch = new ArrayList<>();
+    private final BlockingQueue<Pair<Long, ChangeEvent>> outbox;
+    private volatile boolean replaying = false;
+    // Number of events that did not fit in the outbox, updated by the disruptor thread only
+    private volatile long overflows;
+    // eventOffset of the last event that is replayed from change_event table before switching back to the outbox
+    private volatile long replayUntil;
+    // eventOffset of the last event delivered, and of the last event in the batch being delivered
+    private long offset;
+    private long batchOffset;
+    private ScheduledExecutorService deliveryExecutor;
     private BatchEventProcessor<ChangeEventHolder> processor;
     private Client client;
     private final ConcurrentHashMap<EventType, List<String>> filter = new ConcurrentHashMap<>();
 
     public WebhookPublisher(Webhook webhook) {
       this.webhook = webhook;
+      this.outbox = new ArrayBlockingQueue<>(OUTBOX_BATCHES * webhook.getBatchSize());
       initFilter();
     }
 
@@ -187,11 +235,27 @@ public class WebhookRepository extends EntityRepository<Webhook> {
     public void onStart() {
       createClient();
       webhook.withFailureDetails(new FailureDetails());
+      batch.clear();
+      outbox.clear();
+      Long savedOffset = getDeliveryOffset(webhook.getId());
+      if (savedOffset != null) {
+        // Resume delivering events from where the publisher left off
+        offset = savedOffset;
+        replayUntil = daoCollection.changeEventDAO().getMaxOffset();
+        replaying = true;
+      } else {
+        // Deliver the events stored from now on
+        offset = daoCollection.changeEventDAO().getSafeOffset(ChangeEventRepository.getVisibilityLagMs());
+        replaying = false;
+        storeDeliveryOffset();
+      }
+      deliveryExecutor = Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.INSTANCE);
+      scheduleDelivery(0);
       LOG.info("Webhook-lifecycle-onStart {}", webhook.getName());
     }
 
     @Override
-    public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) throws Exception {
+    public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
       // Ignore events that don't match the webhook event filters
       ChangeEvent changeEvent = changeEventHolder.get();
       List<String> entities = filter.get(changeEvent.getEventType());
@@ -199,12 +263,131 @@ public class WebhookRepository extends EntityRepository<Webhook> {
         return;
       }
 
-      // Batch until either the batch has ended or batch size has reached the max size
-      batch.add(changeEventHolder.get());
-      if (!endOfBatch && batch.size() < webhook.getBatchSize()) {
+      // Events are queued while replaying too. The events already replayed are skipped by their offset.
+      if (!outbox.offer(Pair.of(changeEventHolder.getOffset(), changeEvent))) {
+        if (!replaying) {
+          LOG.warn("Webhook {} outbox is full. Events will be replayed from change events", webhook.getName());
+        }
+        replayUntil = Math.max(replayUntil, changeEventHolder.getOffset());
+        overflows++;
+        replaying = true;
+      }
+    }
+
+    @Override
+    public void onShutdown() {
+      if (deliveryExecutor != null) {
+        deliveryExecutor.shutdownNow();
+        deliveryExecutor = null;
+      }
+      currentBackoffTime = BACKOFF_NORMAL;
+      client.close();
+      client = null;
+      shutdownLatch.countDown();
+      LOG.info("Webhook-lifecycle-onShutdown {}", webhook.getName());
+    }
+
+    public synchronized Webhook getWebhook() {
+      return webhook;
+    }
+
+    public synchronized void updateWebhook(Webhook updatedWebhook) {
+      currentBackoffTime = BACKOFF_NORMAL;
+      webhook.setTimeout(updatedWebhook.getTimeout());
+      webhook.setBatchSize(updatedWebhook.getBatchSize());
+      webhook.setEndpoint(updatedWebhook.getEndpoint());
+      webhook.setEventFilters(updatedWebhook.getEventFilters());
+      initFilter();
+      createClient();
+    }
+
+    private void initFilter() {
+      filter.clear();
+      webhook.getEventFilters().forEach(f -> filter.put(f.getEventType(), f.getEntities()));
+    }
+
+    private void scheduleDelivery(long delayMillis) {
+      ScheduledExecutorService executor = deliveryExecutor;
+      if (executor != null && !executor.isShutdown()) {
+        executor.schedule(this::deliver, delayMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    /** Runs on the delivery thread. Sends the next batch of events and schedules the next delivery attempt. */
+    private void deliver() {
+      try {
+        if (batch.isEmpty()) {
+          if (replaying) {
+            readReplayBatch();
+          } else {
+            readOutboxBatch();
+          }
+        }
+        if (batch.isEmpty()) {
+          // While replaying, wait for the events still being stored to become visible
+          scheduleDelivery(replaying ? REPLAY_WAIT_MS : 0);
+          return;
+        }
+        sendBatch();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (WebhookFailedException e) {
+        // Webhook is in error state. Stop delivering events until the webhook is updated.
+        stopPublisher();
+      } catch (Exception e) {
+        LOG.error("Failed to deliver events to webhook {}", webhook.getName(), e);
+        setNextBackOff();
+        scheduleDelivery(currentBackoffTime);
+      }
+    }
+
+    private void readOutboxBatch() throws InterruptedException {
+      Pair<Long, ChangeEvent> event = outbox.poll(1, TimeUnit.SECONDS);
+      if (event == null) {
         return;
       }
+      List<Pair<Long, ChangeEvent>> events = new ArrayList<>();
+      events.add(event);
+      outbox.drainTo(events, webhook.getBatchSize() - 1);
+      batchOffset = offset;
+      for (Pair<Long, ChangeEvent> offsetEvent : events) {
+        // Skip the events already delivered from change_event table. Events that were not stored have no offset.
+        // Events are published in the order of their offsets, so an event at or before the offset was replayed.
+        long eventOffset = offsetEvent.getLeft();
+        if (eventOffset == 0 || eventOffset > offset) {
+          batch.add(offsetEvent.getRight());
+          batchOffset = Math.max(batchOffset, eventOffset);
+        }
+      }
+    }
+
+    private void readReplayBatch() throws IOException {
+      long seenOverflows = overflows;
+      int limit = webhook.getBatchSize();
+      String condition = ChangeEventRepository.getCondition(filter);
+      long lagMs = ChangeEventRepository.getVisibilityLagMs();
+      // Events up to the safe offset read before the batch are visible to the batch read
+      long safeOffset = daoCollection.changeEventDAO().getSafeOffset(lagMs);
+      List<Pair<Long, String>> rows =
+          condition == null
+              ? Collections.emptyList()
+              : daoCollection.changeEventDAO().listAfterOffset(condition, offset, limit, lagMs);
+      batchOffset = offset;
+      for (Pair<Long, String> row : rows) {
+        batch.add(JsonUtils.readValue(row.getRight(), ChangeEvent.class));
+        batchOffset = row.getLeft();
+      }
+      // Drop the queued events that are replayed to make room for new events
+      long replayedOffset = batchOffset;
+      outbox.removeIf(event -> event.getLeft() != 0 && event.getLeft() <= replayedOffset);
+      if (rows.size() < limit && overflows == seenOverflows && safeOffset >= replayUntil) {
+        // Caught up with the stored events up to the last event to replay, and no event was dropped from the outbox
+        // while reading them. Switch over to the events from the outbox.
+        replaying = false;
+      }
+    }
 
+    private void sendBatch() throws IOException {
       ChangeEventList list = new ChangeEventList(batch, null, null, batch.size());
       long attemptTime = System.currentTimeMillis();
       try {
@@ -224,11 +407,16 @@ public class WebhookRepository extends EntityRepository<Webhook> {
             response.getStatusInfo());
         // 2xx response means call back is successful
         if (response.getStatus() >= 200 && response.getStatus() < 300) { // All 2xx responses
+          long lastEventTime = batch.get(batch.size() - 1).getTimestamp();
+          offset = Math.max(offset, batchOffset);
+          storeDeliveryOffset();
           batch.clear();
-          webhook.getFailureDetails().setLastSuccessfulAt(changeEventHolder.get().getTimestamp());
+          currentBackoffTime = BACKOFF_NORMAL;
+          webhook.getFailureDetails().setLastSuccessfulAt(lastEventTime);
           if (webhook.getStatus() != Status.ACTIVE) {
             setStatus(Status.ACTIVE, null, null, null, null);
           }
+          scheduleDelivery(0);
           // 3xx response/redirection is not allowed for callback. Set the webhook state as in error
         } else if (response.getStatus() >= 300 && response.getStatus() < 400) {
           setErrorStatus(attemptTime, response.getStatus(), response.getStatusInfo().getReasonPhrase());
@@ -236,50 +424,43 @@ public class WebhookRepository extends EntityRepository<Webhook> {
         } else if (response.getStatus() >= 300 && response.getStatus() < 600) {
           setNextBackOff();
           setAwaitingRetry(attemptTime, response.getStatus(), response.getStatusInfo().getReasonPhrase());
-          Thread.sleep(currentBackoffTime);
+          scheduleDelivery(currentBackoffTime);
         }
       } catch (ProcessingException ex) {
         Throwable cause = ex.getCause();
-        if (cause.getClass() == UnknownHostException.class) {
+        if (cause != null && cause.getClass() == UnknownHostException.class) {
           LOG.warn("Invalid webhook {} endpoint {}", webhook.getName(), webhook.getEndpoint());
           setErrorStatus(attemptTime, null, "UnknownHostException");
         }
+        // Callback timed out. Retry delivering the same batch after backoff.
+        setNextBackOff();
+        scheduleDelivery(currentBackoffTime);
       }
     }
 
-    @Override
-    public void onShutdown() {
-      currentBackoffTime = BACKOFF_NORMAL;
-      client.close();
-      client = null;
-      shutdownLatch.countDown();
-      LOG.info("Webhook-lifecycle-onShutdown {}", webhook.getName());
-    }
-
-    public synchronized Webhook getWebhook() {
-      return webhook;
-    }
-
-    public synchronized void updateWebhook(Webhook updatedWebhook) {
-      currentBackoffTime = BACKOFF_NORMAL;
-      webhook.setTimeout(updatedWebhook.getTimeout());
-      webhook.setBatchSize(updatedWebhook.getBatchSize());
-      webhook.setEndpoint(updatedWebhook.getEndpoint());
-      webhook.setEventFilters(updatedWebhook.getEventFilters());
-      initFilter();
-      createClient();
+    private void stopPublisher() {
+      if (processor != null) {
+        // Stop consuming from the ring buffer so that the failed webhook does not hold back other publishers
+        processor.halt();
+        EventPubSub.removeProcessor(processor);
+      }
     }
 
-    private void initFilter() {
-      filter.clear();
-      webhook.getEventFilters().forEach(f -> filter.put(f.getEventType(), f.getEntities()));
+    private void storeDeliveryOffset() {
+      try {
+        daoCollection
+            .entityExtensionDAO()
+            .insert(webhook.getId().toString(), DELIVERY_OFFSET_EXTENSION, "webhookOffset", String.valueOf(offset));
+      } catch (Exception e) {
+        LOG.warn("Failed to store delivery offset for webhook {}", webhook.getName(), e);
+      }
     }
 
     private void setErrorStatus(Long attemptTime, Integer statusCode, String reason) throws IOException {
       if (!attemptTime.equals(webhook.getFailureDetails().getLastFailedAt())) {
         setStatus(Status.FAILED, attemptTime, statusCode, reason, null);
       }
-      throw new RuntimeException(reason);
+      throw new WebhookFailedException(reason);
     }
 
     private void setAwaitingRetry(Long attemptTime, int statusCode, String reason) throws IOException {
@@ -340,12 +521,26 @@ public class WebhookRepository extends EntityRepository<Webhook> {
       }
     }
 
-    private Builder getTarget() {
+    private synchronized Builder getTarget() {
       Map<String, String> authHeaders = SecurityUtil.authHeaders("admin@open-metadata.org");
       return SecurityUtil.addHeaders(client.target(webhook.getEndpoint()), authHeaders);
     }
   }
 
+  private Long getDeliveryOffset(UUID webhookId) {
+    String json = daoCollection.entityExtensionDAO().getExtension(webhookId.toString(), DELIVERY_OFFSET_EXTENSION);
+    return json == null ? null : Long.valueOf(json.trim());
+  }
+
+  /** Thrown when a webhook is marked as failed and events should no longer be delivered to it */
+  private static class WebhookFailedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    WebhookFailedException(String message) {
+      super(message);
+    }
+  }
+
   public class WebhookUpdater extends EntityUpdater {
     public WebhookUpdater(Webhook original, Webhook updated, Operation operation) {
       super(original, updated, operation);
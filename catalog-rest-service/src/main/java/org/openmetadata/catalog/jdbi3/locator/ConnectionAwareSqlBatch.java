@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3.locator;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Connection type specific SQL for a batch statement. Unlike {@link ConnectionAwareSqlUpdate}, this annotation is not
+ * an SQL operation by itself. The method must also be annotated with {@link org.jdbi.v3.sqlobject.statement.SqlBatch}
+ * which provides the batch handler, while the SQL is located from this annotation.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+@Repeatable(ConnectionAwareSqlBatchContainer.class)
+public @interface ConnectionAwareSqlBatch {
+  String value() default "";
+
+  ConnectionType connectionType();
+}
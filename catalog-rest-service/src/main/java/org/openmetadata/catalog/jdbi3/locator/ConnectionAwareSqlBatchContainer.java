@@ -11,18 +11,15 @@
  *  limitations under the License.
  */
 
-package org.openmetadata.catalog.resources.feeds;
+package org.openmetadata.catalog.jdbi3.locator;
 
-import org.openmetadata.catalog.entity.feed.Thread;
-import org.openmetadata.catalog.type.Post;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 
-public final class FeedUtil {
-
-  private FeedUtil() {}
-
-  public static void addPost(Thread thread, Post post) {
-    // Add new post to the thread
-    thread.getPosts().add(post);
-    thread.withPostsCount(thread.getPosts().size());
-  }
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface ConnectionAwareSqlBatchContainer {
+  ConnectionAwareSqlBatch[] value();
 }
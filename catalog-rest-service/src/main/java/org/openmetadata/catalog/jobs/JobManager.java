@@ -0,0 +1,238 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jobs;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.BackgroundJobDAO;
+import org.openmetadata.catalog.type.BackgroundJob;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.JobStatus;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Runs jobs in the background and keeps track of their progress. Jobs are kept in memory of the server that runs them
+ * for a day after they are queued.
+ *
+ * <p>Once initialized with {@link #init(CollectionDAO)}, jobs are also saved in the database when they change state,
+ * when they save a checkpoint and periodically while they run. A job that is no longer saved by a server is reported as
+ * failed, and a resumable job can then be resumed from its last checkpoint with {@link #resume(BackgroundJob, Job)}.
+ */
+@Slf4j
+public class JobManager {
+  // Jobs such as recursive hard deletes are database heavy, and only a few of them are run at a time
+  private static final int MAX_RUNNING_JOBS = 2;
+  // A job not saved for a few heartbeats was interrupted, as the server running it stopped
+  private static final long HEARTBEAT_INTERVAL_MS = 30_000;
+  private static final long HEARTBEAT_TIMEOUT_MS = 4 * HEARTBEAT_INTERVAL_MS;
+  private static final JobManager INSTANCE = new JobManager();
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(MAX_RUNNING_JOBS, DaemonThreadFactory.INSTANCE);
+  private final ScheduledExecutorService heartbeat =
+      Executors.newSingleThreadScheduledExecutor(DaemonThreadFactory.INSTANCE);
+  private final Cache<UUID, BackgroundJob> jobs =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterWrite(1, TimeUnit.DAYS).build();
+  // Jobs queued or running on this server
+  private final Map<UUID, BackgroundJob> activeJobs = new ConcurrentHashMap<>();
+  private volatile BackgroundJobDAO jobDAO;
+
+  private JobManager() {}
+
+  public static JobManager getInstance() {
+    return INSTANCE;
+  }
+
+  /** Save the jobs in the database, so that their progress survives a restart of the server */
+  public synchronized void init(CollectionDAO dao) {
+    if (jobDAO == null) {
+      heartbeat.scheduleWithFixedDelay(
+          this::saveActiveJobs, HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    jobDAO = dao.backgroundJobDAO();
+  }
+
+  /** Job that reports its progress as the number of items processed out of the total */
+  public interface Job {
+    void run(JobProgress progress) throws Exception;
+  }
+
+  public interface JobProgress {
+    void update(int processed, int total);
+
+    /** Save the state from which the job continues when it is resumed, along with the progress of the job */
+    default void checkpoint(String checkpoint) {}
+  }
+
+  /** Queue the job to run in the background and return it as queued */
+  public BackgroundJob submit(String jobType, EntityReference entity, String createdBy, Job task) {
+    BackgroundJob job =
+        new BackgroundJob()
+            .withId(UUID.randomUUID())
+            .withJobType(jobType)
+            .withEntity(entity)
+            .withStatus(JobStatus.QUEUED)
+            .withCreatedBy(createdBy);
+    return queue(job, task);
+  }
+
+  /**
+   * Queue a failed or interrupted job to run again with the same id, progress and checkpoint. The task continues from
+   * the checkpoint of the job. A job that is already queued or running on this server is returned as is.
+   */
+  public BackgroundJob resume(BackgroundJob job, Job task) {
+    BackgroundJob active = activeJobs.get(job.getId());
+    if (active != null) {
+      return copy(active);
+    }
+    BackgroundJob resumed = copy(job).withStatus(JobStatus.QUEUED).withError(null).withEndedAt(null);
+    return queue(resumed, task);
+  }
+
+  /** Return a snapshot of the job, or null when the job is not known */
+  public BackgroundJob get(UUID id) throws IOException {
+    BackgroundJob job = jobs.getIfPresent(id);
+    if (job != null) {
+      return copy(job);
+    }
+    return jobDAO == null ? null : readJob(jobDAO.findById(id.toString()));
+  }
+
+  /** Return a snapshot of the job of the given type that was saved last, or null when there is none */
+  public BackgroundJob getLatest(String jobType) throws IOException {
+    BackgroundJob job = jobDAO == null ? null : readJob(jobDAO.findLatest(jobType));
+    if (job == null) {
+      return null;
+    }
+    BackgroundJob active = activeJobs.get(job.getId());
+    return active == null ? job : copy(active);
+  }
+
+  private BackgroundJob queue(BackgroundJob job, Job task) {
+    jobs.put(job.getId(), job);
+    activeJobs.put(job.getId(), job);
+    save(job);
+    BackgroundJob queued = copy(job);
+    executor.submit(() -> run(job, task));
+    return queued;
+  }
+
+  private void run(BackgroundJob job, Job task) {
+    synchronized (job) {
+      job.withStatus(JobStatus.RUNNING).withStartedAt(System.currentTimeMillis());
+    }
+    save(job);
+    try {
+      task.run(new Progress(job));
+      synchronized (job) {
+        job.withStatus(JobStatus.COMPLETED).withEndedAt(System.currentTimeMillis());
+      }
+    } catch (Exception e) {
+      LOG.error("Background job {} {} failed", job.getJobType(), job.getId(), e);
+      synchronized (job) {
+        job.withStatus(JobStatus.FAILED).withError(e.getMessage()).withEndedAt(System.currentTimeMillis());
+      }
+    } finally {
+      save(job);
+      activeJobs.remove(job.getId());
+    }
+  }
+
+  private void saveActiveJobs() {
+    activeJobs.values().forEach(this::save);
+  }
+
+  private void save(BackgroundJob job) {
+    BackgroundJobDAO dao = jobDAO;
+    if (dao == null) {
+      return;
+    }
+    // Never throw from here, as a job that is not saved still runs and is tracked in memory
+    try {
+      String json;
+      synchronized (job) {
+        json = JsonUtils.pojoToJson(job.withUpdatedAt(System.currentTimeMillis()));
+      }
+      dao.upsert(job.getId().toString(), job.getJobType(), job.getStatus().value(), job.getUpdatedAt(), json);
+    } catch (Exception e) {
+      LOG.warn("Failed to save background job {} {}", job.getJobType(), job.getId(), e);
+    }
+  }
+
+  /** Read a saved job, reporting a job that is no longer saved by the server running it as failed */
+  private BackgroundJob readJob(String json) throws IOException {
+    if (json == null) {
+      return null;
+    }
+    BackgroundJob job = JsonUtils.readValue(json, BackgroundJob.class);
+    boolean unfinished = job.getStatus() == JobStatus.QUEUED || job.getStatus() == JobStatus.RUNNING;
+    if (unfinished
+        && !activeJobs.containsKey(job.getId())
+        && job.getUpdatedAt() < System.currentTimeMillis() - HEARTBEAT_TIMEOUT_MS) {
+      job.withStatus(JobStatus.FAILED).withError("Interrupted as the server running the job stopped");
+    }
+    return job;
+  }
+
+  private static BackgroundJob copy(BackgroundJob job) {
+    synchronized (job) {
+      return new BackgroundJob()
+          .withId(job.getId())
+          .withJobType(job.getJobType())
+          .withEntity(job.getEntity())
+          .withStatus(job.getStatus())
+          .withProcessed(job.getProcessed())
+          .withTotal(job.getTotal())
+          .withError(job.getError())
+          .withCreatedBy(job.getCreatedBy())
+          .withStartedAt(job.getStartedAt())
+          .withEndedAt(job.getEndedAt())
+          .withUpdatedAt(job.getUpdatedAt())
+          .withCheckpoint(job.getCheckpoint());
+    }
+  }
+
+  private class Progress implements JobProgress {
+    private final BackgroundJob job;
+
+    Progress(BackgroundJob job) {
+      this.job = job;
+    }
+
+    @Override
+    public void update(int processed, int total) {
+      synchronized (job) {
+        job.withProcessed(processed).withTotal(total);
+      }
+    }
+
+    @Override
+    public void checkpoint(String checkpoint) {
+      synchronized (job) {
+        job.withCheckpoint(checkpoint);
+      }
+      save(job);
+    }
+  }
+}
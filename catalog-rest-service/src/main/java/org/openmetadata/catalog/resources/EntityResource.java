@@ -3,24 +3,36 @@ package org.openmetadata.catalog.resources;
 import static org.openmetadata.catalog.Entity.FIELD_OWNER;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 import javax.json.JsonPatch;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.catalog.CreateEntity;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.EntityInterface;
+import org.openmetadata.catalog.api.BulkResponse;
 import org.openmetadata.catalog.jdbi3.EntityRepository;
 import org.openmetadata.catalog.jdbi3.ListFilter;
+import org.openmetadata.catalog.jobs.JobManager;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
+import org.openmetadata.catalog.type.BackgroundJob;
+import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
+import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.DeleteResponse;
 import org.openmetadata.catalog.util.RestUtil.PatchResponse;
@@ -29,6 +41,10 @@ import org.openmetadata.catalog.util.ResultList;
 
 @Slf4j
 public abstract class EntityResource<T extends EntityInterface, K extends EntityRepository<T>> {
+  public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+  public static final String DELETE_JOB = "deleteEntity";
+  private static final int EXPORT_BATCH_SIZE = 1000;
+
   protected final Class<T> entityClass;
   protected final List<String> allowedFields;
   protected final K dao;
@@ -66,18 +82,54 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
       String before,
       String after)
       throws IOException {
+    return listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after, IncludeTotal.EXACT);
+  }
+
+  public ResultList<T> listInternal(
+      UriInfo uriInfo,
+      SecurityContext securityContext,
+      String fieldsParam,
+      ListFilter filter,
+      int limitParam,
+      String before,
+      String after,
+      IncludeTotal includeTotal)
+      throws IOException {
     RestUtil.validateCursors(before, after);
     Fields fields = getFields(fieldsParam);
 
     ResultList<T> resultList;
     if (before != null) { // Reverse paging
-      resultList = dao.listBefore(uriInfo, fields, filter, limitParam, before);
+      resultList = dao.listBefore(uriInfo, fields, filter, limitParam, before, includeTotal);
     } else { // Forward paging or first page
-      resultList = dao.listAfter(uriInfo, fields, filter, limitParam, after);
+      resultList = dao.listAfter(uriInfo, fields, filter, limitParam, after, includeTotal);
     }
     return addHref(uriInfo, resultList);
   }
 
+  /**
+   * Stream all the entities matching {@code filter} as newline delimited JSON. Entities are written as they are read
+   * from the database in batches, so neither the server nor the client holds the whole collection in memory.
+   */
+  public Response exportInternal(
+      UriInfo uriInfo, SecurityContext securityContext, String fieldsParam, ListFilter filter) {
+    Fields fields = getFields(fieldsParam);
+    StreamingOutput output =
+        outputStream -> {
+          Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+          dao.export(
+              fields,
+              filter,
+              EXPORT_BATCH_SIZE,
+              entity -> {
+                writer.write(JsonUtils.pojoToJson(addHref(uriInfo, entity)));
+                writer.write('\n');
+              });
+          writer.flush();
+        };
+    return Response.ok(output, MEDIA_TYPE_NDJSON).build();
+  }
+
   public T getInternal(UriInfo uriInfo, SecurityContext securityContext, String id, String fieldsParam, Include include)
       throws IOException {
     Fields fields = getFields(fieldsParam);
@@ -108,6 +160,18 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return response.toResponse();
   }
 
+  public Response bulkCreateOrUpdate(UriInfo uriInfo, SecurityContext securityContext, List<T> entities, int flags)
+      throws IOException {
+    SecurityUtil.authorizeAdmin(authorizer, securityContext, flags);
+    BulkResponse response = dao.createOrUpdateAll(uriInfo, entities);
+    LOG.info(
+        "Bulk request for {} entities created {}, updated {}",
+        entities.size(),
+        response.getCreated(),
+        response.getUpdated());
+    return Response.ok(response).build();
+  }
+
   public Response patchInternal(UriInfo uriInfo, SecurityContext securityContext, String id, JsonPatch patch)
       throws IOException {
     T entity = dao.get(uriInfo, id, supportsOwner ? getFields(FIELD_OWNER) : Fields.EMPTY_FIELDS);
@@ -119,6 +183,15 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return response.toResponse();
   }
 
+  public EntityHistory listVersionsInternal(String id, boolean summary, int limitParam, String before, String after)
+      throws IOException {
+    if (summary) {
+      RestUtil.validateCursors(before, after);
+      return dao.listVersionSummaries(id, limitParam, before, after);
+    }
+    return dao.listVersions(id);
+  }
+
   public Response delete(
       UriInfo uriInfo,
       SecurityContext securityContext,
@@ -133,6 +206,24 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return response.toResponse();
   }
 
+  /** Delete the entity in the background, and return the job that reports the progress of the delete */
+  public Response deleteInBackground(
+      SecurityContext securityContext, String id, boolean recursive, boolean hardDelete, int checkFlags)
+      throws IOException {
+    SecurityUtil.authorizeAdmin(authorizer, securityContext, checkFlags);
+    String updatedBy = securityContext.getUserPrincipal().getName();
+    String entityType = Entity.getEntityTypeFromClass(entityClass);
+    EntityReference entity = Entity.getEntityReferenceById(entityType, UUID.fromString(id), Include.ALL);
+    BackgroundJob job =
+        JobManager.getInstance()
+            .submit(
+                DELETE_JOB,
+                entity,
+                updatedBy,
+                progress -> dao.deleteAndRecordChange(updatedBy, id, recursive, hardDelete, progress::update));
+    return Response.status(Status.ACCEPTED).entity(job).build();
+  }
+
   public T copy(T entity, CreateEntity request, String updatedBy) {
     entity.setId(UUID.randomUUID());
     entity.setName(request.getName());
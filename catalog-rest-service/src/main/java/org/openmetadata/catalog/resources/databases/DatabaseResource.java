@@ -59,6 +59,7 @@ import org.openmetadata.catalog.resources.EntityResource;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.ResultList;
 
@@ -87,7 +88,7 @@ public class DatabaseResource extends EntityResource<Database, DatabaseRepositor
     @SuppressWarnings("unused") // Empty constructor needed for deserialization
     DatabaseList() {}
 
-    public DatabaseList(List<Database> data, String beforeCursor, String afterCursor, int total) {
+    public DatabaseList(List<Database> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
@@ -139,10 +140,50 @@ public class DatabaseResource extends EntityResource<Database, DatabaseRepositor
               schema = @Schema(implementation = Include.class))
           @QueryParam("include")
           @DefaultValue("non-deleted")
-          Include include)
+          Include include,
+      @Parameter(
+              description = "Include the exact total number of entities, an approximate total, or no total.",
+              schema = @Schema(implementation = IncludeTotal.class))
+          @QueryParam("includeTotal")
+          @DefaultValue("exact")
+          IncludeTotal includeTotal)
       throws IOException {
     ListFilter filter = new ListFilter(include).addQueryParam("service", serviceParam);
-    return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after);
+    return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after, includeTotal);
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(MEDIA_TYPE_NDJSON)
+  @Operation(
+      operationId = "exportDatabases",
+      summary = "Export databases",
+      tags = "databases",
+      description =
+          "Stream all the databases as newline delimited JSON, one database per line, ordered by "
+              + "fully qualified name. Use this instead of paging through the list API to read all the databases.",
+      responses = {@ApiResponse(responseCode = "200", description = "Newline delimited JSON of databases")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Fields requested in the returned resource",
+              schema = @Schema(type = "string", example = FIELDS))
+          @QueryParam("fields")
+          String fieldsParam,
+      @Parameter(
+              description = "Filter databases by service name",
+              schema = @Schema(type = "string", example = "snowflakeWestCoast"))
+          @QueryParam("service")
+          String serviceParam,
+      @Parameter(
+              description = "Include all, deleted, or non-deleted entities.",
+              schema = @Schema(implementation = Include.class))
+          @QueryParam("include")
+          @DefaultValue("non-deleted")
+          Include include) {
+    ListFilter filter = new ListFilter(include).addQueryParam("service", serviceParam);
+    return exportInternal(uriInfo, securityContext, fieldsParam, filter);
   }
 
   @GET
@@ -161,9 +202,27 @@ public class DatabaseResource extends EntityResource<Database, DatabaseRepositor
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "database Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "database Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
-    return dao.listVersions(id);
+    return listVersionsInternal(id, summary, limitParam, before, after);
   }
 
   @GET
@@ -50,7 +50,9 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
+import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.api.BulkResponse;
 import org.openmetadata.catalog.api.data.CreateTable;
 import org.openmetadata.catalog.api.tests.CreateColumnTest;
 import org.openmetadata.catalog.api.tests.CreateCustomMetric;
@@ -70,11 +72,13 @@ import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.DataModel;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.type.SQLQuery;
 import org.openmetadata.catalog.type.TableData;
 import org.openmetadata.catalog.type.TableJoins;
 import org.openmetadata.catalog.type.TableProfile;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
+import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
 
 @Path("/v1/tables")
@@ -102,17 +106,28 @@ public class TableResource extends EntityResource<Table, TableRepository> {
     allowedFields.add("customMetrics");
   }
 
+  public void initialize(CatalogApplicationConfig config) {
+    dao.setTableProfileRetentionDays(config.getTableProfileRetentionDays());
+  }
+
   public static class TableList extends ResultList<Table> {
     @SuppressWarnings("unused")
     public TableList() {
       /* Required for serde */
     }
 
-    public TableList(List<Table> data, String beforeCursor, String afterCursor, int total) {
+    public TableList(List<Table> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
 
+  public static class TableProfileList extends ResultList<TableProfile> {
+    @SuppressWarnings("unused")
+    public TableProfileList() {
+      /* Required for serde */
+    }
+  }
+
   static final String FIELDS =
       "tableConstraints,tablePartition,usageSummary,owner,profileSample,profileQuery,customMetrics,"
           + "tags,followers,joins,sampleData,viewDefinition,tableProfile,location,tableQueries,dataModel,tests,"
@@ -163,10 +178,50 @@ public class TableResource extends EntityResource<Table, TableRepository> {
               schema = @Schema(implementation = Include.class))
           @QueryParam("include")
           @DefaultValue("non-deleted")
-          Include include)
+          Include include,
+      @Parameter(
+              description = "Include the exact total number of entities, an approximate total, or no total.",
+              schema = @Schema(implementation = IncludeTotal.class))
+          @QueryParam("includeTotal")
+          @DefaultValue("exact")
+          IncludeTotal includeTotal)
       throws IOException {
     ListFilter filter = new ListFilter(include).addQueryParam("database", databaseParam);
-    return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after);
+    return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after, includeTotal);
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(MEDIA_TYPE_NDJSON)
+  @Operation(
+      operationId = "exportTables",
+      summary = "Export tables",
+      tags = "tables",
+      description =
+          "Stream all the tables as newline delimited JSON, one table per line, ordered by "
+              + "fully qualified name. Use this instead of paging through the list API to read all the tables.",
+      responses = {@ApiResponse(responseCode = "200", description = "Newline delimited JSON of tables")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Fields requested in the returned resource",
+              schema = @Schema(type = "string", example = FIELDS))
+          @QueryParam("fields")
+          String fieldsParam,
+      @Parameter(
+              description = "Filter tables by database fully qualified name",
+              schema = @Schema(type = "string", example = "snowflakeWestCoast.financeDB"))
+          @QueryParam("database")
+          String databaseParam,
+      @Parameter(
+              description = "Include all, deleted, or non-deleted entities.",
+              schema = @Schema(implementation = Include.class))
+          @QueryParam("include")
+          @DefaultValue("non-deleted")
+          Include include) {
+    ListFilter filter = new ListFilter(include).addQueryParam("database", databaseParam);
+    return exportInternal(uriInfo, securityContext, fieldsParam, filter);
   }
 
   @GET
@@ -252,9 +307,27 @@ public class TableResource extends EntityResource<Table, TableRepository> {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "table Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "table Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
-    return dao.listVersions(id);
+    return listVersionsInternal(id, summary, limitParam, before, after);
   }
 
   @GET
@@ -325,6 +398,33 @@ public class TableResource extends EntityResource<Table, TableRepository> {
     return createOrUpdate(uriInfo, securityContext, table, ADMIN | BOT | OWNER);
   }
 
+  @PUT
+  @Path("/bulk")
+  @Operation(
+      operationId = "bulkCreateOrUpdateTables",
+      summary = "Create or update a batch of tables",
+      tags = "tables",
+      description =
+          "Create the tables that do not exist and update the tables that already exist. All the tables are "
+              + "validated before any of them is stored. Intended for ingestion connectors loading many tables.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Number of tables created, updated and unchanged",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad request")
+      })
+  public Response bulkCreateOrUpdate(
+      @Context UriInfo uriInfo, @Context SecurityContext securityContext, @Valid List<CreateTable> creates)
+      throws IOException {
+    String user = securityContext.getUserPrincipal().getName();
+    List<Table> tables = new ArrayList<>(creates.size());
+    for (CreateTable create : creates) {
+      tables.add(getTable(create, user));
+    }
+    return bulkCreateOrUpdate(uriInfo, securityContext, tables, ADMIN | BOT);
+  }
+
   @PATCH
   @Path("/{id}")
   @Operation(
@@ -451,6 +551,54 @@ public class TableResource extends EntityResource<Table, TableRepository> {
     return addHref(uriInfo, table);
   }
 
+  @GET
+  @Path("/{id}/tableProfile")
+  @Operation(
+      operationId = "listTableProfiles",
+      summary = "List table profiles",
+      tags = "tables",
+      description =
+          "Get the profiles of the table, latest first, optionally between `startDate` and `endDate`. Use cursor-based "
+              + "pagination to limit the number entries in the list using `limit` and `before` or `after` query params.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "List of table profiles",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = TableProfileList.class))),
+        @ApiResponse(responseCode = "404", description = "Table for instance {id} is not found")
+      })
+  public ResultList<TableProfile> listTableProfiles(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the table", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(
+              description = "Profiles taken on or after this date",
+              schema = @Schema(type = "string", example = "2022-01-01"))
+          @QueryParam("startDate")
+          String startDate,
+      @Parameter(
+              description = "Profiles taken on or before this date",
+              schema = @Schema(type = "string", example = "2022-01-31"))
+          @QueryParam("endDate")
+          String endDate,
+      @Parameter(description = "Limit the number of profiles returned. (1 to 1000, default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns list of profiles before this cursor", schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of profiles after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
+      throws IOException {
+    RestUtil.validateCursors(before, after);
+    return dao.listTableProfiles(UUID.fromString(id), startDate, endDate, limitParam, before, after);
+  }
+
   @PUT
   @Path("/{id}/tableProfile")
   @Operation(
@@ -19,15 +19,19 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
-import javax.validation.Valid;
+import java.util.concurrent.TimeUnit;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriInfo;
@@ -37,7 +41,7 @@ import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.resources.Collection;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.type.ChangeEvent;
-import org.openmetadata.catalog.util.EntityUtil;
+import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
 
 @Path("/v1/events")
@@ -54,7 +58,7 @@ public class EventResource {
     @SuppressWarnings("unused") /* Required for tests */
     public ChangeEventList() {}
 
-    public ChangeEventList(List<ChangeEvent> data, String beforeCursor, String afterCursor, int total) {
+    public ChangeEventList(List<ChangeEvent> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
@@ -66,12 +70,14 @@ public class EventResource {
   }
 
   @GET
-  @Valid
   @Operation(
       operationId = "listChangeEvents",
       summary = "Get change events",
       tags = "events",
-      description = "Get a list of change events matching event types, entity type, from a given date",
+      description =
+          "Get a page of change events matching event types and entity types, in the order they were stored, from a "
+              + "given time or after a cursor. Use `wait` to wait for new events when there are none, instead of "
+              + "polling.",
       responses = {
         @ApiResponse(
             responseCode = "200",
@@ -80,7 +86,8 @@ public class EventResource {
                 @Content(mediaType = "application/json", schema = @Schema(implementation = ChangeEventList.class))),
         @ApiResponse(responseCode = "404", description = "Entity for instance {id} is not found")
       })
-  public ResultList<ChangeEvent> get(
+  public void get(
+      @Suspended AsyncResponse asyncResponse,
       @Context UriInfo uriInfo,
       @Parameter(
               description =
@@ -107,17 +114,45 @@ public class EventResource {
           @QueryParam("entityDeleted")
           String entityDeleted,
       @Parameter(
-              description = "Events starting from this unix timestamp in milliseconds",
-              required = true,
+              description =
+                  "Events starting from this unix timestamp in milliseconds. Ignored when `after` cursor is given.",
               schema = @Schema(type = "long", example = "1426349294842"))
           @QueryParam("timestamp")
-          long timestamp)
-      throws IOException {
+          long timestamp,
+      @Parameter(
+              description =
+                  "Returns events after this cursor, which is the `after` cursor of the previous page. The `after` "
+                      + "cursor is returned even when there are no events, to poll for the next events.",
+              schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after,
+      @Parameter(description = "Limit the number of events returned. (1 to 10000, default = 1000)")
+          @DefaultValue("1000")
+          @Min(1)
+          @Max(10000)
+          @QueryParam("limit")
+          int limit,
+      @Parameter(
+              description =
+                  "When there are no events, wait for up to this many seconds for new events before returning. "
+                      + "(0 to 60, default = 0)")
+          @DefaultValue("0")
+          @Min(0)
+          @Max(60)
+          @QueryParam("wait")
+          int waitSeconds) {
     List<String> entityCreatedList = EntityList.getEntityList("entityCreated", entityCreated);
     List<String> entityUpdatedList = EntityList.getEntityList("entityUpdated", entityUpdated);
     List<String> entityDeletedList = EntityList.getEntityList("entityDeleted", entityDeleted);
-    List<ChangeEvent> events = dao.list(timestamp, entityCreatedList, entityUpdatedList, entityDeletedList);
-    events.sort(EntityUtil.compareChangeEvent); // Sort change events based on time
-    return new ChangeEventList(events, null, null, events.size()); // TODO
+    // The request thread is released while waiting for new events, and the response is sent when the page is read
+    dao.list(
+            RestUtil.decodeCursor(after),
+            timestamp,
+            entityCreatedList,
+            entityUpdatedList,
+            entityDeletedList,
+            limit,
+            TimeUnit.SECONDS.toMillis(waitSeconds))
+        .whenComplete((events, e) -> asyncResponse.resume(e == null ? events : e));
   }
 }
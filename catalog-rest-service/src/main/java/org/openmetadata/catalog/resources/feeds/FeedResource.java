@@ -114,7 +114,7 @@ public class FeedResource {
     @SuppressWarnings("unused") /* Required for tests */
     public PostList() {}
 
-    public PostList(List<Post> data, String beforeCursor, String afterCursor, int total) {
+    public PostList(List<Post> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
 
@@ -403,7 +403,7 @@ public class FeedResource {
       operationId = "addPostToThread",
       summary = "Add post to a thread",
       tags = "feeds",
-      description = "Add a post to an existing thread.",
+      description = "Add a post to an existing thread. The thread is returned with its last posts.",
       responses = {
         @ApiResponse(
             responseCode = "200",
@@ -415,10 +415,17 @@ public class FeedResource {
       @Context SecurityContext securityContext,
       @Context UriInfo uriInfo,
       @PathParam("id") String id,
+      @Parameter(description = "Limit the number of posts returned with the thread (default = 3)")
+          @Min(0)
+          @Max(1000000)
+          @DefaultValue("3")
+          @QueryParam("limitPosts")
+          int limitPosts,
       @Valid CreatePost createPost)
       throws IOException {
     Post post = getPost(createPost);
-    Thread thread = addHref(uriInfo, dao.addPostToThread(id, post, securityContext.getUserPrincipal().getName()));
+    Thread thread =
+        addHref(uriInfo, dao.addPostToThread(id, post, securityContext.getUserPrincipal().getName(), limitPosts));
     return Response.created(thread.getHref()).entity(thread).build();
   }
 
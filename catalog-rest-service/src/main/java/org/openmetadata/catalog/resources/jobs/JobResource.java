@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources.jobs;
+
+import io.swagger.annotations.Api;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.io.IOException;
+import java.util.UUID;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.jobs.JobManager;
+import org.openmetadata.catalog.resources.Collection;
+import org.openmetadata.catalog.type.BackgroundJob;
+
+@Path("/v1/jobs")
+@Api(value = "Background jobs", tags = "jobs")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Collection(name = "jobs")
+public class JobResource {
+  @GET
+  @Path("/{id}")
+  @Operation(
+      operationId = "getJobByID",
+      summary = "Get a background job",
+      tags = "jobs",
+      description =
+          "Get the status and progress of a job run in the background, such as a delete requested with `async=true`.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The job",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BackgroundJob.class))),
+        @ApiResponse(responseCode = "404", description = "Job for instance {id} is not found")
+      })
+  public BackgroundJob get(
+      @Parameter(description = "Id of the job", schema = @Schema(type = "string")) @PathParam("id") UUID id)
+      throws IOException {
+    BackgroundJob job = JobManager.getInstance().get(id);
+    if (job == null) {
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound("job", id));
+    }
+    return job;
+  }
+}
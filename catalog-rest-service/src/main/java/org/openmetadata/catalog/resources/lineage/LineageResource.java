@@ -102,9 +102,13 @@ public class LineageResource {
           @Min(0)
           @Max(3)
           @QueryParam("downstreamDepth")
-          int downStreamDepth)
+          int downStreamDepth,
+      @Parameter(description = "Maximum number of nodes returned in the lineage (default = no limit)")
+          @Min(1)
+          @QueryParam("maxNodes")
+          Integer maxNodes)
       throws IOException {
-    return addHref(uriInfo, dao.get(entity, id, upstreamDepth, downStreamDepth));
+    return addHref(uriInfo, dao.get(entity, id, upstreamDepth, downStreamDepth, maxNodes));
   }
 
   @GET
@@ -147,9 +151,13 @@ public class LineageResource {
           @Min(0)
           @Max(3)
           @QueryParam("downstreamDepth")
-          int downStreamDepth)
+          int downStreamDepth,
+      @Parameter(description = "Maximum number of nodes returned in the lineage (default = no limit)")
+          @Min(1)
+          @QueryParam("maxNodes")
+          Integer maxNodes)
       throws IOException {
-    return addHref(uriInfo, dao.getByName(entity, fqn, upstreamDepth, downStreamDepth));
+    return addHref(uriInfo, dao.getByName(entity, fqn, upstreamDepth, downStreamDepth, maxNodes));
   }
 
   @PUT
@@ -63,6 +63,7 @@ import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
 
@@ -93,11 +94,18 @@ public class PipelineResource extends EntityResource<Pipeline, PipelineRepositor
       // Empty constructor needed for deserialization
     }
 
-    public PipelineList(List<Pipeline> data, String beforeCursor, String afterCursor, int total) {
+    public PipelineList(List<Pipeline> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
 
+  public static class PipelineStatusList extends ResultList<PipelineStatus> {
+    @SuppressWarnings("unused")
+    public PipelineStatusList() {
+      // Empty constructor needed for deserialization
+    }
+  }
+
   static final String FIELDS = "owner,tasks,pipelineStatus,followers,tags";
 
   @GET
@@ -146,10 +154,50 @@ public class PipelineResource extends EntityResource<Pipeline, PipelineRepositor
               schema = @Schema(implementation = Include.class))
           @QueryParam("include")
           @DefaultValue("non-deleted")
-          Include include)
+          Include include,
+      @Parameter(
+              description = "Include the exact total number of entities, an approximate total, or no total.",
+              schema = @Schema(implementation = IncludeTotal.class))
+          @QueryParam("includeTotal")
+          @DefaultValue("exact")
+          IncludeTotal includeTotal)
       throws IOException {
     ListFilter filter = new ListFilter(include).addQueryParam("service", serviceParam);
-    return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after);
+    return super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after, includeTotal);
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(MEDIA_TYPE_NDJSON)
+  @Operation(
+      operationId = "exportPipelines",
+      summary = "Export pipelines",
+      tags = "pipelines",
+      description =
+          "Stream all the pipelines as newline delimited JSON, one pipeline per line, ordered by "
+              + "fully qualified name. Use this instead of paging through the list API to read all the pipelines.",
+      responses = {@ApiResponse(responseCode = "200", description = "Newline delimited JSON of pipelines")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Fields requested in the returned resource",
+              schema = @Schema(type = "string", example = FIELDS))
+          @QueryParam("fields")
+          String fieldsParam,
+      @Parameter(
+              description = "Filter pipelines by service name",
+              schema = @Schema(type = "string", example = "airflow"))
+          @QueryParam("service")
+          String serviceParam,
+      @Parameter(
+              description = "Include all, deleted, or non-deleted entities.",
+              schema = @Schema(implementation = Include.class))
+          @QueryParam("include")
+          @DefaultValue("non-deleted")
+          Include include) {
+    ListFilter filter = new ListFilter(include).addQueryParam("service", serviceParam);
+    return exportInternal(uriInfo, securityContext, fieldsParam, filter);
   }
 
   @GET
@@ -168,9 +216,27 @@ public class PipelineResource extends EntityResource<Pipeline, PipelineRepositor
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "pipeline Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "pipeline Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
-    return dao.listVersions(id);
+    return listVersionsInternal(id, summary, limitParam, before, after);
   }
 
   @GET
@@ -334,6 +400,55 @@ public class PipelineResource extends EntityResource<Pipeline, PipelineRepositor
     return createOrUpdate(uriInfo, securityContext, pipeline, ADMIN | BOT | OWNER);
   }
 
+  @GET
+  @Path("/{id}/status")
+  @Operation(
+      operationId = "listPipelineStatuses",
+      summary = "List pipeline status",
+      tags = "pipelines",
+      description =
+          "Get the run history of the pipeline, latest first, optionally between `startTs` and `endTs`. Use "
+              + "cursor-based pagination to limit the number entries in the list using `limit` and `before` or "
+              + "`after` query params.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "List of pipeline status",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = PipelineStatusList.class))),
+        @ApiResponse(responseCode = "404", description = "Pipeline for instance {id} is not found")
+      })
+  public ResultList<PipelineStatus> listPipelineStatuses(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Id of the pipeline", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(
+              description = "Runs with execution date on or after this timestamp in milliseconds",
+              schema = @Schema(type = "number"))
+          @QueryParam("startTs")
+          Long startTs,
+      @Parameter(
+              description = "Runs with execution date on or before this timestamp in milliseconds",
+              schema = @Schema(type = "number"))
+          @QueryParam("endTs")
+          Long endTs,
+      @Parameter(description = "Limit the number of runs returned. (1 to 1000, default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns list of runs before this cursor", schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of runs after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
+      throws IOException {
+    RestUtil.validateCursors(before, after);
+    return dao.listPipelineStatus(UUID.fromString(id), startTs, endTs, limitParam, before, after);
+  }
+
   @PUT
   @Path("/{id}/status")
   @Operation(
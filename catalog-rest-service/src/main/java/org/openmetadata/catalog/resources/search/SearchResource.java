@@ -16,6 +16,7 @@ package org.openmetadata.catalog.resources.search;
 import static javax.ws.rs.core.Response.Status.OK;
 import static org.openmetadata.catalog.Entity.FIELD_DESCRIPTION;
 import static org.openmetadata.catalog.Entity.FIELD_NAME;
+import static org.openmetadata.catalog.security.SecurityUtil.ADMIN;
 import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 
 import io.swagger.annotations.Api;
@@ -25,15 +26,20 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +60,12 @@ import org.elasticsearch.search.suggest.SuggestBuilder;
 import org.elasticsearch.search.suggest.SuggestBuilders;
 import org.elasticsearch.search.suggest.completion.CompletionSuggestionBuilder;
 import org.openmetadata.catalog.elasticsearch.ElasticSearchConfiguration;
+import org.openmetadata.catalog.elasticsearch.ElasticSearchIndexDefinition.ElasticSearchIndexType;
+import org.openmetadata.catalog.elasticsearch.ElasticSearchReindexer;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.security.Authorizer;
+import org.openmetadata.catalog.security.SecurityUtil;
+import org.openmetadata.catalog.type.BackgroundJob;
 import org.openmetadata.catalog.util.ElasticSearchClientUtils;
 
 @Slf4j
@@ -62,6 +74,8 @@ import org.openmetadata.catalog.util.ElasticSearchClientUtils;
 @Produces(MediaType.APPLICATION_JSON)
 public class SearchResource {
   private final RestHighLevelClient client;
+  private final ElasticSearchReindexer reindexer;
+  private final Authorizer authorizer;
   private static final Integer MAX_AGGREGATE_SIZE = 50;
   private static final Integer MAX_RESULT_HITS = 10000;
   private static final String NAME = "name";
@@ -69,8 +83,56 @@ public class SearchResource {
   private static final String DESCRIPTION = "description";
   private static final String UNIFIED = "unified";
 
-  public SearchResource(ElasticSearchConfiguration esConfig) {
+  public SearchResource(ElasticSearchConfiguration esConfig, CollectionDAO dao, Authorizer authorizer) {
     this.client = ElasticSearchClientUtils.createElasticSearchClient(esConfig);
+    this.reindexer = new ElasticSearchReindexer(esConfig, dao);
+    this.authorizer = authorizer;
+  }
+
+  @POST
+  @Path("/reindex")
+  @Operation(
+      operationId = "reindexSearch",
+      summary = "Rebuild the search indexes",
+      tags = "search",
+      description =
+          "Rebuild the search indexes from the entities in the database as a background job. Each index is rebuilt "
+              + "into a new index and switched at once when it is complete. Use `jobs/{id}` to follow the progress of "
+              + "the returned job. The last reindex job that failed or was interrupted is resumed from where it "
+              + "stopped, unless `resume=false`.",
+      responses = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "The reindex job",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BackgroundJob.class))),
+        @ApiResponse(responseCode = "400", description = "Unknown index")
+      })
+  public Response reindex(
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Comma separated names of the indexes to rebuild, defaults to all the indexes")
+          @QueryParam("index")
+          String indexParam,
+      @Parameter(description = "Resume the last reindex job that failed or was interrupted instead of starting over")
+          @DefaultValue("true")
+          @QueryParam("resume")
+          boolean resume)
+      throws IOException {
+    SecurityUtil.authorizeAdmin(authorizer, securityContext, ADMIN);
+    List<ElasticSearchIndexType> indexes = new ArrayList<>();
+    if (nullOrEmpty(indexParam)) {
+      indexes.addAll(List.of(ElasticSearchIndexType.values()));
+    } else {
+      for (String indexName : indexParam.replace(" ", "").split(",")) {
+        indexes.add(
+            Arrays.stream(ElasticSearchIndexType.values())
+                .filter(indexType -> indexType.indexName.equals(indexName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown index " + indexName)));
+      }
+    }
+    String createdBy = securityContext.getUserPrincipal().getName();
+    BackgroundJob job = reindexer.reindex(indexes, createdBy, resume);
+    return Response.status(Status.ACCEPTED).entity(job).build();
   }
 
   @GET
@@ -61,6 +61,7 @@ import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
@@ -92,7 +93,7 @@ public class DashboardServiceResource extends EntityResource<DashboardService, D
     @SuppressWarnings("unused") /* Required for tests */
     public DashboardServiceList() {}
 
-    public DashboardServiceList(List<DashboardService> data, String beforeCursor, String afterCursor, int total) {
+    public DashboardServiceList(List<DashboardService> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
@@ -135,11 +136,17 @@ public class DashboardServiceResource extends EntityResource<DashboardService, D
               schema = @Schema(implementation = Include.class))
           @QueryParam("include")
           @DefaultValue("non-deleted")
-          Include include)
+          Include include,
+      @Parameter(
+              description = "Include the exact total number of entities, an approximate total, or no total.",
+              schema = @Schema(implementation = IncludeTotal.class))
+          @QueryParam("includeTotal")
+          @DefaultValue("exact")
+          IncludeTotal includeTotal)
       throws IOException {
     ListFilter filter = new ListFilter(include);
     ResultList<DashboardService> dashboardServices =
-        super.listInternal(uriInfo, null, fieldsParam, filter, limitParam, before, after);
+        super.listInternal(uriInfo, null, fieldsParam, filter, limitParam, before, after, includeTotal);
     return addHref(uriInfo, decryptOrNullify(securityContext, dashboardServices));
   }
 
@@ -229,8 +236,29 @@ public class DashboardServiceResource extends EntityResource<DashboardService, D
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "dashboard service Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "dashboard service Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
+    if (summary) {
+      return listVersionsInternal(id, true, limitParam, before, after);
+    }
     EntityHistory entityHistory = dao.listVersions(id);
     List<Object> versions =
         entityHistory.getVersions().stream()
@@ -335,6 +363,7 @@ public class DashboardServiceResource extends EntityResource<DashboardService, D
           "Delete a Dashboard services. If dashboard (and charts) belong to the service, it can't be " + "deleted.",
       responses = {
         @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "202", description = "Delete job accepted"),
         @ApiResponse(responseCode = "404", description = "DashboardService service for instance {id} " + "is not found")
       })
   public Response delete(
@@ -348,9 +377,16 @@ public class DashboardServiceResource extends EntityResource<DashboardService, D
           @QueryParam("hardDelete")
           @DefaultValue("false")
           boolean hardDelete,
+      @Parameter(description = "Delete in the background and return the job tracking the delete. (Default = `false`)")
+          @QueryParam("async")
+          @DefaultValue("false")
+          boolean async,
       @Parameter(description = "Id of the dashboard service", schema = @Schema(type = "string")) @PathParam("id")
           String id)
       throws IOException {
+    if (async) {
+      return deleteInBackground(securityContext, id, recursive, hardDelete, ADMIN | BOT);
+    }
     return delete(uriInfo, securityContext, id, recursive, hardDelete, ADMIN | BOT);
   }
 
@@ -61,6 +61,7 @@ import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil;
@@ -95,7 +96,7 @@ public class DatabaseServiceResource extends EntityResource<DatabaseService, Dat
     @SuppressWarnings("unused") /* Required for tests */
     public DatabaseServiceList() {}
 
-    public DatabaseServiceList(List<DatabaseService> data, String beforeCursor, String afterCursor, int total) {
+    public DatabaseServiceList(List<DatabaseService> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
@@ -135,7 +136,13 @@ public class DatabaseServiceResource extends EntityResource<DatabaseService, Dat
               schema = @Schema(implementation = Include.class))
           @QueryParam("include")
           @DefaultValue("non-deleted")
-          Include include)
+          Include include,
+      @Parameter(
+              description = "Include the exact total number of entities, an approximate total, or no total.",
+              schema = @Schema(implementation = IncludeTotal.class))
+          @QueryParam("includeTotal")
+          @DefaultValue("exact")
+          IncludeTotal includeTotal)
       throws IOException {
     RestUtil.validateCursors(before, after);
     EntityUtil.Fields fields = getFields(fieldsParam);
@@ -143,9 +150,9 @@ public class DatabaseServiceResource extends EntityResource<DatabaseService, Dat
 
     ListFilter filter = new ListFilter(include);
     if (before != null) {
-      dbServices = dao.listBefore(uriInfo, fields, filter, limitParam, before);
+      dbServices = dao.listBefore(uriInfo, fields, filter, limitParam, before, includeTotal);
     } else {
-      dbServices = dao.listAfter(uriInfo, fields, filter, limitParam, after);
+      dbServices = dao.listAfter(uriInfo, fields, filter, limitParam, after, includeTotal);
     }
     return addHref(uriInfo, decryptOrNullify(securityContext, dbServices));
   }
@@ -236,8 +243,29 @@ public class DatabaseServiceResource extends EntityResource<DatabaseService, Dat
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "database service Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "database service Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
+    if (summary) {
+      return listVersionsInternal(id, true, limitParam, before, after);
+    }
     EntityHistory entityHistory = dao.listVersions(id);
     List<Object> versions =
         entityHistory.getVersions().stream()
@@ -342,6 +370,7 @@ public class DatabaseServiceResource extends EntityResource<DatabaseService, Dat
           "Delete a database services. If databases (and tables) belong the service, it can't be " + "deleted.",
       responses = {
         @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "202", description = "Delete job accepted"),
         @ApiResponse(responseCode = "404", description = "DatabaseService service for instance {id} " + "is not found")
       })
   public Response delete(
@@ -355,9 +384,16 @@ public class DatabaseServiceResource extends EntityResource<DatabaseService, Dat
           @QueryParam("hardDelete")
           @DefaultValue("false")
           boolean hardDelete,
+      @Parameter(description = "Delete in the background and return the job tracking the delete. (Default = `false`)")
+          @QueryParam("async")
+          @DefaultValue("false")
+          boolean async,
       @Parameter(description = "Id of the database service", schema = @Schema(type = "string")) @PathParam("id")
           String id)
       throws IOException {
+    if (async) {
+      return deleteInBackground(securityContext, id, recursive, hardDelete, ADMIN | BOT);
+    }
     return delete(uriInfo, securityContext, id, recursive, hardDelete, ADMIN | BOT);
   }
 
@@ -60,6 +60,7 @@ import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.type.IncludeTotal;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
@@ -89,7 +90,7 @@ public class MessagingServiceResource extends EntityResource<MessagingService, M
     @SuppressWarnings("unused") /* Required for tests */
     public MessagingServiceList() {}
 
-    public MessagingServiceList(List<MessagingService> data, String beforeCursor, String afterCursor, int total) {
+    public MessagingServiceList(List<MessagingService> data, String beforeCursor, String afterCursor, Integer total) {
       super(data, beforeCursor, afterCursor, total);
     }
   }
@@ -134,11 +135,17 @@ public class MessagingServiceResource extends EntityResource<MessagingService, M
               schema = @Schema(implementation = Include.class))
           @QueryParam("include")
           @DefaultValue("non-deleted")
-          Include include)
+          Include include,
+      @Parameter(
+              description = "Include the exact total number of entities, an approximate total, or no total.",
+              schema = @Schema(implementation = IncludeTotal.class))
+          @QueryParam("includeTotal")
+          @DefaultValue("exact")
+          IncludeTotal includeTotal)
       throws IOException {
     ListFilter filter = new ListFilter(include);
     ResultList<MessagingService> messagingServices =
-        super.listInternal(uriInfo, null, fieldsParam, filter, limitParam, before, after);
+        super.listInternal(uriInfo, null, fieldsParam, filter, limitParam, before, after, includeTotal);
     return addHref(uriInfo, decryptOrNullify(securityContext, messagingServices));
   }
 
@@ -228,8 +235,29 @@ public class MessagingServiceResource extends EntityResource<MessagingService, M
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "messaging service Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "messaging service Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
+    if (summary) {
+      return listVersionsInternal(id, true, limitParam, before, after);
+    }
     EntityHistory entityHistory = dao.listVersions(id);
     List<Object> versions =
         entityHistory.getVersions().stream()
@@ -333,6 +361,7 @@ public class MessagingServiceResource extends EntityResource<MessagingService, M
       description = "Delete a messaging service. If topics belong the service, it can't be " + "deleted.",
       responses = {
         @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "202", description = "Delete job accepted"),
         @ApiResponse(responseCode = "404", description = "MessagingService service for instance {id} " + "is not found")
       })
   public Response delete(
@@ -346,9 +375,16 @@ public class MessagingServiceResource extends EntityResource<MessagingService, M
           @QueryParam("hardDelete")
           @DefaultValue("false")
           boolean hardDelete,
+      @Parameter(description = "Delete in the background and return the job tracking the delete. (Default = `false`)")
+          @QueryParam("async")
+          @DefaultValue("false")
+          boolean async,
       @Parameter(description = "Id of the messaging service", schema = @Schema(type = "string")) @PathParam("id")
           String id)
       throws IOException {
+    if (async) {
+      return deleteInBackground(securityContext, id, recursive, hardDelete, ADMIN | BOT);
+    }
     return delete(uriInfo, securityContext, id, recursive, hardDelete, ADMIN | BOT);
   }
 
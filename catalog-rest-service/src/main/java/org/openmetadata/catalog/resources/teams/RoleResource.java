@@ -120,7 +120,7 @@ public class RoleResource extends EntityResource<Role, RoleRepository> {
     @SuppressWarnings("unused") /* Required for tests */
     RoleList() {}
 
-    public RoleList(List<Role> roles, String beforeCursor, String afterCursor, int total) {
+    public RoleList(List<Role> roles, String beforeCursor, String afterCursor, Integer total) {
       super(roles, beforeCursor, afterCursor, total);
     }
   }
@@ -204,9 +204,27 @@ public class RoleResource extends EntityResource<Role, RoleRepository> {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "role Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "role Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Parameter(description = "List the versions as summaries with the change description of each version")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          boolean summary,
+      @Parameter(description = "Limit the number of versions returned when listed as summaries (default = 10)")
+          @DefaultValue("10")
+          @Min(0)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(
+              description = "Returns list of version summaries before this cursor",
+              schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of version summaries after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
       throws IOException {
-    return dao.listVersions(id);
+    return listVersionsInternal(id, summary, limitParam, before, after);
   }
 
   @GET
@@ -34,9 +34,12 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.api.usage.ReportUsageBatch;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.UsageRepository;
 import org.openmetadata.catalog.resources.Collection;
@@ -60,6 +63,10 @@ public class UsageResource {
     this.dao = new UsageRepository(dao);
   }
 
+  public void initialize(CatalogApplicationConfig config) {
+    dao.schedulePercentileComputation();
+  }
+
   @GET
   @Valid
   @Path("/{entity}/{id}")
@@ -211,6 +218,35 @@ public class UsageResource {
     return dao.createByName(entity, fullyQualifiedName, usage).toResponse();
   }
 
+  @POST
+  @Path("/{entity}/batch")
+  @Operation(
+      operationId = "reportEntityUsageBatch",
+      summary = "Report usage of a batch of entities",
+      tags = "usage",
+      description =
+          "Report usage information for a batch of entities of the same type. Usage percentiles are not computed "
+              + "when usage is reported. They are computed once a day, or using the compute percentile API.",
+      responses = {
+        @ApiResponse(responseCode = "200", description = "Usage information is recorded"),
+        @ApiResponse(responseCode = "400", description = "Bad request"),
+        @ApiResponse(responseCode = "404", description = "Entity for instance {id} is not found")
+      })
+  public Response createBatch(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Entity type for which usage is reported",
+              required = true,
+              schema = @Schema(type = "string", example = "table, dashboard, chart, or mlmodel"))
+          @PathParam("entity")
+          String entity,
+      @Parameter(description = "Usage information of the entities") @Valid ReportUsageBatch usage)
+      throws IOException {
+    dao.createBatch(entity, usage, securityContext.getUserPrincipal().getName());
+    return Response.ok().build();
+  }
+
   @POST
   @Path("/compute.percentile/{entity}/{date}")
   @Operation(
@@ -235,7 +271,6 @@ public class UsageResource {
               schema = @Schema(type = "string", example = "2021-01-28"))
           @PathParam("date")
           String date) {
-    // TODO delete this?
     dao.computePercentile(entity, date);
     return Response.status(Response.Status.CREATED).build();
   }
@@ -32,6 +32,10 @@ public class AuthenticationConfiguration {
   @Getter @Setter private String clientId;
   @Getter @Setter private String callbackUrl;
   @Getter @Setter private List<String> jwtPrincipalClaims;
+  @Getter @Setter private long jwksRefreshIntervalSeconds = 900;
+  @Getter @Setter private long jwksMinRefetchIntervalSeconds = 30;
+  @Getter @Setter private long verifiedTokenCacheSize = 10000;
+  @Getter @Setter private long verifiedTokenCacheTtlSeconds = 300;
 
   @Override
   public String toString() {
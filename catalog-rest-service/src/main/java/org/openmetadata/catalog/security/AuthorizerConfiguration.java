@@ -26,6 +26,8 @@ public class AuthorizerConfiguration {
   @NotEmpty @Getter @Setter private String principalDomain;
   @NotEmpty @Getter @Setter private Boolean enforcePrincipalDomain;
   @NotEmpty @Getter @Setter private Boolean enableSecureSocketConnection;
+  @Getter @Setter private long permissionCacheSize = 10000;
+  @Getter @Setter private long permissionCacheTtlSeconds = 300;
 
   @Override
   public String toString() {
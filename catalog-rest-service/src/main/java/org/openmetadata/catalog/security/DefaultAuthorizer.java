@@ -32,8 +32,10 @@ import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.EventPubSub;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.EntityRepository;
+import org.openmetadata.catalog.security.PermissionCache.SubjectContext;
 import org.openmetadata.catalog.security.policyevaluator.RoleEvaluator;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.Include;
@@ -46,6 +48,7 @@ public class DefaultAuthorizer implements Authorizer {
   private Set<String> adminUsers;
   private Set<String> botUsers;
   private String principalDomain;
+  private PermissionCache permissionCache;
 
   @Override
   public void init(AuthorizerConfiguration config, Jdbi dbi) {
@@ -53,6 +56,9 @@ public class DefaultAuthorizer implements Authorizer {
     this.adminUsers = new HashSet<>(config.getAdminPrincipals());
     this.botUsers = new HashSet<>(config.getBotPrincipals());
     this.principalDomain = config.getPrincipalDomain();
+    this.permissionCache = new PermissionCache(config.getPermissionCacheSize(), config.getPermissionCacheTtlSeconds());
+    // Change events on users, teams, roles and policies invalidate the cached subject contexts and decisions
+    EventPubSub.addEventHandler(permissionCache);
     LOG.debug("Admin users: {}", adminUsers);
     mayBeAddAdminUsers();
     mayBeAddBotUsers();
@@ -122,23 +128,30 @@ public class DefaultAuthorizer implements Authorizer {
       AuthenticationContext ctx, EntityReference entityReference, MetadataOperation operation) {
     validate(ctx);
     try {
-      EntityRepository<User> userRepository = Entity.getEntityRepository(Entity.USER);
-      Fields fieldsRolesAndTeams = userRepository.getFields("roles, teams");
-      User user = getUserFromAuthenticationContext(ctx, fieldsRolesAndTeams);
-      List<EntityReference> allRoles = getAllRoles(user);
+      SubjectContext subject = getSubjectContext(ctx);
       if (entityReference == null) {
         // In some cases there is no specific entity being acted upon. Eg: Lineage.
-        return RoleEvaluator.getInstance().hasPermissions(allRoles, null, operation);
+        return permissionCache.hasPermission(
+            subject,
+            null,
+            operation,
+            () -> RoleEvaluator.getInstance().hasPermissions(subject.getRoles(), null, operation));
       }
 
       EntityInterface entity =
           Entity.getEntity(entityReference, new Fields(List.of("tags", FIELD_OWNER)), Include.NON_DELETED);
       EntityReference owner = entity.getOwner();
 
-      if (Entity.shouldHaveOwner(entityReference.getType()) && owner != null && isOwnedByUser(user, owner)) {
+      if (Entity.shouldHaveOwner(entityReference.getType())
+          && owner != null
+          && isOwnedByUser(subject.getUser(), owner)) {
         return true; // Entity is owned by the user.
       }
-      return RoleEvaluator.getInstance().hasPermissions(allRoles, entity, operation);
+      return permissionCache.hasPermission(
+          subject,
+          entity,
+          operation,
+          () -> RoleEvaluator.getInstance().hasPermissions(subject.getRoles(), entity, operation));
     } catch (IOException | EntityNotFoundException ex) {
       return false;
     }
@@ -154,21 +167,20 @@ public class DefaultAuthorizer implements Authorizer {
     }
 
     try {
-      EntityRepository<User> userRepository = Entity.getEntityRepository(Entity.USER);
-      Fields fieldsRolesAndTeams = userRepository.getFields("roles, teams");
-      User user = getUserFromAuthenticationContext(ctx, fieldsRolesAndTeams);
-      List<EntityReference> allRoles = getAllRoles(user);
+      SubjectContext subject = getSubjectContext(ctx);
       if (entityReference == null) {
-        return RoleEvaluator.getInstance().getAllowedOperations(allRoles, null);
+        return permissionCache.getAllowedOperations(
+            subject, null, () -> RoleEvaluator.getInstance().getAllowedOperations(subject.getRoles(), null));
       }
       EntityInterface entity =
           Entity.getEntity(entityReference, new Fields(List.of("tags", FIELD_OWNER)), Include.NON_DELETED);
       EntityReference owner = entity.getOwner();
-      if (owner == null || isOwnedByUser(user, owner)) {
+      if (owner == null || isOwnedByUser(subject.getUser(), owner)) {
         // Entity does not have an owner or is owned by the user - allow all operations.
         return Stream.of(MetadataOperation.values()).collect(Collectors.toList());
       }
-      return RoleEvaluator.getInstance().getAllowedOperations(allRoles, entity);
+      return permissionCache.getAllowedOperations(
+          subject, entity, () -> RoleEvaluator.getInstance().getAllowedOperations(subject.getRoles(), entity));
     } catch (IOException | EntityNotFoundException ex) {
       return Collections.emptyList();
     }
@@ -193,7 +205,7 @@ public class DefaultAuthorizer implements Authorizer {
   public boolean isAdmin(AuthenticationContext ctx) {
     validate(ctx);
     try {
-      User user = getUserFromAuthenticationContext(ctx, Fields.EMPTY_FIELDS);
+      User user = getSubjectContext(ctx).getUser();
       return Boolean.TRUE.equals(user.getIsAdmin());
     } catch (IOException | EntityNotFoundException ex) {
       return false;
@@ -204,7 +216,7 @@ public class DefaultAuthorizer implements Authorizer {
   public boolean isBot(AuthenticationContext ctx) {
     validate(ctx);
     try {
-      User user = getUserFromAuthenticationContext(ctx, Fields.EMPTY_FIELDS);
+      User user = getSubjectContext(ctx).getUser();
       return Boolean.TRUE.equals(user.getIsBot());
     } catch (IOException | EntityNotFoundException ex) {
       return false;
@@ -218,10 +230,7 @@ public class DefaultAuthorizer implements Authorizer {
     }
     validate(ctx);
     try {
-      EntityRepository<User> userRepository = Entity.getEntityRepository(Entity.USER);
-      Fields fieldsTeams = userRepository.getFields("teams");
-      User user = getUserFromAuthenticationContext(ctx, fieldsTeams);
-      return isOwnedByUser(user, owner);
+      return isOwnedByUser(getSubjectContext(ctx).getUser(), owner);
     } catch (IOException | EntityNotFoundException ex) {
       return false;
     }
@@ -233,23 +242,18 @@ public class DefaultAuthorizer implements Authorizer {
     }
   }
 
-  private User getUserFromAuthenticationContext(AuthenticationContext ctx, Fields fields) throws IOException {
-    EntityRepository<User> userRepository = Entity.getEntityRepository(Entity.USER);
-    if (ctx.getUser() != null) {
-      // If a requested field is not present in the user, then add it
-      for (String field : fields.getFieldList()) {
-        if (!ctx.getUserFields().contains(field)) {
-          userRepository.setFields(ctx.getUser(), userRepository.getFields(field));
-          ctx.getUserFields().add(fields);
-        }
-      }
-      return ctx.getUser();
-    }
+  /** Get the user with roles and teams, along with all the roles of the user, from the permission cache */
+  private SubjectContext getSubjectContext(AuthenticationContext ctx) throws IOException {
     String userName = SecurityUtil.getUserName(ctx);
-    User user = userRepository.getByName(null, userName, fields);
-    ctx.setUser(user);
-    ctx.setUserFields(fields);
-    return user;
+    SubjectContext subject = permissionCache.getSubjectContext(userName, () -> loadSubjectContext(userName));
+    ctx.setUser(subject.getUser());
+    return subject;
+  }
+
+  private SubjectContext loadSubjectContext(String userName) throws IOException {
+    EntityRepository<User> userRepository = Entity.getEntityRepository(Entity.USER);
+    User user = userRepository.getByName(null, userName, userRepository.getFields("roles, teams"));
+    return new SubjectContext(user, getAllRoles(user));
   }
 
   private void addOrUpdateUser(User user) {
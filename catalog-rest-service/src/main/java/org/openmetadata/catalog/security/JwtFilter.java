@@ -22,16 +22,21 @@ import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
 import io.dropwizard.util.Strings;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.core.MultivaluedMap;
@@ -52,7 +57,7 @@ import org.openmetadata.catalog.util.JsonUtils;
 
 @Slf4j
 @Provider
-public class JwtFilter implements ContainerRequestFilter {
+public class JwtFilter implements ContainerRequestFilter, AutoCloseable {
   public static final String AUTHORIZATION_HEADER = "Authorization";
   public static final String TOKEN_PREFIX = "Bearer";
   public static final String BOT_CLAIM = "isBot";
@@ -61,6 +66,12 @@ public class JwtFilter implements ContainerRequestFilter {
   private String principalDomain;
   private boolean enforcePrincipalDomain;
 
+  /**
+   * Tokens that passed signature verification keyed by the SHA-256 hash of the token. Entries expire after a time to
+   * live and are not used after the token expires.
+   */
+  private Cache<String, DecodedJWT> verifiedTokens;
+
   @SuppressWarnings("unused")
   private JwtFilter() {}
 
@@ -73,9 +84,17 @@ public class JwtFilter implements ContainerRequestFilter {
     for (String publicKeyUrlStr : authenticationConfiguration.getPublicKeyUrls()) {
       publicKeyUrlsBuilder.add(new URL(publicKeyUrlStr));
     }
-    this.jwkProvider = new MultiUrlJwkProvider(publicKeyUrlsBuilder.build());
+    this.jwkProvider =
+        new MultiUrlJwkProvider(
+            publicKeyUrlsBuilder.build(),
+            authenticationConfiguration.getJwksRefreshIntervalSeconds(),
+            authenticationConfiguration.getJwksMinRefetchIntervalSeconds());
     this.principalDomain = authorizerConfiguration.getPrincipalDomain();
     this.enforcePrincipalDomain = authorizerConfiguration.getEnforcePrincipalDomain();
+    this.verifiedTokens =
+        newVerifiedTokenCache(
+            authenticationConfiguration.getVerifiedTokenCacheSize(),
+            authenticationConfiguration.getVerifiedTokenCacheTtlSeconds());
   }
 
   @VisibleForTesting
@@ -88,6 +107,13 @@ public class JwtFilter implements ContainerRequestFilter {
     this.jwtPrincipalClaims = jwtPrincipalClaims;
     this.principalDomain = principalDomain;
     this.enforcePrincipalDomain = enforcePrincipalDomain;
+    AuthenticationConfiguration defaults = new AuthenticationConfiguration();
+    this.verifiedTokens =
+        newVerifiedTokenCache(defaults.getVerifiedTokenCacheSize(), defaults.getVerifiedTokenCacheTtlSeconds());
+  }
+
+  private static Cache<String, DecodedJWT> newVerifiedTokenCache(long maxSize, long ttlSeconds) {
+    return CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
   }
 
   @SneakyThrows
@@ -126,6 +152,21 @@ public class JwtFilter implements ContainerRequestFilter {
 
   @SneakyThrows
   public DecodedJWT validateAndReturnDecodedJwtToken(String token) {
+    if (token == null) {
+      throw new AuthenticationException("Invalid token");
+    }
+
+    // Token verified earlier only needs to be checked for expiry
+    String tokenHash = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    DecodedJWT verifiedJwt = verifiedTokens.getIfPresent(tokenHash);
+    if (verifiedJwt != null) {
+      if (isExpired(verifiedJwt)) {
+        verifiedTokens.invalidate(tokenHash);
+        throw new AuthenticationException("Expired token!");
+      }
+      return verifiedJwt;
+    }
+
     // Decode JWT Token
     DecodedJWT jwt;
     try {
@@ -135,9 +176,7 @@ public class JwtFilter implements ContainerRequestFilter {
     }
 
     // Check if expired
-    // If expiresAt is set to null, treat it as never expiring token
-    if (jwt.getExpiresAt() != null
-        && jwt.getExpiresAt().before(Calendar.getInstance(TimeZone.getTimeZone("UTC")).getTime())) {
+    if (isExpired(jwt)) {
       throw new AuthenticationException("Expired token!");
     }
 
@@ -149,9 +188,16 @@ public class JwtFilter implements ContainerRequestFilter {
     } catch (RuntimeException runtimeException) {
       throw new AuthenticationException("Invalid token");
     }
+    verifiedTokens.put(tokenHash, jwt);
     return jwt;
   }
 
+  private static boolean isExpired(DecodedJWT jwt) {
+    // If expiresAt is set to null, treat it as never expiring token
+    return jwt.getExpiresAt() != null
+        && jwt.getExpiresAt().before(Calendar.getInstance(TimeZone.getTimeZone("UTC")).getTime());
+  }
+
   @SneakyThrows
   public String validateAndReturnUsername(Map<String, Claim> claims) {
     // Get username from JWT token
@@ -224,4 +270,12 @@ public class JwtFilter implements ContainerRequestFilter {
     }
     throw new AuthenticationException("Not Authorized! Invalid Token");
   }
+
+  /** Stop refreshing the JWKS keys in the background */
+  @Override
+  public void close() {
+    if (jwkProvider instanceof MultiUrlJwkProvider) {
+      ((MultiUrlJwkProvider) jwkProvider).close();
+    }
+  }
 }
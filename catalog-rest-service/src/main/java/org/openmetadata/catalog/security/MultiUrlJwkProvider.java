@@ -18,27 +18,123 @@ import com.auth0.jwk.JwkException;
 import com.auth0.jwk.JwkProvider;
 import com.auth0.jwk.SigningKeyNotFoundException;
 import com.auth0.jwk.UrlJwkProvider;
+import com.google.common.annotations.VisibleForTesting;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 
-final class MultiUrlJwkProvider implements JwkProvider {
+/**
+ * Provides the keys from the JWKS documents at the public key URLs.
+ *
+ * <p>The keys are kept in memory and refreshed in the background so that validating a token does not fetch the JWKS
+ * documents. A key id that is not known fetches the documents again to pick up rotated keys. These fetches are rate
+ * limited so that tokens with made up key ids can't be used to flood the identity provider with requests.
+ */
+@Slf4j
+final class MultiUrlJwkProvider implements JwkProvider, AutoCloseable {
   private final List<UrlJwkProvider> urlJwkProviders;
+  private final long minRefetchIntervalNanos;
+  private final LongSupplier nanoClock;
+
+  /** Keys from each of the URLs. Keys from a URL are kept as is when fetching them fails. */
+  private volatile List<List<Jwk>> keys;
+
+  private long lastFetchNanos;
+  private boolean fetched;
+  private ScheduledExecutorService executor;
 
-  public MultiUrlJwkProvider(List<URL> publicKeyUris) {
-    this.urlJwkProviders = publicKeyUris.stream().map(UrlJwkProvider::new).collect(Collectors.toUnmodifiableList());
+  public MultiUrlJwkProvider(List<URL> publicKeyUris, long refreshIntervalSeconds, long minRefetchIntervalSeconds) {
+    this(
+        publicKeyUris.stream().map(UrlJwkProvider::new).collect(Collectors.toUnmodifiableList()),
+        minRefetchIntervalSeconds,
+        System::nanoTime);
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "jwks-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @VisibleForTesting
+  MultiUrlJwkProvider(List<UrlJwkProvider> urlJwkProviders, long minRefetchIntervalSeconds, LongSupplier nanoClock) {
+    this.urlJwkProviders = urlJwkProviders;
+    this.minRefetchIntervalNanos = TimeUnit.SECONDS.toNanos(minRefetchIntervalSeconds);
+    this.nanoClock = nanoClock;
+    this.keys = Collections.nCopies(urlJwkProviders.size(), Collections.emptyList());
   }
 
   @Override
   public Jwk get(String keyId) throws JwkException {
-    JwkException lastException = new SigningKeyNotFoundException("No key found in with kid " + keyId, null);
-    for (UrlJwkProvider jwkProvider : urlJwkProviders) {
+    Jwk jwk = findKey(keyId);
+    if (jwk == null) {
+      jwk = refetch(keyId);
+    }
+    if (jwk == null) {
+      throw new SigningKeyNotFoundException("No key found in with kid " + keyId, null);
+    }
+    return jwk;
+  }
+
+  private Jwk findKey(String keyId) {
+    for (List<Jwk> urlKeys : keys) {
+      // Token without a key id is validated with the key of the URL that has a single key
+      if (keyId == null && urlKeys.size() == 1) {
+        return urlKeys.get(0);
+      }
+      for (Jwk jwk : urlKeys) {
+        if (keyId != null && keyId.equals(jwk.getId())) {
+          return jwk;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Fetch the keys again for a key id that is not known. The key is looked up again first, as another thread may have
+   * fetched the keys while this thread waited for the lock. Returns null when the key is not found, or when the keys were
+   * fetched too recently to fetch them again.
+   */
+  private synchronized Jwk refetch(String keyId) {
+    Jwk jwk = findKey(keyId);
+    if (jwk != null || (fetched && nanoClock.getAsLong() - lastFetchNanos < minRefetchIntervalNanos)) {
+      return jwk;
+    }
+    refresh();
+    return findKey(keyId);
+  }
+
+  @VisibleForTesting
+  synchronized void refresh() {
+    List<List<Jwk>> refreshedKeys = new ArrayList<>(urlJwkProviders.size());
+    for (int i = 0; i < urlJwkProviders.size(); i++) {
       try {
-        return jwkProvider.get(keyId);
-      } catch (JwkException e) {
-        lastException.addSuppressed(e);
+        refreshedKeys.add(List.copyOf(urlJwkProviders.get(i).getAll()));
+      } catch (Exception e) {
+        LOG.warn("Failed to fetch the keys from the public key URL, keeping the earlier keys", e);
+        refreshedKeys.add(keys.get(i));
       }
     }
-    throw lastException;
+    keys = Collections.unmodifiableList(refreshedKeys);
+    lastFetchNanos = nanoClock.getAsLong();
+    fetched = true;
+  }
+
+  /** Stop refreshing the keys in the background */
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
   }
 }
@@ -0,0 +1,206 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security;
+
+import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.lmax.disruptor.EventHandler;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.EntityInterface;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.MetadataOperation;
+
+/**
+ * Caches the subject context of users and the permission decisions made by {@link DefaultAuthorizer}.
+ *
+ * <p>Subject context is the user along with the teams and all the roles of the user, including the roles inherited from
+ * the teams. Decisions made by evaluating role policies depend only on the roles of the subject, the type and tags of
+ * the entity and the operation. They are keyed by those attributes along with the policy version so that users with the
+ * same roles share the decisions.
+ *
+ * <p>Both caches are bounded and entries expire after a time to live. Change events invalidate entries early. A change
+ * to a user removes the subject context of the user. A change to a team removes all the subject contexts. A change to a
+ * role or a policy also moves to a new policy version so that decisions made with earlier policies are not used.
+ */
+@Slf4j
+class PermissionCache implements EventHandler<ChangeEventHolder> {
+  private final Cache<String, SubjectContext> subjects;
+  private final Cache<DecisionKey, Boolean> decisions;
+  private final Cache<DecisionKey, List<MetadataOperation>> allowedOperations;
+  private final AtomicLong policyVersion = new AtomicLong();
+
+  PermissionCache(long maxSize, long ttlSeconds) {
+    this.subjects = newCache(maxSize, ttlSeconds);
+    this.decisions = newCache(maxSize, ttlSeconds);
+    this.allowedOperations = newCache(maxSize, ttlSeconds);
+  }
+
+  private static <K, V> Cache<K, V> newCache(long maxSize, long ttlSeconds) {
+    return CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).build();
+  }
+
+  SubjectContext getSubjectContext(String userName, Callable<SubjectContext> loader) throws IOException {
+    try {
+      return subjects.get(userName, loader);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } catch (UncheckedExecutionException e) {
+      // Runtime exceptions such as EntityNotFoundException are rethrown as is
+      throw (RuntimeException) e.getCause();
+    }
+  }
+
+  boolean hasPermission(
+      SubjectContext subject, EntityInterface entity, MetadataOperation operation, Supplier<Boolean> evaluator) {
+    DecisionKey key = new DecisionKey(subject, entity, operation, policyVersion.get());
+    Boolean decision = decisions.getIfPresent(key);
+    if (decision == null) {
+      decision = evaluator.get();
+      decisions.put(key, decision);
+    }
+    return decision;
+  }
+
+  List<MetadataOperation> getAllowedOperations(
+      SubjectContext subject, EntityInterface entity, Supplier<List<MetadataOperation>> evaluator) {
+    DecisionKey key = new DecisionKey(subject, entity, null, policyVersion.get());
+    List<MetadataOperation> operations = allowedOperations.getIfPresent(key);
+    if (operations == null) {
+      operations = List.copyOf(evaluator.get());
+      allowedOperations.put(key, operations);
+    }
+    return operations;
+  }
+
+  void invalidateUser(String userName) {
+    subjects.invalidate(userName);
+  }
+
+  void invalidateSubjects() {
+    subjects.invalidateAll();
+  }
+
+  void invalidatePolicies() {
+    policyVersion.incrementAndGet();
+    subjects.invalidateAll();
+    decisions.invalidateAll();
+    allowedOperations.invalidateAll();
+  }
+
+  @Override
+  public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
+    // Never throw from here as an exception stops the event processor
+    try {
+      ChangeEvent event = changeEventHolder.get();
+      if (event == null || event.getEntityType() == null) {
+        return;
+      }
+      switch (event.getEntityType()) {
+        case Entity.USER:
+          if (event.getEntityFullyQualifiedName() != null) {
+            invalidateUser(event.getEntityFullyQualifiedName());
+          } else {
+            invalidateSubjects();
+          }
+          break;
+        case Entity.TEAM:
+          invalidateSubjects();
+          break;
+        case Entity.ROLE:
+        case Entity.POLICY:
+          invalidatePolicies();
+          break;
+        default:
+          break;
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to invalidate permission cache for event {}", sequence, e);
+    }
+  }
+
+  /** User along with teams and all the roles of the user, including the roles inherited from the teams */
+  static class SubjectContext {
+    @Getter private final User user;
+    @Getter private final List<EntityReference> roles;
+    private final String rolesFingerprint;
+
+    SubjectContext(User user, List<EntityReference> roles) {
+      this.user = user;
+      this.roles = roles;
+      this.rolesFingerprint =
+          roles.stream().map(EntityReference::getId).map(UUID::toString).sorted().collect(Collectors.joining(","));
+    }
+  }
+
+  private static class DecisionKey {
+    private final String rolesFingerprint;
+    private final String entityType;
+    private final TreeSet<String> tags = new TreeSet<>();
+    private final MetadataOperation operation;
+    private final long policyVersion;
+
+    DecisionKey(SubjectContext subject, EntityInterface entity, MetadataOperation operation, long policyVersion) {
+      this.rolesFingerprint = subject.rolesFingerprint;
+      this.entityType = entity == null ? "" : Entity.getEntityTypeFromObject(entity);
+      if (entity != null) {
+        listOrEmpty(entity.getTags()).forEach(tag -> tags.add(tag.getTagFQN()));
+      }
+      this.operation = operation;
+      this.policyVersion = policyVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DecisionKey)) {
+        return false;
+      }
+      DecisionKey other = (DecisionKey) o;
+      return policyVersion == other.policyVersion
+          && operation == other.operation
+          && rolesFingerprint.equals(other.rolesFingerprint)
+          && Objects.equals(entityType, other.entityType)
+          && tags.equals(other.tags);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(rolesFingerprint, entityType, tags, operation, policyVersion);
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security.policyevaluator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+
+/**
+ * Access control policy compiled into an immutable structure that is evaluated without a rules engine.
+ *
+ * <p>All non-null attributes of a rule are evaluated with logical AND. The operations allowed by the rules are stored
+ * as a bit set of {@link MetadataOperation} ordinals in buckets keyed by the entity type and the entity tag that the
+ * rules match on. Rules without an entity type or tag go to the buckets that match any entity type or any tag. Checking
+ * a permission looks up the buckets that apply to the entity and does not allocate.
+ */
+final class CompiledPolicy {
+  static final CompiledPolicy EMPTY = new CompiledPolicy(0, Map.of(), Map.of(), Map.of(), 0);
+
+  private static final MetadataOperation[] OPERATIONS = MetadataOperation.values();
+
+  static {
+    if (OPERATIONS.length > Long.SIZE) {
+      throw new IllegalStateException("Operations do not fit in the bit set of allowed operations");
+    }
+  }
+
+  private final long anyTypeAnyTag;
+  private final Map<String, Long> byType;
+  private final Map<String, Long> byTag;
+  private final Map<String, Map<String, Long>> byTypeAndTag;
+  private final int ruleCount;
+
+  private CompiledPolicy(
+      long anyTypeAnyTag,
+      Map<String, Long> byType,
+      Map<String, Long> byTag,
+      Map<String, Map<String, Long>> byTypeAndTag,
+      int ruleCount) {
+    this.anyTypeAnyTag = anyTypeAnyTag;
+    this.byType = byType;
+    this.byTag = byTag;
+    this.byTypeAndTag = byTypeAndTag;
+    this.ruleCount = ruleCount;
+  }
+
+  /** Compile the rules that allow operations. Rules that deny or have no operation are ignored. */
+  static CompiledPolicy compile(List<Rule> rules) {
+    long anyTypeAnyTag = 0;
+    Map<String, Long> byType = new HashMap<>();
+    Map<String, Long> byTag = new HashMap<>();
+    Map<String, Map<String, Long>> byTypeAndTag = new HashMap<>();
+    int ruleCount = 0;
+    for (Rule rule : rules) {
+      if (!Boolean.TRUE.equals(rule.getAllow()) || rule.getOperation() == null) {
+        continue;
+      }
+      long bit = bit(rule.getOperation());
+      String type = rule.getEntityTypeAttr();
+      String tag = rule.getEntityTagAttr();
+      if (type == null && tag == null) {
+        anyTypeAnyTag |= bit;
+      } else if (tag == null) {
+        byType.merge(type, bit, (a, b) -> a | b);
+      } else if (type == null) {
+        byTag.merge(tag, bit, (a, b) -> a | b);
+      } else {
+        byTypeAndTag.computeIfAbsent(type, k -> new HashMap<>()).merge(tag, bit, (a, b) -> a | b);
+      }
+      ruleCount++;
+    }
+    Map<String, Map<String, Long>> immutableByTypeAndTag = new HashMap<>();
+    byTypeAndTag.forEach((type, tags) -> immutableByTypeAndTag.put(type, Map.copyOf(tags)));
+    return new CompiledPolicy(
+        anyTypeAnyTag, Map.copyOf(byType), Map.copyOf(byTag), Map.copyOf(immutableByTypeAndTag), ruleCount);
+  }
+
+  int getRuleCount() {
+    return ruleCount;
+  }
+
+  /**
+   * Checks if the policy allows the operation on an entity of given type and tags. Entity type is empty and tags are
+   * empty when the operation is not on a specific entity.
+   */
+  boolean hasPermission(String entityType, List<TagLabel> tags, MetadataOperation operation) {
+    long bit = bit(operation);
+    return (anyTypeAnyTag & bit) != 0 || (getAllowedOperationBits(entityType, tags) & bit) != 0;
+  }
+
+  /** Returns the operations that the policy allows on an entity of given type and tags */
+  List<MetadataOperation> getAllowedOperations(String entityType, List<TagLabel> tags) {
+    long allowed = getAllowedOperationBits(entityType, tags);
+    if (allowed == 0) {
+      return Collections.emptyList();
+    }
+    List<MetadataOperation> operations = new ArrayList<>(Long.bitCount(allowed));
+    for (MetadataOperation operation : OPERATIONS) {
+      if ((allowed & bit(operation)) != 0) {
+        operations.add(operation);
+      }
+    }
+    return operations;
+  }
+
+  private long getAllowedOperationBits(String entityType, List<TagLabel> tags) {
+    // Immutable maps don't allow looking up null keys
+    entityType = entityType == null ? "" : entityType;
+    long allowed = anyTypeAnyTag | bits(byType.get(entityType));
+    Map<String, Long> typeTags = byTypeAndTag.get(entityType);
+    if (!byTag.isEmpty() || typeTags != null) {
+      for (int i = 0; i < tags.size(); i++) {
+        String tagFQN = tags.get(i).getTagFQN();
+        if (tagFQN == null) {
+          continue;
+        }
+        allowed |= bits(byTag.get(tagFQN));
+        if (typeTags != null) {
+          allowed |= bits(typeTags.get(tagFQN));
+        }
+      }
+    }
+    return allowed;
+  }
+
+  private static long bit(MetadataOperation operation) {
+    return 1L << operation.ordinal();
+  }
+
+  private static long bits(Long bits) {
+    return bits == null ? 0 : bits;
+  }
+}
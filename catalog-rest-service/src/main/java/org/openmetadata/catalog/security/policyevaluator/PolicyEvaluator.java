@@ -14,36 +14,33 @@
 package org.openmetadata.catalog.security.policyevaluator;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.jeasy.rules.api.Rule;
-import org.jeasy.rules.api.Rules;
-import org.jeasy.rules.api.RulesEngine;
-import org.jeasy.rules.api.RulesEngineParameters;
-import org.jeasy.rules.core.DefaultRulesEngine;
-import org.jeasy.rules.core.RuleBuilder;
+import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.EntityInterface;
 import org.openmetadata.catalog.entity.policies.Policy;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.PolicyRepository;
 import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.util.JsonUtils;
 
 /**
  * PolicyEvaluator for {@link MetadataOperation metadata operations} based on OpenMetadata's internal {@link
  * org.openmetadata.catalog.entity.policies.Policy} format to make access decisions.
  *
- * <p>This Singleton class uses {@link DefaultRulesEngine} provided by <a
- * href="https://github.com/j-easy/easy-rules">j-easy/easy-rules</a> package.
+ * <p>The rules defined as {@link org.openmetadata.catalog.entity.policies.accessControl.Rule} are fetched from
+ * OpenMetadata's {@link org.openmetadata.catalog.jdbi3.PolicyRepository} and compiled into a {@link CompiledPolicy}
+ * when the policies are loaded or updated. Access decisions are lookups in the compiled policy.
  *
- * <p>The rules defined as {@link org.openmetadata.catalog.entity.policies.accessControl.Rule} are to be fetched from
- * OpenMetadata's {@link org.openmetadata.catalog.jdbi3.PolicyRepository} and converted into type {@link Rule} to be
- * used within the {@link DefaultRulesEngine}
- *
- * <p>The facts are constructed based on 3 inputs for the PolicyEvaluator:
+ * <p>The decisions are based on 3 inputs for the PolicyEvaluator:
  *
  * <p>- {@link MetadataOperation operation} to be performed
  *
@@ -55,18 +52,13 @@ import org.openmetadata.catalog.util.JsonUtils;
 public class PolicyEvaluator {
 
   private PolicyRepository policyRepository;
-  private final ConcurrentHashMap<UUID, Rules> policyToRules = new ConcurrentHashMap<>();
-  private final RulesEngine checkPermissionRulesEngine;
-  private final RulesEngine allowedOperationsRulesEngine;
+  private final ConcurrentHashMap<UUID, CompiledPolicy> policyToRules = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<?>, String> entityTypes = new ConcurrentHashMap<>();
 
   // Eager initialization of Singleton since PolicyEvaluator is lightweight.
   private static final PolicyEvaluator policyEvaluator = new PolicyEvaluator();
 
-  private PolicyEvaluator() {
-    // When first rule applies, stop the check for permission.
-    checkPermissionRulesEngine = new DefaultRulesEngine(new RulesEngineParameters().skipOnFirstAppliedRule(true));
-    allowedOperationsRulesEngine = new DefaultRulesEngine();
-  }
+  private PolicyEvaluator() {}
 
   public static PolicyEvaluator getInstance() {
     return policyEvaluator;
@@ -76,15 +68,19 @@ public class PolicyEvaluator {
     this.policyRepository = policyRepository;
   }
 
-  /** Refresh rules within {@link PolicyEvaluator} to be used by {@link DefaultRulesEngine}. */
+  /** Refresh the compiled policies within {@link PolicyEvaluator}. */
   public void load() {
     final List<Policy> policies;
     try {
       policies = policyRepository.getAccessControlPolicies();
       for (final Policy policy : policies) {
-        Rules rules = getRules(policy);
-        policyToRules.put(policy.getId(), rules);
-        LOG.info("Loaded new set of {} rules for policy {}:{}", rules.size(), policy.getName(), policy.getId());
+        CompiledPolicy compiledPolicy = compile(policy);
+        policyToRules.put(policy.getId(), compiledPolicy);
+        LOG.info(
+            "Loaded new set of {} rules for policy {}:{}",
+            compiledPolicy.getRuleCount(),
+            policy.getName(),
+            policy.getId());
       }
     } catch (IOException e) {
       LOG.error("Failed to reload Policies");
@@ -94,60 +90,62 @@ public class PolicyEvaluator {
 
   /** Checks if the policy has rules that give permission to perform an operation on the given entity. */
   public boolean hasPermission(@NonNull UUID policyId, EntityInterface entity, @NonNull MetadataOperation operation) {
-    AttributeBasedFacts facts =
-        new AttributeBasedFacts.AttributeBasedFactsBuilder()
-            .withEntity(entity)
-            .withOperation(operation)
-            .withCheckOperation(true)
-            .build();
-    Rules rules = policyToRules.get(policyId);
-    checkPermissionRulesEngine.fire(rules, facts.getFacts());
-    return facts.hasPermission();
+    CompiledPolicy policy = policyToRules.getOrDefault(policyId, CompiledPolicy.EMPTY);
+    return policy.hasPermission(getEntityType(entity), getEntityTags(entity), operation);
   }
 
   /** Returns a list of operations that a user can perform on the given entity. */
   public List<MetadataOperation> getAllowedOperations(@NonNull UUID policyId, EntityInterface entity) {
-    AttributeBasedFacts facts = new AttributeBasedFacts.AttributeBasedFactsBuilder().withEntity(entity).build();
-    Rules rules = policyToRules.get(policyId);
-    allowedOperationsRulesEngine.fire(rules, facts.getFacts());
-    return facts.getAllowedOperations();
-  }
-
-  private Rule convertRule(org.openmetadata.catalog.entity.policies.accessControl.Rule rule) {
-    return new RuleBuilder()
-        .name(rule.getName())
-        .description(rule.getName())
-        .priority(rule.getPriority())
-        .when(new RuleCondition(rule))
-        .then(new SetPermissionAction(rule))
-        .then(new SetAllowedOperationAction(rule))
-        .build();
+    CompiledPolicy policy = policyToRules.getOrDefault(policyId, CompiledPolicy.EMPTY);
+    return policy.getAllowedOperations(getEntityType(entity), getEntityTags(entity));
   }
 
   public void update(Policy policy) {
-    policyToRules.put(policy.getId(), getRules(policy));
+    policyToRules.put(policy.getId(), compile(policy));
   }
 
   public void delete(Policy po) {
     policyToRules.remove(po.getId());
   }
 
-  public Rules getRules(Policy policy) {
-    Rules rules = new Rules();
+  CompiledPolicy compile(Policy policy) {
+    List<Rule> rules = new ArrayList<>();
     for (Object r : policy.getRules()) {
-      org.openmetadata.catalog.entity.policies.accessControl.Rule acRule = null;
       try {
-        acRule =
-            JsonUtils.readValue(
-                JsonUtils.getJsonStructure(r).toString(),
-                org.openmetadata.catalog.entity.policies.accessControl.Rule.class);
+        rules.add(JsonUtils.readValue(JsonUtils.getJsonStructure(r).toString(), Rule.class));
       } catch (Exception e) {
         LOG.warn("Failed to load a rule", e);
       }
-      if (acRule != null && Boolean.TRUE.equals(acRule.getAllow())) {
-        rules.register(convertRule(acRule));
+    }
+    return CompiledPolicy.compile(rules);
+  }
+
+  private String getEntityType(EntityInterface entity) {
+    if (entity == null) {
+      return ""; // Operation is not on a specific entity
+    }
+    String entityType = entityTypes.get(entity.getClass());
+    if (entityType == null) {
+      entityType = Entity.getEntityTypeFromObject(entity);
+      if (entityType == null) {
+        LOG.warn("could not find entity type for the given entity {}", entity);
+        return "";
       }
+      entityTypes.put(entity.getClass(), entityType);
+    }
+    return entityType;
+  }
+
+  private static List<TagLabel> getEntityTags(EntityInterface entity) {
+    if (entity == null) {
+      return Collections.emptyList();
+    }
+    List<TagLabel> entityTags = null;
+    try {
+      entityTags = entity.getTags();
+    } catch (EntityNotFoundException e) {
+      LOG.warn("could not obtain tags for the given entity {} - exception: {}", entity, e.toString());
     }
-    return rules;
+    return entityTags == null ? Collections.emptyList() : entityTags;
   }
 }
@@ -26,7 +26,6 @@ import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
-import org.openmetadata.catalog.security.AuthenticationConfiguration;
 import org.openmetadata.catalog.security.AuthorizerConfiguration;
 import org.openmetadata.catalog.security.JwtFilter;
 import org.slf4j.Logger;
@@ -38,11 +37,14 @@ public class SocketAddressFilter implements Filter {
 
   private final boolean enableSecureSocketConnection;
 
-  public SocketAddressFilter(
-      AuthenticationConfiguration authenticationConfiguration, AuthorizerConfiguration authorizerConf) {
+  /**
+   * Filter that authenticates websocket connections with the {@link JwtFilter} registered by the application, so that
+   * the JWKS keys and the verified tokens are shared with the API requests. The JwtFilter is closed by the application.
+   */
+  public SocketAddressFilter(JwtFilter jwtFilter, AuthorizerConfiguration authorizerConf) {
     enableSecureSocketConnection = authorizerConf.getEnableSecureSocketConnection();
     if (enableSecureSocketConnection) {
-      jwtFilter = new JwtFilter(authenticationConfiguration, authorizerConf);
+      this.jwtFilter = jwtFilter;
     }
   }
 
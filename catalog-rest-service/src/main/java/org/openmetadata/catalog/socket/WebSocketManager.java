@@ -1,26 +1,47 @@
 package org.openmetadata.catalog.socket;
 
+import com.lmax.disruptor.util.DaemonThreadFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.socket.engineio.server.EngineIoServer;
 import io.socket.engineio.server.EngineIoServerOptions;
 import io.socket.socketio.server.SocketIoNamespace;
 import io.socket.socketio.server.SocketIoServer;
 import io.socket.socketio.server.SocketIoSocket;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Pushes activity feed and task messages to the websocket connections of users. Messages are queued per connection and
+ * sent on a fan-out executor, so that the API request that produced a message does not wait on the clients. A slow
+ * client has at most {@link #MAX_QUEUED_MESSAGES} messages queued; older messages are dropped beyond that, and a
+ * message already queued for the connection is not queued again.
+ */
 public class WebSocketManager {
   private static final Logger LOG = LoggerFactory.getLogger(WebSocketManager.class);
+  private static final int MAX_QUEUED_MESSAGES = 100;
+  private static final int FAN_OUT_THREADS = 4;
   private static WebSocketManager INSTANCE;
   private final EngineIoServer mEngineIoServer;
   private final SocketIoServer mSocketIoServer;
   public static final String feedBroadcastChannel = "activityFeed";
   public static final String taskBroadcastChannel = "taskChannel";
-  private final Map<UUID, Map<String, SocketIoSocket>> activityFeedEndpoints = new ConcurrentHashMap<>();
-
-  private WebSocketManager(EngineIoServerOptions eiOptions) {
+  // Connections of a user by socket id
+  private final Map<UUID, Map<String, Connection>> activityFeedEndpoints = new ConcurrentHashMap<>();
+  private final ExecutorService fanOutExecutor =
+      Executors.newFixedThreadPool(FAN_OUT_THREADS, DaemonThreadFactory.INSTANCE);
+  private final AtomicLong droppedMessages = new AtomicLong();
+  private final AtomicLong coalescedMessages = new AtomicLong();
+
+  WebSocketManager(EngineIoServerOptions eiOptions) {
     mEngineIoServer = new EngineIoServer(eiOptions);
     mSocketIoServer = new SocketIoServer(mEngineIoServer);
     initializeHandlers();
@@ -61,10 +82,12 @@ public class WebSocketManager {
                           + "with Remote Address :"
                           + socket.getInitialHeaders().get("RemoteAddress")
                           + " disconnected.");
-                  UUID id = UUID.fromString(userId);
-                  Map<String, SocketIoSocket> allUserConnection = activityFeedEndpoints.get(id);
-                  allUserConnection.remove(socket.getId());
-                  activityFeedEndpoints.put(id, allUserConnection);
+                  activityFeedEndpoints.computeIfPresent(
+                      UUID.fromString(userId),
+                      (id, connections) -> {
+                        connections.remove(socket.getId());
+                        return connections.isEmpty() ? null : connections;
+                      });
                 });
             socket.on(
                 "connect_error",
@@ -85,12 +108,13 @@ public class WebSocketManager {
                             + socket.getInitialHeaders().get("RemoteAddress")
                             + " disconnected."));
 
-            UUID id = UUID.fromString(userId);
-            Map<String, SocketIoSocket> userSocketConnections;
-            userSocketConnections =
-                activityFeedEndpoints.containsKey(id) ? activityFeedEndpoints.get(id) : new HashMap<>();
-            userSocketConnections.put(socket.getId(), socket);
-            activityFeedEndpoints.put(id, userSocketConnections);
+            activityFeedEndpoints.compute(
+                UUID.fromString(userId),
+                (id, connections) -> {
+                  connections = connections == null ? new ConcurrentHashMap<>() : connections;
+                  connections.put(socket.getId(), new Connection(socket));
+                  return connections;
+                });
           }
         });
     ns.on("error", args -> LOG.error("Connection error on the server"));
@@ -108,28 +132,108 @@ public class WebSocketManager {
     return mEngineIoServer;
   }
 
-  public Map<UUID, Map<String, SocketIoSocket>> getActivityFeedEndpoints() {
+  public Map<UUID, Map<String, Connection>> getActivityFeedEndpoints() {
     return activityFeedEndpoints;
   }
 
+  /** Expose the number of messages dropped or coalesced for slow clients */
+  public void registerMetrics(MeterRegistry registry) {
+    FunctionCounter.builder("websocket.messages.dropped", droppedMessages, AtomicLong::get).register(registry);
+    FunctionCounter.builder("websocket.messages.coalesced", coalescedMessages, AtomicLong::get).register(registry);
+  }
+
   public void broadCastMessageToAll(String event, String message) {
-    activityFeedEndpoints.forEach((key, value) -> value.forEach((key1, value1) -> value1.send(event, message)));
+    Message queued = new Message(event, message);
+    activityFeedEndpoints.values().forEach(connections -> connections.values().forEach(c -> c.enqueue(queued)));
   }
 
   public void sendToOne(UUID receiver, String event, String message) {
-    if (activityFeedEndpoints.containsKey(receiver)) {
-      activityFeedEndpoints.get(receiver).forEach((key, value) -> value.send(event, message));
+    Map<String, Connection> connections = activityFeedEndpoints.get(receiver);
+    if (connections != null) {
+      Message queued = new Message(event, message);
+      connections.values().forEach(c -> c.enqueue(queued));
     }
   }
 
-  public void sendToManyWithUUID(List<UUID> receivers, String event, String message) {
+  public void sendToManyWithUUID(Collection<UUID> receivers, String event, String message) {
     receivers.forEach(e -> sendToOne(e, event, message));
   }
 
+  /**
+   * Send a message to the receivers resolved on the fan-out executor, so that the caller does not wait on the lookups
+   * of the receivers, such as of the followers of an entity.
+   */
+  public void sendToManyAsync(Callable<Collection<UUID>> receivers, String event, String message) {
+    fanOutExecutor.execute(
+        () -> {
+          try {
+            sendToManyWithUUID(receivers.call(), event, message);
+          } catch (Exception e) {
+            LOG.warn("Failed to get the receivers of a message on {} due to {}", event, e.getMessage());
+          }
+        });
+  }
+
   public void sendToManyWithString(List<EntityRelationshipRecord> receivers, String event, String message) {
     receivers.forEach(e -> sendToOne(e.getId(), event, message));
   }
 
+  @Value
+  private static class Message {
+    String event;
+    String message;
+  }
+
+  /** Websocket connection of a user, with the messages queued for it */
+  public final class Connection implements Runnable {
+    private final SocketIoSocket socket;
+    private final Deque<Message> queue = new ArrayDeque<>();
+    private boolean scheduled;
+
+    Connection(SocketIoSocket socket) {
+      this.socket = socket;
+    }
+
+    private void enqueue(Message message) {
+      synchronized (this) {
+        if (queue.contains(message)) {
+          coalescedMessages.incrementAndGet();
+          return;
+        }
+        if (queue.size() >= MAX_QUEUED_MESSAGES) {
+          queue.pollFirst();
+          droppedMessages.incrementAndGet();
+        }
+        queue.addLast(message);
+        if (scheduled) {
+          return; // Messages are being sent by a fan-out thread that sends the new message as well
+        }
+        scheduled = true;
+      }
+      fanOutExecutor.execute(this);
+    }
+
+    /** Send the queued messages in order, until the queue is empty */
+    @Override
+    public void run() {
+      while (true) {
+        Message message;
+        synchronized (this) {
+          message = queue.pollFirst();
+          if (message == null) {
+            scheduled = false;
+            return;
+          }
+        }
+        try {
+          socket.send(message.getEvent(), message.getMessage());
+        } catch (Exception e) {
+          LOG.warn("Failed to send message to socket {} due to {}", socket.getId(), e.getMessage());
+        }
+      }
+    }
+  }
+
   public static class WebSocketManagerBuilder {
     public static void build(EngineIoServerOptions eiOptions) {
       INSTANCE = new WebSocketManager(eiOptions);
@@ -22,7 +22,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,7 +49,6 @@ import org.openmetadata.catalog.entity.type.CustomProperty;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
-import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.UsageDAO;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.catalog.type.ChangeEvent;
@@ -78,8 +79,6 @@ public final class EntityUtil {
   // Note ordering is same as server side ordering by ID as string to ensure PATCH operations work
   public static final Comparator<EntityReference> compareEntityReference =
       Comparator.comparing(EntityReference::getName);
-  public static final Comparator<EntityVersionPair> compareVersion =
-      Comparator.comparing(EntityVersionPair::getVersion);
   public static final Comparator<TagLabel> compareTagLabel = Comparator.comparing(TagLabel::getTagFQN);
   public static final Comparator<FieldChange> compareFieldChange = Comparator.comparing(FieldChange::getName);
   public static final Comparator<TableConstraint> compareTableConstraint =
@@ -225,17 +224,31 @@ public final class EntityUtil {
     UsageDetails details = usageDAO.getLatestUsage(entityId.toString());
     if (details == null) {
       LOG.debug("Usage details not found. Sending default usage");
-      UsageStats stats = new UsageStats().withCount(0).withPercentileRank(0.0);
-      details =
-          new UsageDetails()
-              .withDailyStats(stats)
-              .withWeeklyStats(stats)
-              .withMonthlyStats(stats)
-              .withDate(RestUtil.DATE_FORMAT.format(new Date()));
+      details = getDefaultUsage();
     }
     return details;
   }
 
+  /** Get the latest usage of the given entities in a single query, with the default usage for entities without usage */
+  public static Map<UUID, UsageDetails> getLatestUsage(UsageDAO usageDAO, List<UUID> entityIds) {
+    Map<UUID, UsageDetails> usageById = new HashMap<>();
+    if (!entityIds.isEmpty()) {
+      List<String> ids = entityIds.stream().map(UUID::toString).collect(Collectors.toList());
+      usageDAO.getLatestUsages(ids).forEach(usage -> usageById.put(UUID.fromString(usage.getLeft()), usage.getRight()));
+    }
+    entityIds.forEach(id -> usageById.computeIfAbsent(id, k -> getDefaultUsage()));
+    return usageById;
+  }
+
+  private static UsageDetails getDefaultUsage() {
+    UsageStats stats = new UsageStats().withCount(0).withPercentileRank(0.0);
+    return new UsageDetails()
+        .withDailyStats(stats)
+        .withWeeklyStats(stats)
+        .withMonthlyStats(stats)
+        .withDate(RestUtil.DATE_FORMAT.format(new Date()));
+  }
+
   /** Merge derivedTags into tags, if it already does not exist in tags */
   public static void mergeTags(List<TagLabel> tags, List<TagLabel> derivedTags) {
     if (nullOrEmpty(derivedTags)) {
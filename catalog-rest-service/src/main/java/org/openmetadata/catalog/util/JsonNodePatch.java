@@ -0,0 +1,318 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonPatch;
+import javax.json.JsonValue;
+
+/**
+ * JSON patch applied in place to a Jackson tree. Each operation walks the tree from the root to the value it changes
+ * and leaves the rest of the tree as is.
+ *
+ * <p>The operations are filtered and ordered once when the patch is compiled:
+ *
+ * <ul>
+ *   <li>Operations on href paths are ignored as href is read only and is generated.
+ *   <li>Array operations are ordered so that one operation does not shift the index used by another. For example,
+ *       removing {@code /tags/1} and then {@code /tags/2} from an array of three elements fails as the array has only
+ *       two elements after the first remove. Similarly adding {@code /tags/2} before {@code /tags/1} fails. Remove
+ *       operations are applied after the other operations in the reverse order of the indexes in their paths, and the
+ *       other operations are applied in the order of the indexes in their paths.
+ * </ul>
+ */
+final class JsonNodePatch {
+  private static final Comparator<Operation> BY_PATH = Comparator.comparing(operation -> operation.path);
+
+  private static final Comparator<Operation> BY_PATH_DIGITS =
+      (o1, o2) -> {
+        // Compare the numbers without parsing them, as the digits of a path may not fit in an int
+        int result = Integer.compare(o1.pathDigits.length(), o2.pathDigits.length());
+        return result != 0 ? result : o1.pathDigits.compareTo(o2.pathDigits);
+      };
+
+  private final List<Operation> operations;
+
+  private JsonNodePatch(List<Operation> operations) {
+    this.operations = operations;
+  }
+
+  static JsonNodePatch compile(JsonPatch patch) {
+    List<Operation> removeOperations = new ArrayList<>();
+    List<Operation> otherOperations = new ArrayList<>();
+    for (JsonValue entry : patch.toJsonArray()) {
+      Operation operation = new Operation(entry.asJsonObject());
+      if (operation.path.endsWith("href")) {
+        continue;
+      }
+      if (operation.op.equals("remove")) {
+        removeOperations.add(operation);
+      } else {
+        otherOperations.add(operation);
+      }
+    }
+    sort(otherOperations, false);
+    sort(removeOperations, true);
+
+    List<Operation> operations = new ArrayList<>(otherOperations.size() + removeOperations.size());
+    operations.addAll(otherOperations);
+    operations.addAll(removeOperations);
+    return new JsonNodePatch(operations);
+  }
+
+  /** Apply the patch to {@code document} and return the patched document, which is {@code document} updated in place */
+  JsonNode apply(JsonNode document) {
+    for (Operation operation : operations) {
+      document = operation.apply(document);
+    }
+    return document;
+  }
+
+  /**
+   * Order the operations the way they have always been ordered, which is by sorting them once for each operation in the
+   * patch: by path when the path of that operation has only letters, and by the number made of the digits in the path
+   * when it has digits. Remove operations are reversed after each sort. Consecutive sorts by the same key give the same
+   * order, and so do consecutive sorts and reversals by the same key with the same parity, so only a couple of sorts
+   * are needed for each run of operations with the same key.
+   */
+  private static void sort(List<Operation> operations, boolean reverse) {
+    List<Comparator<Operation>> sorts = new ArrayList<>();
+    for (Operation operation : operations) {
+      if (operation.sortKey != null) {
+        sorts.add(operation.sortKey);
+      }
+    }
+    int i = 0;
+    while (i < sorts.size()) {
+      Comparator<Operation> sortKey = sorts.get(i);
+      int run = 0;
+      while (i < sorts.size() && sorts.get(i) == sortKey) {
+        run++;
+        i++;
+      }
+      int times = reverse && run % 2 == 0 ? 2 : 1;
+      for (int j = 0; j < times; j++) {
+        operations.sort(sortKey);
+        if (reverse) {
+          Collections.reverse(operations);
+        }
+      }
+    }
+  }
+
+  private static class Operation {
+    private final String op;
+    private final String path;
+    private final String[] tokens;
+    private final String from;
+    private final String[] fromTokens;
+    private final JsonNode value;
+    private final String pathDigits;
+    private final Comparator<Operation> sortKey;
+
+    Operation(JsonObject operation) {
+      this.op = operation.getString("op");
+      this.path = operation.getString("path");
+      this.tokens = parsePointer(path);
+      this.from = operation.containsKey("from") ? operation.getString("from") : null;
+      this.fromTokens = from == null ? null : parsePointer(from);
+      this.value = operation.containsKey("value") ? JsonUtils.valueToTree(operation.get("value")) : null;
+
+      StringBuilder digits = new StringBuilder();
+      boolean onlyLetters = true;
+      boolean hasDigits = false;
+      for (int i = 0; i < path.length(); i++) {
+        char c = path.charAt(i);
+        if (c >= '0' && c <= '9') {
+          // Leading zeros are dropped so that the digits compare as a number
+          if (c != '0' || digits.length() > 0) {
+            digits.append(c);
+          }
+          onlyLetters = false;
+          hasDigits = true;
+        } else if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+          onlyLetters = false;
+        }
+      }
+      this.pathDigits = digits.toString();
+      if (onlyLetters) {
+        this.sortKey = BY_PATH;
+      } else if (hasDigits) {
+        this.sortKey = BY_PATH_DIGITS;
+      } else {
+        this.sortKey = null;
+      }
+    }
+
+    JsonNode apply(JsonNode document) {
+      switch (op) {
+        case "add":
+          return add(document, path, tokens, value.deepCopy());
+        case "remove":
+          remove(document, path, tokens);
+          return document;
+        case "replace":
+          if (tokens.length == 0) {
+            return value.deepCopy();
+          }
+          replace(document, path, tokens, value.deepCopy());
+          return document;
+        case "move":
+          JsonNode moved = get(document, from, fromTokens, fromTokens.length);
+          if (from.equals(path)) {
+            return document;
+          }
+          if (path.startsWith(from + "/")) {
+            throw new JsonException("The reference must not be the target");
+          }
+          remove(document, from, fromTokens);
+          return add(document, path, tokens, moved);
+        case "copy":
+          return add(document, path, tokens, get(document, from, fromTokens, fromTokens.length).deepCopy());
+        case "test":
+          if (!get(document, path, tokens, tokens.length).equals(value)) {
+            throw new JsonException("JsonPatch.Operation.TEST fails! Values are not equal");
+          }
+          return document;
+        default:
+          throw new JsonException("unsupported operation: " + op);
+      }
+    }
+  }
+
+  private static JsonNode add(JsonNode document, String pointer, String[] tokens, JsonNode value) {
+    if (tokens.length == 0) {
+      return value;
+    }
+    JsonNode parent = get(document, pointer, tokens, tokens.length - 1);
+    String name = tokens[tokens.length - 1];
+    if (parent.isObject()) {
+      ((ObjectNode) parent).set(name, value);
+    } else if (parent.isArray()) {
+      ArrayNode array = (ArrayNode) parent;
+      if (name.equals("-")) {
+        array.add(value);
+      } else {
+        int index = arrayIndex(pointer, name);
+        if (index > array.size()) {
+          throw noElement(pointer, index);
+        }
+        array.insert(index, value);
+      }
+    } else {
+      throw new JsonException("'" + pointer + "' contains no value for name '" + name + "'");
+    }
+    return document;
+  }
+
+  private static void remove(JsonNode document, String pointer, String[] tokens) {
+    if (tokens.length == 0) {
+      throw new JsonException("The root value cannot be removed");
+    }
+    JsonNode parent = get(document, pointer, tokens, tokens.length - 1);
+    String name = tokens[tokens.length - 1];
+    if (parent.isObject() && parent.has(name)) {
+      ((ObjectNode) parent).remove(name);
+    } else if (parent.isArray()) {
+      int index = arrayIndex(pointer, name);
+      if (index >= parent.size()) {
+        throw noElement(pointer, index);
+      }
+      ((ArrayNode) parent).remove(index);
+    } else {
+      throw new JsonException("'" + pointer + "' contains no value for name '" + name + "'");
+    }
+  }
+
+  private static void replace(JsonNode document, String pointer, String[] tokens, JsonNode value) {
+    JsonNode parent = get(document, pointer, tokens, tokens.length - 1);
+    String name = tokens[tokens.length - 1];
+    if (parent.isObject() && parent.has(name)) {
+      ((ObjectNode) parent).set(name, value);
+    } else if (parent.isArray()) {
+      int index = arrayIndex(pointer, name);
+      if (index >= parent.size()) {
+        throw noElement(pointer, index);
+      }
+      ((ArrayNode) parent).set(index, value);
+    } else {
+      throw new JsonException("'" + pointer + "' contains no value for name '" + name + "'");
+    }
+  }
+
+  /** Get the value referenced by the first {@code depth} tokens of {@code pointer} */
+  private static JsonNode get(JsonNode document, String pointer, String[] tokens, int depth) {
+    JsonNode node = document;
+    for (int i = 0; i < depth; i++) {
+      String name = tokens[i];
+      JsonNode child;
+      if (node.isObject()) {
+        child = node.get(name);
+      } else if (node.isArray()) {
+        int index = arrayIndex(pointer, name);
+        child = node.get(index);
+        if (child == null) {
+          throw noElement(pointer, index);
+        }
+      } else {
+        child = null;
+      }
+      if (child == null) {
+        throw new JsonException("'" + pointer + "' contains no value for name '" + name + "'");
+      }
+      node = child;
+    }
+    return node;
+  }
+
+  private static int arrayIndex(String pointer, String token) {
+    if (token.isEmpty() || !token.chars().allMatch(Character::isDigit)) {
+      throw new JsonException("'" + token + "' is no valid array index in '" + pointer + "'");
+    }
+    if (token.length() > 1 && token.charAt(0) == '0') {
+      throw new JsonException("An array index must not start with a leading '0' in '" + pointer + "'");
+    }
+    try {
+      return Integer.parseInt(token);
+    } catch (NumberFormatException e) {
+      throw new JsonException("'" + token + "' is no valid array index in '" + pointer + "'");
+    }
+  }
+
+  private static JsonException noElement(String pointer, int index) {
+    return new JsonException("'" + pointer + "' contains no element for index " + index);
+  }
+
+  private static String[] parsePointer(String pointer) {
+    if (pointer.isEmpty()) {
+      return new String[0];
+    }
+    if (pointer.charAt(0) != '/') {
+      throw new JsonException("A non-empty JsonPointer string must begin with a '/'");
+    }
+    String[] tokens = pointer.substring(1).split("/", -1);
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+    }
+    return tokens;
+  }
+}
@@ -30,16 +30,12 @@ import java.io.StringReader;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import javax.json.Json;
-import javax.json.JsonArray;
-import javax.json.JsonArrayBuilder;
-import javax.json.JsonObject;
 import javax.json.JsonPatch;
 import javax.json.JsonReader;
 import javax.json.JsonStructure;
@@ -131,109 +127,12 @@ public final class JsonUtils {
 
   /** Applies the patch on original object and returns the updated object */
   public static <T> T applyPatch(T original, JsonPatch patch, Class<T> clz) {
-    JsonStructure targetJson = JsonUtils.getJsonStructure(original);
-
-    //
-    // -----------------------------------------------------------
-    // JSON patch modification 1 - Reorder the operations
-    // -----------------------------------------------------------
-    // JsonPatch array operations are not handled correctly by johnzon libraries. Example, the following operation:
-    // {"op":"replace","path":"/tags/0/tagFQN","value":"User.BankAccount"}
-    // {"op":"replace","path":"/tags/0/labelType","value":"MANUAL"}
-    // {"op":"remove","path":"/tags/1"}
-    // {"op":"remove","path":"/tags/2"}
-    // Removes second array element in a 3 array field /tags/1
-    // Then it fails to remove 3rd array element /tags/2. Because the previous operation removed the second element and
-    // now array of length 2 and there is no third element to remove. The patch operation fails with "array index not
-    // found error".
-    //
-    // The same applies to add operation as well. Example, the following operation:
-    // {"op":"add","path":"/tags/2"}
-    // {"op":"add","path":"/tags/1"}
-    // It will try to add element in index 2 before adding element in index 1 and the patch operation fails with
-    // "contains no element for index 1" error.
-    //
-    // Reverse sorting the remove operations and sorting all the other operations including "add" by "path" fields
-    // before applying the patch as a workaround.
-    //
-    // ---------------------------------------------------------------------
-    // JSON patch modification 2 - Ignore operations related to href patch
-    // ---------------------------------------------------------------------
-    // Another important modification to patch operation:
-    // Ignore all the patch operations related to the href path as href path is read only and is auto generated
-    // by removing those operations from patch operation array
-    //
-    JsonArray array = patch.toJsonArray();
-    List<JsonObject> removeOperations = new ArrayList<>();
-    List<JsonObject> otherOperations = new ArrayList<>();
-
-    array.forEach(
-        entry -> {
-          JsonObject jsonObject = entry.asJsonObject();
-          if (jsonObject.getString("path").endsWith("href")) {
-            // Ignore patch operations related to href path
-            return;
-          }
-          if (jsonObject.getString("op").equals("remove")) {
-            removeOperations.add(jsonObject);
-          } else {
-            otherOperations.add(jsonObject);
-          }
-        });
-
-    // sort the operations by path
-    if (!otherOperations.isEmpty()) {
-      ArrayList<String> paths = new ArrayList<>();
-      for (JsonObject jsonObject : otherOperations) {
-        paths.add(jsonObject.getString("path"));
-      }
-      for (String path : paths) {
-        if (path.matches("^[a-zA-Z]*$")) {
-          otherOperations.sort(Comparator.comparing(jsonObject -> jsonObject.getString("path")));
-        } else if (path.matches(".*\\d.*")) {
-          otherOperations.sort(
-              Comparator.comparing(
-                  jsonObject -> {
-                    String pathValue = jsonObject.getString("path");
-                    String tagIndex = pathValue.replaceAll("\\D", "");
-                    return tagIndex.isEmpty() ? 0 : Integer.parseInt(tagIndex);
-                  }));
-        }
-      }
+    JsonNode patched = JsonNodePatch.compile(patch).apply(OBJECT_MAPPER.valueToTree(original));
+    try {
+      return OBJECT_MAPPER.treeToValue(patched, clz);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
     }
-    if (!removeOperations.isEmpty()) {
-      ArrayList<String> paths = new ArrayList<>();
-      for (JsonObject jsonObject : removeOperations) {
-        paths.add(jsonObject.getString("path"));
-      }
-      for (String path : paths) {
-        if (path.matches("^[a-zA-Z]*$")) {
-          removeOperations.sort(Comparator.comparing(jsonObject -> jsonObject.getString("path")));
-          // reverse sort only the remove operations
-          Collections.reverse(removeOperations);
-        } else if (path.matches(".*\\d.*")) {
-          removeOperations.sort(
-              Comparator.comparing(
-                  jsonObject -> {
-                    String pathValue = jsonObject.getString("path");
-                    String tagIndex = pathValue.replaceAll("\\D", "");
-                    return tagIndex.isEmpty() ? 0 : Integer.parseInt(tagIndex);
-                  }));
-          // reverse sort only the remove operations
-          Collections.reverse(removeOperations);
-        }
-      }
-    }
-
-    // Build new sorted patch
-    JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
-    otherOperations.forEach(arrayBuilder::add);
-    removeOperations.forEach(arrayBuilder::add);
-    JsonPatch sortedPatch = Json.createPatch(arrayBuilder.build());
-
-    // Apply sortedPatch
-    JsonValue patchedJson = sortedPatch.apply(targetJson);
-    return OBJECT_MAPPER.convertValue(patchedJson, clz);
   }
 
   public static JsonPatch getJsonPatch(String v1, String v2) {
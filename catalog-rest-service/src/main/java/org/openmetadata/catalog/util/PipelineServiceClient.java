@@ -1,5 +1,7 @@
 package org.openmetadata.catalog.util;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lmax.disruptor.util.DaemonThreadFactory;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -7,8 +9,17 @@ import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.catalog.api.services.ingestionPipelines.TestServiceConnection;
 import org.openmetadata.catalog.entity.services.ingestionPipelines.IngestionPipeline;
 import org.openmetadata.catalog.exception.PipelineServiceClientException;
@@ -24,12 +35,27 @@ import org.openmetadata.catalog.exception.PipelineServiceClientException;
  *   <li>Pipeline uses `Connection` to a service as dependency. A Pipeline might need to connection to database service
  *       to collect metadata, OpenMetadata to user metadata over APIs, etc.
  * </ul>
+ *
+ * <p>The access token returned by {@link #authenticate()} is reused until shortly before it expires, and statuses of a
+ * list of pipelines are fetched concurrently.
  */
+@Slf4j
 public abstract class PipelineServiceClient {
+  // Statuses of a page of pipelines are fetched a few at a time so that the service is not flooded with requests
+  private static final int MAX_CONCURRENT_STATUS_REQUESTS = 8;
+  private static final ExecutorService STATUS_EXECUTOR =
+      Executors.newFixedThreadPool(MAX_CONCURRENT_STATUS_REQUESTS, DaemonThreadFactory.INSTANCE);
+  // Token is renewed this long before it expires, and kept this long when its expiry is not known
+  private static final long TOKEN_EXPIRY_MARGIN_MS = 30_000;
+  private static final long TOKEN_DEFAULT_TTL_MS = 5 * 60_000L;
+
   protected final URL serviceURL;
   protected final String username;
   protected final String password;
   protected final HttpClient client;
+  protected final int apiTimeout;
+  private String accessToken;
+  private long accessTokenExpiresAt;
   protected static final String AUTH_HEADER = "Authorization";
   protected static final String AUTH_TOKEN = "Bearer %s";
   protected static final String CONTENT_HEADER = "Content-Type";
@@ -43,6 +69,7 @@ public abstract class PipelineServiceClient {
     }
     this.username = userName;
     this.password = password;
+    this.apiTimeout = apiTimeout;
     this.client =
         HttpClient.newBuilder()
             .version(HttpClient.Version.HTTP_1_1)
@@ -56,17 +83,58 @@ public abstract class PipelineServiceClient {
 
   public final HttpResponse<String> post(String endpoint, String payload, boolean authenticate)
       throws IOException, InterruptedException {
-    String authToken = authenticate ? authenticate() : null;
+    HttpResponse<String> response = post(endpoint, payload, authenticate ? getAccessToken() : null);
+    if (authenticate && response.statusCode() == 401) {
+      // Token was revoked or expired earlier than expected, login again
+      invalidateAccessToken();
+      response = post(endpoint, payload, getAccessToken());
+    }
+    return response;
+  }
+
+  private HttpResponse<String> post(String endpoint, String payload, String authToken)
+      throws IOException, InterruptedException {
     HttpRequest.Builder requestBuilder =
         HttpRequest.newBuilder(URI.create(endpoint))
             .header(CONTENT_HEADER, CONTENT_TYPE)
+            .timeout(Duration.ofSeconds(apiTimeout))
             .POST(HttpRequest.BodyPublishers.ofString(payload));
-    if (authenticate) {
+    if (authToken != null) {
       requestBuilder.header(AUTH_HEADER, String.format(AUTH_TOKEN, authToken));
     }
     return client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
   }
 
+  /** Access token from {@link #authenticate()}, reused until shortly before it expires */
+  public final synchronized String getAccessToken() {
+    if (accessToken == null || System.currentTimeMillis() >= accessTokenExpiresAt) {
+      String token = authenticate();
+      accessToken = token;
+      accessTokenExpiresAt = getExpiry(token) - TOKEN_EXPIRY_MARGIN_MS;
+    }
+    return accessToken;
+  }
+
+  public final synchronized void invalidateAccessToken() {
+    accessToken = null;
+  }
+
+  /** Expiry of a JWT token from its exp claim, or the default time to live when the token is not a JWT token */
+  static long getExpiry(String token) {
+    long defaultExpiry = System.currentTimeMillis() + TOKEN_DEFAULT_TTL_MS + TOKEN_EXPIRY_MARGIN_MS;
+    String[] parts = token == null ? new String[0] : token.split("\\.");
+    if (parts.length != 3) {
+      return defaultExpiry;
+    }
+    try {
+      String claims = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+      JsonNode exp = JsonUtils.readValue(claims, JsonNode.class).get("exp");
+      return exp != null && exp.canConvertToLong() ? TimeUnit.SECONDS.toMillis(exp.asLong()) : defaultExpiry;
+    } catch (Exception e) {
+      return defaultExpiry;
+    }
+  }
+
   /* Authenticate with the service */
   public abstract String authenticate();
 
@@ -88,6 +156,32 @@ public abstract class PipelineServiceClient {
   /* Get the status of a deployed pipeline */
   public abstract IngestionPipeline getPipelineStatus(IngestionPipeline ingestionPipeline);
 
+  /**
+   * Get the statuses of deployed pipelines. Statuses are fetched concurrently, and a pipeline whose status fails or
+   * times out is returned without its status.
+   */
+  public List<IngestionPipeline> getPipelineStatuses(List<IngestionPipeline> ingestionPipelines) {
+    List<Future<IngestionPipeline>> futures = new ArrayList<>(ingestionPipelines.size());
+    for (IngestionPipeline ingestionPipeline : ingestionPipelines) {
+      futures.add(STATUS_EXECUTOR.submit(() -> getPipelineStatus(ingestionPipeline)));
+    }
+    // Requests time out on their own, and the wait for all of them is bounded as well
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(apiTimeout);
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.subList(i, futures.size()).forEach(future -> future.cancel(true));
+        break;
+      } catch (Exception e) {
+        futures.get(i).cancel(true);
+        LOG.error("Failed to fetch status for {} due to {}", ingestionPipelines.get(i).getName(), e.getMessage());
+      }
+    }
+    return ingestionPipelines;
+  }
+
   /* Toggle the state of an Ingestion Pipeline as enabled/disabled */
   public abstract IngestionPipeline toggleIngestion(IngestionPipeline ingestionPipeline);
 
@@ -110,7 +110,7 @@ public final class RestUtil {
     @Getter private T entity;
     private ChangeEvent changeEvent;
     @Getter private final Response.Status status;
-    private final String changeType;
+    @Getter private final String changeType;
 
     /**
      * Response.Status.CREATED when PUT operation creates a new entity or Response.Status.OK when PUT operation updates
@@ -178,6 +178,10 @@ public final class RestUtil {
       return entity;
     }
 
+    public String getChangeType() {
+      return changeType;
+    }
+
     public Response toResponse() {
       ResponseBuilder responseBuilder = Response.status(Status.OK).header(CHANGE_CUSTOM_HEADER, changeType);
       return responseBuilder.entity(entity).build();
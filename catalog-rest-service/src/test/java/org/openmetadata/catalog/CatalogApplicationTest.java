@@ -24,9 +24,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.SqlObjects;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.openmetadata.catalog.fernet.Fernet;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
 import org.openmetadata.catalog.resources.CollectionRegistry;
 import org.openmetadata.catalog.resources.events.WebhookCallbackResource;
 import org.testcontainers.containers.JdbcDatabaseContainer;
@@ -101,6 +106,20 @@ public abstract class CatalogApplicationTest {
         .property(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND, true);
   }
 
+  /** DAO on the database of the test application, to set up and check data that is not exposed by the APIs */
+  public static CollectionDAO getCollectionDAO() {
+    return getJdbi().onDemand(CollectionDAO.class);
+  }
+
+  /** Jdbi on the database of the test application, to run statements in transactions controlled by the test */
+  public static Jdbi getJdbi() {
+    Jdbi jdbi = Jdbi.create(SQL_CONTAINER.getJdbcUrl(), SQL_CONTAINER.getUsername(), SQL_CONTAINER.getPassword());
+    jdbi.installPlugin(new SqlObjectPlugin());
+    jdbi.getConfig(SqlObjects.class)
+        .setSqlLocator(new ConnectionAwareAnnotationSqlLocator(SQL_CONTAINER.getDriverClassName()));
+    return jdbi;
+  }
+
   public static WebTarget getResource(String collection) {
     return getClient().target(format("http://localhost:%s/api/v1/%s", APP.getLocalPort(), collection));
   }
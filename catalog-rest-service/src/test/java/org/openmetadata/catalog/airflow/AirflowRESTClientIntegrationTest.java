@@ -13,9 +13,12 @@
 package org.openmetadata.catalog.airflow;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,13 +26,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openmetadata.catalog.entity.services.ingestionPipelines.IngestionPipeline;
 import org.openmetadata.catalog.exception.PipelineServiceClientException;
 
 @ExtendWith(MockitoExtension.class)
 public class AirflowRESTClientIntegrationTest {
 
   private static final String DAG_NAME = "test_dag";
+  private static final String OTHER_DAG_NAME = "other_dag";
   private static final String URI_TO_HANDLE_REQUEST = "/";
+  private static final String LOGIN_PATH = "/api/v1/security/login";
+  private static final String LOGIN_RESPONSE = "{\"access_token\": \"token\"}";
+  private static final String STATUS_RUNS = "[{\"runId\": \"run1\", \"state\": \"success\"}]";
 
   @RegisterExtension private static final HttpServerExtension httpServerExtension = new HttpServerExtension();
 
@@ -77,6 +85,57 @@ public class AirflowRESTClientIntegrationTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  public void testAccessTokenIsReusedAcrossRequests() {
+    JsonHandler handler = registerMockedEndpoints(200, 200);
+
+    airflowRESTClient.getLastIngestionLogs(DAG_NAME);
+    airflowRESTClient.getLastIngestionLogs(DAG_NAME);
+
+    assertEquals(1, handler.getRequestCount(LOGIN_PATH));
+  }
+
+  @Test
+  public void testPipelineStatusesAreFetchedInBatchAndCached() {
+    Map<String, MockResponse> pathResponses = new HashMap<>();
+    pathResponses.put(LOGIN_PATH, new MockResponse(LOGIN_RESPONSE, "application/json", 200));
+    String statusPath = "/rest_api/api?api=dags_status&dag_ids=" + DAG_NAME + "%2C" + OTHER_DAG_NAME;
+    // other_dag is not deployed and is left out of the response
+    pathResponses.put(
+        statusPath, new MockResponse("{\"" + DAG_NAME + "\": " + STATUS_RUNS + "}", "application/json", 200));
+    JsonHandler handler = new JsonHandler(pathResponses);
+    httpServerExtension.registerHandler(URI_TO_HANDLE_REQUEST, handler);
+
+    for (int i = 0; i < 2; i++) {
+      List<IngestionPipeline> pipelines =
+          List.of(new IngestionPipeline().withName(DAG_NAME), new IngestionPipeline().withName(OTHER_DAG_NAME));
+      airflowRESTClient.getPipelineStatuses(pipelines);
+
+      assertTrue(pipelines.get(0).getDeployed());
+      assertEquals("run1", pipelines.get(0).getPipelineStatuses().get(0).getRunId());
+      assertFalse(pipelines.get(1).getDeployed());
+    }
+    assertEquals(1, handler.getRequestCount(statusPath));
+  }
+
+  @Test
+  public void testPipelineStatusesFallBackWhenBatchIsNotSupported() {
+    Map<String, MockResponse> pathResponses = new HashMap<>();
+    pathResponses.put(LOGIN_PATH, new MockResponse(LOGIN_RESPONSE, "application/json", 200));
+    pathResponses.put(
+        "/rest_api/api?api=dags_status&dag_ids=" + DAG_NAME,
+        new MockResponse("{\"error\": \"API [dags_status] was not found\"}", "application/json", 400));
+    pathResponses.put(
+        "/rest_api/api?api=dag_status&dag_id=" + DAG_NAME, new MockResponse(STATUS_RUNS, "application/json", 200));
+    httpServerExtension.registerHandler(URI_TO_HANDLE_REQUEST, new JsonHandler(pathResponses));
+
+    IngestionPipeline pipeline = new IngestionPipeline().withName(DAG_NAME);
+    airflowRESTClient.getPipelineStatuses(List.of(pipeline));
+
+    assertTrue(pipeline.getDeployed());
+    assertEquals("run1", pipeline.getPipelineStatuses().get(0).getRunId());
+  }
+
   @SneakyThrows
   private AirflowConfiguration createDefaultAirflowConfiguration() {
     AirflowConfiguration airflowConfiguration = new AirflowConfiguration();
@@ -87,15 +146,17 @@ public class AirflowRESTClientIntegrationTest {
     return airflowConfiguration;
   }
 
-  private void registerMockedEndpoints(int loginStatusCode, int lastDagLogStatusCode) {
+  private JsonHandler registerMockedEndpoints(int loginStatusCode, int lastDagLogStatusCode) {
     String jsonResponse = "{ \"key1\": \"value1\", \"key2\": \"value2\" }";
 
     Map<String, MockResponse> pathResponses = new HashMap<>();
     pathResponses.put(
         "/rest_api/api?api=last_dag_logs&dag_id=" + DAG_NAME,
         new MockResponse(jsonResponse, "application/json", lastDagLogStatusCode));
-    pathResponses.put("/api/v1/security/login", new MockResponse("{}", "application/json", loginStatusCode));
+    pathResponses.put(LOGIN_PATH, new MockResponse(LOGIN_RESPONSE, "application/json", loginStatusCode));
 
-    httpServerExtension.registerHandler(URI_TO_HANDLE_REQUEST, new JsonHandler(pathResponses));
+    JsonHandler handler = new JsonHandler(pathResponses);
+    httpServerExtension.registerHandler(URI_TO_HANDLE_REQUEST, handler);
+    return handler;
   }
 }
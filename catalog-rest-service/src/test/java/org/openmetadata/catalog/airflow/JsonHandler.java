@@ -17,11 +17,13 @@ import com.sun.net.httpserver.HttpHandler;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.io.IOUtils;
 
 class JsonHandler implements HttpHandler {
 
   Map<String, MockResponse> pathResponses;
+  Map<String, Integer> requestCounts = new ConcurrentHashMap<>();
 
   public JsonHandler(Map<String, MockResponse> pathResponses) {
     this.pathResponses = pathResponses;
@@ -29,10 +31,15 @@ class JsonHandler implements HttpHandler {
 
   @Override
   public void handle(HttpExchange exchange) throws IOException {
+    requestCounts.merge(exchange.getRequestURI().toString(), 1, Integer::sum);
     MockResponse response = pathResponses.get(exchange.getRequestURI().toString());
     exchange.getResponseHeaders().add("Content-Type", response.getContentType());
     exchange.sendResponseHeaders(response.getStatusCode(), response.getBody().length());
     IOUtils.write(response.getBody(), exchange.getResponseBody(), Charset.defaultCharset());
     exchange.close();
   }
+
+  int getRequestCount(String path) {
+    return requestCounts.getOrDefault(path, 0);
+  }
 }
@@ -0,0 +1,75 @@
+package org.openmetadata.catalog.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.junit.jupiter.api.Test;
+
+class ElasticSearchBulkBufferTest {
+  private static final String INDEX = "table_search_index";
+
+  @Test
+  void test_mergeRequestsForSameDocument() {
+    ElasticSearchBulkBuffer buffer = new ElasticSearchBulkBuffer(1000, Long.MAX_VALUE);
+    buffer.add(upsert("1"));
+    buffer.add(script("1"));
+    buffer.add(upsert("1")); // Full document write supersedes the earlier requests
+    buffer.add(script("1")); // Incremental update is kept after the full document write
+    buffer.add(upsert("2"));
+    buffer.add(new DeleteRequest(INDEX, "2")); // Delete supersedes the earlier requests
+    buffer.add(null); // Ignored
+    assertEquals(3, buffer.size());
+
+    List<BulkRequest> bulkRequests = buffer.drain();
+    assertTrue(buffer.isEmpty());
+    assertEquals(1, bulkRequests.size());
+    List<DocWriteRequest<?>> requests = bulkRequests.get(0).requests();
+    assertEquals(3, requests.size());
+    assertTrue(((UpdateRequest) requests.get(0)).docAsUpsert());
+    assertEquals("1", requests.get(1).id());
+    assertInstanceOf(DeleteRequest.class, requests.get(2));
+  }
+
+  @Test
+  void test_bulkRequestLimits() {
+    ElasticSearchBulkBuffer buffer = new ElasticSearchBulkBuffer(2, Long.MAX_VALUE);
+    for (int i = 0; i < 5; i++) {
+      buffer.add(upsert(String.valueOf(i)));
+    }
+    List<BulkRequest> bulkRequests = buffer.drain();
+    assertEquals(3, bulkRequests.size());
+    assertEquals(2, bulkRequests.get(0).numberOfActions());
+    assertEquals(1, bulkRequests.get(2).numberOfActions());
+
+    // Each bulk request holds at least one action even when a single request exceeds the size limit
+    buffer = new ElasticSearchBulkBuffer(1000, 1);
+    for (int i = 0; i < 3; i++) {
+      buffer.add(upsert(String.valueOf(i)));
+    }
+    assertEquals(3, buffer.drain().size());
+  }
+
+  private static UpdateRequest upsert(String id) {
+    UpdateRequest request = new UpdateRequest(INDEX, id);
+    request.doc("{\"name\":\"" + id + "\"}", XContentType.JSON);
+    request.docAsUpsert(true);
+    return request;
+  }
+
+  private static UpdateRequest script(String id) {
+    UpdateRequest request = new UpdateRequest(INDEX, id);
+    request.script(
+        new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, "ctx._source.deleted=true", new HashMap<>()));
+    return request;
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jdbi.v3.core.Handle;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.CatalogApplicationTest;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EventType;
+import org.openmetadata.catalog.util.JsonUtils;
+
+class ChangeEventDAOTest extends CatalogApplicationTest {
+  private static final long LAG_MS = 2_000;
+
+  @Test
+  void listAfterOffset_eventVisibleLateIsNotSkipped() throws JsonProcessingException, InterruptedException {
+    // Events of an entity type of this test only, so that the events stored by the application are not read
+    String entityType = "changeEventDAOTest";
+    String condition = ChangeEventRepository.getCondition(Map.of(EventType.ENTITY_CREATED, List.of(entityType)));
+    ChangeEventDAO dao = getCollectionDAO().changeEventDAO();
+    long start = dao.getMaxOffset();
+
+    long first;
+    long second;
+    try (Handle handle = getJdbi().open()) {
+      // Writer 1 stores an event in a transaction that is not committed yet
+      handle.begin();
+      first = handle.attach(CollectionDAO.class).changeEventDAO().insert(createEvent(entityType));
+
+      // Writer 2 stores an event with a larger offset that is visible right away
+      second = dao.insert(createEvent(entityType));
+      assertTrue(second > first);
+
+      // A reader paging by offset without the visibility lag reads the second event and moves its cursor past the
+      // first event, which is skipped when it becomes visible
+      Thread.sleep(10);
+      assertEquals(List.of(second), offsets(dao.listAfterOffset(condition, start, 10, 0)));
+
+      // With the visibility lag, the events are not read until the events stored before them are visible
+      assertEquals(List.of(), offsets(dao.listAfterOffset(condition, start, 10, LAG_MS)));
+      assertTrue(dao.getSafeOffset(LAG_MS) < first);
+      handle.commit();
+    }
+
+    // Both events are read in order once they are older than the visibility lag
+    Thread.sleep(LAG_MS);
+    assertEquals(List.of(first, second), offsets(dao.listAfterOffset(condition, start, 10, LAG_MS)));
+    assertTrue(dao.getSafeOffset(LAG_MS) >= second);
+  }
+
+  private static String createEvent(String entityType) throws JsonProcessingException {
+    return JsonUtils.pojoToJson(
+        new ChangeEvent()
+            .withEventType(EventType.ENTITY_CREATED)
+            .withEntityType(entityType)
+            .withEntityId(UUID.randomUUID())
+            .withUserName("admin")
+            .withTimestamp(System.currentTimeMillis())
+            .withCurrentVersion(0.1));
+  }
+
+  private static List<Long> offsets(List<Pair<Long, String>> rows) {
+    return rows.stream().map(Pair::getLeft).collect(Collectors.toList());
+  }
+}
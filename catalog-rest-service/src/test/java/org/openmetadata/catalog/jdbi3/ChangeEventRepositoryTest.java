@@ -0,0 +1,75 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.events.ChangeEventNotifier;
+import org.openmetadata.catalog.type.EventType;
+
+class ChangeEventRepositoryTest {
+  @Test
+  void conditionCombinesEventTypesInOneQuery() {
+    assertNull(ChangeEventRepository.getCondition(List.of(), null, List.of()));
+    assertEquals(
+        "(eventType IN ('entityCreated') OR (eventType IN ('entityDeleted','entitySoftDeleted') "
+            + "AND entityType IN ('table','topic')))",
+        ChangeEventRepository.getCondition(List.of("*"), null, List.of("table", "topic")));
+
+    // Webhook event filters
+    assertNull(ChangeEventRepository.getCondition(Map.of()));
+    assertEquals(
+        "((eventType IN ('entitySoftDeleted') AND entityType IN ('tab''le')))",
+        ChangeEventRepository.getCondition(Map.of(EventType.ENTITY_SOFT_DELETED, List.of("tab'le"))));
+  }
+
+  @Test
+  void offsetRoundTrips() {
+    String cursor = ChangeEventRepository.encodeOffset(42);
+    assertEquals(42, ChangeEventRepository.decodeOffset(cursor));
+    assertThrows(IllegalArgumentException.class, () -> ChangeEventRepository.decodeOffset("invalid"));
+  }
+
+  @Test
+  void waitingReadersAreNotifiedOfStoredEvents() {
+    ChangeEventNotifier notifier = ChangeEventNotifier.getInstance();
+    AtomicInteger notified = new AtomicInteger();
+    notifier.addListener(notifier.getStored(), notified::incrementAndGet);
+    assertEquals(0, notified.get());
+    notifier.notifyStored();
+    assertEquals(1, notified.get());
+    // Listeners are notified once
+    notifier.notifyStored();
+    assertEquals(1, notified.get());
+
+    // Events stored after the count was read are not missed by a reader that registers later
+    long seen = notifier.getStored();
+    notifier.notifyStored();
+    notifier.addListener(seen, notified::incrementAndGet);
+    assertEquals(2, notified.get());
+
+    // Removed listeners are not notified
+    Runnable listener = notified::incrementAndGet;
+    notifier.addListener(notifier.getStored(), listener);
+    notifier.removeListener(listener);
+    notifier.notifyStored();
+    assertEquals(2, notified.get());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TableDAO;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.Include;
+import org.openmetadata.catalog.util.JsonUtils;
+
+class EntityCacheTest {
+  private static final TableDAO TABLE_DAO = mock(TableDAO.class);
+  private final EntityCache entityCache = EntityCache.getInstance();
+  private TableDAO tableDAO;
+  private Table table;
+
+  @BeforeAll
+  static void registerEntity() {
+    Entity.registerEntity(Table.class, Entity.TABLE, TABLE_DAO, null);
+  }
+
+  @BeforeEach
+  void setup() throws IOException {
+    entityCache.init(new EntityCacheConfiguration());
+    tableDAO = mock(TableDAO.class);
+    when(tableDAO.getEntityClass()).thenReturn(Table.class);
+    when(tableDAO.supportsSoftDelete()).thenReturn(true);
+    table =
+        new Table()
+            .withId(UUID.randomUUID())
+            .withName("orders")
+            .withFullyQualifiedName("service.db.schema.orders")
+            .withDeleted(false);
+    String json = JsonUtils.pojoToJson(table);
+    when(tableDAO.findJsonById(table.getId().toString(), Include.ALL)).thenReturn(json);
+    when(tableDAO.findJsonByFqn(table.getFullyQualifiedName(), Include.ALL)).thenReturn(json);
+  }
+
+  @Test
+  void lookupsAreServedFromCache() throws IOException {
+    Table first = entityCache.getById(tableDAO, table.getId(), Include.NON_DELETED);
+    first.setDescription("changed by caller");
+    for (int i = 0; i < 10; i++) {
+      Table cached = entityCache.getById(tableDAO, table.getId(), Include.NON_DELETED);
+      assertNotSame(first, cached);
+      assertNull(cached.getDescription());
+      EntityReference reference = entityCache.getReferenceById(tableDAO, table.getId(), Include.NON_DELETED);
+      assertEquals(table.getFullyQualifiedName(), reference.getFullyQualifiedName());
+      assertEquals(Entity.TABLE, reference.getType());
+    }
+    verify(tableDAO, times(1)).findJsonById(table.getId().toString(), Include.ALL);
+
+    // Entity cached when looked up by name is also used for lookups by id
+    String fqn = table.getFullyQualifiedName();
+    assertEquals(table.getId(), entityCache.getByName(tableDAO, fqn, Include.NON_DELETED).getId());
+    assertEquals(table.getId(), entityCache.getReferenceByName(tableDAO, fqn, Include.ALL).getId());
+    verify(tableDAO, times(1)).findJsonByFqn(fqn, Include.ALL);
+  }
+
+  @Test
+  void deletedEntitiesAreFilteredByInclude() throws IOException {
+    table.setDeleted(true);
+    String json = JsonUtils.pojoToJson(table);
+    when(tableDAO.findJsonById(table.getId().toString(), Include.ALL)).thenReturn(json);
+
+    assertThrows(
+        EntityNotFoundException.class, () -> entityCache.getById(tableDAO, table.getId(), Include.NON_DELETED));
+    assertEquals(table.getId(), entityCache.getById(tableDAO, table.getId(), Include.DELETED).getId());
+    assertEquals(table.getId(), entityCache.getReferenceById(tableDAO, table.getId(), Include.ALL).getId());
+    verify(tableDAO, times(1)).findJsonById(table.getId().toString(), Include.ALL);
+  }
+
+  @Test
+  void invalidatedEntitiesAreReadAgain() throws IOException {
+    String oldFqn = table.getFullyQualifiedName();
+    entityCache.getByName(tableDAO, oldFqn, Include.NON_DELETED);
+
+    // Rename the table, and the old name no longer finds it
+    table.setFullyQualifiedName("service.db.schema.renamed");
+    when(tableDAO.findJsonById(table.getId().toString(), Include.ALL)).thenReturn(JsonUtils.pojoToJson(table));
+    when(tableDAO.findJsonByFqn(oldFqn, Include.ALL)).thenReturn(null);
+    entityCache.invalidate(Entity.TABLE, table.getId());
+    assertThrows(EntityNotFoundException.class, () -> entityCache.getByName(tableDAO, oldFqn, Include.NON_DELETED));
+    assertEquals(
+        "service.db.schema.renamed",
+        entityCache.getById(tableDAO, table.getId(), Include.NON_DELETED).getFullyQualifiedName());
+
+    // Change events of the entity invalidate it
+    ChangeEventHolder holder = new ChangeEventHolder();
+    holder.set(new ChangeEvent().withEntityType(Entity.TABLE).withEntityId(table.getId()));
+    entityCache.onEvent(holder, 1, true);
+    entityCache.getById(tableDAO, table.getId(), Include.NON_DELETED);
+    verify(tableDAO, times(2)).findJsonById(table.getId().toString(), Include.ALL);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.type.ChangeDescription;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.EntityVersionSummary;
+import org.openmetadata.catalog.type.FieldChange;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.JsonUtils;
+
+class EntityVersionDeltaTest {
+  @Test
+  void deltaReproducesPreviousVersion() throws IOException {
+    Table previous = table(0.1, 5);
+    previous.getColumns().get(1).setTags(List.of(tag("PII.Sensitive")));
+    Table next = table(0.2, 6);
+    next.setDescription("updated description");
+    next.getColumns().get(1).setTags(List.of(tag("PII.NonSensitive"), tag("Tier.Tier1")));
+    next.setChangeDescription(
+        new ChangeDescription()
+            .withPreviousVersion(0.1)
+            .withFieldsUpdated(List.of(new FieldChange().withName("description").withNewValue("updated description"))));
+
+    String previousJson = JsonUtils.pojoToJson(previous);
+    String nextJson = JsonUtils.pojoToJson(next);
+    EntityVersionDelta delta = EntityVersionDelta.create(previous, previousJson, nextJson);
+    assertNotNull(delta);
+
+    // Delta survives being stored and read back from entity_extension
+    EntityVersionDelta stored = JsonUtils.readValue(JsonUtils.pojoToJson(delta), EntityVersionDelta.class);
+    assertEquals(
+        JsonUtils.readJson(previousJson), JsonUtils.readJson(stored.apply(nextJson)), "Delta must restore the version");
+
+    EntityVersionSummary summary = stored.toSummary();
+    assertEquals(previous.getVersion(), summary.getVersion());
+    assertEquals(previous.getUpdatedAt(), summary.getUpdatedAt());
+    assertEquals(previous.getUpdatedBy(), summary.getUpdatedBy());
+  }
+
+  private static Table table(Double version, int columnCount) {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(new Column().withName("c" + i).withDataType(ColumnDataType.INT).withTags(new ArrayList<>()));
+    }
+    return new Table()
+        .withId(UUID.fromString("7b3bbd5c-8b0f-4f0b-9b0a-3f8a2d2b7f11"))
+        .withName("orders")
+        .withFullyQualifiedName("service.db.schema.orders")
+        .withDescription("description")
+        .withVersion(version)
+        .withUpdatedAt(version.longValue() + 1000L)
+        .withUpdatedBy("admin")
+        .withColumns(columns);
+  }
+
+  private static TagLabel tag(String tagFQN) {
+    return new TagLabel()
+        .withTagFQN(tagFQN)
+        .withSource(TagLabel.Source.TAG)
+        .withLabelType(TagLabel.LabelType.MANUAL)
+        .withState(TagLabel.State.CONFIRMED);
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.GlossaryTerm;
+import org.openmetadata.catalog.entity.tags.Tag;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.GlossaryTermDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagUsageDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagUsageDAO.TargetTagLabel;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.type.TagLabel.Source;
+import org.openmetadata.catalog.util.JsonUtils;
+
+class TagIndexTest {
+  private CollectionDAO daoCollection;
+  private TagDAO tagDAO;
+  private final TagIndex tagIndex = TagIndex.getInstance();
+
+  @BeforeEach
+  void setup() throws IOException {
+    tagIndex.invalidate();
+    daoCollection = mock(CollectionDAO.class);
+    tagDAO = mock(TagDAO.class);
+    GlossaryTermDAO glossaryTermDAO = mock(GlossaryTermDAO.class);
+    TagUsageDAO tagUsageDAO = mock(TagUsageDAO.class);
+    when(daoCollection.tagDAO()).thenReturn(tagDAO);
+    when(daoCollection.glossaryTermDAO()).thenReturn(glossaryTermDAO);
+    when(daoCollection.tagUsageDAO()).thenReturn(tagUsageDAO);
+
+    List<String> tagJsons = new ArrayList<>();
+    for (String fqn : List.of("PII.Sensitive", "PersonalData.Email", "PII.NonSensitive", "PII.Sensitive.Email")) {
+      tagJsons.add(JsonUtils.pojoToJson(tag(fqn)));
+    }
+    when(tagDAO.listAfter(any(ListFilter.class), anyInt(), anyString())).thenReturn(tagJsons);
+
+    GlossaryTerm term =
+        new GlossaryTerm()
+            .withId(UUID.randomUUID())
+            .withName("Customer")
+            .withFullyQualifiedName("Business.Customer")
+            .withDescription("Business.Customer description");
+    when(glossaryTermDAO.listAfter(any(ListFilter.class), anyInt(), anyString()))
+        .thenReturn(List.of(JsonUtils.pojoToJson(term)));
+
+    TagLabel derived =
+        new TagLabel()
+            .withTagFQN("PII.Sensitive")
+            .withDescription("PII.Sensitive description")
+            .withSource(Source.TAG)
+            .withLabelType(LabelType.MANUAL);
+    when(tagUsageDAO.getGlossaryTermTags()).thenReturn(List.of(new TargetTagLabel("Business.Customer", derived)));
+  }
+
+  @Test
+  void lookupsAreServedFromLoadedIndex() throws IOException {
+    for (int i = 0; i < 300; i++) {
+      assertEquals("PII.Sensitive description", tagIndex.getTagDescription(daoCollection, "PII.Sensitive"));
+      assertEquals(
+          "Business.Customer description", tagIndex.getGlossaryTermDescription(daoCollection, "Business.Customer"));
+    }
+    verify(tagDAO, times(1)).listAfter(any(ListFilter.class), anyInt(), anyString());
+  }
+
+  @Test
+  void tagsUnderAreOrderedAndExcludeSimilarPrefixes() throws IOException {
+    List<String> tagsUnder =
+        tagIndex.getTagsUnder(daoCollection, "PII").stream()
+            .map(Tag::getFullyQualifiedName)
+            .collect(Collectors.toList());
+    assertEquals(List.of("PII.NonSensitive", "PII.Sensitive", "PII.Sensitive.Email"), tagsUnder);
+    assertEquals(
+        List.of("PII.Sensitive.Email"),
+        tagIndex.getTagsUnder(daoCollection, "PII.Sensitive").stream()
+            .map(Tag::getFullyQualifiedName)
+            .collect(Collectors.toList()));
+    assertTrue(tagIndex.getTagsUnder(daoCollection, "PII.Sensitive.Email").isEmpty());
+  }
+
+  @Test
+  void derivedTagsAreCopies() throws IOException {
+    List<TagLabel> derivedTags = tagIndex.getDerivedTags(daoCollection, "Business.Customer");
+    assertEquals(1, derivedTags.size());
+    assertEquals(LabelType.DERIVED, derivedTags.get(0).getLabelType());
+    derivedTags.get(0).setTagFQN("changed");
+    assertEquals("PII.Sensitive", tagIndex.getDerivedTags(daoCollection, "Business.Customer").get(0).getTagFQN());
+    assertTrue(tagIndex.getDerivedTags(daoCollection, "Business.Unknown").isEmpty());
+  }
+
+  @Test
+  void changeEventsInvalidateIndex() throws IOException {
+    tagIndex.getTagDescription(daoCollection, "PII.Sensitive");
+    ChangeEventHolder holder = new ChangeEventHolder();
+
+    // Changes to other entities keep the index
+    holder.set(new ChangeEvent().withEntityType(Entity.TABLE));
+    tagIndex.onEvent(holder, 1, true);
+    tagIndex.getTagDescription(daoCollection, "PII.Sensitive");
+    verify(tagDAO, times(1)).listAfter(any(ListFilter.class), anyInt(), anyString());
+
+    holder.set(new ChangeEvent().withEntityType(Entity.GLOSSARY_TERM));
+    tagIndex.onEvent(holder, 2, true);
+    tagIndex.getTagDescription(daoCollection, "PII.Sensitive");
+    verify(tagDAO, times(2)).listAfter(any(ListFilter.class), anyInt(), anyString());
+  }
+
+  @Test
+  void missingTagIsLookedUpInDatabase() throws IOException {
+    Tag added = tag("PII.Added");
+    when(tagDAO.findEntityByName("PII.Added")).thenReturn(added);
+    assertEquals("PII.Added description", tagIndex.getTagDescription(daoCollection, "PII.Added"));
+    verify(tagDAO, times(1)).findEntityByName("PII.Added");
+  }
+
+  private static Tag tag(String fqn) {
+    String[] parts = fqn.split("\\.");
+    return new Tag()
+        .withId(UUID.randomUUID())
+        .withName(parts[parts.length - 1])
+        .withFullyQualifiedName(fqn)
+        .withDescription(fqn + " description");
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.type.BackgroundJob;
+import org.openmetadata.catalog.type.JobStatus;
+
+class JobManagerTest {
+  private final JobManager jobManager = JobManager.getInstance();
+
+  @Test
+  void failedJobIsResumedFromCheckpoint() throws Exception {
+    BackgroundJob job =
+        jobManager.submit(
+            "test",
+            null,
+            "admin",
+            progress -> {
+              progress.update(5, 10);
+              progress.checkpoint("5");
+              throw new IOException("failed after 5");
+            });
+    assertEquals(JobStatus.QUEUED, job.getStatus());
+    BackgroundJob failed = waitForJob(job.getId());
+    assertEquals(JobStatus.FAILED, failed.getStatus());
+    assertEquals("failed after 5", failed.getError());
+    assertEquals(5, failed.getProcessed());
+    assertEquals("5", failed.getCheckpoint());
+
+    // Resumed job keeps its id and continues from its checkpoint
+    BackgroundJob resumed =
+        jobManager.resume(
+            failed, progress -> progress.update(Integer.parseInt(failed.getCheckpoint()) + 5, failed.getTotal()));
+    assertEquals(job.getId(), resumed.getId());
+    assertEquals(JobStatus.QUEUED, resumed.getStatus());
+    assertNull(resumed.getError());
+    BackgroundJob completed = waitForJob(job.getId());
+    assertEquals(JobStatus.COMPLETED, completed.getStatus());
+    assertEquals(10, completed.getProcessed());
+    assertEquals(10, completed.getTotal());
+  }
+
+  private BackgroundJob waitForJob(UUID id) throws Exception {
+    BackgroundJob job = jobManager.get(id);
+    for (int i = 0; i < 100 && (job.getStatus() == JobStatus.QUEUED || job.getStatus() == JobStatus.RUNNING); i++) {
+      Thread.sleep(50);
+      job = jobManager.get(id);
+    }
+    return job;
+  }
+}
@@ -68,6 +68,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -132,6 +133,7 @@ import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EntityVersionSummary;
 import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FieldChange;
 import org.openmetadata.catalog.type.Include;
@@ -625,6 +627,54 @@ public abstract class EntityResourceTest<T extends EntityInterface, K extends Cr
     getVersion(entity.getId(), entity.getVersion(), ADMIN_AUTH_HEADERS);
   }
 
+  @Test
+  void get_entityVersionsAcrossCheckpoints(TestInfo test) throws IOException {
+    // Make more versions than the checkpoint interval of 10 stored versions, so that versions are rebuilt from both
+    // the full checkpoints and the patches stored between them
+    K request = createRequest(getEntityName(test), "description0", "displayName", null);
+    T entity = createEntity(request, ADMIN_AUTH_HEADERS);
+    List<Double> versions = new ArrayList<>();
+    List<String> descriptions = new ArrayList<>();
+    versions.add(0, entity.getVersion());
+    descriptions.add(0, entity.getDescription());
+    for (int i = 1; i <= 12; i++) {
+      request = createRequest(getEntityName(test), "description" + i, "displayName", null);
+      entity = updateEntity(request, OK, ADMIN_AUTH_HEADERS);
+      versions.add(0, entity.getVersion());
+      descriptions.add(0, entity.getDescription());
+    }
+    assertEquals(13, new HashSet<>(versions).size());
+
+    // GET ../entity/{id}/versions/{versionId} rebuilds each version
+    for (int i = 0; i < versions.size(); i++) {
+      T version = getVersion(entity.getId(), versions.get(i), ADMIN_AUTH_HEADERS);
+      assertEquals(versions.get(i), version.getVersion());
+      assertEquals(descriptions.get(i), version.getDescription());
+    }
+
+    // GET ../entity/{id}/versions?summary=true pages forward from the latest version with after cursor
+    List<Double> forward = new ArrayList<>();
+    EntityHistory page = getVersionSummaries(entity.getId(), 5, null, null, ADMIN_AUTH_HEADERS);
+    assertNull(page.getPaging().getBefore());
+    forward.addAll(getSummaryVersions(page));
+    while (page.getPaging().getAfter() != null) {
+      page = getVersionSummaries(entity.getId(), 5, null, page.getPaging().getAfter(), ADMIN_AUTH_HEADERS);
+      assertNotNull(page.getPaging().getBefore());
+      assertEquals(13, page.getPaging().getTotal());
+      forward.addAll(getSummaryVersions(page));
+    }
+    assertEquals(versions, forward);
+
+    // Page backward from the last page with before cursor
+    List<Double> backward = new ArrayList<>(getSummaryVersions(page));
+    while (page.getPaging().getBefore() != null) {
+      page = getVersionSummaries(entity.getId(), 5, page.getPaging().getBefore(), null, ADMIN_AUTH_HEADERS);
+      assertNotNull(page.getPaging().getAfter());
+      backward.addAll(0, getSummaryVersions(page));
+    }
+    assertEquals(versions, backward);
+  }
+
   @Test
   void get_entityIncludeDeleted_200(TestInfo test) throws IOException {
     if (!supportsSoftDelete) {
@@ -1753,6 +1803,24 @@ public abstract class EntityResourceTest<T extends EntityInterface, K extends Cr
     return TestUtils.get(target, EntityHistory.class, authHeaders);
   }
 
+  protected EntityHistory getVersionSummaries(
+      UUID id, Integer limit, String before, String after, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getResource(id).path("/versions").queryParam("summary", true);
+    target = limit == null ? target : target.queryParam("limit", limit);
+    target = before == null ? target : target.queryParam("before", before);
+    target = after == null ? target : target.queryParam("after", after);
+    return TestUtils.get(target, EntityHistory.class, authHeaders);
+  }
+
+  private static List<Double> getSummaryVersions(EntityHistory history) {
+    List<Double> versions = new ArrayList<>();
+    for (Object version : history.getVersions()) {
+      versions.add(JsonUtils.convertValue(version, EntityVersionSummary.class).getVersion());
+    }
+    return versions;
+  }
+
   protected ResultList<ChangeEvent> getChangeEvents(
       String entityCreated, String entityUpdated, String entityDeleted, long timestamp, Map<String, String> authHeaders)
       throws HttpResponseException {
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.openmetadata.catalog.Entity.FIELD_OWNER;
 import static org.openmetadata.catalog.Entity.FIELD_TAGS;
 import static org.openmetadata.catalog.Entity.TABLE;
+import static org.openmetadata.catalog.exception.CatalogExceptionMessage.duplicateEntityInRequest;
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.invalidColumnFQN;
 import static org.openmetadata.catalog.type.ColumnDataType.ARRAY;
@@ -79,6 +80,7 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.openmetadata.catalog.CatalogApplicationTest;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.api.BulkResponse;
 import org.openmetadata.catalog.api.data.CreateDatabase;
 import org.openmetadata.catalog.api.data.CreateDatabaseSchema;
 import org.openmetadata.catalog.api.data.CreateLocation;
@@ -92,6 +94,7 @@ import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.services.DatabaseService;
 import org.openmetadata.catalog.resources.EntityResourceTest;
 import org.openmetadata.catalog.resources.databases.TableResource.TableList;
+import org.openmetadata.catalog.resources.databases.TableResource.TableProfileList;
 import org.openmetadata.catalog.resources.glossary.GlossaryResourceTest;
 import org.openmetadata.catalog.resources.glossary.GlossaryTermResourceTest;
 import org.openmetadata.catalog.resources.locations.LocationResourceTest;
@@ -114,6 +117,7 @@ import org.openmetadata.catalog.tests.type.TestCaseExecutionFrequency;
 import org.openmetadata.catalog.tests.type.TestCaseResult;
 import org.openmetadata.catalog.tests.type.TestCaseStatus;
 import org.openmetadata.catalog.type.ChangeDescription;
+import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.ColumnConstraint;
 import org.openmetadata.catalog.type.ColumnDataType;
@@ -267,6 +271,65 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     assertEquals("col.umn", created.getTableConstraints().get(0).getColumns().get(0));
   }
 
+  @Test
+  void put_tablesBulk_200_OK(TestInfo test) throws IOException {
+    Table existing = createEntity(createRequest(test, 0), ADMIN_AUTH_HEADERS);
+
+    // Bulk request updates the existing table and creates the new tables
+    CreateTable update = createRequest(test, 0).withDescription("bulkDescription");
+    CreateTable create1 = createRequest(test, 1).withTags(List.of(TIER1_TAG_LABEL));
+    CreateTable create2 = createRequest(test, 2);
+    BulkResponse response = bulkCreateOrUpdate(List.of(update, create1, create2), ADMIN_AUTH_HEADERS);
+    assertEquals(2, response.getCreated());
+    assertEquals(1, response.getUpdated());
+    assertEquals(0, response.getUnchanged());
+
+    Table updated = getEntity(existing.getId(), ADMIN_AUTH_HEADERS);
+    assertEquals("bulkDescription", updated.getDescription());
+    String fqn = FullyQualifiedName.add(existing.getDatabaseSchema().getFullyQualifiedName(), create1.getName());
+    Table created = getEntityByName(fqn, "tags,columns", ADMIN_AUTH_HEADERS);
+    assertEquals(getContainer().getId(), created.getDatabaseSchema().getId());
+    assertEquals(COLUMNS.size(), created.getColumns().size());
+    assertEquals(TIER1_TAG_LABEL.getTagFQN(), created.getTags().get(0).getTagFQN());
+
+    // Repeating the request does not change any table
+    response = bulkCreateOrUpdate(List.of(update, create1, create2), ADMIN_AUTH_HEADERS);
+    assertEquals(0, response.getCreated());
+    assertEquals(0, response.getUpdated());
+    assertEquals(3, response.getUnchanged());
+
+    // Bulk request with the same table more than once is rejected
+    assertResponse(
+        () -> bulkCreateOrUpdate(List.of(create1, create1), ADMIN_AUTH_HEADERS),
+        BAD_REQUEST,
+        duplicateEntityInRequest(TABLE, fqn));
+  }
+
+  @Test
+  void put_tablesBulkInChunks_200_OK(TestInfo test) throws IOException {
+    // Bulk request with more tables than the 100 tables written in a chunk
+    long timestamp = System.currentTimeMillis();
+    List<CreateTable> creates = new ArrayList<>();
+    for (int i = 0; i < 101; i++) {
+      creates.add(createRequest(test, i));
+    }
+    BulkResponse response = bulkCreateOrUpdate(creates, ADMIN_AUTH_HEADERS);
+    assertEquals(101, response.getCreated());
+
+    List<UUID> ids = new ArrayList<>();
+    for (CreateTable create : creates) {
+      String fqn = FullyQualifiedName.add(getContainer().getFullyQualifiedName(), create.getName());
+      ids.add(getEntityByName(fqn, null, ADMIN_AUTH_HEADERS).getId());
+    }
+
+    // The change events of the tables of each chunk are recorded
+    List<UUID> eventIds =
+        getChangeEvents(TABLE, null, null, timestamp, ADMIN_AUTH_HEADERS).getData().stream()
+            .map(ChangeEvent::getEntityId)
+            .collect(Collectors.toList());
+    assertTrue(eventIds.containsAll(ids));
+  }
+
   @Test
   void post_tableWithPartition(TestInfo test) throws IOException {
     CreateTable create = createRequest(test).withTableConstraints(null);
@@ -1129,6 +1192,43 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     // first result should be the latest date
     assertEquals(tableProfile.getProfileDate(), table.getTableProfile().get(0).getProfileDate());
     verifyTableProfileData(table.getTableProfile(), List.of(newTableProfile1, tableProfile));
+
+    // Page through the profiles, latest first
+    TableProfile newTableProfile2 =
+        new TableProfile()
+            .withRowCount(5.0)
+            .withColumnCount(3.0)
+            .withColumnProfile(columnProfiles)
+            .withProfileDate("2021-09-07");
+    putTableProfileData(table.getId(), newTableProfile2, ADMIN_AUTH_HEADERS);
+    TableProfileList profiles = getTableProfiles(table.getId(), null, null, 2, null, null, ADMIN_AUTH_HEADERS);
+    assertEquals(3, profiles.getPaging().getTotal());
+    assertNull(profiles.getPaging().getBefore());
+    verifyTableProfileData(profiles.getData(), List.of(tableProfile, newTableProfile1));
+    profiles =
+        getTableProfiles(table.getId(), null, null, 2, null, profiles.getPaging().getAfter(), ADMIN_AUTH_HEADERS);
+    assertNull(profiles.getPaging().getAfter());
+    verifyTableProfileData(profiles.getData(), List.of(newTableProfile2));
+    profiles =
+        getTableProfiles(table.getId(), null, null, 2, profiles.getPaging().getBefore(), null, ADMIN_AUTH_HEADERS);
+    assertNull(profiles.getPaging().getBefore());
+    verifyTableProfileData(profiles.getData(), List.of(tableProfile, newTableProfile1));
+
+    // List the profiles in a date range
+    profiles = getTableProfiles(table.getId(), "2021-09-07", "2021-09-08", 10, null, null, ADMIN_AUTH_HEADERS);
+    assertEquals(2, profiles.getPaging().getTotal());
+    verifyTableProfileData(profiles.getData(), List.of(newTableProfile1, newTableProfile2));
+
+    // Profiles older than the retention window ending on the date of the new profile are dropped
+    TableProfile newTableProfile3 =
+        new TableProfile()
+            .withRowCount(8.0)
+            .withColumnCount(3.0)
+            .withColumnProfile(columnProfiles)
+            .withProfileDate("2022-09-09");
+    putTableProfileData(table.getId(), newTableProfile3, ADMIN_AUTH_HEADERS);
+    profiles = getTableProfiles(table.getId(), null, null, 10, null, null, ADMIN_AUTH_HEADERS);
+    verifyTableProfileData(profiles.getData(), List.of(newTableProfile3, tableProfile));
   }
 
   @Test
@@ -1447,6 +1547,58 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     validateDeletedEntity(create, tableBeforeDeletion, tableAfterDeletion, ADMIN_AUTH_HEADERS);
   }
 
+  @Test
+  void get_tableExport_200(TestInfo test) throws IOException {
+    for (int i = 0; i < 3; i++) {
+      createEntity(createRequest(test, i).withOwner(USER_OWNER1), ADMIN_AUTH_HEADERS);
+    }
+    ResultList<Table> tables = listEntities(Map.of("fields", "owner"), 1000000, null, null, ADMIN_AUTH_HEADERS);
+
+    // Export streams the same tables, one per line, in the same order as the list API
+    WebTarget target = getCollection().path("export").queryParam("fields", "owner");
+    String ndjson = TestUtils.get(target, String.class, ADMIN_AUTH_HEADERS);
+    List<Table> exported = new ArrayList<>();
+    for (String line : ndjson.split("\n")) {
+      exported.add(JsonUtils.readValue(line, Table.class));
+    }
+    assertEquals(
+        tables.getData().stream().map(Table::getFullyQualifiedName).collect(Collectors.toList()),
+        exported.stream().map(Table::getFullyQualifiedName).collect(Collectors.toList()));
+    assertFields(exported, "owner");
+
+    // Export with the database filter
+    target = getCollection().path("export").queryParam("database", DATABASE.getFullyQualifiedName());
+    ndjson = TestUtils.get(target, String.class, ADMIN_AUTH_HEADERS);
+    ResultList<Table> databaseTables =
+        listEntities(Map.of("database", DATABASE.getFullyQualifiedName()), 1000000, null, null, ADMIN_AUTH_HEADERS);
+    assertEquals(databaseTables.getData().size(), ndjson.split("\n").length);
+  }
+
+  @Test
+  void get_tableListWithIncludeTotal_200(TestInfo test) throws IOException {
+    createEntity(createRequest(test), ADMIN_AUTH_HEADERS);
+    ResultList<Table> exact = listEntities(Map.of("includeTotal", "exact"), 5, null, null, ADMIN_AUTH_HEADERS);
+    assertTrue(exact.getPaging().getTotal() > 0);
+
+    // Listing without the total returns the same page
+    ResultList<Table> none = listEntities(Map.of("includeTotal", "none"), 5, null, null, ADMIN_AUTH_HEADERS);
+    assertNull(none.getPaging().getTotal());
+    assertEquals(exact.getData().size(), none.getData().size());
+    assertEquals(exact.getPaging().getAfter(), none.getPaging().getAfter());
+
+    // Approximate total comes from the table statistics or falls back to exact count
+    ResultList<Table> approx = listEntities(Map.of("includeTotal", "approx"), 5, null, null, ADMIN_AUTH_HEADERS);
+    assertTrue(approx.getPaging().getTotal() > 0);
+
+    // Filtered lists always have an exact total
+    Map<String, String> params = Map.of("includeTotal", "approx", "database", DATABASE.getFullyQualifiedName());
+    ResultList<Table> databaseTables = listEntities(params, 5, null, null, ADMIN_AUTH_HEADERS);
+    params = Map.of("includeTotal", "exact", "database", DATABASE.getFullyQualifiedName());
+    assertEquals(
+        listEntities(params, 5, null, null, ADMIN_AUTH_HEADERS).getPaging().getTotal(),
+        databaseTables.getPaging().getTotal());
+  }
+
   @Test
   @Order(1) // Run this test first as other tables created in other tests will interfere with listing
   void get_tableListWithDifferentFields_200_OK(TestInfo test) throws IOException {
@@ -1894,6 +2046,12 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     return createEntity(create, ADMIN_AUTH_HEADERS).withDatabase(database.getEntityReference());
   }
 
+  public static BulkResponse bulkCreateOrUpdate(List<CreateTable> requests, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = CatalogApplicationTest.getResource("tables/bulk");
+    return TestUtils.put(target, requests, BulkResponse.class, OK, authHeaders);
+  }
+
   public static Table putJoins(UUID tableId, TableJoins joins, Map<String, String> authHeaders)
       throws HttpResponseException {
     WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/joins");
@@ -1912,6 +2070,24 @@ public class TableResourceTest extends EntityResourceTest<Table, CreateTable> {
     return TestUtils.put(target, data, Table.class, OK, authHeaders);
   }
 
+  public static TableProfileList getTableProfiles(
+      UUID tableId,
+      String startDate,
+      String endDate,
+      Integer limit,
+      String before,
+      String after,
+      Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/tableProfile");
+    target = startDate != null ? target.queryParam("startDate", startDate) : target;
+    target = endDate != null ? target.queryParam("endDate", endDate) : target;
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = before != null ? target.queryParam("before", before) : target;
+    target = after != null ? target.queryParam("after", after) : target;
+    return TestUtils.get(target, TableProfileList.class, authHeaders);
+  }
+
   public static Table putTableQueriesData(UUID tableId, SQLQuery data, Map<String, String> authHeaders)
       throws HttpResponseException {
     WebTarget target = CatalogApplicationTest.getResource("tables/" + tableId + "/tableQuery");
@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
@@ -37,6 +39,7 @@ import org.openmetadata.common.utils.CommonUtil;
 public class WebhookCallbackResource {
   private final ConcurrentHashMap<String, EventDetails> eventMap = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<String, List<ChangeEvent>> entityCallbackMap = new ConcurrentHashMap<>();
+  private volatile CountDownLatch unblockLatch = new CountDownLatch(0);
 
   /**
    * Webhook endpoint that immediately responds to callback. The events received are collected in a queue per testName
@@ -107,6 +110,27 @@ public class WebhookCallbackResource {
     return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
   }
 
+  /**
+   * Webhook endpoint that responds to callback only once {@link #unblockCallbacks()} is called after {@link
+   * #blockCallbacks()}, for up to 10 seconds. The events received are collected in a queue per testName.
+   */
+  @POST
+  @Path("/blocked/{testName}")
+  public Response receiveEventWhenUnblocked(@PathParam("testName") String testName, ChangeEventList events)
+      throws InterruptedException {
+    unblockLatch.await(10, TimeUnit.SECONDS);
+    addEventDetails(testName, events);
+    return Response.ok().build();
+  }
+
+  public void blockCallbacks() {
+    unblockLatch = new CountDownLatch(1);
+  }
+
+  public void unblockCallbacks() {
+    unblockLatch.countDown();
+  }
+
   /** Webhook endpoint that receives change events for various combination of event types and entity filters */
   @POST
   @Path("/filterBased/{eventType}/{entityType}")
@@ -23,9 +23,13 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.HttpResponseException;
@@ -33,6 +37,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.events.CreateWebhook;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.WebhookRepository;
 import org.openmetadata.catalog.resources.EntityResourceTest;
 import org.openmetadata.catalog.resources.events.WebhookCallbackResource.EventDetails;
 import org.openmetadata.catalog.resources.events.WebhookResource.WebhookList;
@@ -141,6 +147,78 @@ public class WebhookResourceTest extends EntityResourceTest<Webhook, CreateWebho
     deleteEntity(webhook.getId(), ADMIN_AUTH_HEADERS);
   }
 
+  @Test
+  void post_webhookReplaysEventsWhenOutboxOverflows(TestInfo test) throws IOException, InterruptedException {
+    // Webhook with batch size 1 holds 100 events in its outbox. Store more events while the callback is blocked.
+    String webhookName = getEntityName(test);
+    String uri = "http://localhost:" + APP.getLocalPort() + "/api/v1/test/webhook/blocked/" + webhookName;
+    CreateWebhook create =
+        createRequest(webhookName, "", "", null).withEnabled(true).withEndpoint(URI.create(uri)).withBatchSize(1);
+    webhookCallbackResource.blockCallbacks();
+    Webhook webhook = createEntity(create, ADMIN_AUTH_HEADERS);
+    List<UUID> created = createWebhooks(test, 120);
+    webhookCallbackResource.unblockCallbacks();
+
+    // Events that overflowed are replayed from change events, and each event is delivered once
+    assertCreatedEventsDelivered(webhookName, created);
+    deleteEntity(webhook.getId(), ADMIN_AUTH_HEADERS);
+  }
+
+  @Test
+  void put_webhookResumesFromSavedOffset(TestInfo test) throws IOException, InterruptedException {
+    String webhookName = getEntityName(test);
+    String uri = "http://localhost:" + APP.getLocalPort() + "/api/v1/test/webhook/" + webhookName;
+    CreateWebhook create =
+        createRequest(webhookName, "", "", null).withEnabled(false).withEndpoint(URI.create(uri)).withBatchSize(2);
+    Webhook webhook = createEntity(create, ADMIN_AUTH_HEADERS);
+
+    // Store events after the delivery offset saved for the webhook, as when the server was down
+    CollectionDAO dao = getCollectionDAO();
+    long offset = dao.changeEventDAO().getMaxOffset();
+    List<UUID> created = createWebhooks(test, 5);
+    dao.entityExtensionDAO()
+        .insert(
+            webhook.getId().toString(),
+            WebhookRepository.DELIVERY_OFFSET_EXTENSION,
+            "webhookOffset",
+            String.valueOf(offset));
+
+    // Enabling the webhook starts its publisher, which replays the events from the saved offset
+    updateEntity(create.withEnabled(true), Response.Status.OK, ADMIN_AUTH_HEADERS);
+    assertCreatedEventsDelivered(webhookName, created);
+    deleteEntity(webhook.getId(), ADMIN_AUTH_HEADERS);
+  }
+
+  private List<UUID> createWebhooks(TestInfo test, int count) throws HttpResponseException {
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ids.add(createEntity(createRequest(test, i), ADMIN_AUTH_HEADERS).getId());
+    }
+    return ids;
+  }
+
+  /** Ensure the entityCreated event of each entity is delivered to the webhook, and no event is delivered twice */
+  private void assertCreatedEventsDelivered(String webhookName, List<UUID> entityIds) throws InterruptedException {
+    EventDetails details = waitForFirstEvent(webhookName, 50, 100);
+    assertNotNull(details);
+    Predicate<ChangeEvent> isCreated =
+        event -> event.getEventType() == EventType.ENTITY_CREATED && entityIds.contains(event.getEntityId());
+    int i = 0;
+    while (details.getEvents().stream().filter(isCreated).count() < entityIds.size() && i < 600) {
+      Thread.sleep(100);
+      i++;
+    }
+    List<UUID> received =
+        details.getEvents().stream().filter(isCreated).map(ChangeEvent::getEntityId).collect(Collectors.toList());
+    assertEquals(entityIds.size(), received.size());
+    assertEquals(new HashSet<>(entityIds), new HashSet<>(received));
+    List<String> keys =
+        details.getEvents().stream()
+            .map(event -> event.getEventType() + ":" + event.getEntityId() + ":" + event.getTimestamp())
+            .collect(Collectors.toList());
+    assertEquals(keys.size(), new HashSet<>(keys).size());
+  }
+
   // TODO: Fix - This test is currently broken
   // @Test
   void put_updateEndpointURL(TestInfo test) throws IOException, InterruptedException {
@@ -50,9 +50,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.json.JsonPatch;
 import javax.ws.rs.client.WebTarget;
@@ -83,6 +85,8 @@ import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.feed.Thread;
 import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.catalog.jdbi3.FeedRepository;
 import org.openmetadata.catalog.jdbi3.FeedRepository.FilterType;
 import org.openmetadata.catalog.resources.databases.TableResourceTest;
 import org.openmetadata.catalog.resources.feeds.FeedResource.PostList;
@@ -96,6 +100,7 @@ import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.Post;
 import org.openmetadata.catalog.type.Reaction;
 import org.openmetadata.catalog.type.ReactionType;
+import org.openmetadata.catalog.type.Relationship;
 import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.type.TaskDetails;
 import org.openmetadata.catalog.type.TaskStatus;
@@ -801,6 +806,22 @@ public class FeedResourceTest extends CatalogApplicationTest {
     threads = listThreads(null, 100, AUTH_HEADERS);
     thread = threads.getData().get(0);
     assertEquals(10, thread.getPosts().size());
+
+    // Each thread in the list gets its own latest posts
+    Thread anotherThread = createAndCheck(create(), AUTH_HEADERS);
+    for (int i = 0; i < 2; i++) {
+      anotherThread = addPostAndCheck(anotherThread, createPost("another message" + i), AUTH_HEADERS);
+    }
+    threads = listThreads(null, 5, AUTH_HEADERS);
+    assertEquals(anotherThread.getId(), threads.getData().get(0).getId());
+    assertEquals(List.of("another message0", "another message1"), getMessages(threads.getData().get(0)));
+    assertEquals(thread.getId(), threads.getData().get(1).getId());
+    assertEquals(
+        List.of("message5", "message6", "message7", "message8", "message9"), getMessages(threads.getData().get(1)));
+  }
+
+  private static List<String> getMessages(Thread thread) {
+    return thread.getPosts().stream().map(Post::getMessage).collect(Collectors.toList());
   }
 
   @Test
@@ -817,9 +838,21 @@ public class FeedResourceTest extends CatalogApplicationTest {
 
     // create another thread on an entity with a different owner
     String ownerId2 = TABLE2.getOwner().getId().toString();
-    createAndCheck(
-        create().withAbout(String.format("<#E::table::%s>", TABLE2.getFullyQualifiedName())).withFrom(ADMIN_USER_NAME),
-        ADMIN_AUTH_HEADERS);
+    Thread thread =
+        createAndCheck(
+            create()
+                .withAbout(String.format("<#E::table::%s>", TABLE2.getFullyQualifiedName()))
+                .withFrom(ADMIN_USER_NAME),
+            ADMIN_AUTH_HEADERS);
+
+    // The thread is addressed to the team that owns the table, and not to the table itself
+    List<EntityRelationshipRecord> addressedTo =
+        getCollectionDAO()
+            .relationshipDAO()
+            .findTo(thread.getId().toString(), Entity.THREAD, Relationship.ADDRESSED_TO.ordinal());
+    assertEquals(
+        List.of(TABLE2.getOwner().getId()),
+        addressedTo.stream().map(EntityRelationshipRecord::getId).collect(Collectors.toList()));
 
     assertNotNull(ownerId);
     assertNotNull(ownerId2);
@@ -829,7 +862,8 @@ public class FeedResourceTest extends CatalogApplicationTest {
     assertEquals(user1ThreadCount, threads.getPaging().getTotal());
 
     // This should return 0 since the table is owned by a team
-    // and for the filter we are passing team id instead of user id
+    // and for the filter we are passing team id instead of user id. The listing is not changed by the thread being
+    // addressed to the team.
     threads = listThreadsWithFilter(ownerId2, FilterType.OWNER.toString(), AUTH_HEADERS);
     assertEquals(0, threads.getPaging().getTotal());
     assertEquals(0, threads.getData().size());
@@ -1010,6 +1044,27 @@ public class FeedResourceTest extends CatalogApplicationTest {
         entityNotFound("Post", NON_EXISTENT_ENTITY));
   }
 
+  @Test
+  void get_usersToNotify() throws IOException {
+    FeedRepository feedRepository = new FeedRepository(getCollectionDAO());
+
+    // The user owning the table and the mentioned user are notified
+    EntityReference table = TABLE.getEntityReference();
+    assertEquals(TableResourceTest.USER_OWNER1.getId(), Entity.getOwner(table).getId());
+    Thread thread = new Thread().withMessage(String.format("Hello <#E::user::%s>", USER2.getName()));
+    assertEquals(
+        Set.of(TableResourceTest.USER_OWNER1.getId(), USER2.getId()),
+        feedRepository.getUsersToNotify(thread, table, Entity.getOwner(table)));
+
+    // The members of the team owning the table and the followers of the table are notified
+    EntityReference table2 = TABLE2.getEntityReference();
+    assertEquals(TEAM2.getId(), Entity.getOwner(table2).getId());
+    TABLE_RESOURCE_TEST.addAndCheckFollower(TABLE2.getId(), USER.getId(), OK, 1, ADMIN_AUTH_HEADERS);
+    thread = new Thread().withMessage("Hello");
+    assertEquals(
+        Set.of(USER2.getId(), USER.getId()), feedRepository.getUsersToNotify(thread, table2, Entity.getOwner(table2)));
+  }
+
   public static Thread createAndCheck(CreateThread create, Map<String, String> authHeaders)
       throws HttpResponseException {
     // Validate returned thread from POST
@@ -1027,9 +1082,12 @@ public class FeedResourceTest extends CatalogApplicationTest {
     Thread returnedThread = addPost(thread.getId(), create, authHeaders);
     // Last post is the newly added one
     validatePost(thread, returnedThread, create.getFrom(), create.getMessage());
+    // Only the last 3 posts (the default limitPosts) are returned with the thread
+    assertEquals(Math.min(returnedThread.getPostsCount(), 3), returnedThread.getPosts().size());
 
     Thread getThread = getThread(thread.getId(), authHeaders);
     validatePost(thread, getThread, create.getFrom(), create.getMessage());
+    assertEquals(getThread.getPostsCount(), getThread.getPosts().size());
     return returnedThread;
   }
 
@@ -1048,7 +1106,7 @@ public class FeedResourceTest extends CatalogApplicationTest {
     assertNotNull(actualPost.getPostTs());
 
     // Ensure post count increased
-    assertEquals(expected.getPosts().size() + 1, actual.getPosts().size());
+    assertEquals(expected.getPostsCount() + 1, actual.getPostsCount());
   }
 
   public static Thread createThread(CreateThread create, Map<String, String> authHeaders) throws HttpResponseException {
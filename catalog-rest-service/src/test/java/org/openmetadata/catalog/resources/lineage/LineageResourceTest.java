@@ -286,6 +286,61 @@ public class LineageResourceTest extends CatalogApplicationTest {
     addEdge(TABLES.get(0), TABLES.get(1), details, ADMIN_AUTH_HEADERS);
   }
 
+  @Order(4)
+  @Test
+  void get_lineageWithDiamondCycleAndMaxNodes() throws HttpResponseException {
+    //
+    // Diamond with a cycle back to table5
+    //          -->table6-->
+    // table5-->          -->table8-->table5
+    //          -->table7-->
+    addEdge(TABLES.get(5), TABLES.get(6));
+    addEdge(TABLES.get(5), TABLES.get(7));
+    addEdge(TABLES.get(6), TABLES.get(8));
+    addEdge(TABLES.get(7), TABLES.get(8));
+    addEdge(TABLES.get(8), TABLES.get(5));
+
+    // Each node is returned once and each edge is returned once, even though table8 is reachable over two paths and
+    // the traversal goes back to table5
+    Edge[] expectedDownstreamEdges = {
+      getEdge(TABLES.get(5), TABLES.get(6)),
+      getEdge(TABLES.get(5), TABLES.get(7)),
+      getEdge(TABLES.get(6), TABLES.get(8)),
+      getEdge(TABLES.get(7), TABLES.get(8)),
+      getEdge(TABLES.get(8), TABLES.get(5))
+    };
+    assertLineage(
+        Entity.TABLE,
+        TABLES.get(5).getId(),
+        TABLES.get(5).getFullyQualifiedName(),
+        0,
+        3,
+        new Edge[0],
+        expectedDownstreamEdges);
+    EntityLineage lineage = getLineage(Entity.TABLE, TABLES.get(5).getId(), 0, 3, ADMIN_AUTH_HEADERS);
+    assertEquals(3, lineage.getNodes().size());
+
+    // With maxNodes of 1, only one of table6 and table7 is returned along with its edge from table5
+    lineage = getLineage(Entity.TABLE, TABLES.get(5).getId(), 0, 3, 1, ADMIN_AUTH_HEADERS);
+    assertEquals(1, lineage.getNodes().size());
+    assertEquals(1, lineage.getDownstreamEdges().size());
+    Edge edge = lineage.getDownstreamEdges().get(0);
+    assertEquals(TABLES.get(5).getId(), edge.getFromEntity());
+    assertEquals(lineage.getNodes().get(0).getId(), edge.getToEntity());
+    assertTrue(List.of(TABLES.get(6).getId(), TABLES.get(7).getId()).contains(edge.getToEntity()));
+
+    // With maxNodes of 2, table8 is not reached
+    lineage = getLineage(Entity.TABLE, TABLES.get(5).getId(), 0, 3, 2, ADMIN_AUTH_HEADERS);
+    assertEquals(2, lineage.getNodes().size());
+    assertEdges(lineage, new Edge[0], Arrays.copyOfRange(expectedDownstreamEdges, 0, 2));
+
+    deleteEdge(TABLES.get(5), TABLES.get(6));
+    deleteEdge(TABLES.get(5), TABLES.get(7));
+    deleteEdge(TABLES.get(6), TABLES.get(8));
+    deleteEdge(TABLES.get(7), TABLES.get(8));
+    deleteEdge(TABLES.get(8), TABLES.get(5));
+  }
+
   public Edge getEdge(Table from, Table to) {
     return getEdge(from.getId(), to.getId(), null);
   }
@@ -427,9 +482,21 @@ public class LineageResourceTest extends CatalogApplicationTest {
   public static EntityLineage getLineage(
       String entity, UUID id, Integer upstreamDepth, Integer downStreamDepth, Map<String, String> authHeaders)
       throws HttpResponseException {
+    return getLineage(entity, id, upstreamDepth, downStreamDepth, null, authHeaders);
+  }
+
+  public static EntityLineage getLineage(
+      String entity,
+      UUID id,
+      Integer upstreamDepth,
+      Integer downStreamDepth,
+      Integer maxNodes,
+      Map<String, String> authHeaders)
+      throws HttpResponseException {
     WebTarget target = getResource("lineage/" + entity + "/" + id);
     target = upstreamDepth != null ? target.queryParam("upstreamDepth", upstreamDepth) : target;
     target = downStreamDepth != null ? target.queryParam("downstreamDepth", downStreamDepth) : target;
+    target = maxNodes != null ? target.queryParam("maxNodes", maxNodes) : target;
     EntityLineage lineage = TestUtils.get(target, EntityLineage.class, authHeaders);
     validateLineage((lineage));
     return lineage;
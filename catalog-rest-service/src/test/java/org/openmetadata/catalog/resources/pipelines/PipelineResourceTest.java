@@ -17,6 +17,7 @@ import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.openmetadata.catalog.util.TestUtils.ADMIN_AUTH_HEADERS;
 import static org.openmetadata.catalog.util.TestUtils.UpdateType.MINOR_UPDATE;
@@ -52,6 +53,7 @@ import org.openmetadata.catalog.entity.data.Pipeline;
 import org.openmetadata.catalog.entity.data.PipelineStatus;
 import org.openmetadata.catalog.resources.EntityResourceTest;
 import org.openmetadata.catalog.resources.pipelines.PipelineResource.PipelineList;
+import org.openmetadata.catalog.resources.pipelines.PipelineResource.PipelineStatusList;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.FieldChange;
@@ -331,6 +333,39 @@ public class PipelineResourceTest extends EntityResourceTest<Pipeline, CreatePip
     // Validate that a new GET will come with the proper status
     pipeline = getEntity(pipeline.getId(), "pipelineStatus", ADMIN_AUTH_HEADERS);
     verifyPipelineStatusData(pipeline.getPipelineStatus(), List.of(pipelineStatus, anotherStatus));
+
+    // PUT an older status and page through the run history, latest first
+    PipelineStatus oldStatus =
+        new PipelineStatus()
+            .withExecutionStatus(StatusType.Successful)
+            .withExecutionDate(format.parse("2022-01-14").getTime())
+            .withTaskStatus(taskStatus);
+    putPipelineStatusData(pipeline.getId(), oldStatus, ADMIN_AUTH_HEADERS);
+    PipelineStatusList statuses = getPipelineStatuses(pipeline.getId(), null, null, 2, null, null, ADMIN_AUTH_HEADERS);
+    assertEquals(3, statuses.getPaging().getTotal());
+    assertNull(statuses.getPaging().getBefore());
+    verifyPipelineStatusData(statuses.getData(), List.of(anotherStatus, pipelineStatus));
+    statuses =
+        getPipelineStatuses(pipeline.getId(), null, null, 2, null, statuses.getPaging().getAfter(), ADMIN_AUTH_HEADERS);
+    assertNull(statuses.getPaging().getAfter());
+    verifyPipelineStatusData(statuses.getData(), List.of(oldStatus));
+    statuses =
+        getPipelineStatuses(
+            pipeline.getId(), null, null, 2, statuses.getPaging().getBefore(), null, ADMIN_AUTH_HEADERS);
+    assertNull(statuses.getPaging().getBefore());
+    verifyPipelineStatusData(statuses.getData(), List.of(anotherStatus, pipelineStatus));
+
+    // List the runs in a time range
+    statuses =
+        getPipelineStatuses(
+            pipeline.getId(),
+            format.parse("2022-01-14").getTime(),
+            format.parse("2022-01-15").getTime(),
+            10,
+            null,
+            null,
+            ADMIN_AUTH_HEADERS);
+    verifyPipelineStatusData(statuses.getData(), List.of(pipelineStatus, oldStatus));
   }
 
   @Test
@@ -357,6 +392,22 @@ public class PipelineResourceTest extends EntityResourceTest<Pipeline, CreatePip
         "Invalid task name invalidTask");
   }
 
+  @Test
+  void put_PipelineStatusWithoutExecutionDate_400(TestInfo test) throws IOException {
+    CreatePipeline request = createRequest(test).withService(AIRFLOW_REFERENCE);
+    Pipeline pipeline = createAndCheckEntity(request, ADMIN_AUTH_HEADERS);
+
+    // Runs are stored by execution date, a status without one is rejected
+    PipelineStatus pipelineStatus =
+        new PipelineStatus()
+            .withExecutionStatus(StatusType.Successful)
+            .withTaskStatus(List.of(new Status().withName("task1").withExecutionStatus(StatusType.Successful)));
+    assertResponseContains(
+        () -> putPipelineStatusData(pipeline.getId(), pipelineStatus, ADMIN_AUTH_HEADERS),
+        BAD_REQUEST,
+        "executionDate must not be null");
+  }
+
   @Test
   void patch_PipelineTasksUpdate_200_ok(TestInfo test) throws IOException, URISyntaxException {
     CreatePipeline request = createRequest(test).withService(AIRFLOW_REFERENCE);
@@ -539,6 +590,24 @@ public class PipelineResourceTest extends EntityResourceTest<Pipeline, CreatePip
     return TestUtils.put(target, data, Pipeline.class, OK, authHeaders);
   }
 
+  public static PipelineStatusList getPipelineStatuses(
+      UUID pipelineId,
+      Long startTs,
+      Long endTs,
+      Integer limit,
+      String before,
+      String after,
+      Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = CatalogApplicationTest.getResource("pipelines/" + pipelineId + "/status");
+    target = startTs != null ? target.queryParam("startTs", startTs) : target;
+    target = endTs != null ? target.queryParam("endTs", endTs) : target;
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = before != null ? target.queryParam("before", before) : target;
+    target = after != null ? target.queryParam("after", after) : target;
+    return TestUtils.get(target, PipelineStatusList.class, authHeaders);
+  }
+
   // Check that the inserted status are properly stored
   private void verifyPipelineStatusData(List<PipelineStatus> actualStatus, List<PipelineStatus> expectedStatus) {
     assertEquals(actualStatus.size(), expectedStatus.size());
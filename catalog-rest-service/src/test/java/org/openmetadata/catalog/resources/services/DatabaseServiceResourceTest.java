@@ -22,34 +22,48 @@ import static org.openmetadata.catalog.util.TestUtils.TEST_AUTH_HEADERS;
 import static org.openmetadata.catalog.util.TestUtils.assertResponseContains;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.api.data.CreateTable;
 import org.openmetadata.catalog.api.services.CreateDatabaseService;
 import org.openmetadata.catalog.api.services.CreateDatabaseService.DatabaseServiceType;
 import org.openmetadata.catalog.api.services.DatabaseConnection;
 import org.openmetadata.catalog.api.services.ingestionPipelines.CreateIngestionPipeline;
+import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.data.DatabaseSchema;
+import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.services.DatabaseService;
 import org.openmetadata.catalog.entity.services.ingestionPipelines.IngestionPipeline;
 import org.openmetadata.catalog.metadataIngestion.DatabaseServiceMetadataPipeline;
 import org.openmetadata.catalog.metadataIngestion.FilterPattern;
 import org.openmetadata.catalog.metadataIngestion.SourceConfig;
 import org.openmetadata.catalog.resources.EntityResourceTest;
+import org.openmetadata.catalog.resources.databases.DatabaseResourceTest;
+import org.openmetadata.catalog.resources.databases.DatabaseSchemaResourceTest;
+import org.openmetadata.catalog.resources.databases.TableResourceTest;
 import org.openmetadata.catalog.resources.services.database.DatabaseServiceResource.DatabaseServiceList;
 import org.openmetadata.catalog.resources.services.ingestionpipelines.IngestionPipelineResourceTest;
+import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.services.connections.database.BigQueryConnection;
 import org.openmetadata.catalog.services.connections.database.ConnectionArguments;
 import org.openmetadata.catalog.services.connections.database.ConnectionOptions;
 import org.openmetadata.catalog.services.connections.database.MysqlConnection;
 import org.openmetadata.catalog.services.connections.database.RedshiftConnection;
 import org.openmetadata.catalog.services.connections.database.SnowflakeConnection;
+import org.openmetadata.catalog.type.BackgroundJob;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.FieldChange;
+import org.openmetadata.catalog.type.JobStatus;
 import org.openmetadata.catalog.type.Schedule;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.TestUtils;
@@ -110,6 +124,52 @@ public class DatabaseServiceResourceTest extends EntityResourceTest<DatabaseServ
     createAndCheckEntity(createRequest(test, 2).withDescription("description"), authHeaders);
   }
 
+  @Test
+  void delete_serviceRecursivelyInBackground_202(TestInfo test) throws IOException, InterruptedException {
+    // Create a service with a database, a schema and tables
+    DatabaseService service = createEntity(createRequest(test), ADMIN_AUTH_HEADERS);
+    DatabaseResourceTest databaseResourceTest = new DatabaseResourceTest();
+    Database database =
+        databaseResourceTest.createEntity(
+            databaseResourceTest.createRequest(test).withService(service.getEntityReference()), ADMIN_AUTH_HEADERS);
+    DatabaseSchemaResourceTest schemaResourceTest = new DatabaseSchemaResourceTest();
+    DatabaseSchema schema =
+        schemaResourceTest.createEntity(
+            schemaResourceTest.createRequest(test).withDatabase(database.getEntityReference()), ADMIN_AUTH_HEADERS);
+    TableResourceTest tableResourceTest = new TableResourceTest();
+    List<Table> tables = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      CreateTable createTable =
+          tableResourceTest.createRequest(test, i).withDatabaseSchema(schema.getEntityReference());
+      tables.add(tableResourceTest.createEntity(createTable, ADMIN_AUTH_HEADERS));
+    }
+
+    // Hard delete the service in the background and wait for the job to complete
+    WebTarget target =
+        getResource(service.getId())
+            .queryParam("recursive", true)
+            .queryParam("hardDelete", true)
+            .queryParam("async", true);
+    Response response = SecurityUtil.addHeaders(target, ADMIN_AUTH_HEADERS).delete();
+    BackgroundJob job = TestUtils.readResponse(response, BackgroundJob.class, Status.ACCEPTED.getStatusCode());
+    assertEquals(service.getId(), job.getEntity().getId());
+    for (int i = 0; i < 100 && (job.getStatus() == JobStatus.QUEUED || job.getStatus() == JobStatus.RUNNING); i++) {
+      Thread.sleep(100);
+      job = TestUtils.get(getResource("jobs/" + job.getId()), BackgroundJob.class, ADMIN_AUTH_HEADERS);
+    }
+    assertEquals(JobStatus.COMPLETED, job.getStatus());
+    assertEquals(5, job.getTotal());
+    assertEquals(5, job.getProcessed());
+
+    // The service and all the entities it contains are deleted
+    assertEntityDeleted(service.getId(), true);
+    databaseResourceTest.assertEntityDeleted(database.getId(), true);
+    schemaResourceTest.assertEntityDeleted(schema.getId(), true);
+    for (Table table : tables) {
+      tableResourceTest.assertEntityDeleted(table.getId(), true);
+    }
+  }
+
   @Test
   void post_invalidDatabaseServiceNoConnection_4xx(TestInfo test) {
     // No jdbc connection set
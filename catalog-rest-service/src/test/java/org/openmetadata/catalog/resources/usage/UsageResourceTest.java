@@ -15,6 +15,7 @@ package org.openmetadata.catalog.resources.usage;
 
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+import static javax.ws.rs.core.Response.Status.OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.openmetadata.catalog.Entity.TABLE;
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
@@ -45,6 +46,8 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.openmetadata.catalog.CatalogApplicationTest;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.data.CreateTable;
+import org.openmetadata.catalog.api.usage.EntityUsageCounts;
+import org.openmetadata.catalog.api.usage.ReportUsageBatch;
 import org.openmetadata.catalog.entity.data.Database;
 import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.resources.databases.DatabaseResourceTest;
@@ -116,6 +119,46 @@ class UsageResourceTest extends CatalogApplicationTest {
     reportUsageByNameAndCheck(TABLE, table.getFullyQualifiedName(), usageReport, 100, 100, ADMIN_AUTH_HEADERS);
   }
 
+  @Test
+  void post_usageBatch_200_OK(TestInfo test) throws IOException {
+    TableResourceTest tableResourceTest = new TableResourceTest();
+    Table table1 = tableResourceTest.createEntity(tableResourceTest.createRequest(test, 1), ADMIN_AUTH_HEADERS);
+    Table table2 = tableResourceTest.createEntity(tableResourceTest.createRequest(test, 2), ADMIN_AUTH_HEADERS);
+
+    // Use dates in the past that are not used by the other tests
+    String today = RestUtil.DATE_FORMAT.format(new Date());
+    String day1 = getDateStringByOffset(RestUtil.DATE_FORMAT, today, -100);
+    String day2 = getDateStringByOffset(RestUtil.DATE_FORMAT, today, -99);
+
+    // Usage of an entity is recorded in the order of the dates irrespective of the order in the request
+    ReportUsageBatch batch =
+        new ReportUsageBatch()
+            .withUsage(
+                List.of(
+                    new EntityUsageCounts()
+                        .withId(table1.getId())
+                        .withCounts(
+                            List.of(
+                                new DailyCount().withDate(day2).withCount(20),
+                                new DailyCount().withDate(day1).withCount(10))),
+                    new EntityUsageCounts()
+                        .withId(table2.getId())
+                        .withCounts(List.of(new DailyCount().withDate(day1).withCount(5)))));
+    reportUsageBatch(TABLE, batch, ADMIN_AUTH_HEADERS);
+    checkUsage(day1, TABLE, table1.getId(), 10, 10, 10, ADMIN_AUTH_HEADERS);
+    checkUsage(day2, TABLE, table1.getId(), 20, 30, 30, ADMIN_AUTH_HEADERS);
+    checkUsage(day1, TABLE, table2.getId(), 5, 5, 5, ADMIN_AUTH_HEADERS);
+
+    // Batch with usage for a non-existent entity is rejected
+    ReportUsageBatch invalidBatch =
+        new ReportUsageBatch()
+            .withUsage(List.of(new EntityUsageCounts().withId(NON_EXISTENT_ENTITY).withCounts(List.of(usageReport()))));
+    assertResponse(
+        () -> reportUsageBatch(TABLE, invalidBatch, ADMIN_AUTH_HEADERS),
+        NOT_FOUND,
+        entityNotFound(TABLE, NON_EXISTENT_ENTITY));
+  }
+
   @Order(1) // Run this method first before other usage records are created
   @Test
   void post_validUsageForTables_200_OK() throws HttpResponseException {
@@ -270,6 +313,12 @@ class UsageResourceTest extends CatalogApplicationTest {
     TestUtils.post(target, usage, authHeaders);
   }
 
+  public static void reportUsageBatch(String entity, ReportUsageBatch batch, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getResource("usage/" + entity + "/batch");
+    TestUtils.post(target, batch, OK, authHeaders);
+  }
+
   public static void computePercentile(String entity, String date, Map<String, String> authHeaders)
       throws HttpResponseException {
     WebTarget target = getResource("usage/compute.percentile/" + entity + "/" + date);
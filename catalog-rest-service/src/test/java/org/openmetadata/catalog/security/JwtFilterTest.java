@@ -134,6 +134,25 @@ class JwtFilterTest {
     assertEquals("sam", securityContextArgument.getValue().getUserPrincipal().getName());
   }
 
+  @Test
+  void testVerifiedTokenIsCached() throws Exception {
+    JwkProvider countingJwkProvider = mock(JwkProvider.class);
+    Jwk jwk = jwkProvider.get(algorithm.getSigningKeyId());
+    when(countingJwkProvider.get(algorithm.getSigningKeyId())).thenReturn(jwk);
+    JwtFilter filter = new JwtFilter(countingJwkProvider, List.of("sub"), "openmetadata.org", false);
+
+    String jwt =
+        JWT.create()
+            .withExpiresAt(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+            .withClaim("sub", "sam")
+            .sign(algorithm);
+    filter.filter(createRequestContextWithJwt(jwt));
+    filter.filter(createRequestContextWithJwt(jwt));
+
+    // Signature of the token is verified only once
+    verify(countingJwkProvider, times(1)).get(algorithm.getSigningKeyId());
+  }
+
   @Test
   void testFilterWithEmailClaim() {
     String jwt =
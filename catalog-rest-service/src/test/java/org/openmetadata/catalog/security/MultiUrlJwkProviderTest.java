@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class MultiUrlJwkProviderTest {
+  @Test
+  void test_keysAreCachedAndUnknownKeysAreRefetchedWithRateLimit() throws Exception {
+    Jwk key1 = jwk("key1");
+    Jwk key2 = jwk("key2");
+    Jwk key3 = jwk("key3");
+    UrlJwkProvider url1 = mock(UrlJwkProvider.class);
+    UrlJwkProvider url2 = mock(UrlJwkProvider.class);
+    when(url1.getAll()).thenReturn(List.of(key1));
+    when(url2.getAll()).thenReturn(List.of(key2)).thenThrow(new SigningKeyNotFoundException("down", null));
+    AtomicLong clock = new AtomicLong();
+    MultiUrlJwkProvider provider = new MultiUrlJwkProvider(List.of(url1, url2), 30, clock::get);
+
+    // First lookup fetches the keys, later lookups are served from memory
+    assertSame(key1, provider.get("key1"));
+    assertSame(key2, provider.get("key2"));
+    assertSame(key1, provider.get("key1"));
+    verify(url1, times(1)).getAll();
+
+    // Unknown key is refetched only after the minimum refetch interval
+    when(url1.getAll()).thenReturn(List.of(key1, key3));
+    assertThrows(SigningKeyNotFoundException.class, () -> provider.get("key3"));
+    verify(url1, times(1)).getAll();
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+    assertSame(key3, provider.get("key3"));
+    verify(url1, times(2)).getAll();
+
+    // Keys from a URL that fails to respond are kept
+    assertSame(key2, provider.get("key2"));
+  }
+
+  @Test
+  void test_keyFetchedByAnotherThreadWhileWaitingIsFound() throws Exception {
+    Jwk key1 = jwk("key1");
+    Jwk key2 = jwk("key2");
+    UrlJwkProvider url = mock(UrlJwkProvider.class);
+    when(url.getAll()).thenReturn(List.of(key1));
+    MultiUrlJwkProvider provider = new MultiUrlJwkProvider(List.of(url), 30, () -> 0);
+    provider.refresh();
+
+    AtomicReference<Object> result = new AtomicReference<>();
+    Thread lookup;
+    synchronized (provider) {
+      // Lookup misses key2 and waits for the lock held by this thread, which fetches the rotated keys meanwhile
+      lookup =
+          new Thread(
+              () -> {
+                try {
+                  result.set(provider.get("key2"));
+                } catch (Exception e) {
+                  result.set(e);
+                }
+              });
+      lookup.start();
+      while (lookup.getState() != Thread.State.BLOCKED) {
+        Thread.sleep(1);
+      }
+      when(url.getAll()).thenReturn(List.of(key1, key2));
+      provider.refresh();
+    }
+    lookup.join();
+
+    // Keys were fetched too recently to fetch them again, the key fetched by the other thread is returned
+    assertSame(key2, result.get());
+    verify(url, times(2)).getAll();
+  }
+
+  private static Jwk jwk(String keyId) {
+    Jwk jwk = mock(Jwk.class);
+    when(jwk.getId()).thenReturn(keyId);
+    return jwk;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.security.PermissionCache.SubjectContext;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+
+class PermissionCacheTest {
+  private static final EntityReference ROLE1 = new EntityReference().withId(UUID.randomUUID()).withType(Entity.ROLE);
+  private static final EntityReference ROLE2 = new EntityReference().withId(UUID.randomUUID()).withType(Entity.ROLE);
+
+  @Test
+  void test_subjectContextIsCachedUntilUserChanges() throws IOException {
+    PermissionCache cache = new PermissionCache(100, 300);
+    AtomicInteger loads = new AtomicInteger();
+    SubjectContext subject = cache.getSubjectContext("user1", () -> load("user1", loads));
+    assertSame(subject, cache.getSubjectContext("user1", () -> load("user1", loads)));
+    assertEquals(1, loads.get());
+
+    // Change to another user does not invalidate the subject context
+    cache.onEvent(holder(Entity.USER, "user2"), 0, true);
+    cache.getSubjectContext("user1", () -> load("user1", loads));
+    assertEquals(1, loads.get());
+
+    cache.onEvent(holder(Entity.USER, "user1"), 1, true);
+    cache.getSubjectContext("user1", () -> load("user1", loads));
+    assertEquals(2, loads.get());
+
+    // Change to a team invalidates all the subject contexts
+    cache.onEvent(holder(Entity.TEAM, "team1"), 2, true);
+    cache.getSubjectContext("user1", () -> load("user1", loads));
+    assertEquals(3, loads.get());
+
+    // Failure to load the user is not cached
+    assertThrows(
+        EntityNotFoundException.class,
+        () ->
+            cache.getSubjectContext(
+                "unknown",
+                () -> {
+                  throw new EntityNotFoundException("unknown");
+                }));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void test_decisionsAreSharedBySubjectsWithSameRoles() {
+    PermissionCache cache = new PermissionCache(100, 300);
+    SubjectContext subject1 = new SubjectContext(new User().withName("user1"), List.of(ROLE1, ROLE2));
+    SubjectContext subject2 = new SubjectContext(new User().withName("user2"), List.of(ROLE2, ROLE1));
+    SubjectContext subject3 = new SubjectContext(new User().withName("user3"), List.of(ROLE1));
+    Table table = table("tag1", "tag2");
+    AtomicInteger evaluations = new AtomicInteger();
+
+    assertTrue(cache.hasPermission(subject1, table, MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations)));
+    assertTrue(
+        cache.hasPermission(
+            subject2, table("tag2", "tag1"), MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations)));
+    assertEquals(1, evaluations.get());
+
+    // Different roles, tags or operation need a new evaluation
+    cache.hasPermission(subject3, table, MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations));
+    cache.hasPermission(subject1, table("tag1"), MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations));
+    cache.hasPermission(subject1, table, MetadataOperation.EDIT_TAGS, () -> allow(evaluations));
+    cache.hasPermission(subject1, null, MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations));
+    assertEquals(5, evaluations.get());
+
+    // Change to a policy or role invalidates the decisions
+    cache.onEvent(holder(Entity.POLICY, "policy1"), 0, true);
+    cache.hasPermission(subject1, table, MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations));
+    assertEquals(6, evaluations.get());
+    cache.onEvent(holder(Entity.ROLE, "role1"), 1, true);
+    cache.hasPermission(subject1, table, MetadataOperation.EDIT_DESCRIPTION, () -> allow(evaluations));
+    assertEquals(7, evaluations.get());
+
+    // Allowed operations are cached separately from the decisions
+    List<MetadataOperation> operations = List.of(MetadataOperation.EDIT_DESCRIPTION);
+    assertEquals(operations, cache.getAllowedOperations(subject1, table, () -> operations));
+    assertEquals(operations, cache.getAllowedOperations(subject2, table, List::of));
+  }
+
+  private static SubjectContext load(String userName, AtomicInteger loads) {
+    loads.incrementAndGet();
+    return new SubjectContext(new User().withName(userName), List.of(ROLE1));
+  }
+
+  private static boolean allow(AtomicInteger evaluations) {
+    evaluations.incrementAndGet();
+    return true;
+  }
+
+  private static Table table(String... tags) {
+    List<TagLabel> tagLabels = new ArrayList<>();
+    for (String tag : tags) {
+      tagLabels.add(new TagLabel().withTagFQN(tag));
+    }
+    return new Table().withId(UUID.randomUUID()).withTags(tagLabels);
+  }
+
+  private static ChangeEventHolder holder(String entityType, String fqn) {
+    ChangeEventHolder holder = new ChangeEventHolder();
+    holder.set(new ChangeEvent().withEntityType(entityType).withEntityFullyQualifiedName(fqn));
+    return holder;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security.policyevaluator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.openmetadata.catalog.type.MetadataOperation.EDIT_DESCRIPTION;
+import static org.openmetadata.catalog.type.MetadataOperation.EDIT_LINEAGE;
+import static org.openmetadata.catalog.type.MetadataOperation.EDIT_OWNER;
+import static org.openmetadata.catalog.type.MetadataOperation.EDIT_TAGS;
+import static org.openmetadata.catalog.type.MetadataOperation.EDIT_TIER;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.entity.policies.Policy;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+
+class CompiledPolicyTest {
+  private static final List<TagLabel> NO_TAGS = Collections.emptyList();
+
+  @Test
+  void test_ruleAttributesAreMatchedWithLogicalAnd() {
+    CompiledPolicy policy =
+        CompiledPolicy.compile(
+            List.of(
+                rule(EDIT_LINEAGE, null, null, true),
+                rule(EDIT_OWNER, "table", null, true),
+                rule(EDIT_TAGS, null, "PII.Sensitive", true),
+                rule(EDIT_DESCRIPTION, "table", "PersonalData.Personal", true),
+                rule(EDIT_TIER, null, null, false))); // Rules that don't allow are ignored
+    assertEquals(4, policy.getRuleCount());
+
+    // Rule without attributes matches any entity and operations not on an entity
+    assertTrue(policy.hasPermission("", NO_TAGS, EDIT_LINEAGE));
+    assertTrue(policy.hasPermission("dashboard", NO_TAGS, EDIT_LINEAGE));
+    assertFalse(policy.hasPermission("table", NO_TAGS, EDIT_TIER));
+
+    assertTrue(policy.hasPermission("table", NO_TAGS, EDIT_OWNER));
+    assertFalse(policy.hasPermission("dashboard", NO_TAGS, EDIT_OWNER));
+
+    assertTrue(policy.hasPermission("dashboard", tags("Tier.Tier1", "PII.Sensitive"), EDIT_TAGS));
+    assertFalse(policy.hasPermission("dashboard", tags("Tier.Tier1"), EDIT_TAGS));
+
+    assertTrue(policy.hasPermission("table", tags("PersonalData.Personal"), EDIT_DESCRIPTION));
+    assertFalse(policy.hasPermission("dashboard", tags("PersonalData.Personal"), EDIT_DESCRIPTION));
+    assertFalse(policy.hasPermission("table", tags("PII.Sensitive"), EDIT_DESCRIPTION));
+
+    assertEquals(List.of(EDIT_LINEAGE), policy.getAllowedOperations("", NO_TAGS));
+    assertEquals(List.of(EDIT_OWNER, EDIT_LINEAGE), policy.getAllowedOperations("table", NO_TAGS));
+    assertEquals(
+        List.of(EDIT_DESCRIPTION, EDIT_TAGS, EDIT_OWNER, EDIT_LINEAGE),
+        policy.getAllowedOperations("table", tags("PII.Sensitive", "PersonalData.Personal")));
+  }
+
+  @Test
+  void test_policyEvaluatorWithCompiledPolicies() {
+    PolicyEvaluator evaluator = PolicyEvaluator.getInstance();
+    Policy policy =
+        new Policy()
+            .withId(UUID.randomUUID())
+            .withName("policy")
+            .withRules(List.<Object>of(rule(EDIT_DESCRIPTION, null, null, true)));
+    evaluator.update(policy);
+    assertTrue(evaluator.hasPermission(policy.getId(), null, EDIT_DESCRIPTION));
+    assertFalse(evaluator.hasPermission(policy.getId(), null, EDIT_TAGS));
+    assertEquals(List.of(EDIT_DESCRIPTION), evaluator.getAllowedOperations(policy.getId(), null));
+
+    // Unknown or deleted policies don't allow any operation
+    evaluator.delete(policy);
+    assertFalse(evaluator.hasPermission(policy.getId(), null, EDIT_DESCRIPTION));
+    assertTrue(evaluator.getAllowedOperations(policy.getId(), null).isEmpty());
+  }
+
+  private static Rule rule(MetadataOperation operation, String entityType, String entityTag, boolean allow) {
+    return new Rule()
+        .withName(operation.value())
+        .withOperation(operation)
+        .withEntityTypeAttr(entityType)
+        .withEntityTagAttr(entityTag)
+        .withAllow(allow);
+  }
+
+  private static List<TagLabel> tags(String... tagFQNs) {
+    TagLabel[] tagLabels = new TagLabel[tagFQNs.length];
+    for (int i = 0; i < tagFQNs.length; i++) {
+      tagLabels[i] = new TagLabel().withTagFQN(tagFQNs[i]);
+    }
+    return List.of(tagLabels);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.socket.engineio.server.EngineIoServerOptions;
+import io.socket.socketio.server.SocketIoSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class WebSocketManagerTest {
+  @Test
+  void test_slowConnectionDropsOldestAndCoalescesQueuedMessages() throws Exception {
+    WebSocketManager manager = new WebSocketManager(EngineIoServerOptions.newFromDefault());
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    manager.registerMetrics(registry);
+
+    // Connection that is slow to send the first message
+    CountDownLatch firstSending = new CountDownLatch(1);
+    CountDownLatch unblock = new CountDownLatch(1);
+    List<String> sent = new CopyOnWriteArrayList<>();
+    SocketIoSocket socket = mock(SocketIoSocket.class);
+    doAnswer(
+            invocation -> {
+              firstSending.countDown();
+              unblock.await(10, TimeUnit.SECONDS);
+              sent.add(invocation.getArgument(1));
+              return null;
+            })
+        .when(socket)
+        .send(anyString(), any());
+    UUID userId = UUID.randomUUID();
+    Map<String, WebSocketManager.Connection> connections = new ConcurrentHashMap<>();
+    connections.put("socket1", manager.new Connection(socket));
+    manager.getActivityFeedEndpoints().put(userId, connections);
+
+    // First message is being sent while more messages than the queue holds are queued
+    manager.sendToOne(userId, WebSocketManager.feedBroadcastChannel, "m0");
+    assertTrue(firstSending.await(10, TimeUnit.SECONDS));
+    for (int i = 1; i <= 101; i++) {
+      manager.sendToOne(userId, WebSocketManager.feedBroadcastChannel, "m" + i);
+    }
+    // Message that is already queued is not queued again
+    manager.sendToOne(userId, WebSocketManager.feedBroadcastChannel, "m50");
+    unblock.countDown();
+
+    // Oldest queued message m1 is dropped, the rest are sent in order
+    List<String> expected = new ArrayList<>(List.of("m0"));
+    for (int i = 2; i <= 101; i++) {
+      expected.add("m" + i);
+    }
+    for (int i = 0; i < 100 && sent.size() < expected.size(); i++) {
+      Thread.sleep(50);
+    }
+    assertEquals(expected, sent);
+    assertEquals(1, registry.get("websocket.messages.dropped").functionCounter().count());
+    assertEquals(1, registry.get("websocket.messages.coalesced").functionCounter().count());
+  }
+}
@@ -19,17 +19,30 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonException;
 import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
+import javax.json.JsonPatch;
 import javax.json.JsonPatchBuilder;
+import javax.json.JsonValue;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.teams.Team;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
 
 /** This test provides examples of how to use applyPatch */
 @Slf4j
@@ -100,6 +113,110 @@ class JsonUtilsTest {
     assertTrue(jsonException.getMessage().contains("contains no element for index 3"));
   }
 
+  /** Patches computed from random changes to a table give the same result as applying them with JSON-P */
+  @Test
+  void applyPatchMatchesJsonPointerPatch() throws IOException {
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      Table original = randomTable(random);
+      Table updated = JsonUtils.readValue(JsonUtils.pojoToJson(original), Table.class);
+      List<Column> columns = updated.getColumns();
+      for (Column column : new ArrayList<>(columns)) {
+        int change = random.nextInt(8);
+        if (change == 0) {
+          column.setDescription("updated " + random.nextInt(100));
+        } else if (change == 1) {
+          column.getTags().add(new TagLabel().withTagFQN("PII.Sensitive").withLabelType(LabelType.MANUAL));
+        } else if (change == 2 && !column.getTags().isEmpty()) {
+          column.getTags().remove(random.nextInt(column.getTags().size()));
+        } else if (change == 3) {
+          columns.remove(column);
+        }
+      }
+      if (random.nextBoolean()) {
+        columns.add(random.nextInt(columns.size() + 1), column(random, "added" + i));
+      }
+      if (random.nextBoolean()) {
+        updated.setTags(List.of());
+      }
+      updated.setHref(URI.create("http://localhost/tables/" + i));
+      JsonPatch patch = JsonUtils.getJsonPatch(JsonUtils.pojoToJson(original), JsonUtils.pojoToJson(updated));
+
+      String expected;
+      try {
+        expected = JsonUtils.pojoToJson(jsonPointerApplyPatch(original, patch));
+      } catch (JsonException e) {
+        assertThrows(JsonException.class, () -> JsonUtils.applyPatch(original, patch, Table.class));
+        continue;
+      }
+      assertEquals(expected, JsonUtils.pojoToJson(JsonUtils.applyPatch(original, patch, Table.class)));
+    }
+  }
+
+  private static Table randomTable(Random random) {
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < random.nextInt(15) + 1; i++) {
+      columns.add(column(random, "c" + i));
+    }
+    return new Table()
+        .withId(UUID.randomUUID())
+        .withName("orders")
+        .withColumns(columns)
+        .withTags(new ArrayList<>(List.of(new TagLabel().withTagFQN("Tier.Tier1").withLabelType(LabelType.MANUAL))));
+  }
+
+  private static Column column(Random random, String name) {
+    List<TagLabel> tags = new ArrayList<>();
+    for (int i = 0; i < random.nextInt(3); i++) {
+      tags.add(new TagLabel().withTagFQN("Tag.t" + random.nextInt(20)).withLabelType(LabelType.MANUAL));
+    }
+    return new Column().withName(name).withDataType(ColumnDataType.INT).withDescription(name).withTags(tags);
+  }
+
+  /** Applies the patch the way it was applied with JSON-P before operating on Jackson trees */
+  private static <T> T jsonPointerApplyPatch(T original, JsonPatch patch, Class<T> clz) {
+    List<JsonObject> removeOperations = new ArrayList<>();
+    List<JsonObject> otherOperations = new ArrayList<>();
+    for (JsonValue entry : patch.toJsonArray()) {
+      JsonObject jsonObject = entry.asJsonObject();
+      if (jsonObject.getString("path").endsWith("href")) {
+        continue;
+      }
+      if (jsonObject.getString("op").equals("remove")) {
+        removeOperations.add(jsonObject);
+      } else {
+        otherOperations.add(jsonObject);
+      }
+    }
+    Comparator<JsonObject> byPath = Comparator.comparing(jsonObject -> jsonObject.getString("path"));
+    Comparator<JsonObject> byDigits =
+        Comparator.comparing(
+            jsonObject -> {
+              String digits = jsonObject.getString("path").replaceAll("\\D", "");
+              return digits.isEmpty() ? 0 : Integer.parseInt(digits);
+            });
+    for (List<JsonObject> operations : List.of(otherOperations, removeOperations)) {
+      for (JsonObject operation : new ArrayList<>(operations)) {
+        String path = operation.getString("path");
+        if (path.matches("^[a-zA-Z]*$") || path.matches(".*\\d.*")) {
+          operations.sort(path.matches("^[a-zA-Z]*$") ? byPath : byDigits);
+          if (operations == removeOperations) {
+            Collections.reverse(operations);
+          }
+        }
+      }
+    }
+    JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
+    otherOperations.forEach(arrayBuilder::add);
+    removeOperations.forEach(arrayBuilder::add);
+    JsonValue patched = Json.createPatch(arrayBuilder.build()).apply(JsonUtils.getJsonStructure(original));
+    return JsonUtils.convertValue(patched, clz);
+  }
+
+  private static Table jsonPointerApplyPatch(Table original, JsonPatch patch) {
+    return jsonPointerApplyPatch(original, patch, Table.class);
+  }
+
   @Test
   void testReadValuePassingTypeReference() throws IOException {
     Map<String, String> expectedMap = Map.of("key1", "value1", "key2", "value2");
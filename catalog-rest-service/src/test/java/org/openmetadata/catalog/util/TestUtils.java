@@ -240,6 +240,13 @@ public final class TestUtils {
     readResponse(response, Status.CREATED.getStatusCode());
   }
 
+  public static <K> void post(WebTarget target, K request, Status expectedStatus, Map<String, String> headers)
+      throws HttpResponseException {
+    Response response =
+        SecurityUtil.addHeaders(target, headers).post(Entity.entity(request, MediaType.APPLICATION_JSON));
+    readResponse(response, expectedStatus.getStatusCode());
+  }
+
   public static <T, K> T post(WebTarget target, K request, Class<T> clz, Map<String, String> headers)
       throws HttpResponseException {
     Response response =
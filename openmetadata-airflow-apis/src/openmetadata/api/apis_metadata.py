@@ -66,6 +66,19 @@ APIS_METADATA = [
             },
         ],
     },
+    {
+        "name": "dags_status",
+        "description": "Get the status of the latest runs of several dags",
+        "http_method": "GET",
+        "arguments": [
+            {
+                "name": "dag_ids",
+                "description": "Comma separated ids of the dags",
+                "form_input_type": "text",
+                "required": True,
+            },
+        ],
+    },
     {
         "name": "delete_dag",
         "description": "Delete a DAG in the Web Server from Airflow database and filesystem",
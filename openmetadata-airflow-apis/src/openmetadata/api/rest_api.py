@@ -36,7 +36,7 @@ from openmetadata.operations.delete import delete_dag_id
 from openmetadata.operations.deploy import DagDeployer
 from openmetadata.operations.last_dag_logs import last_dag_logs
 from openmetadata.operations.state import disable_dag, enable_dag
-from openmetadata.operations.status import status
+from openmetadata.operations.status import status, statuses
 from openmetadata.operations.test_connection import test_source_connection
 from openmetadata.operations.trigger import trigger
 from pydantic.error_wrappers import ValidationError
@@ -130,6 +130,8 @@ class REST_API(AppBuilderBaseView):
             return self.test_connection()
         if api == "dag_status":
             return self.dag_status()
+        if api == "dags_status":
+            return self.dags_status()
         if api == "delete_dag":
             return self.delete_dag()
         if api == "last_dag_logs":
@@ -261,6 +263,28 @@ class REST_API(AppBuilderBaseView):
                 error=f"Failed to get status for {dag_id} due to {exc} - {traceback.format_exc()}",
             )
 
+    def dags_status(self) -> Response:
+        """
+        Check the status of the runs of several DAGs
+        """
+        dag_ids: str = self.get_request_arg(request, "dag_ids")
+
+        if not dag_ids:
+            return ApiResponse.error(
+                status=ApiResponse.STATUS_BAD_REQUEST,
+                error=f"Missing dag_ids argument in the request",
+            )
+
+        try:
+            return statuses([dag_id.strip() for dag_id in dag_ids.split(",")])
+
+        except Exception as exc:
+            logging.info(f"Failed to get dags {dag_ids} status")
+            return ApiResponse.error(
+                status=ApiResponse.STATUS_SERVER_ERROR,
+                error=f"Failed to get status for {dag_ids} due to {exc} - {traceback.format_exc()}",
+            )
+
     def delete_dag(self) -> Response:
         """
         POST request to DELETE a DAG.
@@ -12,6 +12,7 @@
 Module containing the logic to check a DAG status
 """
 import json
+from typing import List
 
 from airflow import settings
 from airflow.models import DagModel, DagRun
@@ -19,6 +20,26 @@ from flask import Response
 from openmetadata.api.response import ApiResponse, ResponseFormat
 
 
+def _last_runs(session, dag_id: str) -> list:
+    """
+    Format the last 10 DagRuns of a DAG, latest first
+    """
+    runs = (
+        session.query(DagRun)
+        .filter(
+            DagRun.dag_id == dag_id,
+        )
+        .order_by(DagRun.start_date.desc())
+        .limit(10)
+        .all()
+    )
+
+    return [
+        json.loads(ResponseFormat.format_dag_run_state(dag_run).json())
+        for dag_run in runs
+    ]
+
+
 def status(dag_id: str) -> Response:
     """
     Validate that the DAG is registered by Airflow.
@@ -34,19 +55,24 @@ def status(dag_id: str) -> Response:
         if not dag_model:
             return ApiResponse.not_found(f"DAG {dag_id} not found.")
 
-        runs = (
-            session.query(DagRun)
-            .filter(
-                DagRun.dag_id == dag_id,
-            )
-            .order_by(DagRun.start_date.desc())
-            .limit(10)
-            .all()
-        )
+        return ApiResponse.success(_last_runs(session, dag_id))
 
-        formatted = [
-            json.loads(ResponseFormat.format_dag_run_state(dag_run).json())
-            for dag_run in runs
-        ]
 
-        return ApiResponse.success(formatted)
+def statuses(dag_ids: List[str]) -> Response:
+    """
+    Check the DagRuns of several DAGs in a single request.
+    DAGs not registered by Airflow are left out of the response.
+    :param dag_ids: DAGs to find
+    :return: API Response with the runs of each DAG found, by DAG id
+    """
+
+    with settings.Session() as session:
+
+        dag_models = session.query(DagModel).filter(DagModel.dag_id.in_(dag_ids)).all()
+
+        return ApiResponse.success(
+            {
+                dag_model.dag_id: _last_runs(session, dag_model.dag_id)
+                for dag_model in dag_models
+            }
+        )
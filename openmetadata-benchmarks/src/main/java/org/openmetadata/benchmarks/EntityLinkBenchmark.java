@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
+
+/** Parsing of the entity links that every feed thread and task is about. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityLinkBenchmark {
+  private String entityLink = "<#E::table::bigquery_prod.analytics.\"sales.eu\".orders>";
+  private String columnLink =
+      "<#E::table::bigquery_prod.analytics.\"sales.eu\".orders::columns::\"shipping.address\"::description>";
+  private String linkWithFallback = "<#E::user::john_doe|[@John Doe](http://localhost:8585/user/john_doe)>";
+
+  @Benchmark
+  public EntityLink parseEntityLink() {
+    return EntityLink.parse(entityLink);
+  }
+
+  @Benchmark
+  public EntityLink parseColumnLink() {
+    return EntityLink.parse(columnLink);
+  }
+
+  @Benchmark
+  public EntityLink parseLinkWithFallbackText() {
+    return EntityLink.parse(linkWithFallback);
+  }
+}
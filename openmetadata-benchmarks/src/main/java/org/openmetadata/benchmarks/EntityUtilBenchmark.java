@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.EntityUtil;
+
+/**
+ * Comparators and matchers from {@link EntityUtil} used when entities are read and updated.
+ *
+ * <p>Matchers are evaluated the way EntityRepository.EntityUpdater#recordListChange uses them, looking up each entry of
+ * the updated list in the original list and the other way around.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityUtilBenchmark {
+  @Param({"50", "500"})
+  private int size;
+
+  private List<Column> columns;
+  private List<Column> updatedColumns;
+  private List<TagLabel> tags;
+  private List<TagLabel> derivedTags;
+  private List<EntityReference> followers;
+
+  @Setup
+  public void setup() {
+    Table table = Fixtures.table(size);
+    columns = table.getColumns();
+    // Updated table has the last column dropped and a new column added
+    updatedColumns = new ArrayList<>(columns.subList(0, columns.size() - 1));
+    updatedColumns.add(new Column().withName("new_column").withDataType(columns.get(0).getDataType()));
+
+    tags = new ArrayList<>();
+    derivedTags = new ArrayList<>();
+    for (int i = size - 1; i >= 0; i--) {
+      tags.add(Fixtures.tagLabel(Fixtures.tagFQN(i) + ".Term" + i));
+      if (i % 5 == 0) {
+        derivedTags.add(Fixtures.tagLabel("Glossary.Term" + i));
+      }
+    }
+
+    followers = new ArrayList<>();
+    for (int i = size - 1; i >= 0; i--) {
+      followers.add(new EntityReference().withId(Fixtures.uuid(i)).withType(Entity.USER).withName("user" + i));
+    }
+  }
+
+  @Benchmark
+  public List<TagLabel> sortTagLabels() {
+    List<TagLabel> sorted = new ArrayList<>(tags);
+    sorted.sort(EntityUtil.compareTagLabel);
+    return sorted;
+  }
+
+  @Benchmark
+  public List<EntityReference> sortEntityReferences() {
+    List<EntityReference> sorted = new ArrayList<>(followers);
+    sorted.sort(EntityUtil.compareEntityReference);
+    return sorted;
+  }
+
+  @Benchmark
+  public List<TagLabel> mergeTags() {
+    List<TagLabel> merged = new ArrayList<>(tags);
+    EntityUtil.mergeTags(merged, derivedTags);
+    return merged;
+  }
+
+  @Benchmark
+  public int columnListChange() {
+    return listChange(columns, updatedColumns, EntityUtil.columnMatch);
+  }
+
+  @Benchmark
+  public int tagListChange() {
+    return listChange(tags, derivedTags, EntityUtil.tagLabelMatch);
+  }
+
+  /** Returns the number of added and deleted entries */
+  private static <K> int listChange(List<K> origList, List<K> updatedList, BiPredicate<K, K> typeMatch) {
+    int changes = 0;
+    for (K stored : origList) {
+      if (updatedList.stream().filter(c -> typeMatch.test(c, stored)).findAny().orElse(null) == null) {
+        changes++;
+      }
+    }
+    for (K updated : updatedList) {
+      if (origList.stream().filter(c -> typeMatch.test(c, updated)).findAny().orElse(null) == null) {
+        changes++;
+      }
+    }
+    return changes;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.TableConstraint;
+import org.openmetadata.catalog.type.TableType;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.FullyQualifiedName;
+
+/**
+ * Entities used by the benchmarks. Fixtures are deterministic so that results from different commits are comparable.
+ *
+ * <p>Tables look like the ones ingested from data warehouses: wide tables with descriptions, tags on most columns,
+ * nested struct columns and names that need quoting in fully qualified names.
+ */
+final class Fixtures {
+  static final String SERVICE = "bigquery_prod";
+  static final String DATABASE = "analytics";
+  static final String SCHEMA = "sales.eu";
+
+  /** Depth of the tag hierarchy used for column tags, including the classification */
+  static final int TAG_DEPTH = 6;
+
+  private static final ColumnDataType[] DATA_TYPES = {
+    ColumnDataType.BIGINT, ColumnDataType.VARCHAR, ColumnDataType.TIMESTAMP, ColumnDataType.DECIMAL,
+    ColumnDataType.BOOLEAN, ColumnDataType.STRUCT
+  };
+
+  private Fixtures() {
+    /* Utility class with private constructor */
+  }
+
+  /** Table with the given number of top level columns. Every sixth column is a struct with nested columns. */
+  static Table table(int columnCount) {
+    String tableFQN = FullyQualifiedName.build(SERVICE, DATABASE, SCHEMA, "orders_" + columnCount);
+    List<Column> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(column(tableFQN, i, 0));
+    }
+    return new Table()
+        .withId(uuid(columnCount))
+        .withName("orders_" + columnCount)
+        .withFullyQualifiedName(tableFQN)
+        .withDescription("Orders placed in the EU stores, one row per order line")
+        .withTableType(TableType.Regular)
+        .withVersion(0.1)
+        .withUpdatedAt(1650000000000L)
+        .withUpdatedBy("ingestion-bot")
+        .withColumns(columns)
+        .withTableConstraints(
+            List.of(
+                new TableConstraint()
+                    .withConstraintType(TableConstraint.ConstraintType.PRIMARY_KEY)
+                    .withColumns(List.of(columns.get(0).getName()))))
+        .withTags(List.of(tagLabel("Tier.Tier1"), tagLabel(tagFQN(0))))
+        .withOwner(new EntityReference().withId(uuid(1)).withType(Entity.TEAM).withName("sales"))
+        .withDatabase(new EntityReference().withId(uuid(2)).withType(Entity.DATABASE).withName(DATABASE))
+        .withService(new EntityReference().withId(uuid(3)).withType(Entity.DATABASE_SERVICE).withName(SERVICE));
+  }
+
+  private static Column column(String parentFQN, int index, int depth) {
+    ColumnDataType dataType = depth < 2 ? DATA_TYPES[index % DATA_TYPES.length] : ColumnDataType.VARCHAR;
+    // Some of the names have dots and need to be quoted in the FQN
+    String name = index % 10 == 9 ? "attr." + index : "col_" + index;
+    Column column =
+        new Column()
+            .withName(name)
+            .withFullyQualifiedName(FullyQualifiedName.add(parentFQN, name))
+            .withDataType(dataType)
+            .withDataTypeDisplay(dataType.value().toLowerCase(Locale.ROOT))
+            .withDescription("Column " + index + " of the order line, populated by the checkout service")
+            .withOrdinalPosition(index + 1)
+            .withTags(index % 4 == 3 ? new ArrayList<>() : new ArrayList<>(List.of(tagLabel(tagFQN(index)))));
+    if (dataType == ColumnDataType.STRUCT) {
+      List<Column> children = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        children.add(column(column.getFullyQualifiedName(), i, depth + 1));
+      }
+      column.withChildren(children);
+    }
+    return column;
+  }
+
+  /** Tag FQN from a hierarchy of {@link #TAG_DEPTH} levels, such as PII.Level1_0.Level2_1...Level5_4 */
+  static String tagFQN(int index) {
+    String[] parts = new String[TAG_DEPTH];
+    parts[0] = "PII";
+    for (int level = 1; level < TAG_DEPTH; level++) {
+      parts[level] = "Level" + level + "_" + (index + level) % 5;
+    }
+    return FullyQualifiedName.build(parts);
+  }
+
+  static TagLabel tagLabel(String tagFQN) {
+    return new TagLabel()
+        .withTagFQN(tagFQN)
+        .withSource(TagLabel.Source.TAG)
+        .withLabelType(TagLabel.LabelType.MANUAL)
+        .withState(TagLabel.State.CONFIRMED);
+  }
+
+  static UUID uuid(int seed) {
+    return new UUID(0x0123456789abcdefL, seed);
+  }
+}
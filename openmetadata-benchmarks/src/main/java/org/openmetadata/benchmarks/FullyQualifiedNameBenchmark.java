@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.util.FullyQualifiedName;
+
+/** Building and splitting fully qualified names of columns and of tags deep in a tag hierarchy. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FullyQualifiedNameBenchmark {
+  private String[] columnParts;
+  private String columnFQN;
+  private String tagFQN;
+
+  @Setup
+  public void setup() {
+    // Column with names that need quoting
+    columnParts = new String[] {Fixtures.SERVICE, Fixtures.DATABASE, Fixtures.SCHEMA, "orders", "shipping.address"};
+    columnFQN = FullyQualifiedName.build(columnParts);
+    tagFQN = Fixtures.tagFQN(0);
+  }
+
+  @Benchmark
+  public String buildColumnFQN() {
+    return FullyQualifiedName.build(columnParts);
+  }
+
+  @Benchmark
+  public String[] splitColumnFQN() {
+    return FullyQualifiedName.split(columnFQN);
+  }
+
+  @Benchmark
+  public String getTableFQN() {
+    return FullyQualifiedName.getTableFQN(columnFQN);
+  }
+
+  @Benchmark
+  public String[] splitTagFQN() {
+    return FullyQualifiedName.split(tagFQN);
+  }
+}
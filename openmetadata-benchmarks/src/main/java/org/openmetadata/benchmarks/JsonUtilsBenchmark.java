@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Serialization of tables stored in the entity tables and patching of tables through the PATCH APIs.
+ *
+ * <p>The patch updates the description of every tenth column and adds a tag to every twentieth column, which is what
+ * the UI and the ingestion send when curating a table. The column description patch updates the description of a single
+ * column, which is what the UI sends when a column description is edited.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+  @Param({"50", "500"})
+  private int columnCount;
+
+  private Table table;
+  private String json;
+  private JsonPatch patch;
+  private JsonPatch columnDescriptionPatch;
+
+  @Setup
+  public void setup() throws IOException {
+    table = Fixtures.table(columnCount);
+    json = JsonUtils.pojoToJson(table);
+
+    Table updated = JsonUtils.readValue(json, Table.class);
+    List<Column> columns = updated.getColumns();
+    for (int i = 0; i < columns.size(); i += 10) {
+      columns.get(i).setDescription("Updated description of column " + i);
+    }
+    for (int i = 0; i < columns.size(); i += 20) {
+      columns.get(i).getTags().add(Fixtures.tagLabel("PersonalData.Personal"));
+    }
+    patch = JsonUtils.getJsonPatch(json, JsonUtils.pojoToJson(updated));
+
+    updated = JsonUtils.readValue(json, Table.class);
+    updated.getColumns().get(columnCount / 2).setDescription("Updated description of the middle column");
+    columnDescriptionPatch = JsonUtils.getJsonPatch(json, JsonUtils.pojoToJson(updated));
+  }
+
+  @Benchmark
+  public Table readValue() throws IOException {
+    return JsonUtils.readValue(json, Table.class);
+  }
+
+  @Benchmark
+  public String pojoToJson() throws IOException {
+    return JsonUtils.pojoToJson(table);
+  }
+
+  @Benchmark
+  public Table applyPatch() {
+    return JsonUtils.applyPatch(table, patch, Table.class);
+  }
+
+  @Benchmark
+  public Table applyColumnDescriptionPatch() {
+    return JsonUtils.applyPatch(table, columnDescriptionPatch, Table.class);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.policies.Policy;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
+import org.openmetadata.catalog.security.policyevaluator.PolicyEvaluator;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+
+/**
+ * Compares {@link PolicyEvaluator} that evaluates compiled policies with the easy-rules engine it replaced.
+ *
+ * <p>The policy has rules spread over all the operations, a few entity types and a set of tags. The rules that match
+ * the table checked by the benchmarks are at the end so that the rules engine evaluates all the rules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyEvaluatorBenchmark {
+  private static final String[] ENTITY_TYPES = {Entity.DASHBOARD, Entity.PIPELINE, Entity.TOPIC, Entity.TABLE};
+
+  @Param({"10", "100"})
+  private int ruleCount;
+
+  private UUID policyId;
+  private RulesEnginePolicyEvaluator rulesEngine;
+  private Table table;
+
+  @Setup
+  public void setup() {
+    // Entity type of the table is looked up by both the evaluators
+    Entity.registerEntity(Table.class, Entity.TABLE, null, null);
+
+    MetadataOperation[] operations = MetadataOperation.values();
+    List<Rule> rules = new ArrayList<>();
+    for (int i = 0; i < ruleCount - 1; i++) {
+      rules.add(
+          new Rule()
+              .withName("rule" + i)
+              .withOperation(operations[i % operations.length])
+              .withEntityTypeAttr(ENTITY_TYPES[i % (ENTITY_TYPES.length - 1)])
+              .withEntityTagAttr(i % 2 == 0 ? "Tier.Tier" + (i % 5) : null)
+              .withPriority(ruleCount - i)
+              .withAllow(true));
+    }
+    rules.add(
+        new Rule()
+            .withName("tableRule")
+            .withOperation(MetadataOperation.EDIT_DESCRIPTION)
+            .withEntityTypeAttr(Entity.TABLE)
+            .withEntityTagAttr("PII.Sensitive")
+            .withPriority(0)
+            .withAllow(true));
+
+    Policy policy = new Policy().withId(UUID.randomUUID()).withName("benchmarkPolicy").withRules(new ArrayList<>(rules));
+    PolicyEvaluator.getInstance().update(policy);
+    policyId = policy.getId();
+    rulesEngine = new RulesEnginePolicyEvaluator(rules);
+
+    List<TagLabel> tags = new ArrayList<>();
+    for (String tagFQN : List.of("Tier.Tier1", "PersonalData.Personal", "PII.Sensitive")) {
+      tags.add(new TagLabel().withTagFQN(tagFQN));
+    }
+    table = new Table().withId(UUID.randomUUID()).withName("table").withTags(tags);
+  }
+
+  @Benchmark
+  public boolean compiledHasPermission() {
+    return PolicyEvaluator.getInstance().hasPermission(policyId, table, MetadataOperation.EDIT_DESCRIPTION);
+  }
+
+  @Benchmark
+  public boolean rulesEngineHasPermission() {
+    return rulesEngine.hasPermission(table, MetadataOperation.EDIT_DESCRIPTION);
+  }
+
+  @Benchmark
+  public List<MetadataOperation> compiledAllowedOperations() {
+    return PolicyEvaluator.getInstance().getAllowedOperations(policyId, table);
+  }
+
+  @Benchmark
+  public List<MetadataOperation> rulesEngineAllowedOperations() {
+    return rulesEngine.getAllowedOperations(table);
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jeasy.rules.api.Facts;
+import org.jeasy.rules.api.Rules;
+import org.jeasy.rules.api.RulesEngine;
+import org.jeasy.rules.api.RulesEngineParameters;
+import org.jeasy.rules.core.DefaultRulesEngine;
+import org.jeasy.rules.core.RuleBuilder;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.EntityInterface;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+
+/**
+ * Policy evaluation with the easy-rules engine as it was done by PolicyEvaluator before the policies were compiled.
+ * Kept as the baseline for {@link PolicyEvaluatorBenchmark}.
+ */
+final class RulesEnginePolicyEvaluator {
+  private static final String ALLOW = "allow";
+  private static final String ALLOWED_OPERATIONS = "allowedOperations";
+  private static final String CHECK_OPERATION = "checkOperation";
+  private static final String ENTITY_TAGS = "entityTags";
+  private static final String ENTITY_TYPE = "entityType";
+  private static final String OPERATION = "operation";
+
+  private final Rules rules = new Rules();
+  private final RulesEngine checkPermissionRulesEngine =
+      new DefaultRulesEngine(new RulesEngineParameters().skipOnFirstAppliedRule(true));
+  private final RulesEngine allowedOperationsRulesEngine = new DefaultRulesEngine();
+
+  RulesEnginePolicyEvaluator(List<Rule> policyRules) {
+    for (Rule rule : policyRules) {
+      if (Boolean.TRUE.equals(rule.getAllow())) {
+        rules.register(
+            new RuleBuilder()
+                .name(rule.getName())
+                .description(rule.getName())
+                .priority(rule.getPriority())
+                .when(facts -> evaluate(rule, facts))
+                .then(facts -> facts.put(ALLOW, rule.getAllow()))
+                .then(facts -> facts.<Set<MetadataOperation>>get(ALLOWED_OPERATIONS).add(rule.getOperation()))
+                .build());
+      }
+    }
+  }
+
+  boolean hasPermission(EntityInterface entity, MetadataOperation operation) {
+    Facts facts = getFacts(entity, operation, true);
+    checkPermissionRulesEngine.fire(rules, facts);
+    return facts.get(ALLOW);
+  }
+
+  List<MetadataOperation> getAllowedOperations(EntityInterface entity) {
+    Facts facts = getFacts(entity, null, false);
+    allowedOperationsRulesEngine.fire(rules, facts);
+    return new ArrayList<>(facts.<Set<MetadataOperation>>get(ALLOWED_OPERATIONS));
+  }
+
+  private static Facts getFacts(EntityInterface entity, MetadataOperation operation, boolean checkOperation) {
+    Facts facts = new Facts();
+    facts.put(ENTITY_TAGS, getEntityTags(entity));
+    facts.put(ENTITY_TYPE, entity == null ? "" : Entity.getEntityTypeFromObject(entity));
+    if (checkOperation) {
+      facts.put(OPERATION, operation);
+    }
+    facts.put(CHECK_OPERATION, checkOperation);
+    facts.put(ALLOW, false);
+    facts.put(ALLOWED_OPERATIONS, new HashSet<MetadataOperation>());
+    return facts;
+  }
+
+  private static boolean evaluate(Rule rule, Facts facts) {
+    if (facts.get(CHECK_OPERATION)) {
+      MetadataOperation operation = facts.get(OPERATION);
+      if (!operation.equals(rule.getOperation())) {
+        return false;
+      }
+    }
+    List<String> entityTags = facts.get(ENTITY_TAGS);
+    if (rule.getEntityTagAttr() != null && !entityTags.contains(rule.getEntityTagAttr())) {
+      return false;
+    }
+    String entityType = facts.get(ENTITY_TYPE);
+    return rule.getEntityTypeAttr() == null || entityType.equals(rule.getEntityTypeAttr());
+  }
+
+  private static List<String> getEntityTags(EntityInterface entity) {
+    if (entity == null || entity.getTags() == null) {
+      return Collections.emptyList();
+    }
+    return entity.getTags().stream().map(TagLabel::getTagFQN).collect(Collectors.toList());
+  }
+}
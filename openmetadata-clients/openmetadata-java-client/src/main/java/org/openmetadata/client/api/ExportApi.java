@@ -0,0 +1,34 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.client.api;
+
+import feign.Headers;
+import feign.Param;
+import feign.QueryMap;
+import feign.RequestLine;
+import feign.Response;
+import io.swagger.client.ApiClient;
+import java.util.Map;
+
+/**
+ * Export endpoints of the entity collections. The response is returned as is so that the newline delimited JSON body
+ * is read as it is streamed instead of being decoded all at once.
+ */
+public interface ExportApi extends ApiClient.Api {
+  @RequestLine("GET /v1/{collection}/export")
+  @Headers({
+    "Accept: application/x-ndjson",
+  })
+  Response export(@Param("collection") String collection, @QueryMap Map<String, Object> queryParams);
+}
@@ -16,6 +16,7 @@ package org.openmetadata.client.gateway;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import feign.Feign;
 import feign.RequestInterceptor;
+import feign.Response;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
@@ -23,9 +24,15 @@ import feign.okhttp.OkHttpClient;
 import feign.slf4j.Slf4jLogger;
 import io.swagger.client.ApiClient;
 import io.swagger.client.api.CatalogApi;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+import java.util.stream.Stream;
 import org.openmetadata.catalog.api.CatalogVersion;
 import org.openmetadata.catalog.services.connections.metadata.OpenMetadataServerConnection;
+import org.openmetadata.client.api.ExportApi;
 import org.openmetadata.client.interceptors.CustomRequestInterceptor;
+import org.openmetadata.client.listUtils.ExportIterator;
 import org.openmetadata.client.security.factory.AuthenticationProviderFactory;
 import org.openmetadata.core.util.VersionUtils;
 import org.slf4j.Logger;
@@ -90,6 +97,26 @@ public class OpenMetadata {
     return;
   }
 
+  /**
+   * Export all the entities of a collection, such as "tables" or "databaseSchemas", as a stream that decodes the
+   * entities as they are received. {@code queryParams} are the query parameters of the export endpoint of the
+   * collection, such as "fields" and "include". Close the stream to release the connection when it is not read to the
+   * end.
+   */
+  public <T> Stream<T> export(String collection, Map<String, Object> queryParams, Class<T> entityClass)
+      throws IOException {
+    ExportApi api = apiClient.buildClient(ExportApi.class);
+    Response response = api.export(collection, queryParams);
+    if (response.status() != 200) {
+      response.close();
+      throw new IOException(
+          String.format(
+              "Failed to export %s, server returned %d %s", collection, response.status(), response.reason()));
+    }
+    Reader reader = response.body().asReader();
+    return new ExportIterator<>(reader, apiClient.getObjectMapper(), entityClass).stream();
+  }
+
   public void validateVersion() {
     String clientVersion = getClientVersion();
     String serverVersion = getServerVersion();
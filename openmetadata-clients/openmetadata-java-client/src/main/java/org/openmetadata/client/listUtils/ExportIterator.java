@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.client.listUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the entities in a newline delimited JSON export, decoding one line at a time as the response is read.
+ * Close the iterator, or the stream returned by {@link #stream()}, to release the connection when the export is not
+ * read to the end.
+ */
+public class ExportIterator<T> implements Iterator<T>, Closeable {
+  private final BufferedReader reader;
+  private final ObjectMapper objectMapper;
+  private final Class<T> entityClass;
+  private String nextLine;
+
+  public ExportIterator(Reader reader, ObjectMapper objectMapper, Class<T> entityClass) {
+    this.reader = new BufferedReader(reader);
+    this.objectMapper = objectMapper;
+    this.entityClass = entityClass;
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      while (nextLine == null) {
+        String line = reader.readLine();
+        if (line == null) {
+          close();
+          return false;
+        }
+        if (!line.isBlank()) {
+          nextLine = line;
+        }
+      }
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String line = nextLine;
+    nextLine = null;
+    try {
+      return objectMapper.readValue(line, entityClass);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the remaining entities as a sequential stream that closes this iterator when it is closed */
+  public Stream<T> stream() {
+    Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false)
+        .onClose(
+            () -> {
+              try {
+                close();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}